@@ -0,0 +1,35 @@
+package com.usg.autoAPIGenerator.config;
+
+import com.usg.autoAPIGenerator.utils.apiEngine.ApiDataSourceContextHolder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hands out connections from the datasource target bound to the current thread
+ * (see ApiDataSourceContextHolder), falling back to the default pool otherwise.
+ */
+public class ApiTargetRoutingDataSource extends DelegatingDataSource {
+
+    private final String databaseType;
+
+    public ApiTargetRoutingDataSource(DataSource defaultDataSource, String databaseType) {
+        super(defaultDataSource);
+        this.databaseType = databaseType;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = ApiDataSourceContextHolder.getDataSource(databaseType);
+        return target != null ? target.getConnection() : obtainTargetDataSource().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource target = ApiDataSourceContextHolder.getDataSource(databaseType);
+        return target != null ? target.getConnection(username, password)
+                : obtainTargetDataSource().getConnection(username, password);
+    }
+}
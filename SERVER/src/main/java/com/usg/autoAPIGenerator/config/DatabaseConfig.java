@@ -87,6 +87,65 @@ public class DatabaseConfig {
         return dataSource;
     }
 
+    // ==================== POSTGRESQL EXECUTION DATASOURCE (GENERATED APIs) ====================
+
+    /**
+     * Dedicated pool used by the PostgreSQL executors when running generated APIs.
+     * Session timeouts are passed in the startup packet ("options") and the socket
+     * timeout is a driver property, so each physical connection is configured once
+     * and borrowing a connection costs no extra round trips.
+     */
+    @Bean(name = "postgresqlExecutionDataSource")
+    public DataSource postgresqlExecutionDataSource(
+            @Value("${spring.datasource.driver-class-name}") String driverClassName,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${spring.datasource.hikari.connection-timeout}") int connectionTimeout,
+            @Value("${spring.datasource.hikari.idle-timeout}") long idleTimeout,
+            @Value("${spring.datasource.hikari.max-lifetime}") long maxLifetime,
+            @Value("${spring.datasource.hikari.leak-detection-threshold}") long leakDetectionThreshold,
+            @Value("${spring.datasource.hikari.validation-timeout}") long validationTimeout,
+            @Value("${api.execution.pool.maximum-pool-size:20}") int maximumPoolSize,
+            @Value("${api.execution.pool.minimum-idle:2}") int minimumIdle,
+            @Value("${api.execution.max-statement-timeout-seconds:300}") int maxStatementTimeoutSeconds,
+            @Value("${api.execution.lock-timeout-seconds:30}") int lockTimeoutSeconds) {
+
+        HikariConfig config = new HikariConfig();
+
+        config.setDriverClassName(driverClassName);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(minimumIdle);
+        config.setConnectionTimeout(connectionTimeout);
+        config.setIdleTimeout(idleTimeout);
+        config.setMaxLifetime(maxLifetime);
+        config.setLeakDetectionThreshold(leakDetectionThreshold);
+        config.setValidationTimeout(validationTimeout);
+        config.setPoolName("PostgreSQL-Execution-Pool");
+        config.setAutoCommit(true);
+
+        config.addDataSourceProperty("prepareThreshold", "3");
+        config.addDataSourceProperty("preparedStatementCacheQueries", "256");
+        config.addDataSourceProperty("preparedStatementCacheSizeMiB", "50");
+        config.addDataSourceProperty("defaultRowFetchSize", "500");
+        config.addDataSourceProperty("binaryTransfer", "true");
+        config.addDataSourceProperty("reWriteBatchedInserts", "true");
+
+        // Server-side ceiling; per-API timeouts are enforced below it via Statement#setQueryTimeout
+        config.addDataSourceProperty("options",
+                "-c statement_timeout=" + maxStatementTimeoutSeconds + "s" +
+                " -c lock_timeout=" + lockTimeoutSeconds + "s" +
+                " -c client_min_messages=notice");
+        // Replaces the per-borrow setNetworkTimeout (which spawned a new executor thread each call)
+        config.addDataSourceProperty("socketTimeout", String.valueOf(maxStatementTimeoutSeconds + 30));
+        config.addDataSourceProperty("ApplicationName", "api-automation-executor");
+
+        return new HikariDataSource(config);
+    }
+
     @Primary
     @Bean(name = "postgreSQLJdbcTemplate")
     public JdbcTemplate postgreSQLJdbcTemplate(@Qualifier("postgresDataSource") DataSource dataSource) {
@@ -203,10 +262,11 @@ public class DatabaseConfig {
         return new HikariDataSource(config);
     }
 
+    // Routes to the API's datasource target while one is bound (see ApiDataSourceContextHolder)
     @Bean(name = "oracleJdbcTemplate")
     @Lazy
     public JdbcTemplate oracleJdbcTemplate(@Qualifier("oracleDataSource") DataSource dataSource) {
-        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new ApiTargetRoutingDataSource(dataSource, "oracle"));
         jdbcTemplate.setFetchSize(500);
         jdbcTemplate.setQueryTimeout(30);
         jdbcTemplate.setMaxRows(10000);
@@ -0,0 +1,202 @@
+package com.usg.autoAPIGenerator.controllers;
+
+import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiDataSourceTargetDTO;
+import com.usg.autoAPIGenerator.exceptions.DataSourceCredentialKeyMissingException;
+import com.usg.autoAPIGenerator.helpers.JwtHelper;
+import com.usg.autoAPIGenerator.helpers.apiEngine.LoggingHelper;
+import com.usg.autoAPIGenerator.helpers.apiEngine.ResponseBuilderHelper;
+import com.usg.autoAPIGenerator.services.ApiDataSourceRegistryService;
+import com.usg.autoAPIGenerator.services.ApiReadReplicaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/plx/api/gen-engine")
+@RequiredArgsConstructor
+@Tag(name = "API DATASOURCE TARGETS", description = "Endpoints for managing the database connections generated APIs execute against")
+public class ApiDataSourceTargetController {
+
+    private final ApiDataSourceRegistryService dataSourceRegistryService;
+    private final ApiReadReplicaService readReplicaService;
+    private final JwtHelper jwtHelper;
+    private final ResponseBuilderHelper responseBuilderHelper;
+    private final LoggingHelper loggingHelper;
+
+    @GetMapping("/datasource-targets")
+    @Operation(summary = "List datasource targets", description = "List datasource targets with their pool status and number of assigned APIs")
+    public ResponseEntity<?> getTargets(HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = jwtHelper.validateAuthorizationHeader(req, "getting datasource targets");
+        if (authValidation != null) return authValidation;
+
+        try {
+            List<ApiDataSourceTargetDTO> targets = dataSourceRegistryService.getTargets();
+            return responseBuilderHelper.buildSuccessResponse(requestId, "Datasource targets retrieved successfully", targets);
+        } catch (Exception e) {
+            loggingHelper.logError(requestId, "getting datasource targets", e.getMessage(), e);
+            return responseBuilderHelper.buildErrorResponse(requestId,
+                    "An error occurred while getting datasource targets: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/datasource-targets/{targetId}")
+    @Operation(summary = "Get datasource target", description = "Get a datasource target by ID (credentials are never returned)")
+    public ResponseEntity<?> getTarget(@PathVariable String targetId, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = jwtHelper.validateAuthorizationHeader(req, "getting datasource target");
+        if (authValidation != null) return authValidation;
+
+        try {
+            ApiDataSourceTargetDTO target = dataSourceRegistryService.getTarget(targetId);
+            return responseBuilderHelper.buildSuccessResponse(requestId, "Datasource target retrieved successfully", target);
+        } catch (Exception e) {
+            loggingHelper.logError(requestId, "getting datasource target", e.getMessage(), e);
+            return responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @PostMapping("/datasource-targets")
+    @Operation(summary = "Create datasource target", description = "Register a named database connection; the password is stored encrypted and the pool starts on first use")
+    public ResponseEntity<?> createTarget(@RequestBody ApiDataSourceTargetDTO request, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = jwtHelper.validateAuthorizationHeader(req, "creating datasource target");
+        if (authValidation != null) return authValidation;
+
+        try {
+            String performedBy = jwtHelper.extractPerformedBy(req);
+            ApiDataSourceTargetDTO target = dataSourceRegistryService.createTarget(request, performedBy);
+            loggingHelper.logSuccess(requestId, "datasource target creation", "ID: " + target.getId());
+            return responseBuilderHelper.buildSuccessResponse(requestId, "Datasource target created successfully", target, HttpStatus.CREATED);
+        } catch (DataSourceCredentialKeyMissingException e) {
+            loggingHelper.logError(requestId, "creating datasource target", e.getMessage(), e);
+            return responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (Exception e) {
+            loggingHelper.logError(requestId, "creating datasource target", e.getMessage(), e);
+            return responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @PutMapping("/datasource-targets/{targetId}")
+    @Operation(summary = "Update datasource target", description = "Update a datasource target; its pool is restarted with the new settings on next use")
+    public ResponseEntity<?> updateTarget(@PathVariable String targetId, @RequestBody ApiDataSourceTargetDTO request,
+                                          HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = jwtHelper.validateAuthorizationHeader(req, "updating datasource target");
+        if (authValidation != null) return authValidation;
+
+        try {
+            String performedBy = jwtHelper.extractPerformedBy(req);
+            ApiDataSourceTargetDTO target = dataSourceRegistryService.updateTarget(targetId, request, performedBy);
+            return responseBuilderHelper.buildSuccessResponse(requestId, "Datasource target updated successfully", target);
+        } catch (DataSourceCredentialKeyMissingException e) {
+            loggingHelper.logError(requestId, "updating datasource target", e.getMessage(), e);
+            return responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (Exception e) {
+            loggingHelper.logError(requestId, "updating datasource target", e.getMessage(), e);
+            return responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DeleteMapping("/datasource-targets/{targetId}")
+    @Operation(summary = "Delete datasource target", description = "Delete a datasource target that no API is assigned to")
+    public ResponseEntity<?> deleteTarget(@PathVariable String targetId, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = jwtHelper.validateAuthorizationHeader(req, "deleting datasource target");
+        if (authValidation != null) return authValidation;
+
+        try {
+            String performedBy = jwtHelper.extractPerformedBy(req);
+            dataSourceRegistryService.deleteTarget(targetId, performedBy);
+            return responseBuilderHelper.buildSuccessResponse(requestId, "Datasource target deleted successfully", null);
+        } catch (Exception e) {
+            loggingHelper.logError(requestId, "deleting datasource target", e.getMessage(), e);
+            return responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @PostMapping("/datasource-targets/{targetId}/test")
+    @Operation(summary = "Test datasource target", description = "Borrow a connection from the target's pool and report latency and server version")
+    public ResponseEntity<?> testTarget(@PathVariable String targetId, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = jwtHelper.validateAuthorizationHeader(req, "testing datasource target");
+        if (authValidation != null) return authValidation;
+
+        try {
+            Map<String, Object> result = dataSourceRegistryService.testTarget(targetId);
+            return responseBuilderHelper.buildSuccessResponse(requestId,
+                    Boolean.TRUE.equals(result.get("success")) ? "Connection successful" : "Connection failed", result);
+        } catch (DataSourceCredentialKeyMissingException e) {
+            loggingHelper.logError(requestId, "testing datasource target", e.getMessage(), e);
+            return responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (Exception e) {
+            loggingHelper.logError(requestId, "testing datasource target", e.getMessage(), e);
+            return responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @PutMapping("/{apiId}/datasource-target")
+    @Operation(summary = "Assign API datasource target", description = "Execute an API against a datasource target; send an empty targetId to use the default pool again")
+    public ResponseEntity<?> assignApiTarget(@PathVariable String apiId, @RequestBody Map<String, String> request,
+                                             HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = jwtHelper.validateAuthorizationHeader(req, "assigning API datasource target");
+        if (authValidation != null) return authValidation;
+
+        try {
+            String performedBy = jwtHelper.extractPerformedBy(req);
+            Map<String, Object> result = dataSourceRegistryService.assignApi(apiId,
+                    request != null ? request.get("targetId") : null, performedBy);
+            return responseBuilderHelper.buildSuccessResponse(requestId, "API datasource target updated successfully", result);
+        } catch (Exception e) {
+            loggingHelper.logError(requestId, "assigning API datasource target", e.getMessage(), e);
+            return responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @GetMapping("/read-replicas")
+    @Operation(summary = "Get read replica status", description = "Replica availability, lag, pool usage and how many reads were routed to the replica or fell back to the primary")
+    public ResponseEntity<?> getReadReplicaStatus(HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = jwtHelper.validateAuthorizationHeader(req, "getting read replica status");
+        if (authValidation != null) return authValidation;
+
+        try {
+            Map<String, Object> status = readReplicaService.getStatus();
+            return responseBuilderHelper.buildSuccessResponse(requestId, "Read replica status retrieved successfully", status);
+        } catch (Exception e) {
+            loggingHelper.logError(requestId, "getting read replica status", e.getMessage(), e);
+            return responseBuilderHelper.buildErrorResponse(requestId,
+                    "An error occurred while getting read replica status: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PutMapping("/{apiId}/read-routing")
+    @Operation(summary = "Set API read routing", description = "AUTO sends read-only executions to the read replica, PRIMARY keeps the API on the primary, REPLICA prefers the replica and is only accepted for read-only APIs")
+    public ResponseEntity<?> setReadRouting(@PathVariable String apiId, @RequestBody Map<String, String> request,
+                                            HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = jwtHelper.validateAuthorizationHeader(req, "setting API read routing");
+        if (authValidation != null) return authValidation;
+
+        try {
+            String performedBy = jwtHelper.extractPerformedBy(req);
+            Map<String, Object> result = dataSourceRegistryService.setReadRouting(apiId,
+                    request != null ? request.get("readRouting") : null, performedBy);
+            return responseBuilderHelper.buildSuccessResponse(requestId, "API read routing updated successfully", result);
+        } catch (Exception e) {
+            loggingHelper.logError(requestId, "setting API read routing", e.getMessage(), e);
+            return responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
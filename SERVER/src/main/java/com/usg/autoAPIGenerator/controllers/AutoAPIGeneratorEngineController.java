@@ -19,10 +19,12 @@ import com.usg.autoAPIGenerator.helpers.apiEngine.LoggingHelper;
 import com.usg.autoAPIGenerator.helpers.apiEngine.RequestExtractorHelper;
 import com.usg.autoAPIGenerator.helpers.apiEngine.RequestValidatorHelper;
 import com.usg.autoAPIGenerator.helpers.apiEngine.ResponseBuilderHelper;
+import com.usg.autoAPIGenerator.services.ApiEndpointRouterService;
 import com.usg.autoAPIGenerator.services.AutoAPIGeneratorEngineService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.io.BufferedReader;
 import java.time.LocalDateTime;
@@ -47,6 +49,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -68,6 +71,8 @@ public class AutoAPIGeneratorEngineController {
     @Generated
     private static final Logger log = LoggerFactory.getLogger(com.usg.autoAPIGenerator.controllers.AutoAPIGeneratorEngineController.class);
 
+    private static final String ROUTE_PREFIX = "/gen/_route";
+
     private final AutoAPIGeneratorEngineService autoAPIGeneratorEngineService;
 
     private final JwtHelper jwtHelper;
@@ -444,6 +449,296 @@ public class AutoAPIGeneratorEngineController {
         }
     }
 
+    @GetMapping({"/gen-engine/bulkheads"})
+    @Operation(summary = "Get execution bulkhead metrics", description = "Concurrent executions, waiting requests and rejections per API and per datasource")
+    public ResponseEntity<?> getBulkheadMetrics(HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "getting bulkhead metrics");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            Map<String, Object> metrics = this.autoAPIGeneratorEngineService.getBulkheadMetrics(requestId);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "Bulkhead metrics retrieved successfully", metrics);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "getting bulkhead metrics", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while getting bulkhead metrics: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping({"/gen-engine/response-cache"})
+    @Operation(summary = "Get response cache stats", description = "Entries, bytes, hit rate and evictions of the response cache, for all APIs or one API")
+    public ResponseEntity<?> getResponseCacheStats(@RequestParam(required = false) String apiId, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "getting response cache stats");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            Map<String, Object> stats = this.autoAPIGeneratorEngineService.getResponseCacheStats(requestId, apiId);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "Response cache stats retrieved successfully", stats);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "getting response cache stats", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while getting response cache stats: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping({"/gen-engine/conditional-requests"})
+    @Operation(summary = "Get conditional request stats", description = "Tracked ETag validators and 304 versus full responses for conditional GETs")
+    public ResponseEntity<?> getConditionalRequestStats(HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "getting conditional request stats");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            Map<String, Object> stats = this.autoAPIGeneratorEngineService.getConditionalRequestStats(requestId);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "Conditional request stats retrieved successfully", stats);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "getting conditional request stats", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while getting conditional request stats: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @DeleteMapping({"/gen-engine/response-cache"})
+    @Operation(summary = "Purge response cache", description = "Drop cached responses for one API (apiId) or for all APIs")
+    public ResponseEntity<?> purgeResponseCache(@RequestParam(required = false) String apiId, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "purging response cache");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            String performedBy = this.jwtHelper.extractPerformedBy(req);
+            Map<String, Object> result = this.autoAPIGeneratorEngineService.purgeResponseCache(requestId, apiId, performedBy);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "Response cache purged successfully", result);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "purging response cache", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while purging response cache: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping({"/gen-engine/routes"})
+    @Operation(summary = "Get endpoint routes", description = "Compiled base path + endpoint templates used to route generated API requests")
+    public ResponseEntity<?> getEndpointRoutes(HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "getting endpoint routes");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            List<Map<String, Object>> routes = this.autoAPIGeneratorEngineService.getEndpointRoutes(requestId);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "Endpoint routes retrieved successfully", routes);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "getting endpoint routes", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while getting endpoint routes: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping({"/gen-engine/routes/refresh"})
+    @Operation(summary = "Refresh endpoint routes", description = "Recompile every endpoint route from the database, e.g. after APIs were changed by another instance")
+    public ResponseEntity<?> refreshEndpointRoutes(HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "refreshing endpoint routes");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            String performedBy = this.jwtHelper.extractPerformedBy(req);
+            Map<String, Object> result = this.autoAPIGeneratorEngineService.refreshEndpointRoutes(requestId, performedBy);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "Endpoint routes refreshed successfully", result);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "refreshing endpoint routes", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while refreshing endpoint routes: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping({"/gen-engine/request-coalescing"})
+    @Operation(summary = "Get request coalescing stats", description = "In-flight, leader and coalesced counts of single-flight execution coalescing")
+    public ResponseEntity<?> getRequestCoalescingStats(HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "getting request coalescing stats");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            Map<String, Object> stats = this.autoAPIGeneratorEngineService.getRequestCoalescingStats(requestId);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "Request coalescing stats retrieved successfully", stats);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "getting request coalescing stats", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while getting request coalescing stats: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping({"/gen-engine/graphql"})
+    @Operation(summary = "Get GraphQL engine stats", description = "Parsed-document cache usage and the depth and complexity limits applied to GraphQL APIs")
+    public ResponseEntity<?> getGraphQLStats(HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "getting GraphQL stats");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            Map<String, Object> stats = this.autoAPIGeneratorEngineService.getGraphQLStats(requestId);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "GraphQL stats retrieved successfully", stats);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "getting GraphQL stats", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while getting GraphQL stats: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping({"/gen-engine/circuit-breakers"})
+    @Operation(summary = "Get circuit breaker status", description = "State, rolling-window error rates and rejections of the per-datasource and per-API circuit breakers")
+    public ResponseEntity<?> getCircuitBreakers(HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "getting circuit breaker status");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            Map<String, Object> status = this.autoAPIGeneratorEngineService.getCircuitBreakerStatus(requestId);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "Circuit breaker status retrieved successfully", status);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "getting circuit breaker status", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while getting circuit breaker status: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping({"/gen-engine/circuit-breakers/reset"})
+    @Operation(summary = "Reset circuit breaker", description = "Force a circuit (e.g. db:oracle or api:{apiId}) closed and clear its window")
+    public ResponseEntity<?> resetCircuitBreaker(@RequestParam String circuit, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "resetting circuit breaker");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            String performedBy = this.jwtHelper.extractPerformedBy(req);
+            Map<String, Object> result = this.autoAPIGeneratorEngineService.resetCircuitBreaker(requestId, circuit, performedBy);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "Circuit breaker reset successfully", result);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "resetting circuit breaker", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @GetMapping({"/gen-engine/generation-jobs"})
+    @Operation(summary = "Get generation jobs", description = "Artifact generation jobs (codebase, collections, documentation, code) with per-stage status, for all APIs or one API")
+    public ResponseEntity<?> getGenerationJobs(@RequestParam(required = false) String apiId, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "getting generation jobs");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            Map<String, Object> jobs = this.autoAPIGeneratorEngineService.getGenerationJobs(requestId, apiId);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "Generation jobs retrieved successfully", jobs);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "getting generation jobs", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while getting generation jobs: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping({"/gen-engine/generation-jobs/{jobId}"})
+    @Operation(summary = "Get generation job", description = "State, per-stage status and outputs of one artifact generation job")
+    public ResponseEntity<?> getGenerationJob(@PathVariable String jobId, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "getting generation job");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            Map<String, Object> job = this.autoAPIGeneratorEngineService.getGenerationJob(requestId, jobId);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "Generation job retrieved successfully", job);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "getting generation job", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @PostMapping({"/gen-engine/generation-jobs/{jobId}/stages/{stage}/retry"})
+    @Operation(summary = "Retry generation stage", description = "Run a failed or blocked stage (CODEBASE, COLLECTIONS, DOCUMENTATION, CODE) of a generation job again")
+    public ResponseEntity<?> retryGenerationStage(@PathVariable String jobId, @PathVariable String stage, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "retrying generation stage");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            String performedBy = this.jwtHelper.extractPerformedBy(req);
+            Map<String, Object> job = this.autoAPIGeneratorEngineService.retryGenerationStage(requestId, jobId, stage, performedBy);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "Generation stage retry submitted successfully", job);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            this.loggingHelper.logError(requestId, "retrying generation stage", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "retrying generation stage", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @GetMapping({"/gen-engine/{apiId}/concurrency"})
+    @Operation(summary = "Get API concurrency", description = "Effective concurrency limit, queue timeout and bulkhead occupancy for a generated API")
+    public ResponseEntity<?> getApiConcurrency(@PathVariable String apiId, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "getting API concurrency");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            Map<String, Object> metrics = this.autoAPIGeneratorEngineService.getApiBulkheadMetrics(requestId, apiId);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "API concurrency retrieved successfully", metrics);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "getting API concurrency", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while getting API concurrency: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping({"/gen-engine/{apiId}/query-plan"})
+    @Operation(summary = "Get API query plan", description = "Get the last query cost guard result (EXPLAIN plan, cost, full scans) for a generated API")
+    public ResponseEntity<?> getQueryPlan(@PathVariable String apiId, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "getting API query plan");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            Map<String, Object> planInfo = this.autoAPIGeneratorEngineService.getQueryPlan(requestId, apiId);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "API query plan retrieved successfully", planInfo);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "getting API query plan", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while getting API query plan: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping({"/gen-engine/{apiId}/query-plan/refresh"})
+    @Operation(summary = "Refresh API query plan", description = "Re-run EXPLAIN for a generated API and store the cost guard result")
+    public ResponseEntity<?> refreshQueryPlan(@PathVariable String apiId, HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+        ResponseEntity<?> authValidation = this.jwtHelper.validateAuthorizationHeader(req, "refreshing API query plan");
+        if (authValidation != null)
+            return authValidation;
+        try {
+            String performedBy = this.jwtHelper.extractPerformedBy(req);
+            Map<String, Object> planInfo = this.autoAPIGeneratorEngineService.refreshQueryPlan(requestId, apiId, performedBy);
+            return this.responseBuilderHelper.buildSuccessResponse(requestId, "API query plan refreshed successfully", planInfo);
+        } catch (Exception e) {
+            this.loggingHelper.logError(requestId, "refreshing API query plan", e.getMessage(), e);
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "An error occurred while refreshing API query plan: " + e
+
+                    .getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping({"/gen-engine/{apiId}/code"})
     @Operation(summary = "Generate API code", description = "Generate code for an API (PL/SQL, OpenAPI, Postman)")
     public ResponseEntity<?> generateApiCode(@PathVariable String apiId, HttpServletRequest req) {
@@ -700,10 +995,113 @@ public class AutoAPIGeneratorEngineController {
         }
     }
 
+    @PostMapping({"/gen/{apiId}/_bulk"})
+    @Operation(summary = "Bulk execute table API", description = "Stream a JSON array, NDJSON or CSV body into a generated table INSERT API using chunked batches (mode=insert|upsert)")
+    public ResponseEntity<?> executeBulkLoad(@PathVariable String apiId, HttpServletRequest request,
+                                             @RequestParam(defaultValue = "insert") String mode,
+                                             @RequestParam(required = false) String format,
+                                             @RequestParam(required = false) Integer chunkSize,
+                                             @RequestParam(required = false) String conflictColumns,
+                                             @RequestParam(defaultValue = "false") boolean stopOnError) {
+        String requestId = UUID.randomUUID().toString();
+        try {
+            String performedBy = this.jwtHelper.extractPerformedBy(request);
+            String clientIp = this.requestExtractorHelper.extractClientIp(request);
+            String userAgent = request.getHeader("User-Agent");
+            this.loggingHelper.logApiExecution(requestId, apiId, performedBy, request.getContentType(), clientIp, userAgent);
+            ExecuteApiRequestDTO metadataRequest = this.requestExtractorHelper.extractRequestMetadata(request, requestId);
+            List<String> conflictColumnList = (conflictColumns != null && !conflictColumns.trim().isEmpty())
+                    ? Arrays.<String>stream(conflictColumns.split(",")).map(String::trim).filter(c -> !c.isEmpty()).collect(Collectors.toList())
+                    : null;
+            ExecuteApiResponseDTO response = this.autoAPIGeneratorEngineService.executeBulkLoad(requestId, performedBy, apiId,
+                    metadataRequest, mode, format, chunkSize, conflictColumnList, stopOnError, userAgent, request);
+            return ResponseEntity.status(response.getResponseCode().intValue()).body(response);
+        } catch (Exception e) {
+            return handleException(requestId, apiId, e);
+        }
+    }
+
+    @PostMapping({"/gen/{apiId}/_batch"})
+    @Operation(summary = "Batch execute procedure API", description = "Execute a generated Oracle procedure API once per item of a JSON array, returning per-item OUT parameters and errors")
+    public ResponseEntity<?> executeProcedureBatch(@PathVariable String apiId, HttpServletRequest request,
+                                                   @RequestParam(required = false) Integer chunkSize) {
+        String requestId = UUID.randomUUID().toString();
+        try {
+            String performedBy = this.jwtHelper.extractPerformedBy(request);
+            String clientIp = this.requestExtractorHelper.extractClientIp(request);
+            String userAgent = request.getHeader("User-Agent");
+            this.loggingHelper.logApiExecution(requestId, apiId, performedBy, request.getContentType(), clientIp, userAgent);
+            ExecuteApiRequestDTO metadataRequest = this.requestExtractorHelper.extractRequestMetadata(request, requestId);
+            ExecuteApiResponseDTO response = this.autoAPIGeneratorEngineService.executeProcedureBatch(requestId, performedBy, apiId,
+                    metadataRequest, chunkSize, userAgent, request);
+            return ResponseEntity.status(response.getResponseCode().intValue()).body(response);
+        } catch (Exception e) {
+            return handleException(requestId, apiId, e);
+        }
+    }
+
+    @PostMapping({"/gen/{apiId}/_copy"})
+    @Operation(summary = "COPY ingest into table API", description = "Stream a CSV or NDJSON body into a generated PostgreSQL table INSERT API using COPY FROM STDIN in one transaction")
+    public ResponseEntity<?> executeCopyIngest(@PathVariable String apiId, HttpServletRequest request,
+                                               @RequestParam(required = false) String format) {
+        String requestId = UUID.randomUUID().toString();
+        try {
+            String performedBy = this.jwtHelper.extractPerformedBy(request);
+            String clientIp = this.requestExtractorHelper.extractClientIp(request);
+            String userAgent = request.getHeader("User-Agent");
+            this.loggingHelper.logApiExecution(requestId, apiId, performedBy, request.getContentType(), clientIp, userAgent);
+            ExecuteApiRequestDTO metadataRequest = this.requestExtractorHelper.extractRequestMetadata(request, requestId);
+            ExecuteApiResponseDTO response = this.autoAPIGeneratorEngineService.executeCopyIngest(requestId, performedBy, apiId,
+                    metadataRequest, format, userAgent, request);
+            return ResponseEntity.status(response.getResponseCode().intValue()).body(response);
+        } catch (Exception e) {
+            return handleException(requestId, apiId, e);
+        }
+    }
+
+    @RequestMapping(value = {"/gen/{apiId}/_lob/{column}"}, method = {RequestMethod.GET, RequestMethod.HEAD})
+    @Operation(summary = "Download LOB column", description = "Stream one BLOB/CLOB/bytea column of a table or view API's row, identified by the API's filter parameters or key columns in the query string. Binary columns support Range requests")
+    public ResponseEntity<?> executeLobDownload(@PathVariable String apiId, @PathVariable String column,
+                                                HttpServletRequest request, HttpServletResponse httpResponse) {
+        String requestId = UUID.randomUUID().toString();
+        try {
+            String performedBy = this.jwtHelper.extractPerformedBy(request);
+            String clientIp = this.requestExtractorHelper.extractClientIp(request);
+            String userAgent = request.getHeader("User-Agent");
+            this.loggingHelper.logApiExecution(requestId, apiId, performedBy, request.getContentType(), clientIp, userAgent);
+            ExecuteApiRequestDTO metadataRequest = this.requestExtractorHelper.extractRequestMetadata(request, requestId);
+            ExecuteApiResponseDTO response = this.autoAPIGeneratorEngineService.executeLobDownload(requestId, performedBy, apiId,
+                    column, metadataRequest, userAgent, request, httpResponse);
+            if (response == null)
+                return null;
+            return ResponseEntity.status(response.getResponseCode().intValue()).body(response);
+        } catch (Exception e) {
+            return handleException(requestId, apiId, e);
+        }
+    }
+
     @RequestMapping(value = {"/gen/{apiId}/**"}, method = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE, RequestMethod.PATCH, RequestMethod.HEAD, RequestMethod.OPTIONS})
     @Operation(summary = "Execute API by ID", description = "Execute a generated API using its ID in the URL path")
-    public ResponseEntity<?> executeApiById(@PathVariable String apiId, HttpServletRequest request, @RequestParam(required = false) MultiValueMap<String, String> formParams, @RequestParam(required = false) Map<String, MultipartFile> fileMap, @RequestParam(required = false) MultipartFile file) {
+    public ResponseEntity<?> executeApiById(@PathVariable String apiId, HttpServletRequest request, HttpServletResponse httpResponse, @RequestParam(required = false) MultiValueMap<String, String> formParams, @RequestParam(required = false) Map<String, MultipartFile> fileMap, @RequestParam(required = false) MultipartFile file) {
+        return executeGeneratedApi(UUID.randomUUID().toString(), apiId, null, request, httpResponse, formParams, fileMap, file);
+    }
+
+    @RequestMapping(value = {"/gen/_route/**"}, method = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE, RequestMethod.PATCH, RequestMethod.HEAD})
+    @Operation(summary = "Execute API by path", description = "Execute a generated API addressed by its base path and endpoint path (e.g. /plx/api/gen/_route/api/v1/customers/42) instead of its ID")
+    public ResponseEntity<?> executeApiByPath(HttpServletRequest request, HttpServletResponse httpResponse, @RequestParam(required = false) MultiValueMap<String, String> formParams, @RequestParam(required = false) Map<String, MultipartFile> fileMap, @RequestParam(required = false) MultipartFile file) {
         String requestId = UUID.randomUUID().toString();
+        String requestURI = request.getRequestURI();
+        String routePath = requestURI.substring(requestURI.indexOf(ROUTE_PREFIX) + ROUTE_PREFIX.length());
+        ApiEndpointRouterService.RouteMatch match = this.autoAPIGeneratorEngineService.resolveEndpointRoute(request.getMethod(), routePath);
+        if (match == null) {
+            log.warn("Request ID: {} - No generated API routed at {} {}", new Object[] { requestId, request.getMethod(), routePath });
+            return this.responseBuilderHelper.buildErrorResponse(requestId, "No API found for " + request.getMethod() + " " + routePath, HttpStatus.NOT_FOUND);
+        }
+        log.debug("Request ID: {} - Path {} routed to API {} ({})", new Object[] { requestId, routePath, match.getApiId(), match.getTemplate() });
+        return executeGeneratedApi(requestId, match.getApiId(), match.getPathParams(), request, httpResponse, formParams, fileMap, file);
+    }
+
+    private ResponseEntity<?> executeGeneratedApi(String requestId, String apiId, Map<String, Object> routedPathParams, HttpServletRequest request, HttpServletResponse httpResponse, MultiValueMap<String, String> formParams, Map<String, MultipartFile> fileMap, MultipartFile file) {
         log.debug("Request ID: {} - Received {} request for API ID: {}", new Object[] { requestId, request.getMethod(), apiId });
         log.debug("Request ID: {} - Full URL: {}", requestId, request.getRequestURL().toString());
         log.debug("Request ID: {} - Content-Type: {}", requestId, request.getContentType());
@@ -714,6 +1112,8 @@ public class AutoAPIGeneratorEngineController {
             String contentType = request.getContentType();
             this.loggingHelper.logApiExecution(requestId, apiId, performedBy, contentType, clientIp, userAgent);
             ExecuteApiRequestDTO executeRequest = this.requestExtractorHelper.extractRequestComponents(request, requestId, apiId);
+            if (routedPathParams != null)
+                executeRequest.setPathParams(routedPathParams);
             if (executeRequest.getHttpMethod() == null)
                 executeRequest.setHttpMethod(request.getMethod());
             Map<String, MultipartFile> finalFileMap = new HashMap<>();
@@ -753,28 +1153,50 @@ public class AutoAPIGeneratorEngineController {
             ExecuteApiResponseDTO response = this.autoAPIGeneratorEngineService.executeApi(requestId, performedBy, apiId, executeRequest, clientIp, userAgent, request);
             log.debug("Request ID: {} - API execution completed with status: {}, protocol: {}", new Object[] { requestId, response
                     .getResponseCode(), response.getProtocolType() });
+            if (response.getLobDownload() != null) {
+                ExecuteApiResponseDTO streamError = this.autoAPIGeneratorEngineService.streamLobDownload(requestId, performedBy,
+                        response.getLobDownload(), executeRequest, clientIp, userAgent, request, httpResponse);
+                if (streamError == null)
+                    return null;
+                return ResponseEntity.status(streamError.getResponseCode().intValue()).body(streamError);
+            }
+            if (response.getResponseCode().intValue() == 304)
+                return withValidators(response).build();
             String protocolType = response.getProtocolType();
             if ("soap".equalsIgnoreCase(protocolType) &&
                     response.getData() instanceof String) {
                 String soapXml = (String)response.getData();
                 log.info("Returning raw SOAP XML response (length: {} characters)", Integer.valueOf(soapXml.length()));
-                return ResponseEntity.status(response.getResponseCode().intValue())
+                return withValidators(response)
                         .contentType(MediaType.APPLICATION_XML)
                         .body(soapXml);
             }
             if ("graphql".equalsIgnoreCase(protocolType) &&
                     response.getData() != null) {
                 log.info("Returning GraphQL response");
-                return ResponseEntity.status(response.getResponseCode().intValue())
+                return withValidators(response)
                         .contentType(MediaType.APPLICATION_JSON)
                         .body(response.getData());
             }
-            return ResponseEntity.status(response.getResponseCode().intValue()).body(response);
+            if (response.getEncodedBody() != null)
+                return withValidators(response)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(response.getEncodedBody());
+            return withValidators(response).body(response);
         } catch (Exception e) {
             return handleException(requestId, apiId, e);
         }
     }
 
+    private ResponseEntity.BodyBuilder withValidators(ExecuteApiResponseDTO response) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.getResponseCode().intValue());
+        if (response.getEtag() != null)
+            builder.eTag(response.getEtag());
+        if (response.getLastModified() != null)
+            builder.lastModified(response.getLastModified().longValue());
+        return builder;
+    }
+
     private ResponseEntity<Map<String, Object>> handleException(String requestId, String apiId, Exception e) {
         this.loggingHelper.logError(requestId, "executing API by ID", e.getMessage(), e);
         Map<String, Object> errorResponse = new LinkedHashMap<>();
@@ -241,6 +241,37 @@ public class DashboardController {
 
 
 
+    // ============================================================
+    // 10a. INDEX ADVICE
+    // ============================================================
+    @GetMapping("/index-advice")
+    @Operation(summary = "Get index recommendations for generated table APIs", parameters = {
+            @Parameter(name = "Authorization", required = true, in = ParameterIn.HEADER),
+            @Parameter(name = "databaseType", description = "oracle or postgresql (omit for both)", in = ParameterIn.QUERY),
+            @Parameter(name = "days", description = "Days of execution logs to analyze", in = ParameterIn.QUERY),
+            @Parameter(name = "minCalls", description = "Minimum calls for a filter combination to be recommended", in = ParameterIn.QUERY)
+    })
+    public ResponseEntity<?> getIndexAdvice(
+            @RequestParam(required = false) String databaseType,
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "10") int minCalls,
+            HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+
+        ResponseEntity<?> authValidation = validateAuth(req, "getting index advice", requestId);
+        if (authValidation != null) return authValidation;
+
+        try {
+            String performedBy = jwtHelper.extractPerformedBy(req);
+            Map<String, Object> advice = dashboardService.getDashboardIndexAdvice(requestId, req, performedBy, databaseType, days, minCalls);
+
+            return ResponseEntity.ok(createSuccessResponse("Index advice retrieved successfully", advice, requestId));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(createErrorResponse("Error getting index advice: " + e.getMessage(), requestId, HttpStatus.INTERNAL_SERVER_ERROR));
+        }
+    }
+
     // ============================================================
     // 11. LANGUAGES (Code Generation)
     // ============================================================
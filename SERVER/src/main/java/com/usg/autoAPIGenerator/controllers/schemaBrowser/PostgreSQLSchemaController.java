@@ -10,11 +10,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -29,6 +31,9 @@ public class PostgreSQLSchemaController {
     private final LoggerUtil loggerUtil;
     private final JwtHelper jwtHelper;
 
+    @Value("${schema-browser.keyset.max-page-size:1000}")
+    private int keysetMaxPageSize;
+
     // ============================================================
     // 1. SCHEMA INFO ENDPOINTS
     // ============================================================
@@ -704,6 +709,125 @@ public class PostgreSQLSchemaController {
         }
     }
 
+    @GetMapping("/tables/{tableName}/data/keyset")
+    @Operation(summary = "Get table data with keyset pagination",
+            description = "Retrieves table data page by page using the primary key or ctid as a cursor. " +
+                    "Row counts come from planner statistics unless exactCount is set",
+            parameters = {
+                    @Parameter(name = "Authorization", description = "JWT Token in format: Bearer {token}",
+                            required = true, in = ParameterIn.HEADER),
+                    @Parameter(name = "tableName", description = "Table name",
+                            required = true, in = ParameterIn.PATH),
+                    @Parameter(name = "pageSize", description = "Number of rows per page (1 to schema-browser.keyset.max-page-size)",
+                            required = false, in = ParameterIn.QUERY),
+                    @Parameter(name = "cursor", description = "nextCursor value from the previous page (omit for the first page)",
+                            required = false, in = ParameterIn.QUERY),
+                    @Parameter(name = "sortDirection", description = "Key sort direction (ASC/DESC)",
+                            required = false, in = ParameterIn.QUERY),
+                    @Parameter(name = "filter", description = "Filter condition (e.g., column=value)",
+                            required = false, in = ParameterIn.QUERY),
+                    @Parameter(name = "exactCount", description = "Run COUNT(*) instead of using planner statistics",
+                            required = false, in = ParameterIn.QUERY),
+                    @Parameter(name = "prefetch", description = "Load the next page in the background",
+                            required = false, in = ParameterIn.QUERY)
+            })
+    public ResponseEntity<?> getTableDataKeyset(
+            @PathVariable String tableName,
+            @RequestParam(defaultValue = "50") int pageSize,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false) String filter,
+            @RequestParam(defaultValue = "false") boolean exactCount,
+            @RequestParam(defaultValue = "true") boolean prefetch,
+            HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+
+        ResponseEntity<?> authValidation = jwtHelper.validateAuthorizationHeader(req, "getting keyset table data");
+        if (authValidation != null) {
+            return authValidation;
+        }
+
+        if (pageSize < 1 || pageSize > keysetMaxPageSize) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("responseCode", 400);
+            errorResponse.put("message", "pageSize must be between 1 and " + keysetMaxPageSize);
+            errorResponse.put("requestId", requestId);
+            errorResponse.put("timestamp", java.time.Instant.now().toString());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        try {
+            String performedBy = jwtHelper.extractPerformedBy(req);
+            loggerUtil.log("postgresqlSchema", "RequestEntity ID: " + requestId +
+                    ", Getting keyset data for PostgreSQL table: " + tableName +
+                    ", pageSize: " + pageSize + ", cursor: " + cursor);
+
+            Map<String, Object> result = postgresqlSchemaService.getTableDataKeyset(
+                    requestId, req, performedBy, tableName, pageSize, cursor, sortDirection, filter,
+                    exactCount, prefetch);
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            loggerUtil.log("postgresqlSchema", "RequestEntity ID: " + requestId +
+                    ", Error getting keyset data for PostgreSQL table " + tableName + ": " + e.getMessage());
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("responseCode", 500);
+            errorResponse.put("message", "An error occurred while getting keyset table data: " + e.getMessage());
+            errorResponse.put("requestId", requestId);
+            errorResponse.put("timestamp", java.time.Instant.now().toString());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    @GetMapping("/tables/{tableName}/index-advice")
+    @Operation(summary = "Get index advice for a table",
+            description = "Aggregates the filter-column combinations generated APIs receive for this table, " +
+                    "checks them against existing indexes and planner statistics (pg_index, pg_stats), and recommends composite indexes",
+            parameters = {
+                    @Parameter(name = "Authorization", description = "JWT Token in format: Bearer {token}",
+                            required = true, in = ParameterIn.HEADER),
+                    @Parameter(name = "tableName", description = "Table name",
+                            required = true, in = ParameterIn.PATH),
+                    @Parameter(name = "days", description = "How many days of execution logs to analyze",
+                            required = false, in = ParameterIn.QUERY),
+                    @Parameter(name = "minCalls", description = "Minimum calls for a filter combination to be recommended",
+                            required = false, in = ParameterIn.QUERY)
+            })
+    public ResponseEntity<?> getTableIndexAdvice(
+            @PathVariable String tableName,
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "10") int minCalls,
+            HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+
+        ResponseEntity<?> authValidation = jwtHelper.validateAuthorizationHeader(req, "getting table index advice");
+        if (authValidation != null) {
+            return authValidation;
+        }
+
+        try {
+            String performedBy = jwtHelper.extractPerformedBy(req);
+            loggerUtil.log("postgresqlSchema", "RequestEntity ID: " + requestId +
+                    ", Getting index advice for PostgreSQL table: " + tableName + ", days: " + days);
+
+            Map<String, Object> result = postgresqlSchemaService.getTableIndexAdvice(
+                    requestId, req, performedBy, tableName, days, minCalls);
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            loggerUtil.log("postgresqlSchema", "RequestEntity ID: " + requestId +
+                    ", Error getting index advice for PostgreSQL table " + tableName + ": " + e.getMessage());
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("responseCode", 500);
+            errorResponse.put("message", "An error occurred while getting table index advice: " + e.getMessage());
+            errorResponse.put("requestId", requestId);
+            errorResponse.put("timestamp", java.time.Instant.now().toString());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
     @GetMapping("/tables/{tableName}/columns")
     @Operation(summary = "Get table columns with pagination",
             description = "Retrieves paginated columns for a specific PostgreSQL table",
@@ -3737,6 +3861,29 @@ public class PostgreSQLSchemaController {
         }
     }
 
+    @GetMapping("/frontend/counts/schemas")
+    @Operation(summary = "Get object counts for multiple schemas")
+    public ResponseEntity<?> getObjectCountsForSchemas(
+            @RequestParam(required = false) List<String> schemas,
+            @RequestParam(defaultValue = "false") boolean refresh,
+            HttpServletRequest req) {
+        String requestId = UUID.randomUUID().toString();
+
+        ResponseEntity<?> authValidation = jwtHelper.validateAuthorizationHeader(req, "getting schema object counts");
+        if (authValidation != null) {
+            return authValidation;
+        }
+
+        try {
+            String performedBy = jwtHelper.extractPerformedBy(req);
+            Map<String, Object> result = postgresqlSchemaService.getObjectCountsForSchemas(
+                    requestId, req, performedBy, schemas, refresh);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return postgresqlSchemaService.createErrorResponse(requestId, e.getMessage(), 500);
+        }
+    }
+
     @GetMapping("/frontend/synonyms/{synonymName}/resolve-target")
     @Operation(summary = "Resolve synonym target (Not supported)")
     public ResponseEntity<?> resolveSynonymTarget(
@@ -0,0 +1,44 @@
+package com.usg.autoAPIGenerator.dtos.apiGenerationEngine;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ApiDataSourceTargetDTO {
+    private String id;
+    private String name;
+    private String description;
+    private String databaseType;
+    private String jdbcUrl;
+    private String username;
+
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private String password;  // Accepted on create/update only, never returned
+
+    private Integer maximumPoolSize;
+    private Integer minimumIdle;
+    private Long connectionTimeoutMs;
+    private Long idleTimeoutMs;
+    private Long maxLifetimeMs;
+    private Map<String, String> driverProperties;
+    private Boolean isActive;
+    private String createdBy;
+    private String updatedBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Read-only status
+    private Long apiCount;
+    private Map<String, Object> pool;
+}
@@ -18,4 +18,5 @@ public class ApiResponseConfigDTO {
     private List<String> metadataFields;
     private String contentType;
     private String compression;
+    private Boolean enableEtag;
 }
\ No newline at end of file
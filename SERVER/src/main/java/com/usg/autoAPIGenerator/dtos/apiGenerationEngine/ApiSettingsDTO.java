@@ -18,6 +18,9 @@ public class ApiSettingsDTO {
     private String logLevel;
     private Boolean enableCaching;
     private Integer cacheTtl;
+    private Integer cacheMaxEntries;
+    private Long cacheMaxBytes;
+    private Boolean enableRequestCoalescing;
     private Boolean enableRateLimiting;
     private Integer rateLimit;
     private String rateLimitPeriod;
@@ -32,4 +35,9 @@ public class ApiSettingsDTO {
     private Boolean corsEnabled;
     private List<String> corsOrigins;
     private Boolean generateClientSDK;
+    private Double maxPlanCost;
+    private Boolean enforcePlanCost;
+    private Integer maxConcurrentExecutions;
+    private Integer concurrencyQueueTimeoutMs;
+    private Boolean enableBinaryDownload;
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.usg.autoAPIGenerator.dtos.apiGenerationEngine;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,4 +26,19 @@ public class ExecuteApiResponseDTO {
     private String contentType;  // "application/json" or "application/xml"
     private String protocolType; // "rest", "soap", "graphql"
     private Map<String, Object> error;
+
+    // This response already encoded as JSON (REST success path), written to the client as-is
+    @JsonIgnore
+    private byte[] encodedBody;
+
+    // Binary download mode: the LOB to stream instead of a JSON body
+    @JsonIgnore
+    private LobDownloadDTO lobDownload;
+
+    // Conditional GET validators, sent as the ETag and Last-Modified headers (responseCode 304: no body)
+    @JsonIgnore
+    private String etag;
+
+    @JsonIgnore
+    private Long lastModified;
 }
\ No newline at end of file
@@ -164,6 +164,7 @@ public class GeneratedAPIDTO {
         private List<String> metadataFields;
         private String contentType;
         private String compression; // gzip, deflate, none
+        private Boolean enableEtag; // ETag / 304 for GET and HEAD
     }
 
     @Data
@@ -0,0 +1,25 @@
+package com.usg.autoAPIGenerator.dtos.apiGenerationEngine;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Identifies one LOB value to stream: the column of the row matched by the key columns
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LobDownloadDTO {
+    private String apiId;
+    private String databaseType;
+    private String schemaName;
+    private String objectName;
+    private String column;
+    private String contentType;
+    private Map<String, Object> keyValues; // db column -> value
+}
@@ -0,0 +1,112 @@
+package com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine;
+
+import com.vladmihalcea.hibernate.type.json.JsonType;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A named database connection that generated APIs can execute against instead of
+ * the application's default PostgreSQL / Oracle pools. Each target gets its own
+ * Hikari pool, started on first use. The password is stored encrypted.
+ */
+@Entity
+@Table(name = "tb_eng_datasource_targets", indexes = {
+        @Index(name = "idx_eng_ds_target_name", columnList = "name", unique = true),
+        @Index(name = "idx_eng_ds_target_database_type", columnList = "database_type")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiDataSourceTargetEntity {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    private String id;
+
+    @Column(name = "name", nullable = false, unique = true)
+    private String name;
+
+    @Column(name = "description", length = 2000)
+    private String description;
+
+    @Column(name = "database_type", nullable = false)
+    private String databaseType;  // postgresql or oracle
+
+    @Column(name = "jdbc_url", nullable = false, length = 1000)
+    private String jdbcUrl;
+
+    @Column(name = "username")
+    private String username;
+
+    @Column(name = "password_encrypted", length = 1000)
+    private String passwordEncrypted;
+
+    @Column(name = "maximum_pool_size")
+    private Integer maximumPoolSize;
+
+    @Column(name = "minimum_idle")
+    private Integer minimumIdle;
+
+    @Column(name = "connection_timeout_ms")
+    private Long connectionTimeoutMs;
+
+    @Column(name = "idle_timeout_ms")
+    private Long idleTimeoutMs;
+
+    @Column(name = "max_lifetime_ms")
+    private Long maxLifetimeMs;
+
+    @Type(JsonType.class)
+    @Column(name = "driver_properties", columnDefinition = "jsonb")
+    private Map<String, String> driverProperties;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Column(name = "created_by")
+    private String createdBy;
+
+    @Column(name = "updated_by")
+    private String updatedBy;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        if (isActive == null) {
+            isActive = true;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public String toString() {
+        return "ApiDataSourceTargetEntity{" +
+                "id='" + id + '\'' +
+                ", name='" + name + '\'' +
+                ", databaseType='" + databaseType + '\'' +
+                ", jdbcUrl='" + jdbcUrl + '\'' +
+                ", username='" + username + '\'' +
+                ", isActive=" + isActive +
+                '}';
+    }
+}
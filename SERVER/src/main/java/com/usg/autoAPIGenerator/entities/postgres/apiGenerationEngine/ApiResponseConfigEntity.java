@@ -43,6 +43,10 @@ public class ApiResponseConfigEntity {
     @Column(name = "compression")
     private String compression;
 
+    // ETag / Last-Modified validators and 304 answers for GET and HEAD
+    @Column(name = "enable_etag")
+    private Boolean enableEtag;
+
     @ElementCollection
     @CollectionTable(name = "tb_eng_metadata_fields", joinColumns = @JoinColumn(name = "response_config_id"))
     @Column(name = "field_name")
@@ -59,6 +63,7 @@ public class ApiResponseConfigEntity {
                 Objects.equals(includeMetadata, that.includeMetadata) &&
                 Objects.equals(contentType, that.contentType) &&
                 Objects.equals(compression, that.compression) &&
+                Objects.equals(enableEtag, that.enableEtag) &&
                 Objects.equals(metadataFields, that.metadataFields) &&
                 Objects.equals(generatedApi != null ? generatedApi.getId() : null,
                         that.generatedApi != null ? that.generatedApi.getId() : null);
@@ -67,7 +72,7 @@ public class ApiResponseConfigEntity {
     @Override
     public int hashCode() {
         return Objects.hash(id, successSchema, errorSchema, includeMetadata,
-                contentType, compression, metadataFields,
+                contentType, compression, enableEtag, metadataFields,
                 generatedApi != null ? generatedApi.getId() : null);
     }
 
@@ -81,6 +86,7 @@ public class ApiResponseConfigEntity {
                 ", includeMetadata=" + includeMetadata +
                 ", contentType='" + contentType + '\'' +
                 ", compression='" + compression + '\'' +
+                ", enableEtag=" + enableEtag +
                 ", metadataFields=" + metadataFields +
                 '}';
     }
@@ -120,6 +126,13 @@ public class ApiResponseConfigEntity {
                 !"none".equalsIgnoreCase(compression);
     }
 
+    /**
+     * Checks if conditional requests (ETag / If-None-Match) are answered for this API
+     */
+    public boolean isEtagEnabled() {
+        return enableEtag != null && enableEtag;
+    }
+
     /**
      * Gets the compression algorithm to use
      */
@@ -219,5 +232,6 @@ public class ApiResponseConfigEntity {
         private Boolean includeMetadata = false; // Default to no metadata
         private String contentType = "application/json"; // Default to JSON
         private String compression = "none"; // Default to no compression
+        private Boolean enableEtag = false; // Default to full responses only
     }
 }
\ No newline at end of file
@@ -62,6 +62,15 @@ public class ApiSettingsEntity {
     @Column(name = "cache_ttl")
     private Integer cacheTtl;
 
+    @Column(name = "cache_max_entries")
+    private Integer cacheMaxEntries;
+
+    @Column(name = "cache_max_bytes")
+    private Long cacheMaxBytes;
+
+    @Column(name = "enable_request_coalescing")
+    private Boolean enableRequestCoalescing;
+
     // =============================
     // Rate Limiting
     // =============================
@@ -118,6 +127,33 @@ public class ApiSettingsEntity {
     @Column(name = "cors_origins", columnDefinition = "text")
     private String corsOrigins;
 
+    // =============================
+    // Query Cost Guard
+    // =============================
+
+    @Column(name = "max_plan_cost")
+    private Double maxPlanCost;
+
+    @Column(name = "enforce_plan_cost")
+    private Boolean enforcePlanCost;
+
+    // =============================
+    // Concurrency (Bulkhead)
+    // =============================
+
+    @Column(name = "max_concurrent_executions")
+    private Integer maxConcurrentExecutions; // null = engine default, 0 = no per-API limit
+
+    @Column(name = "concurrency_queue_timeout_ms")
+    private Integer concurrencyQueueTimeoutMs; // how long a request waits for a permit before a 503
+
+    // =============================
+    // Binary Download
+    // =============================
+
+    @Column(name = "enable_binary_download")
+    private Boolean enableBinaryDownload; // GET streams the API's single LOB column instead of JSON
+
     // =====================================================
     // equals & hashCode
     // =====================================================
@@ -134,6 +170,9 @@ public class ApiSettingsEntity {
                 Objects.equals(logLevel, that.logLevel) &&
                 Objects.equals(enableCaching, that.enableCaching) &&
                 Objects.equals(cacheTtl, that.cacheTtl) &&
+                Objects.equals(cacheMaxEntries, that.cacheMaxEntries) &&
+                Objects.equals(cacheMaxBytes, that.cacheMaxBytes) &&
+                Objects.equals(enableRequestCoalescing, that.enableRequestCoalescing) &&
                 Objects.equals(enableRateLimiting, that.enableRateLimiting) &&
                 Objects.equals(rateLimit, that.rateLimit) &&
                 Objects.equals(rateLimitPeriod, that.rateLimitPeriod) &&
@@ -148,6 +187,11 @@ public class ApiSettingsEntity {
                 Objects.equals(enableTracing, that.enableTracing) &&
                 Objects.equals(corsEnabled, that.corsEnabled) &&
                 Objects.equals(corsOrigins, that.corsOrigins) &&
+                Objects.equals(maxPlanCost, that.maxPlanCost) &&
+                Objects.equals(enforcePlanCost, that.enforcePlanCost) &&
+                Objects.equals(maxConcurrentExecutions, that.maxConcurrentExecutions) &&
+                Objects.equals(concurrencyQueueTimeoutMs, that.concurrencyQueueTimeoutMs) &&
+                Objects.equals(enableBinaryDownload, that.enableBinaryDownload) &&
                 Objects.equals(
                         generatedApi != null ? generatedApi.getId() : null,
                         that.generatedApi != null ? that.generatedApi.getId() : null
@@ -158,11 +202,13 @@ public class ApiSettingsEntity {
     public int hashCode() {
         return Objects.hash(
                 id, timeout, maxRecords, enableLogging, logLevel,
-                enableCaching, cacheTtl, enableRateLimiting, rateLimit,
+                enableCaching, cacheTtl, cacheMaxEntries, cacheMaxBytes, enableRequestCoalescing,
+                enableRateLimiting, rateLimit,
                 rateLimitPeriod, enableAudit, auditLevel, generateSwagger,
                 generatePostman, generateClientSDK, enableMonitoring,
                 enableAlerts, alertEmail, enableTracing, corsEnabled,
-                corsOrigins,
+                corsOrigins, maxPlanCost, enforcePlanCost,
+                maxConcurrentExecutions, concurrencyQueueTimeoutMs, enableBinaryDownload,
                 generatedApi != null ? generatedApi.getId() : null
         );
     }
@@ -182,6 +228,9 @@ public class ApiSettingsEntity {
                 ", logLevel='" + logLevel + '\'' +
                 ", enableCaching=" + enableCaching +
                 ", cacheTtl=" + cacheTtl +
+                ", cacheMaxEntries=" + cacheMaxEntries +
+                ", cacheMaxBytes=" + cacheMaxBytes +
+                ", enableRequestCoalescing=" + enableRequestCoalescing +
                 ", enableRateLimiting=" + enableRateLimiting +
                 ", rateLimit=" + rateLimit +
                 ", rateLimitPeriod='" + rateLimitPeriod + '\'' +
@@ -196,6 +245,11 @@ public class ApiSettingsEntity {
                 ", enableTracing=" + enableTracing +
                 ", corsEnabled=" + corsEnabled +
                 ", corsOrigins='" + corsOrigins + '\'' +
+                ", maxPlanCost=" + maxPlanCost +
+                ", enforcePlanCost=" + enforcePlanCost +
+                ", maxConcurrentExecutions=" + maxConcurrentExecutions +
+                ", concurrencyQueueTimeoutMs=" + concurrencyQueueTimeoutMs +
+                ", enableBinaryDownload=" + enableBinaryDownload +
                 '}';
     }
 
@@ -230,5 +284,6 @@ public class ApiSettingsEntity {
         private Boolean enableTracing = false;
         private Boolean corsEnabled = true;
         private String corsOrigins = "*";
+        private Boolean enforcePlanCost = false;
     }
 }
\ No newline at end of file
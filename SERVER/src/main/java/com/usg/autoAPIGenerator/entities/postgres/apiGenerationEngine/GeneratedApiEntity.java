@@ -35,6 +35,7 @@ import java.util.*;
         @Index(name = "idx_eng_api_owner_status", columnList = "owner, status"),
         @Index(name = "idx_eng_api_active_owner", columnList = "is_active, owner"),
         @Index(name = "idx_eng_api_database_type", columnList = "database_type"),
+        @Index(name = "idx_eng_api_datasource_target", columnList = "datasource_target_id"),
 
         // Index for JSONB fields (PostgreSQL specific)
         @Index(name = "idx_eng_api_collection_info", columnList = "collection_info")
@@ -101,6 +102,12 @@ public class GeneratedApiEntity {
     @Column(name = "database_type", length = 50)
     private String databaseType; // "oracle", "postgresql", "mysql", etc.
 
+    @Column(name = "datasource_target_id")
+    private String dataSourceTargetId; // Optional ApiDataSourceTargetEntity to execute against instead of the default pool
+
+    @Column(name = "read_routing", length = 20)
+    private String readRouting; // AUTO (default), PRIMARY or REPLICA - where read-only executions are sent
+
     @Column(columnDefinition = "TEXT")
     private String sourceSql;  // The SQL statement used to generate the API
 
@@ -156,6 +163,10 @@ public class GeneratedApiEntity {
     @Column(name = "collection_info", columnDefinition = "jsonb")
     private Map<String, Object> collectionInfo;
 
+    @Type(JsonType.class)
+    @Column(name = "query_plan_info", columnDefinition = "jsonb")
+    private Map<String, Object> queryPlanInfo;  // Latest EXPLAIN result from the query cost guard
+
     // =====================================================
     // One-to-One Configurations
     // =====================================================
@@ -0,0 +1,24 @@
+package com.usg.autoAPIGenerator.exceptions;
+
+/**
+ * Thrown when an API execution cannot get a bulkhead permit within its queue timeout
+ */
+public class ApiBulkheadFullException extends RuntimeException {
+
+    private final String bulkheadName;
+    private final int maxConcurrent;
+
+    public ApiBulkheadFullException(String bulkheadName, int maxConcurrent, String message) {
+        super(message);
+        this.bulkheadName = bulkheadName;
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public String getBulkheadName() {
+        return bulkheadName;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+}
@@ -0,0 +1,24 @@
+package com.usg.autoAPIGenerator.exceptions;
+
+/**
+ * Thrown when an API execution is rejected because a circuit breaker on its API or datasource is open
+ */
+public class ApiCircuitOpenException extends RuntimeException {
+
+    private final String circuitName;
+    private final long retryAfterSeconds;
+
+    public ApiCircuitOpenException(String circuitName, long retryAfterSeconds, String message) {
+        super(message);
+        this.circuitName = circuitName;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getCircuitName() {
+        return circuitName;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,13 @@
+package com.usg.autoAPIGenerator.exceptions;
+
+/**
+ * Thrown when a datasource target credential has to be encrypted or decrypted but
+ * api.datasource-targets.encryption-key is not configured
+ */
+public class DataSourceCredentialKeyMissingException extends IllegalStateException {
+
+    public DataSourceCredentialKeyMissingException() {
+        super("api.datasource-targets.encryption-key is not set - " +
+                "a dedicated key is required to encrypt datasource target credentials");
+    }
+}
@@ -0,0 +1,19 @@
+package com.usg.autoAPIGenerator.exceptions;
+
+/**
+ * Thrown when a GraphQL request sends only a persisted query hash that the server does not know;
+ * the client is expected to retry once with the full query text
+ */
+public class PersistedQueryNotFoundException extends RuntimeException {
+
+    private final String sha256Hash;
+
+    public PersistedQueryNotFoundException(String sha256Hash) {
+        super("PersistedQueryNotFound");
+        this.sha256Hash = sha256Hash;
+    }
+
+    public String getSha256Hash() {
+        return sha256Hash;
+    }
+}
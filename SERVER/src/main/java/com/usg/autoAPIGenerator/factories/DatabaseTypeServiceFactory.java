@@ -8,6 +8,7 @@ import com.usg.autoAPIGenerator.helpers.apiEngine.oracle.OracleApiMetadataHelper
 import com.usg.autoAPIGenerator.helpers.apiEngine.oracle.OracleApiValidationHelper;
 import com.usg.autoAPIGenerator.helpers.apiEngine.postgresql.PostgreSQLApiMetadataHelper;
 import com.usg.autoAPIGenerator.helpers.apiEngine.postgresql.PostgreSQLApiValidationHelper;
+import com.usg.autoAPIGenerator.services.ApiCircuitBreakerService;
 import com.usg.autoAPIGenerator.services.schemaBrowser.OracleSchemaService;
 import com.usg.autoAPIGenerator.services.schemaBrowser.PostgreSQLSchemaService;
 import com.zaxxer.hikari.HikariDataSource;
@@ -17,10 +18,13 @@ import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -80,6 +84,12 @@ public class DatabaseTypeServiceFactory {
     @Autowired
     private PostgreSQLSchemaService postgreSQLSchemaService;
     
+    @Autowired
+    private ApiCircuitBreakerService circuitBreakerService;
+    
+    @Value("${api.circuit-breaker.probe-interval-seconds:5}")
+    private long circuitProbeIntervalSeconds;
+    
     @PostConstruct
     public void init() {
         // Register Oracle services
@@ -122,6 +132,40 @@ public class DatabaseTypeServiceFactory {
                 log.error("Health check failed: {}", e.getMessage());
             }
         }, 30, 30, TimeUnit.SECONDS);
+        
+        // Recovery probes for open datasource circuits: one SELECT 1 per due circuit instead of user traffic
+        healthChecker.scheduleWithFixedDelay(() -> {
+            try {
+                probeOpenCircuits();
+            } catch (Exception e) {
+                log.error("Circuit recovery probe failed: {}", e.getMessage());
+            }
+        }, circuitProbeIntervalSeconds, circuitProbeIntervalSeconds, TimeUnit.SECONDS);
+    }
+    
+    private void probeOpenCircuits() {
+        for (String databaseType : circuitBreakerService.getDataSourcesAwaitingProbe()) {
+            boolean success = probeDatabase(databaseType);
+            log.info("Circuit recovery probe for {} {}", databaseType, success ? "succeeded" : "failed");
+            circuitBreakerService.onHealthProbe(databaseType, success);
+        }
+    }
+    
+    private boolean probeDatabase(String databaseType) {
+        DataSource dataSource = dataSources.get(databaseType);
+        if (dataSource == null) {
+            return false;
+        }
+        String probeSql = "postgresql".equals(databaseType) ? "SELECT 1" : "SELECT 1 FROM DUAL";
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.setQueryTimeout(5);
+            stmt.execute(probeSql);
+            return true;
+        } catch (Exception e) {
+            log.warn("Recovery probe against {} failed: {}", databaseType, e.getMessage());
+            return false;
+        }
     }
     
     private void checkConnectionPools() {
@@ -136,6 +180,11 @@ public class DatabaseTypeServiceFactory {
     }
     
     private void checkPool(String name, DataSource dataSource) {
+        // While the circuit is open the database is already known to be unhealthy;
+        // resetting the pool would only add reconnect load
+        if (circuitBreakerService.isDataSourceOpen(name)) {
+            return;
+        }
         if (dataSource instanceof HikariDataSource) {
             HikariDataSource hikari = (HikariDataSource) dataSource;
             HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
@@ -166,13 +215,18 @@ public class DatabaseTypeServiceFactory {
     
     private void checkForStuckConnections() {
         try {
-            // Test PostgreSQL connection with timeout
-            postgresqlJdbcTemplate.setQueryTimeout(5);
-            postgresqlJdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            // Open circuits are probed by probeOpenCircuits on their own schedule
+            if (!circuitBreakerService.isDataSourceOpen("postgresql")) {
+                // Test PostgreSQL connection with timeout
+                postgresqlJdbcTemplate.setQueryTimeout(5);
+                postgresqlJdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            }
             
-            // Test Oracle connection with timeout
-            oracleJdbcTemplate.setQueryTimeout(5);
-            oracleJdbcTemplate.queryForObject("SELECT 1 FROM DUAL", Integer.class);
+            if (!circuitBreakerService.isDataSourceOpen("oracle")) {
+                // Test Oracle connection with timeout
+                oracleJdbcTemplate.setQueryTimeout(5);
+                oracleJdbcTemplate.queryForObject("SELECT 1 FROM DUAL", Integer.class);
+            }
             
         } catch (Exception e) {
             log.error("Connection test failed: {}", e.getMessage());
@@ -412,6 +412,7 @@ public class ApiConversionHelper {
                 .metadataFields(entity.getMetadataFields())
                 .contentType(entity.getContentType())
                 .compression(entity.getCompression())
+                .enableEtag(entity.getEnableEtag())
                 .build();
     }
 
@@ -434,6 +435,9 @@ public class ApiConversionHelper {
                 .logLevel(entity.getLogLevel())
                 .enableCaching(entity.getEnableCaching())
                 .cacheTtl(entity.getCacheTtl())
+                .cacheMaxEntries(entity.getCacheMaxEntries())
+                .cacheMaxBytes(entity.getCacheMaxBytes())
+                .enableRequestCoalescing(entity.getEnableRequestCoalescing())
                 .enableRateLimiting(entity.getEnableRateLimiting())
                 .rateLimit(entity.getRateLimit())
                 .rateLimitPeriod(entity.getRateLimitPeriod())
@@ -448,6 +452,11 @@ public class ApiConversionHelper {
                 .enableTracing(entity.getEnableTracing())
                 .corsEnabled(entity.getCorsEnabled())
                 .corsOrigins(corsOrigins)
+                .maxPlanCost(entity.getMaxPlanCost())
+                .enforcePlanCost(entity.getEnforcePlanCost())
+                .maxConcurrentExecutions(entity.getMaxConcurrentExecutions())
+                .concurrencyQueueTimeoutMs(entity.getConcurrencyQueueTimeoutMs())
+                .enableBinaryDownload(entity.getEnableBinaryDownload())
                 .build();
     }
 
@@ -734,6 +743,7 @@ public class ApiConversionHelper {
                 .metadataFields(dto.getMetadataFields())
                 .contentType(dto.getContentType())
                 .compression(dto.getCompression())
+                .enableEtag(dto.getEnableEtag())
                 .build();
     }
 
@@ -968,6 +978,7 @@ public class ApiConversionHelper {
         entity.setMetadataFields(responseConfigDTO.getMetadataFields());
         entity.setContentType(responseConfigDTO.getContentType());
         entity.setCompression(responseConfigDTO.getCompression());
+        entity.setEnableEtag(responseConfigDTO.getEnableEtag());
 
         return entity;
     }
@@ -1010,6 +1021,9 @@ public class ApiConversionHelper {
         entity.setLogLevel(settingsDTO.getLogLevel());
         entity.setEnableCaching(settingsDTO.getEnableCaching());
         entity.setCacheTtl(settingsDTO.getCacheTtl());
+        entity.setCacheMaxEntries(settingsDTO.getCacheMaxEntries());
+        entity.setCacheMaxBytes(settingsDTO.getCacheMaxBytes());
+        entity.setEnableRequestCoalescing(settingsDTO.getEnableRequestCoalescing());
         entity.setEnableRateLimiting(settingsDTO.getEnableRateLimiting());
         entity.setRateLimit(settingsDTO.getRateLimit());
         entity.setRateLimitPeriod(settingsDTO.getRateLimitPeriod());
@@ -1023,6 +1037,11 @@ public class ApiConversionHelper {
         entity.setAlertEmail(settingsDTO.getAlertEmail());
         entity.setEnableTracing(settingsDTO.getEnableTracing());
         entity.setCorsEnabled(settingsDTO.getCorsEnabled());
+        entity.setMaxPlanCost(settingsDTO.getMaxPlanCost());
+        entity.setEnforcePlanCost(settingsDTO.getEnforcePlanCost());
+        entity.setMaxConcurrentExecutions(settingsDTO.getMaxConcurrentExecutions());
+        entity.setConcurrencyQueueTimeoutMs(settingsDTO.getConcurrencyQueueTimeoutMs());
+        entity.setEnableBinaryDownload(settingsDTO.getEnableBinaryDownload());
 
         if (settingsDTO.getCorsOrigins() != null && !settingsDTO.getCorsOrigins().isEmpty()) {
             entity.setCorsOrigins(String.join(",", settingsDTO.getCorsOrigins()));
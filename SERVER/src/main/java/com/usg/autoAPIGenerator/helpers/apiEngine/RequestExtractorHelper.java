@@ -4,14 +4,15 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ExecuteApiRequestDTO;
-import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
-import com.usg.autoAPIGenerator.services.AutoAPIGeneratorEngineService;
+import com.usg.autoAPIGenerator.services.ApiEndpointRouterService;
+import com.usg.autoAPIGenerator.wrappers.CachedBodyHttpServletRequest;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.util.WebUtils;
 
 import java.io.IOException;
 import java.util.*;
@@ -88,80 +89,36 @@ public class RequestExtractorHelper {
     }
 
     /**
-     * Extract path parameters from URL based on API ID and the API's endpoint pattern
-     * ULTRA FLEXIBLE - Handles any URL structure with dynamic prefixes
-     * FIXED: Now properly handles patterns with only placeholders like "/{acct_link}"
+     * Extract query parameters and headers only, leaving the body unread
+     * so it can be streamed (used by bulk operations)
      */
-    private Map<String, Object> extractPathParametersFromUrl(String requestURI, String apiId) {
-        Map<String, Object> pathParams = new HashMap<>();
+    public ExecuteApiRequestDTO extractRequestMetadata(HttpServletRequest request, String requestId) {
+        ExecuteApiRequestDTO executeRequest = new ExecuteApiRequestDTO();
+        executeRequest.setRequestId(requestId);
+        executeRequest.setHttpMethod(request.getMethod());
+        executeRequest.setPathParams(new HashMap<>());
+        executeRequest.setQueryParams(extractQueryParams(request));
+        executeRequest.setHeaders(extractHeaders(request));
+        return executeRequest;
+    }
 
+    /**
+     * Extract path parameters from URL based on API ID and the API's compiled endpoint template
+     * (base path + endpoint path). No database access - the router holds every template in memory.
+     */
+    private Map<String, Object> extractPathParametersFromUrl(String requestURI, String apiId) {
         try {
-            GeneratedApiEntity api = autoAPIGeneratorEngineService.getApiEntity(apiId);
-
-            // Get the full endpoint pattern (including base path)
-            String endpointPattern = api.getEndpointPath();
-            String basePath = api.getBasePath();
-
-            // Combine base path and endpoint pattern if needed
-            String fullPattern = endpointPattern;
-            if (basePath != null && !basePath.isEmpty() && !endpointPattern.startsWith(basePath)) {
-                fullPattern = basePath + endpointPattern;
-            }
-
-            // Extract path after API ID
-            String apiIdSegment = "/" + apiId;
-            int apiIdIndex = requestURI.indexOf(apiIdSegment);
-            String remainingPath = requestURI.substring(apiIdIndex + apiIdSegment.length());
-            remainingPath = remainingPath.replaceAll("^/+|/+$", "");
-
-            // Clean patterns
-            String cleanPattern = fullPattern.replaceAll("^/+|/+$", "");
-            String[] patternSegments = cleanPattern.split("/");
-            String[] requestSegments = remainingPath.split("/");
-
-            // Validate length
-            if (patternSegments.length != requestSegments.length) {
-                log.warn("Pattern length {} doesn't match request length {}",
-                        patternSegments.length, requestSegments.length);
-                return pathParams;
-            }
-
-            // Extract parameters
-            for (int i = 0; i < patternSegments.length; i++) {
-                String patternSegment = patternSegments[i];
-                String requestSegment = requestSegments[i];
-
-                if (patternSegment.startsWith("{") && patternSegment.endsWith("}")) {
-                    // This is a path parameter
-                    String paramName = patternSegment.substring(1, patternSegment.length() - 1);
-                    pathParams.put(paramName, requestSegment);
-                    log.info("Extracted path parameter: {} = {}", paramName, requestSegment);
-                } else if (!patternSegment.equals(requestSegment)) {
-                    // Static segment mismatch
-                    log.warn("Static segment mismatch: expected '{}', got '{}'",
-                            patternSegment, requestSegment);
-                    return new HashMap<>(); // Return empty on mismatch
-                }
-            }
-
-            log.info("Final extracted path params: {}", pathParams);
-
+            Map<String, Object> pathParams = endpointRouterService.extractPathParameters(apiId, requestURI);
+            log.debug("Final extracted path params: {}", pathParams);
+            return pathParams;
         } catch (Exception e) {
             log.error("Failed to extract path parameters: {}", e.getMessage(), e);
+            return new HashMap<>();
         }
-
-        return pathParams;
     }
 
-
-    // You need to inject the service to fetch the API entity
-    // Add this to the class:
     @Autowired
-    private AutoAPIGeneratorEngineService autoAPIGeneratorEngineService;
-
-    private GeneratedApiEntity getApiEntity(String apiId) {
-        return autoAPIGeneratorEngineService.getApiEntity(apiId);
-    }
+    private ApiEndpointRouterService endpointRouterService;
 
     /**
      * Extract query parameters from request
@@ -225,6 +182,23 @@ public class RequestExtractorHelper {
         String contentType = request.getContentType();
         log.debug("Content-Type: {}", contentType);
 
+        // JSON already buffered by CachedBodyFilter is parsed once into the request's shared tree
+        CachedBodyHttpServletRequest cachedRequest = WebUtils.getNativeRequest(request, CachedBodyHttpServletRequest.class);
+        if (cachedRequest != null && contentType != null && contentType.contains("json")) {
+            JsonNode jsonNode = cachedRequest.getJsonTree(objectMapper);
+            if (jsonNode != null) {
+                if (jsonNode.isObject()) {
+                    executeRequest.setBody(objectMapper.convertValue(jsonNode, new TypeReference<Map<String, Object>>() {}));
+                } else if (jsonNode.isArray()) {
+                    executeRequest.setBody(objectMapper.convertValue(jsonNode, new TypeReference<List<Object>>() {}));
+                } else {
+                    executeRequest.setBody(jsonNode.asText());
+                }
+                log.debug("Body taken from shared JSON tree - final type: {}", executeRequest.getBody().getClass().getSimpleName());
+                return;
+            }
+        }
+
         // Read the body first to detect its actual format
         String rawBody = null;
         try {
@@ -832,6 +832,7 @@ public class OracleApiExecutionHelper extends BaseApiExecutionHelper {
                 .metadataFields(dto.getMetadataFields())
                 .contentType(dto.getContentType())
                 .compression(dto.getCompression())
+                .enableEtag(dto.getEnableEtag())
                 .build();
     }
 
@@ -845,6 +846,9 @@ public class OracleApiExecutionHelper extends BaseApiExecutionHelper {
                 .logLevel(dto.getLogLevel())
                 .enableCaching(dto.getEnableCaching())
                 .cacheTtl(dto.getCacheTtl())
+                .cacheMaxEntries(dto.getCacheMaxEntries())
+                .cacheMaxBytes(dto.getCacheMaxBytes())
+                .enableRequestCoalescing(dto.getEnableRequestCoalescing())
                 .generateSwagger(dto.getGenerateSwagger())
                 .generatePostman(dto.getGeneratePostman())
                 .generateClientSDK(dto.getGenerateClientSDK())
@@ -853,6 +857,11 @@ public class OracleApiExecutionHelper extends BaseApiExecutionHelper {
                 .alertEmail(dto.getAlertEmail())
                 .enableTracing(dto.getEnableTracing())
                 .corsEnabled(dto.getCorsEnabled())
+                .maxPlanCost(dto.getMaxPlanCost())
+                .enforcePlanCost(dto.getEnforcePlanCost())
+                .maxConcurrentExecutions(dto.getMaxConcurrentExecutions())
+                .concurrencyQueueTimeoutMs(dto.getConcurrencyQueueTimeoutMs())
+                .enableBinaryDownload(dto.getEnableBinaryDownload())
                 .build();
     }
 
@@ -78,6 +78,9 @@ public class PostgreSQLApiExecutionHelper extends BaseApiExecutionHelper {
     @Qualifier("postgresqlJdbcTemplate")
     private JdbcTemplate postgresqlJdbcTemplate;
 
+    @Autowired
+    private PostgreSQLExecutionConnectionUtil executionConnectionUtil;
+
     public PostgreSQLApiExecutionHelper(
             ApiResponseHelper responseHelper,
             LoggerUtil loggerUtil,
@@ -207,8 +210,10 @@ public class PostgreSQLApiExecutionHelper extends BaseApiExecutionHelper {
         // ============ CHECK FOR CUSTOM QUERY FIRST ============
         if (sourceObject != null && sourceObject.isCustomQuery()) {
             log.info("Executing custom SELECT query for PostgreSQL API: {}", api.getApiCode());
+            // Honour a datasource target or read replica bound for this execution, with the primary template's settings
+            JdbcTemplate jdbcTemplate = executionConnectionUtil.resolveJdbcTemplate(postgresqlJdbcTemplate);
             return customQueryExecutionHelper.executeCustomQuery(
-                    api, sourceObject, validatedRequest, configuredParamDTOs, postgresqlJdbcTemplate
+                    api, sourceObject, validatedRequest, configuredParamDTOs, jdbcTemplate
             );
         }
 
@@ -1,6 +1,7 @@
 package com.usg.autoAPIGenerator.interceptors;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.usg.autoAPIGenerator.helpers.ApiKeyNSecretHelper;
 import com.usg.autoAPIGenerator.helpers.ClientIpHelper;
@@ -13,6 +14,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
 
 import java.net.URLDecoder;
 import java.util.*;
@@ -32,6 +34,9 @@ public class ApiKeyNSecretInterceptor implements HandlerInterceptor {
     @Autowired
     private ErrorHandlingHelper errorHandlingHelper;
 
+    // Longest body excerpt kept when describing a rejected request
+    private static final int MAX_LOGGED_BODY_CHARS = 4096;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
@@ -62,97 +67,19 @@ public class ApiKeyNSecretInterceptor implements HandlerInterceptor {
 
         // System.out.println("[DEBUG] ApiKeyNSecretInterceptor triggered for path: " + request.getRequestURI() + ", method: " + request.getMethod());
 
-        // Wrap request to cache body for multiple reads
-        CachedBodyHttpServletRequest cachedRequest = (request instanceof CachedBodyHttpServletRequest)
-                ? (CachedBodyHttpServletRequest) request
-                : new CachedBodyHttpServletRequest(request);
+        // Body wrapper from CachedBodyFilter; null for multipart, _bulk and _copy requests, which it leaves unwrapped
+        CachedBodyHttpServletRequest cachedRequest = WebUtils.getNativeRequest(request, CachedBodyHttpServletRequest.class);
 
         // Extract API Key and Secret from headers
-        String apiKey = cachedRequest.getHeader("x-api-key");
-        String apiSecret = cachedRequest.getHeader("x-api-secret");
-
-        // Build headers map for logging
-        Map<String, Object> headersMap = new HashMap<>();
-        Enumeration<String> headerNames = cachedRequest.getHeaderNames();
-        while (headerNames.hasMoreElements()) {
-            String headerName = headerNames.nextElement();
-            Enumeration<String> headerValues = cachedRequest.getHeaders(headerName);
-            headersMap.put(headerName, Collections.list(headerValues));
-        }
+        String apiKey = request.getHeader("x-api-key");
+        String apiSecret = request.getHeader("x-api-secret");
 
         // Generate request ID and extract request details
         String requestId = UUID.randomUUID().toString();
-        String method = cachedRequest.getMethod();
-        String path = cachedRequest.getRequestURI();
-        String rawRequestBody = cachedRequest.getCachedBodyAsString();
-        String contentType = cachedRequest.getContentType();
+        String method = request.getMethod();
+        String path = request.getRequestURI();
         String activityType = pathToActivityType(path);
 
-        // Parse request body based on content type
-        Map<String, Object> requestBodyMap;
-
-        // Check for query parameters first
-        Map<String, String[]> parameterMap = cachedRequest.getParameterMap();
-        if (parameterMap != null && !parameterMap.isEmpty()) {
-            Map<String, Object> paramMap = new HashMap<>();
-            for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
-                if (entry.getValue() != null && entry.getValue().length == 1) {
-                    paramMap.put(entry.getKey(), entry.getValue()[0]);
-                } else {
-                    paramMap.put(entry.getKey(), Arrays.asList(entry.getValue()));
-                }
-            }
-            requestBodyMap = paramMap;
-        }
-        // Parse body content if no query parameters
-        else if (rawRequestBody != null && !rawRequestBody.isEmpty()) {
-            try {
-                if (contentType != null && contentType.contains("application/json")) {
-                    String trimmedBody = rawRequestBody.trim();
-                    if (trimmedBody.startsWith("[")) {
-                        // Handle JSON array
-                        List<Map<String, Object>> listBody = objectMapper.readValue(rawRequestBody,
-                                new TypeReference<List<Map<String, Object>>>() {});
-                        if (listBody.size() == 1) {
-                            requestBodyMap = listBody.get(0);
-                        } else {
-                            requestBodyMap = new HashMap<>();
-                            requestBodyMap.put("body", listBody);
-                        }
-                    } else {
-                        // Handle JSON object
-                        requestBodyMap = objectMapper.readValue(rawRequestBody,
-                                new TypeReference<Map<String, Object>>() {});
-                    }
-                } else if (contentType != null && contentType.contains("application/x-www-form-urlencoded")) {
-                    // Parse form data
-                    Map<String, Object> formMap = new HashMap<>();
-                    String[] pairs = rawRequestBody.split("&");
-                    for (String pair : pairs) {
-                        int idx = pair.indexOf("=");
-                        if (idx > 0 && pair.length() > idx + 1) {
-                            String key = URLDecoder.decode(pair.substring(0, idx), "UTF-8");
-                            String value = URLDecoder.decode(pair.substring(idx + 1), "UTF-8");
-                            formMap.put(key, value);
-                        }
-                    }
-                    requestBodyMap = formMap;
-                } else {
-                    // Handle other content types
-                    requestBodyMap = new HashMap<>();
-                    requestBodyMap.put("rawBody", rawRequestBody);
-                    requestBodyMap.put("contentType", contentType);
-                }
-            } catch (Exception e) {
-                loggerUtil.log("auto-api-generator", "Failed to parse request body: " + e.getMessage());
-                requestBodyMap = new HashMap<>();
-                requestBodyMap.put("rawBody", rawRequestBody);
-                requestBodyMap.put("parseError", e.getMessage());
-            }
-        } else {
-            requestBodyMap = Collections.emptyMap();
-        }
-
         // Mask sensitive data for logging
         String maskedApiKey = DataMaskingHelper.maskSensitiveData(apiKey);
         String maskedApiSecret = DataMaskingHelper.maskSensitiveData(apiSecret);
@@ -160,15 +87,19 @@ public class ApiKeyNSecretInterceptor implements HandlerInterceptor {
         loggerUtil.log("auto-api-generator", "Incoming Request: x-api-key=" + maskedApiKey
                 + ", x-api-secret=" + maskedApiSecret + ", path=" + path + ", method=" + method);
 
+        // Headers and body are only described for rejected requests, so accepted ones are never parsed here
+
         // Validate API Key presence
         if (apiKey == null || apiKey.isEmpty()) {
-            return handleForbidden(cachedRequest, response, requestId, method, path, headersMap, requestBodyMap, 403,
+            return handleForbidden(request, response, requestId, method, path, buildHeadersMap(request),
+                    describeRequestBody(request, cachedRequest), 403,
                     "Access Forbidden. Missing required header: x-api-key.", activityType);
         }
 
         // Validate API Secret presence
         if (apiSecret == null || apiSecret.isEmpty()) {
-            return handleForbidden(cachedRequest, response, requestId, method, path, headersMap, requestBodyMap, 403,
+            return handleForbidden(request, response, requestId, method, path, buildHeadersMap(request),
+                    describeRequestBody(request, cachedRequest), 403,
                     "Access Forbidden. Missing required header: x-api-secret.", activityType);
         }
 
@@ -177,13 +108,13 @@ public class ApiKeyNSecretInterceptor implements HandlerInterceptor {
         /*
         if (!apiKeyNSecretHelper.validateCredentials(apiKey, apiSecret)) {
             return handleForbidden(
-                    cachedRequest,
+                    request,
                     response,
                     requestId,
                     method,
                     path,
-                    headersMap,
-                    requestBodyMap,
+                    buildHeadersMap(request),
+                    describeRequestBody(request, cachedRequest),
                     403,
                     "Access Forbidden. Invalid API Key or Secret.",
                     activityType
@@ -191,15 +122,15 @@ public class ApiKeyNSecretInterceptor implements HandlerInterceptor {
         }
 
         // Validate client IP if required
-        if (!clientIpHelper.validateClientIp(apiKey, apiSecret, cachedRequest.getRemoteAddr())) {
+        if (!clientIpHelper.validateClientIp(apiKey, apiSecret, request.getRemoteAddr())) {
             return handleForbidden(
-                    cachedRequest,
+                    request,
                     response,
                     requestId,
                     method,
                     path,
-                    headersMap,
-                    requestBodyMap,
+                    buildHeadersMap(request),
+                    describeRequestBody(request, cachedRequest),
                     403,
                     "Access Forbidden. Invalid Client IP.",
                     activityType
@@ -216,11 +147,129 @@ public class ApiKeyNSecretInterceptor implements HandlerInterceptor {
         return true;
     }
 
+    /**
+     * Build headers map for logging
+     */
+    private Map<String, Object> buildHeadersMap(HttpServletRequest request) {
+        Map<String, Object> headersMap = new HashMap<>();
+        Enumeration<String> headerNames = request.getHeaderNames();
+        while (headerNames.hasMoreElements()) {
+            String headerName = headerNames.nextElement();
+            Enumeration<String> headerValues = request.getHeaders(headerName);
+            headersMap.put(headerName, Collections.list(headerValues));
+        }
+        return headersMap;
+    }
+
+    /**
+     * Describe the body of a rejected request. Bodies CachedBodyFilter did not wrap (uploads, bulk loads)
+     * are never read here: only their content type and length are reported, so a rejected upload is
+     * not buffered to a temp file or copied onto the heap.
+     */
+    private Map<String, Object> describeRequestBody(HttpServletRequest request,
+                                                    CachedBodyHttpServletRequest cachedRequest) throws Exception {
+        if (cachedRequest == null) {
+            Map<String, Object> description = new HashMap<>();
+            description.put("contentType", request.getContentType());
+            description.put("contentLength", request.getContentLengthLong());
+            return description;
+        }
+        return parseRequestBody(cachedRequest);
+    }
+
+    /**
+     * Parse request body based on content type. JSON comes from the request's shared tree,
+     * so it is parsed at most once however many readers need it.
+     */
+    private Map<String, Object> parseRequestBody(CachedBodyHttpServletRequest cachedRequest) throws Exception {
+        String contentType = cachedRequest.getContentType();
+
+        // Check for query parameters first
+        Map<String, String[]> parameterMap = cachedRequest.getParameterMap();
+        if (parameterMap != null && !parameterMap.isEmpty()) {
+            Map<String, Object> paramMap = new HashMap<>();
+            for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
+                if (entry.getValue() != null && entry.getValue().length == 1) {
+                    paramMap.put(entry.getKey(), entry.getValue()[0]);
+                } else {
+                    paramMap.put(entry.getKey(), Arrays.asList(entry.getValue()));
+                }
+            }
+            return paramMap;
+        }
+
+        // Parse body content if no query parameters
+        if (cachedRequest.getCachedBodyLength() == 0) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Object> requestBodyMap;
+        try {
+            if (contentType != null && contentType.contains("application/json")) {
+                JsonNode tree = cachedRequest.getJsonTree(objectMapper);
+                if (tree == null) {
+                    throw new IllegalArgumentException("Request body is not valid JSON");
+                }
+                if (tree.isArray()) {
+                    // Handle JSON array
+                    List<Map<String, Object>> listBody = objectMapper.convertValue(tree,
+                            new TypeReference<List<Map<String, Object>>>() {});
+                    if (listBody.size() == 1) {
+                        requestBodyMap = listBody.get(0);
+                    } else {
+                        requestBodyMap = new HashMap<>();
+                        requestBodyMap.put("body", listBody);
+                    }
+                } else {
+                    // Handle JSON object
+                    requestBodyMap = objectMapper.convertValue(tree,
+                            new TypeReference<Map<String, Object>>() {});
+                }
+            } else if (contentType != null && contentType.contains("application/x-www-form-urlencoded")) {
+                // Parse form data
+                Map<String, Object> formMap = new HashMap<>();
+                String[] pairs = truncatedBody(cachedRequest).split("&");
+                for (String pair : pairs) {
+                    int idx = pair.indexOf("=");
+                    if (idx > 0 && pair.length() > idx + 1) {
+                        String key = URLDecoder.decode(pair.substring(0, idx), "UTF-8");
+                        String value = URLDecoder.decode(pair.substring(idx + 1), "UTF-8");
+                        formMap.put(key, value);
+                    }
+                }
+                requestBodyMap = formMap;
+            } else {
+                // Handle other content types
+                requestBodyMap = new HashMap<>();
+                requestBodyMap.put("rawBody", truncatedBody(cachedRequest));
+                requestBodyMap.put("contentType", contentType);
+            }
+        } catch (Exception e) {
+            loggerUtil.log("auto-api-generator", "Failed to parse request body: " + e.getMessage());
+            requestBodyMap = new HashMap<>();
+            requestBodyMap.put("rawBody", truncatedBody(cachedRequest));
+            requestBodyMap.put("parseError", e.getMessage());
+        }
+        return requestBodyMap;
+    }
+
+    /**
+     * The body for logging, cut to MAX_LOGGED_BODY_CHARS
+     */
+    private String truncatedBody(CachedBodyHttpServletRequest cachedRequest) throws Exception {
+        String body = cachedRequest.getCachedBodyPrefix(MAX_LOGGED_BODY_CHARS + 1);
+        if (body.length() <= MAX_LOGGED_BODY_CHARS) {
+            return body;
+        }
+        return body.substring(0, MAX_LOGGED_BODY_CHARS) + "... [truncated, "
+                + cachedRequest.getCachedBodyLength() + " bytes]";
+    }
+
     /**
      * Handle forbidden access by logging and sending error response
      */
     private boolean handleForbidden(
-            CachedBodyHttpServletRequest cachedRequest,
+            HttpServletRequest request,
             HttpServletResponse response,
             String requestId,
             String method,
@@ -240,9 +289,9 @@ public class ApiKeyNSecretInterceptor implements HandlerInterceptor {
                         activityType.toLowerCase().contains("favicon.ico"))) {
 
             // Build resource URL for logging
-            String resourceUrl = cachedRequest.getScheme() + "://" +
-                    cachedRequest.getServerName() + ":" +
-                    cachedRequest.getServerPort() + path;
+            String resourceUrl = request.getScheme() + "://" +
+                    request.getServerName() + ":" +
+                    request.getServerPort() + path;
 
             // You can add additional logging here if needed
             loggerUtil.log("auto-api-generator", "Forbidden access attempt to: " + resourceUrl);
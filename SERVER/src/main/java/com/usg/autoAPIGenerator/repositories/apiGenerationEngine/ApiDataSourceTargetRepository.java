@@ -0,0 +1,18 @@
+package com.usg.autoAPIGenerator.repositories.apiGenerationEngine;
+
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiDataSourceTargetEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ApiDataSourceTargetRepository extends JpaRepository<ApiDataSourceTargetEntity, String> {
+
+    Optional<ApiDataSourceTargetEntity> findByNameIgnoreCase(String name);
+
+    boolean existsByNameIgnoreCase(String name);
+
+    List<ApiDataSourceTargetEntity> findAllByOrderByNameAsc();
+}
@@ -19,6 +19,14 @@ public interface ApiExecutionLogRepository extends JpaRepository<ApiExecutionLog
     List<ApiExecutionLogEntity> findByGeneratedApiIdAndExecutedAtBetween(
             String apiId, LocalDateTime start, LocalDateTime end);
 
+    // Lightweight projection for the index advisor: [requestParams, requestBody, executionTimeMs]
+    @Query("SELECT l.requestParams, l.requestBody, l.executionTimeMs FROM ApiExecutionLogEntity l " +
+            "WHERE l.generatedApi.id = :apiId AND l.executedAt >= :since AND l.executionTimeMs IS NOT NULL " +
+            "ORDER BY l.executedAt DESC")
+    List<Object[]> findFilterUsageSince(@Param("apiId") String apiId,
+                                        @Param("since") LocalDateTime since,
+                                        Pageable pageable);
+
     @Query("SELECT COUNT(l) FROM ApiExecutionLogEntity l WHERE l.generatedApi.id = :apiId")
     long countByApiId(@Param("apiId") String apiId);
 
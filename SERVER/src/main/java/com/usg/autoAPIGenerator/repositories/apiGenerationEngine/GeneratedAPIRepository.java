@@ -4,12 +4,15 @@ import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -49,8 +52,23 @@ public interface GeneratedAPIRepository extends JpaRepository<GeneratedApiEntity
     @Query("SELECT g FROM GeneratedApiEntity g WHERE g.endpointPath = :endpointPath")
     Optional<GeneratedApiEntity> findByEndpointPath(@Param("endpointPath") String endpointPath);
 
+    @Query("SELECT a.id, a.httpMethod, a.basePath, a.endpointPath FROM GeneratedApiEntity a")
+    List<Object[]> findRouteDefinitions();
+
     boolean existsByApiCode(String apiCode);
 
+    @Modifying
+    @Transactional
+    @Query("UPDATE GeneratedApiEntity a SET a.sourceRequestId = :sourceRequestId WHERE a.id = :apiId")
+    int updateSourceRequestId(@Param("apiId") String apiId, @Param("sourceRequestId") String sourceRequestId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE GeneratedApiEntity a SET a.queryPlanInfo = :queryPlanInfo WHERE a.id = :apiId")
+    int updateQueryPlanInfo(@Param("apiId") String apiId, @Param("queryPlanInfo") Map<String, Object> queryPlanInfo);
+
+    long countByDataSourceTargetId(String dataSourceTargetId);
+
     // ============= JSONB QUERIES =============
 
     @Query(value = "SELECT * FROM tb_eng_generated_apis WHERE source_object_info @> jsonb_build_object('requestId', :requestId)", nativeQuery = true)
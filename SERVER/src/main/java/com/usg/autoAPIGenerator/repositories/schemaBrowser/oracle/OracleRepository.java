@@ -78,26 +78,11 @@ public class OracleRepository {
     }
 
     public Map<String, Object> getAllObjectCounts() {
-        Map<String, Object> counts = new HashMap<>();
         try {
-            String sql = "SELECT " +
-                    "(SELECT COUNT(*) FROM user_tables) as tables, " +
-                    "(SELECT COUNT(*) FROM user_views) as views, " +
-                    "(SELECT COUNT(*) FROM user_objects WHERE object_type = 'PROCEDURE') as procedures, " +
-                    "(SELECT COUNT(*) FROM user_objects WHERE object_type = 'FUNCTION') as functions, " +
-                    "(SELECT COUNT(DISTINCT object_name) FROM user_objects WHERE object_type IN ('PACKAGE', 'PACKAGE BODY')) as packages, " +
-                    "(SELECT COUNT(*) FROM user_sequences) as sequences, " +
-                    "(SELECT COUNT(*) FROM user_synonyms) as synonyms, " +
-                    "(SELECT COUNT(*) FROM user_types) as types, " +
-                    "(SELECT COUNT(*) FROM user_triggers) as triggers " +
-                    "FROM DUAL";
-
-            Map<String, Object> result = oracleJdbcTemplate.queryForMap(sql);
-            result.forEach((key, value) -> counts.put(key, value));
-            counts.put("total", result.values().stream().mapToInt(v -> ((Number) v).intValue()).sum());
-
+            return queryAllObjectCounts();
         } catch (Exception e) {
             log.error("Error in getAllObjectCounts: {}", e.getMessage(), e);
+            Map<String, Object> counts = new HashMap<>();
             counts.put("tables", 0);
             counts.put("views", 0);
             counts.put("procedures", 0);
@@ -108,10 +93,79 @@ public class OracleRepository {
             counts.put("types", 0);
             counts.put("triggers", 0);
             counts.put("total", 0);
+            return counts;
         }
+    }
+
+    /**
+     * Object counts for the current schema; unlike getAllObjectCounts, failures are thrown rather than reported as zeros
+     */
+    public Map<String, Object> queryAllObjectCounts() {
+        Map<String, Object> counts = new HashMap<>();
+        String sql = "SELECT " +
+                "(SELECT COUNT(*) FROM user_tables) as tables, " +
+                "(SELECT COUNT(*) FROM user_views) as views, " +
+                "(SELECT COUNT(*) FROM user_objects WHERE object_type = 'PROCEDURE') as procedures, " +
+                "(SELECT COUNT(*) FROM user_objects WHERE object_type = 'FUNCTION') as functions, " +
+                "(SELECT COUNT(DISTINCT object_name) FROM user_objects WHERE object_type IN ('PACKAGE', 'PACKAGE BODY')) as packages, " +
+                "(SELECT COUNT(*) FROM user_sequences) as sequences, " +
+                "(SELECT COUNT(*) FROM user_synonyms) as synonyms, " +
+                "(SELECT COUNT(*) FROM user_types) as types, " +
+                "(SELECT COUNT(*) FROM user_triggers) as triggers " +
+                "FROM DUAL";
+
+        Map<String, Object> result = oracleJdbcTemplate.queryForMap(sql);
+        result.forEach((key, value) -> counts.put(key, value));
+        counts.put("total", result.values().stream().mapToInt(v -> ((Number) v).intValue()).sum());
         return counts;
     }
 
+    /**
+     * Counts every browsable object type for one schema in a single grouped
+     * dictionary query instead of one sub-query per object type.
+     */
+    public Map<String, Object> getObjectCountsForSchema(String owner) {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        for (String key : OBJECT_COUNT_KEYS.values()) {
+            counts.put(key, 0L);
+        }
+
+        String sql = "SELECT DECODE(object_type, 'PACKAGE BODY', 'PACKAGE', object_type) AS object_type, " +
+                "COUNT(DISTINCT object_name) AS object_count " +
+                "FROM all_objects " +
+                "WHERE owner = ? " +
+                "AND object_type IN ('TABLE', 'VIEW', 'PROCEDURE', 'FUNCTION', 'PACKAGE', 'PACKAGE BODY', " +
+                "'SEQUENCE', 'SYNONYM', 'TYPE', 'TRIGGER') " +
+                "GROUP BY DECODE(object_type, 'PACKAGE BODY', 'PACKAGE', object_type)";
+
+        List<Map.Entry<String, Long>> rows = oracleJdbcTemplate.query(sql,
+                (rs, rowNum) -> Map.entry(rs.getString("object_type"), rs.getLong("object_count")),
+                owner.toUpperCase());
+
+        long total = 0;
+        for (Map.Entry<String, Long> row : rows) {
+            String key = OBJECT_COUNT_KEYS.get(row.getKey());
+            if (key != null) {
+                counts.put(key, row.getValue());
+                total += row.getValue();
+            }
+        }
+        counts.put("total", total);
+        return counts;
+    }
+
+    private static final Map<String, String> OBJECT_COUNT_KEYS = Map.of(
+            "TABLE", "tables",
+            "VIEW", "views",
+            "PROCEDURE", "procedures",
+            "FUNCTION", "functions",
+            "PACKAGE", "packages",
+            "SEQUENCE", "sequences",
+            "SYNONYM", "synonyms",
+            "TYPE", "types",
+            "TRIGGER", "triggers"
+    );
+
     // ============================================================
     // UTILITY METHODS
     // ============================================================
@@ -358,6 +358,135 @@ public class OracleTableRepository extends OracleRepository {
         }
     }
 
+    /**
+     * Keyset (seek) pagination over a single-column primary key, falling back to ROWID.
+     * Deep pages cost the same as the first page and the row count comes from
+     * optimizer stats (NUM_ROWS) unless an exact count is requested.
+     */
+    public Map<String, Object> getTableDataKeyset(String tableName, int pageSize, String cursor,
+                                                  String sortDirection, String filter, boolean exactCount) {
+        try {
+            log.info("Getting keyset data for table: {}, pageSize: {}, cursor: {}", tableName, pageSize, cursor);
+
+            if (!isValidIdentifier(tableName)) {
+                throw new IllegalArgumentException("Invalid table name: " + tableName);
+            }
+
+            String keyColumn = getKeysetColumn(tableName);
+            String dir = "DESC".equalsIgnoreCase(sortDirection) ? "DESC" : "ASC";
+            String keyExpr = keyColumn != null ? "t.\"" + keyColumn + "\"" : "t.ROWID";
+
+            List<String> conditions = new ArrayList<>();
+            List<Object> params = new ArrayList<>();
+            if (filter != null && !filter.isEmpty()) {
+                conditions.add("(" + sanitizeFilter(filter) + ")");
+            }
+            if (cursor != null && !cursor.isEmpty()) {
+                conditions.add(keyExpr + ("ASC".equals(dir) ? " > " : " < ") +
+                        (keyColumn != null ? "?" : "CHARTOROWID(?)"));
+                params.add(cursor);
+            }
+            String whereClause = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+
+            // Fetch one extra row to know whether another page exists
+            String dataSql = "SELECT " + (keyColumn != null ? keyExpr : "ROWIDTOCHAR(t.ROWID)") + " AS keyset_key, t.* " +
+                    "FROM " + tableName + " t" + whereClause +
+                    " ORDER BY " + keyExpr + " " + dir + " FETCH FIRST ? ROWS ONLY";
+            params.add(pageSize + 1);
+
+            List<Map<String, Object>> rows = getJdbcTemplate().queryForList(dataSql, params.toArray());
+            boolean hasMore = rows.size() > pageSize;
+            if (hasMore) {
+                rows = rows.subList(0, pageSize);
+            }
+
+            String nextCursor = null;
+            List<Map<String, Object>> formattedRows = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                Map<String, Object> formattedRow = new HashMap<>();
+                for (Map.Entry<String, Object> entry : row.entrySet()) {
+                    if ("KEYSET_KEY".equalsIgnoreCase(entry.getKey())) {
+                        nextCursor = entry.getValue() != null ? entry.getValue().toString() : null;
+                    } else {
+                        formattedRow.put(entry.getKey().toLowerCase(), entry.getValue());
+                    }
+                }
+                formattedRows.add(formattedRow);
+            }
+
+            String colSql = "SELECT column_name, data_type, nullable FROM all_tab_columns " +
+                    "WHERE table_name = UPPER(?) ORDER BY column_id";
+            List<Map<String, Object>> allColumns = getJdbcTemplate().queryForList(colSql, tableName);
+
+            Long totalRows;
+            if (exactCount) {
+                String countSql = "SELECT COUNT(*) FROM " + tableName +
+                        (filter != null && !filter.isEmpty() ? " WHERE " + sanitizeFilter(filter) : "");
+                totalRows = getJdbcTemplate().queryForObject(countSql, Long.class);
+            } else {
+                totalRows = getApproximateRowCount(tableName);
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("rows", formattedRows);
+            result.put("columns", allColumns);
+            result.put("pageSize", pageSize);
+            result.put("cursor", cursor);
+            result.put("nextCursor", hasMore ? nextCursor : null);
+            result.put("hasMore", hasMore);
+            result.put("keyColumn", keyColumn != null ? keyColumn : "ROWID");
+            result.put("sortDirection", dir);
+            result.put("totalRows", totalRows);
+            result.put("countIsApproximate", !exactCount);
+
+            return result;
+
+        } catch (Exception e) {
+            log.error("Error in getTableDataKeyset for {}: {}", tableName, e.getMessage(), e);
+            throw new RuntimeException("Failed to retrieve keyset table data: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the primary key column when the table has a single-column key whose
+     * values survive a round trip through a string cursor; null means use ROWID.
+     */
+    private String getKeysetColumn(String tableName) {
+        String sql = "SELECT cc.column_name, tc.data_type " +
+                "FROM all_constraints c " +
+                "JOIN all_cons_columns cc ON c.owner = cc.owner AND c.constraint_name = cc.constraint_name " +
+                "JOIN all_tab_columns tc ON tc.owner = cc.owner AND tc.table_name = cc.table_name " +
+                "    AND tc.column_name = cc.column_name " +
+                "WHERE c.constraint_type = 'P' " +
+                "AND c.table_name = UPPER(?) " +
+                "AND c.owner = SYS_CONTEXT('USERENV', 'CURRENT_SCHEMA')";
+
+        List<Map<String, Object>> pkColumns = getJdbcTemplate().queryForList(sql, tableName);
+        if (pkColumns.size() != 1) {
+            return null;
+        }
+
+        String dataType = String.valueOf(pkColumns.get(0).get("DATA_TYPE")).toUpperCase();
+        if (!List.of("NUMBER", "INTEGER", "VARCHAR2", "NVARCHAR2", "CHAR", "NCHAR").contains(dataType)) {
+            return null;
+        }
+        return (String) pkColumns.get(0).get("COLUMN_NAME");
+    }
+
+    /**
+     * Row count from optimizer statistics; null when the table has never been analyzed.
+     */
+    public Long getApproximateRowCount(String tableName) {
+        try {
+            return getJdbcTemplate().queryForObject(
+                    "SELECT num_rows FROM all_tables " +
+                            "WHERE table_name = UPPER(?) AND owner = SYS_CONTEXT('USERENV', 'CURRENT_SCHEMA')",
+                    Long.class, tableName);
+        } catch (EmptyResultDataAccessException e) {
+            return null;
+        }
+    }
+
     public Map<String, Object> getTableDetails(String owner, String tableName) {
         Map<String, Object> details = new HashMap<>();
         try {
@@ -605,6 +734,55 @@ public class OracleTableRepository extends OracleRepository {
         }
     }
 
+    /**
+     * Column lists (lower-case, in index order) of every index on the table - used by the index advisor
+     */
+    public List<List<String>> getIndexedColumnLists(String owner, String tableName) {
+        try {
+            String sql = "SELECT index_name, column_name " +
+                    "FROM all_ind_columns " +
+                    "WHERE table_owner = ? AND table_name = ? " +
+                    "ORDER BY index_name, column_position";
+
+            Map<String, List<String>> indexColumns = new LinkedHashMap<>();
+            getJdbcTemplate().query(sql, (rs, rowNum) -> indexColumns
+                            .computeIfAbsent(rs.getString("index_name"), k -> new ArrayList<>())
+                            .add(rs.getString("column_name").toLowerCase()),
+                    owner.toUpperCase(), tableName.toUpperCase());
+
+            return new ArrayList<>(indexColumns.values());
+        } catch (Exception e) {
+            log.warn("Error getting indexed columns for {}.{}: {}", owner, tableName, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Optimizer statistics for the index advisor: estimated row count and per-column distinct counts
+     */
+    public Map<String, Object> getColumnSelectivityStats(String owner, String tableName) {
+        Map<String, Object> result = new HashMap<>();
+        Map<String, Double> distinctCounts = new HashMap<>();
+        try {
+            Long rowCount = getJdbcTemplate().queryForObject(
+                    "SELECT num_rows FROM all_tables WHERE owner = ? AND table_name = ?",
+                    Long.class, owner.toUpperCase(), tableName.toUpperCase());
+            result.put("rowCount", rowCount);
+
+            getJdbcTemplate().query(
+                    "SELECT column_name, num_distinct FROM all_tab_col_statistics " +
+                            "WHERE owner = ? AND table_name = ? AND num_distinct IS NOT NULL",
+                    (rs, rowNum) -> distinctCounts.put(rs.getString("column_name").toLowerCase(), rs.getDouble("num_distinct")),
+                    owner.toUpperCase(), tableName.toUpperCase());
+        } catch (EmptyResultDataAccessException e) {
+            result.put("rowCount", null);
+        } catch (Exception e) {
+            log.warn("Error getting column statistics for {}.{}: {}", owner, tableName, e.getMessage());
+        }
+        result.put("distinctCounts", distinctCounts);
+        return result;
+    }
+
     public Map<String, Object> getTableColumnsPaginated(String tableName, String owner, int page, int pageSize) {
         Map<String, Object> result = new HashMap<>();
         try {
@@ -75,31 +75,11 @@ public class PostgreSQLRepository {
     }
 
     public Map<String, Object> getAllObjectCounts() {
-        Map<String, Object> counts = new HashMap<>();
         try {
-            String sql = "SELECT " +
-                    "(SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = current_schema() AND table_type = 'BASE TABLE') as tables, " +
-                    "(SELECT COUNT(*) FROM information_schema.views WHERE table_schema = current_schema()) as views, " +
-                    "(SELECT COUNT(*) FROM pg_proc p JOIN pg_namespace n ON p.pronamespace = n.oid WHERE n.nspname = current_schema() AND p.prokind = 'p') as procedures, " +
-                    "(SELECT COUNT(*) FROM pg_proc p JOIN pg_namespace n ON p.pronamespace = n.oid WHERE n.nspname = current_schema() AND p.prokind = 'f') as functions, " +
-                    "(SELECT COUNT(*) FROM pg_class c JOIN pg_namespace n ON c.relnamespace = n.oid WHERE n.nspname = current_schema() AND c.relkind = 'S') as sequences, " +
-                    "(SELECT COUNT(*) FROM pg_type t JOIN pg_namespace n ON t.typnamespace = n.oid WHERE n.nspname = current_schema() AND t.typtype = 'c') as types, " +
-                    "(SELECT COUNT(*) FROM pg_trigger t JOIN pg_class c ON t.tgrelid = c.oid JOIN pg_namespace n ON c.relnamespace = n.oid WHERE n.nspname = current_schema()) as triggers, " +
-                    "(SELECT COUNT(*) FROM pg_index i JOIN pg_class c ON i.indexrelid = c.oid JOIN pg_namespace n ON c.relnamespace = n.oid WHERE n.nspname = current_schema()) as indexes";
-
-            Map<String, Object> result = postgresqlJdbcTemplate.queryForMap(sql);
-            result.forEach((key, value) -> counts.put(key, value != null ? value : 0));
-
-            long total = 0;
-            for (Object value : result.values()) {
-                if (value instanceof Number) {
-                    total += ((Number) value).longValue();
-                }
-            }
-            counts.put("total", total);
-
+            return queryAllObjectCounts();
         } catch (Exception e) {
             log.error("Error in getAllObjectCounts: {}", e.getMessage(), e);
+            Map<String, Object> counts = new HashMap<>();
             counts.put("tables", 0);
             counts.put("views", 0);
             counts.put("procedures", 0);
@@ -109,7 +89,35 @@ public class PostgreSQLRepository {
             counts.put("triggers", 0);
             counts.put("indexes", 0);
             counts.put("total", 0);
+            return counts;
         }
+    }
+
+    /**
+     * Object counts for the current schema; unlike getAllObjectCounts, failures are thrown rather than reported as zeros
+     */
+    public Map<String, Object> queryAllObjectCounts() {
+        Map<String, Object> counts = new HashMap<>();
+        String sql = "SELECT " +
+                "(SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = current_schema() AND table_type = 'BASE TABLE') as tables, " +
+                "(SELECT COUNT(*) FROM information_schema.views WHERE table_schema = current_schema()) as views, " +
+                "(SELECT COUNT(*) FROM pg_proc p JOIN pg_namespace n ON p.pronamespace = n.oid WHERE n.nspname = current_schema() AND p.prokind = 'p') as procedures, " +
+                "(SELECT COUNT(*) FROM pg_proc p JOIN pg_namespace n ON p.pronamespace = n.oid WHERE n.nspname = current_schema() AND p.prokind = 'f') as functions, " +
+                "(SELECT COUNT(*) FROM pg_class c JOIN pg_namespace n ON c.relnamespace = n.oid WHERE n.nspname = current_schema() AND c.relkind = 'S') as sequences, " +
+                "(SELECT COUNT(*) FROM pg_type t JOIN pg_namespace n ON t.typnamespace = n.oid WHERE n.nspname = current_schema() AND t.typtype = 'c') as types, " +
+                "(SELECT COUNT(*) FROM pg_trigger t JOIN pg_class c ON t.tgrelid = c.oid JOIN pg_namespace n ON c.relnamespace = n.oid WHERE n.nspname = current_schema()) as triggers, " +
+                "(SELECT COUNT(*) FROM pg_index i JOIN pg_class c ON i.indexrelid = c.oid JOIN pg_namespace n ON c.relnamespace = n.oid WHERE n.nspname = current_schema()) as indexes";
+
+        Map<String, Object> result = postgresqlJdbcTemplate.queryForMap(sql);
+        result.forEach((key, value) -> counts.put(key, value != null ? value : 0));
+
+        long total = 0;
+        for (Object value : result.values()) {
+            if (value instanceof Number) {
+                total += ((Number) value).longValue();
+            }
+        }
+        counts.put("total", total);
         return counts;
     }
 
@@ -192,6 +200,52 @@ public class PostgreSQLRepository {
         return details;
     }
 
+    /**
+     * Counts every browsable object type for one schema in a single grouped
+     * catalog query instead of one sub-query per object type.
+     */
+    public Map<String, Object> getObjectCountsForSchema(String schema) {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        for (String key : OBJECT_COUNT_KEYS) {
+            counts.put(key, 0L);
+        }
+
+        String sql = "WITH ns AS (SELECT oid FROM pg_namespace WHERE nspname = ?) " +
+                "SELECT object_type, COUNT(*) AS object_count FROM ( " +
+                "    SELECT CASE c.relkind WHEN 'v' THEN 'views' WHEN 'S' THEN 'sequences' " +
+                "        WHEN 'i' THEN 'indexes' ELSE 'tables' END AS object_type " +
+                "    FROM pg_class c JOIN ns ON c.relnamespace = ns.oid " +
+                "    WHERE c.relkind IN ('r', 'p', 'v', 'S', 'i') " +
+                "    UNION ALL " +
+                "    SELECT CASE p.prokind WHEN 'p' THEN 'procedures' ELSE 'functions' END " +
+                "    FROM pg_proc p JOIN ns ON p.pronamespace = ns.oid " +
+                "    WHERE p.prokind IN ('p', 'f') " +
+                "    UNION ALL " +
+                "    SELECT 'triggers' FROM pg_trigger t " +
+                "    JOIN pg_class c ON t.tgrelid = c.oid JOIN ns ON c.relnamespace = ns.oid " +
+                "    WHERE NOT t.tgisinternal " +
+                "    UNION ALL " +
+                "    SELECT 'types' FROM pg_type t JOIN ns ON t.typnamespace = ns.oid " +
+                "    WHERE t.typtype IN ('c', 'd', 'e') " +
+                ") o GROUP BY object_type";
+
+        List<Map.Entry<String, Long>> rows = postgresqlJdbcTemplate.query(sql,
+                (rs, rowNum) -> Map.entry(rs.getString("object_type"), rs.getLong("object_count")),
+                schema);
+
+        long total = 0;
+        for (Map.Entry<String, Long> row : rows) {
+            counts.put(row.getKey(), row.getValue());
+            total += row.getValue();
+        }
+        counts.put("total", total);
+        return counts;
+    }
+
+    private static final List<String> OBJECT_COUNT_KEYS = List.of(
+            "tables", "views", "procedures", "functions", "sequences", "types", "triggers", "indexes"
+    );
+
     // ============================================================
     // UTILITY METHODS
     // ============================================================
@@ -326,6 +326,134 @@ public class PostgreSQLTableRepository extends PostgreSQLRepository {
         }
     }
 
+    /**
+     * Keyset (seek) pagination over a single-column primary key, falling back to ctid.
+     * Deep pages cost the same as the first page and the row count comes from
+     * planner stats (reltuples) unless an exact count is requested.
+     */
+    public Map<String, Object> getTableDataKeyset(String tableName, int pageSize, String cursor,
+                                                  String sortDirection, String filter, boolean exactCount) {
+        try {
+            log.info("Getting keyset data for table: {}, pageSize: {}, cursor: {}", tableName, pageSize, cursor);
+
+            if (!isValidIdentifier(tableName)) {
+                throw new IllegalArgumentException("Invalid table name: " + tableName);
+            }
+
+            Map<String, Object> keyColumn = getKeysetColumn(tableName);
+            String dir = "DESC".equalsIgnoreCase(sortDirection) ? "DESC" : "ASC";
+            String keyExpr = keyColumn != null ? "t.\"" + keyColumn.get("column_name") + "\"" : "t.ctid";
+            String keyType = keyColumn != null ? (String) keyColumn.get("type_name") : "tid";
+
+            List<String> conditions = new ArrayList<>();
+            List<Object> params = new ArrayList<>();
+            if (filter != null && !filter.isEmpty()) {
+                conditions.add("(" + sanitizeFilter(filter) + ")");
+            }
+            if (cursor != null && !cursor.isEmpty()) {
+                conditions.add(keyExpr + ("ASC".equals(dir) ? " > " : " < ") + "CAST(? AS " + keyType + ")");
+                params.add(cursor);
+            }
+            String whereClause = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+
+            // Fetch one extra row to know whether another page exists
+            String dataSql = "SELECT " + keyExpr + "::text AS keyset_key, t.* " +
+                    "FROM " + tableName + " t" + whereClause +
+                    " ORDER BY " + keyExpr + " " + dir + " LIMIT ?";
+            params.add(pageSize + 1);
+
+            List<Map<String, Object>> rows = getJdbcTemplate().queryForList(dataSql, params.toArray());
+            boolean hasMore = rows.size() > pageSize;
+            if (hasMore) {
+                rows = rows.subList(0, pageSize);
+            }
+
+            String nextCursor = null;
+            List<Map<String, Object>> formattedRows = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                Map<String, Object> formattedRow = new HashMap<>();
+                for (Map.Entry<String, Object> entry : row.entrySet()) {
+                    if ("keyset_key".equalsIgnoreCase(entry.getKey())) {
+                        nextCursor = entry.getValue() != null ? entry.getValue().toString() : null;
+                    } else {
+                        formattedRow.put(entry.getKey().toLowerCase(), entry.getValue());
+                    }
+                }
+                formattedRows.add(formattedRow);
+            }
+
+            String colSql = "SELECT column_name, data_type, is_nullable " +
+                    "FROM information_schema.columns " +
+                    "WHERE table_schema = current_schema() AND table_name = ? " +
+                    "ORDER BY ordinal_position";
+            List<Map<String, Object>> allColumns = getJdbcTemplate().queryForList(colSql, tableName);
+
+            Long totalRows;
+            if (exactCount) {
+                String countSql = "SELECT COUNT(*) FROM " + tableName +
+                        (filter != null && !filter.isEmpty() ? " WHERE " + sanitizeFilter(filter) : "");
+                totalRows = getJdbcTemplate().queryForObject(countSql, Long.class);
+            } else {
+                totalRows = getApproximateRowCount(tableName);
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("rows", formattedRows);
+            result.put("columns", allColumns);
+            result.put("pageSize", pageSize);
+            result.put("cursor", cursor);
+            result.put("nextCursor", hasMore ? nextCursor : null);
+            result.put("hasMore", hasMore);
+            result.put("keyColumn", keyColumn != null ? keyColumn.get("column_name") : "ctid");
+            result.put("sortDirection", dir);
+            result.put("totalRows", totalRows);
+            result.put("countIsApproximate", !exactCount);
+
+            return result;
+
+        } catch (Exception e) {
+            log.error("Error in getTableDataKeyset for {}: {}", tableName, e.getMessage(), e);
+            throw new RuntimeException("Failed to retrieve keyset table data: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the primary key column and its type name when the table has a
+     * single-column key that can be cast back from a string cursor; null means use ctid.
+     */
+    private Map<String, Object> getKeysetColumn(String tableName) {
+        String sql = "SELECT a.attname AS column_name, ty.typname AS type_name " +
+                "FROM pg_index i " +
+                "JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = ANY(i.indkey) " +
+                "JOIN pg_type ty ON ty.oid = a.atttypid " +
+                "WHERE i.indrelid = to_regclass(?) AND i.indisprimary";
+
+        List<Map<String, Object>> pkColumns = getJdbcTemplate().queryForList(sql, tableName);
+        if (pkColumns.size() != 1) {
+            return null;
+        }
+
+        String typeName = String.valueOf(pkColumns.get(0).get("type_name"));
+        if (!List.of("int2", "int4", "int8", "numeric", "varchar", "text", "bpchar", "uuid").contains(typeName)) {
+            return null;
+        }
+        return pkColumns.get(0);
+    }
+
+    /**
+     * Row count from planner statistics; null when the table has never been analyzed.
+     */
+    public Long getApproximateRowCount(String tableName) {
+        try {
+            Long estimate = getJdbcTemplate().queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)",
+                    Long.class, tableName);
+            return estimate != null && estimate >= 0 ? estimate : null;
+        } catch (EmptyResultDataAccessException e) {
+            return null;
+        }
+    }
+
     public Map<String, Object> getTableDetails(String owner, String tableName) {
         Map<String, Object> details = new HashMap<>();
         try {
@@ -472,6 +600,78 @@ public class PostgreSQLTableRepository extends PostgreSQLRepository {
         }
     }
 
+    /**
+     * Column lists (lower-case, in index order) of every valid index on the table - used by the index advisor.
+     * Expression index positions (attnum 0) are skipped, so such indexes only count up to their first expression.
+     */
+    public List<List<String>> getIndexedColumnLists(String owner, String tableName) {
+        try {
+            String sql = "SELECT idx.relname AS index_name, k.ord, a.attname AS column_name " +
+                    "FROM pg_index i " +
+                    "JOIN pg_class c ON i.indrelid = c.oid " +
+                    "JOIN pg_namespace n ON c.relnamespace = n.oid " +
+                    "JOIN pg_class idx ON i.indexrelid = idx.oid " +
+                    "CROSS JOIN LATERAL unnest(i.indkey) WITH ORDINALITY AS k(attnum, ord) " +
+                    "LEFT JOIN pg_attribute a ON a.attrelid = c.oid AND a.attnum = k.attnum " +
+                    "WHERE n.nspname = ? AND c.relname = ? AND i.indisvalid " +
+                    "ORDER BY idx.relname, k.ord";
+
+            Map<String, List<String>> indexColumns = new LinkedHashMap<>();
+            Set<String> truncated = new HashSet<>();
+            getJdbcTemplate().query(sql, (rs, rowNum) -> {
+                String indexName = rs.getString("index_name");
+                String columnName = rs.getString("column_name");
+                List<String> columns = indexColumns.computeIfAbsent(indexName, k -> new ArrayList<>());
+                if (columnName == null) {
+                    truncated.add(indexName);
+                } else if (!truncated.contains(indexName)) {
+                    columns.add(columnName.toLowerCase());
+                }
+                return null;
+            }, owner, tableName);
+
+            indexColumns.values().removeIf(List::isEmpty);
+            return new ArrayList<>(indexColumns.values());
+        } catch (Exception e) {
+            log.warn("Error getting indexed columns for {}.{}: {}", owner, tableName, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Planner statistics for the index advisor: estimated row count and per-column distinct counts.
+     * Negative pg_stats.n_distinct values are fractions of the row count.
+     */
+    public Map<String, Object> getColumnSelectivityStats(String owner, String tableName) {
+        Map<String, Object> result = new HashMap<>();
+        Map<String, Double> distinctCounts = new HashMap<>();
+        try {
+            Long rowCount = getJdbcTemplate().queryForObject(
+                    "SELECT c.reltuples::bigint FROM pg_class c " +
+                            "JOIN pg_namespace n ON c.relnamespace = n.oid " +
+                            "WHERE n.nspname = ? AND c.relname = ?",
+                    Long.class, owner, tableName);
+            result.put("rowCount", rowCount != null && rowCount >= 0 ? rowCount : null);
+
+            getJdbcTemplate().query(
+                    "SELECT attname, n_distinct FROM pg_stats WHERE schemaname = ? AND tablename = ?",
+                    (rs, rowNum) -> {
+                        double nDistinct = rs.getDouble("n_distinct");
+                        if (nDistinct < 0 && rowCount != null && rowCount > 0) {
+                            nDistinct = -nDistinct * rowCount;
+                        }
+                        return distinctCounts.put(rs.getString("attname").toLowerCase(), nDistinct);
+                    },
+                    owner, tableName);
+        } catch (EmptyResultDataAccessException e) {
+            result.put("rowCount", null);
+        } catch (Exception e) {
+            log.warn("Error getting column statistics for {}.{}: {}", owner, tableName, e.getMessage());
+        }
+        result.put("distinctCounts", distinctCounts);
+        return result;
+    }
+
     public Map<String, Object> getTableColumnsPaginated(String tableName, String owner, int page, int pageSize) {
         Map<String, Object> result = new HashMap<>();
         try {
@@ -0,0 +1,311 @@
+package com.usg.autoAPIGenerator.services;
+
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiSettingsEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import com.usg.autoAPIGenerator.exceptions.ApiBulkheadFullException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control for generated API executions.
+ *
+ * Two bulkheads are checked before a connection is borrowed:
+ * 1. Per API - ApiSettingsEntity.maxConcurrentExecutions (falls back to api.bulkhead.default-max-concurrent)
+ * 2. Per datasource - the default Oracle/PostgreSQL pools or the API's datasource target
+ *
+ * A request waits up to the API's queue timeout for both permits and is rejected otherwise,
+ * so one slow API cannot hold every pool connection and request thread.
+ *
+ * The engine reserves the permits before its execution transaction opens (so the wait does not
+ * hold a JPA connection); acquire() inside the execution then picks up the reservation.
+ */
+@Slf4j
+@Service
+public class ApiBulkheadService {
+
+    @Value("${api.bulkhead.enabled:true}")
+    private boolean bulkheadEnabled;
+
+    @Value("${api.bulkhead.default-max-concurrent:0}")
+    private int defaultMaxConcurrent;
+
+    @Value("${api.bulkhead.default-queue-timeout-ms:2000}")
+    private long defaultQueueTimeoutMs;
+
+    @Value("${api.bulkhead.datasource.oracle-max-concurrent:45}")
+    private int oracleMaxConcurrent;
+
+    @Value("${api.bulkhead.datasource.postgresql-max-concurrent:18}")
+    private int postgresqlMaxConcurrent;
+
+    @Value("${api.bulkhead.datasource.target-max-concurrent:10}")
+    private int targetMaxConcurrent;
+
+    // apiId -> bulkhead
+    private final Map<String, Bulkhead> apiBulkheads = new ConcurrentHashMap<>();
+
+    // "oracle" / "postgresql" / "target:<id>" -> bulkhead
+    private final Map<String, Bulkhead> dataSourceBulkheads = new ConcurrentHashMap<>();
+
+    // Permits (or the rejection) reserved for the execution running on this thread
+    private static final ThreadLocal<Reservation> RESERVED = new ThreadLocal<>();
+
+    /**
+     * Permit held for the duration of one execution. Use with try-with-resources.
+     */
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Acquire the API and datasource permits for an execution, waiting up to the API's queue timeout.
+     *
+     * @throws ApiBulkheadFullException when either bulkhead stays full for the whole timeout
+     */
+    public Permit acquire(GeneratedApiEntity api) {
+        if (!bulkheadEnabled || api == null) {
+            return () -> { };
+        }
+
+        Reservation reservation = RESERVED.get();
+        if (reservation != null && api.getId() != null && api.getId().equals(reservation.apiId)) {
+            if (reservation.rejection != null) {
+                throw reservation.rejection;
+            }
+            // Released by the reservation's scope
+            return () -> { };
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(resolveQueueTimeoutMs(api));
+
+        Bulkhead apiBulkhead = getApiBulkhead(api);
+        Bulkhead dataSourceBulkhead = getDataSourceBulkhead(api);
+
+        if (apiBulkhead != null) {
+            apiBulkhead.acquire(deadline);
+        }
+        try {
+            if (dataSourceBulkhead != null) {
+                dataSourceBulkhead.acquire(deadline);
+            }
+        } catch (RuntimeException e) {
+            if (apiBulkhead != null) {
+                apiBulkhead.release();
+            }
+            throw e;
+        }
+
+        AtomicInteger released = new AtomicInteger();
+        return () -> {
+            if (released.getAndIncrement() == 0) {
+                if (dataSourceBulkhead != null) {
+                    dataSourceBulkhead.release();
+                }
+                if (apiBulkhead != null) {
+                    apiBulkhead.release();
+                }
+            }
+        };
+    }
+
+    /**
+     * Acquire the permits for an execution ahead of time and bind them to the current thread, where
+     * acquire() picks them up. A rejection is bound as well and thrown by that acquire(), so it is
+     * handled (and only matters) where a connection would actually be borrowed. Closing the returned
+     * scope releases the permits.
+     */
+    public Permit reserve(GeneratedApiEntity api) {
+        if (!bulkheadEnabled || api == null || api.getId() == null) {
+            return () -> { };
+        }
+
+        Permit permit = null;
+        ApiBulkheadFullException rejection = null;
+        try {
+            permit = acquire(api);
+        } catch (ApiBulkheadFullException e) {
+            rejection = e;
+        }
+
+        Reservation previous = RESERVED.get();
+        RESERVED.set(new Reservation(api.getId(), rejection));
+        Permit reserved = permit;
+        return () -> {
+            if (previous != null) {
+                RESERVED.set(previous);
+            } else {
+                RESERVED.remove();
+            }
+            if (reserved != null) {
+                reserved.close();
+            }
+        };
+    }
+
+    // ==================== METRICS ====================
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", bulkheadEnabled);
+        metrics.put("defaultMaxConcurrent", defaultMaxConcurrent);
+        metrics.put("defaultQueueTimeoutMs", defaultQueueTimeoutMs);
+
+        Map<String, Object> dataSources = new TreeMap<>();
+        dataSourceBulkheads.forEach((name, bulkhead) -> dataSources.put(name, bulkhead.toMetrics()));
+        metrics.put("dataSources", dataSources);
+
+        Map<String, Object> apis = new TreeMap<>();
+        apiBulkheads.forEach((apiId, bulkhead) -> apis.put(apiId, bulkhead.toMetrics()));
+        metrics.put("apis", apis);
+        return metrics;
+    }
+
+    public Map<String, Object> getApiMetrics(GeneratedApiEntity api) {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("apiId", api.getId());
+        metrics.put("maxConcurrent", resolveMaxConcurrent(api));
+        metrics.put("queueTimeoutMs", resolveQueueTimeoutMs(api));
+
+        Bulkhead apiBulkhead = apiBulkheads.get(api.getId());
+        metrics.put("api", apiBulkhead != null ? apiBulkhead.toMetrics() : null);
+
+        Bulkhead dataSourceBulkhead = dataSourceBulkheads.get(dataSourceKey(api));
+        metrics.put("dataSource", dataSourceBulkhead != null ? dataSourceBulkhead.toMetrics() : null);
+        return metrics;
+    }
+
+    // ==================== HELPERS ====================
+
+    private static class Reservation {
+        final String apiId;
+        final ApiBulkheadFullException rejection;
+
+        Reservation(String apiId, ApiBulkheadFullException rejection) {
+            this.apiId = apiId;
+            this.rejection = rejection;
+        }
+    }
+
+    private Bulkhead getApiBulkhead(GeneratedApiEntity api) {
+        int maxConcurrent = resolveMaxConcurrent(api);
+        if (maxConcurrent <= 0) {
+            apiBulkheads.remove(api.getId());
+            return null;
+        }
+        // Rebuild when the configured limit changed since the bulkhead was created
+        return apiBulkheads.compute(api.getId(), (id, existing) ->
+                existing != null && existing.maxConcurrent == maxConcurrent
+                        ? existing
+                        : new Bulkhead("api:" + id, maxConcurrent));
+    }
+
+    private Bulkhead getDataSourceBulkhead(GeneratedApiEntity api) {
+        String key = dataSourceKey(api);
+        int maxConcurrent;
+        if (key.startsWith("target:")) {
+            maxConcurrent = targetMaxConcurrent;
+        } else if ("postgresql".equals(key)) {
+            maxConcurrent = postgresqlMaxConcurrent;
+        } else {
+            maxConcurrent = oracleMaxConcurrent;
+        }
+        if (maxConcurrent <= 0) {
+            return null;
+        }
+        return dataSourceBulkheads.computeIfAbsent(key, name -> new Bulkhead(name, maxConcurrent));
+    }
+
+    private String dataSourceKey(GeneratedApiEntity api) {
+        if (api.getDataSourceTargetId() != null && !api.getDataSourceTargetId().isEmpty()) {
+            return "target:" + api.getDataSourceTargetId();
+        }
+        String databaseType = api.getDatabaseType() != null ? api.getDatabaseType().trim().toLowerCase() : "oracle";
+        return "postgres".equals(databaseType) || "postgresql".equals(databaseType) ? "postgresql" : "oracle";
+    }
+
+    private int resolveMaxConcurrent(GeneratedApiEntity api) {
+        ApiSettingsEntity settings = api.getSettings();
+        if (settings != null && settings.getMaxConcurrentExecutions() != null) {
+            return settings.getMaxConcurrentExecutions();
+        }
+        return defaultMaxConcurrent;
+    }
+
+    private long resolveQueueTimeoutMs(GeneratedApiEntity api) {
+        ApiSettingsEntity settings = api.getSettings();
+        if (settings != null && settings.getConcurrencyQueueTimeoutMs() != null && settings.getConcurrencyQueueTimeoutMs() >= 0) {
+            return settings.getConcurrencyQueueTimeoutMs();
+        }
+        return defaultQueueTimeoutMs;
+    }
+
+    private static class Bulkhead {
+        final String name;
+        final int maxConcurrent;
+        final Semaphore semaphore;
+        final AtomicInteger waiting = new AtomicInteger();
+        final AtomicInteger peakInUse = new AtomicInteger();
+        final AtomicLong acquired = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+
+        Bulkhead(String name, int maxConcurrent) {
+            this.name = name;
+            this.maxConcurrent = maxConcurrent;
+            this.semaphore = new Semaphore(maxConcurrent, true);
+        }
+
+        void acquire(long deadlineNanos) {
+            boolean permitted;
+            waiting.incrementAndGet();
+            try {
+                permitted = semaphore.tryAcquire(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                permitted = false;
+            } finally {
+                waiting.decrementAndGet();
+            }
+
+            if (!permitted) {
+                rejected.incrementAndGet();
+                log.warn("Bulkhead {} is full ({} concurrent executions), rejecting request", name, maxConcurrent);
+                throw new ApiBulkheadFullException(name, maxConcurrent,
+                        String.format("Concurrency limit of %d reached for %s", maxConcurrent, name));
+            }
+
+            acquired.incrementAndGet();
+            peakInUse.accumulateAndGet(inUse(), Math::max);
+        }
+
+        void release() {
+            semaphore.release();
+        }
+
+        int inUse() {
+            return maxConcurrent - semaphore.availablePermits();
+        }
+
+        Map<String, Object> toMetrics() {
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            metrics.put("maxConcurrent", maxConcurrent);
+            metrics.put("inUse", inUse());
+            metrics.put("waiting", waiting.get());
+            metrics.put("peakInUse", peakInUse.get());
+            metrics.put("acquired", acquired.get());
+            metrics.put("rejected", rejected.get());
+            metrics.put("utilizationPercent", Math.round(inUse() * 1000.0 / maxConcurrent) / 10.0);
+            return metrics;
+        }
+    }
+}
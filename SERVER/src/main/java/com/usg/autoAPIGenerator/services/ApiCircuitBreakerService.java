@@ -0,0 +1,423 @@
+package com.usg.autoAPIGenerator.services;
+
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import com.usg.autoAPIGenerator.exceptions.ApiBulkheadFullException;
+import com.usg.autoAPIGenerator.exceptions.ApiCircuitOpenException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Service;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Circuit breakers for generated API executions, one per datasource and one per API.
+ *
+ * Each circuit keeps a rolling window of outcomes. When enough calls in the window failed
+ * (connection errors, timeouts) or were slow, the circuit opens and executions fail fast
+ * instead of queueing on a struggling database. Business errors such as constraint
+ * violations count as successes - the database answered.
+ *
+ * Recovery is probed with a single call:
+ * - datasource circuits for the default pools are probed by the DatabaseTypeServiceFactory
+ *   health checker; a successful probe half-opens the circuit
+ * - API and datasource target circuits half-open once their open period has elapsed
+ * A half-open circuit admits exactly one request; its outcome closes or re-opens the circuit.
+ * The open period doubles on every consecutive re-open, up to the configured maximum.
+ */
+@Slf4j
+@Service
+public class ApiCircuitBreakerService {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int WINDOW_BUCKETS = 10;
+
+    // Default pools whose recovery is probed by the health checker rather than by user requests
+    private static final List<String> HEALTH_PROBED_DATASOURCES = List.of("oracle", "postgresql");
+
+    @Value("${api.circuit-breaker.enabled:true}")
+    private boolean circuitBreakerEnabled;
+
+    @Value("${api.circuit-breaker.window-seconds:60}")
+    private int windowSeconds;
+
+    @Value("${api.circuit-breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${api.circuit-breaker.failure-rate-threshold:50}")
+    private double failureRateThreshold;
+
+    @Value("${api.circuit-breaker.slow-call-rate-threshold:80}")
+    private double slowCallRateThreshold;
+
+    @Value("${api.circuit-breaker.slow-call-duration-ms:10000}")
+    private long slowCallDurationMs;
+
+    @Value("${api.circuit-breaker.open-duration-seconds:10}")
+    private long openDurationSeconds;
+
+    @Value("${api.circuit-breaker.max-open-duration-seconds:300}")
+    private long maxOpenDurationSeconds;
+
+    // "db:oracle" / "db:postgresql" / "db:target:<id>" / "api:<id>" -> circuit
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * Work guarded by the circuit breakers
+     */
+    @FunctionalInterface
+    public interface GuardedExecution<T> {
+        T execute() throws Exception;
+    }
+
+    /**
+     * Run an execution through the API's datasource and API circuits.
+     *
+     * @throws ApiCircuitOpenException when either circuit rejects the call
+     */
+    public <T> T execute(GeneratedApiEntity api, GuardedExecution<T> execution) throws Exception {
+        if (!circuitBreakerEnabled || api == null) {
+            return execution.execute();
+        }
+
+        Circuit dataSourceCircuit = getCircuit("db:" + dataSourceKey(api), !isHealthProbed(api));
+        Circuit apiCircuit = getCircuit("api:" + api.getId(), true);
+
+        boolean dataSourceProbe = dataSourceCircuit.tryAcquire();
+        boolean apiProbe;
+        try {
+            apiProbe = apiCircuit.tryAcquire();
+        } catch (ApiCircuitOpenException e) {
+            if (dataSourceProbe) {
+                dataSourceCircuit.releaseProbe();
+            }
+            throw e;
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = execution.execute();
+            boolean slow = (System.nanoTime() - start) / 1_000_000 >= slowCallDurationMs;
+            dataSourceCircuit.record(false, slow, dataSourceProbe);
+            apiCircuit.record(false, slow, apiProbe);
+            return result;
+        } catch (ApiBulkheadFullException e) {
+            // Rejected before reaching the database - says nothing about its health
+            if (dataSourceProbe) dataSourceCircuit.releaseProbe();
+            if (apiProbe) apiCircuit.releaseProbe();
+            throw e;
+        } catch (Exception e) {
+            boolean failure = isInfrastructureFailure(e);
+            boolean slow = (System.nanoTime() - start) / 1_000_000 >= slowCallDurationMs;
+            dataSourceCircuit.record(failure, slow, dataSourceProbe);
+            apiCircuit.record(failure, slow, apiProbe);
+            throw e;
+        } catch (Error e) {
+            // OutOfMemoryError, StackOverflowError: no verdict on the database, but a probe must not stay in flight
+            if (dataSourceProbe) dataSourceCircuit.releaseProbe();
+            if (apiProbe) apiCircuit.releaseProbe();
+            throw e;
+        }
+    }
+
+    // ==================== HEALTH CHECKER INTEGRATION ====================
+
+    /**
+     * Default-pool datasources ("oracle", "postgresql") whose circuit is open and due for a recovery probe
+     */
+    public List<String> getDataSourcesAwaitingProbe() {
+        List<String> awaiting = new ArrayList<>();
+        for (String databaseType : HEALTH_PROBED_DATASOURCES) {
+            Circuit circuit = circuits.get("db:" + databaseType);
+            if (circuit != null && circuit.isProbeDue()) {
+                awaiting.add(databaseType);
+            }
+        }
+        return awaiting;
+    }
+
+    /**
+     * Report the outcome of a health checker probe against a default pool
+     */
+    public void onHealthProbe(String databaseType, boolean success) {
+        Circuit circuit = circuits.get("db:" + databaseType);
+        if (circuit != null) {
+            circuit.onExternalProbe(success);
+        }
+    }
+
+    public boolean isDataSourceOpen(String databaseType) {
+        Circuit circuit = circuits.get("db:" + databaseType);
+        return circuit != null && circuit.state == State.OPEN;
+    }
+
+    // ==================== STATUS ====================
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", circuitBreakerEnabled);
+        status.put("windowSeconds", windowSeconds);
+        status.put("minimumCalls", minimumCalls);
+        status.put("failureRateThreshold", failureRateThreshold);
+        status.put("slowCallRateThreshold", slowCallRateThreshold);
+        status.put("slowCallDurationMs", slowCallDurationMs);
+
+        Map<String, Object> circuitStatus = new TreeMap<>();
+        circuits.forEach((name, circuit) -> circuitStatus.put(name, circuit.toStatus()));
+        status.put("circuits", circuitStatus);
+        return status;
+    }
+
+    /**
+     * Force a circuit closed and clear its window (operator override)
+     */
+    public boolean reset(String circuitName) {
+        Circuit circuit = circuits.get(circuitName);
+        if (circuit == null) {
+            return false;
+        }
+        circuit.close("manual reset");
+        return true;
+    }
+
+    // ==================== HELPERS ====================
+
+    private Circuit getCircuit(String name, boolean timeBasedHalfOpen) {
+        return circuits.computeIfAbsent(name, n -> new Circuit(n, timeBasedHalfOpen));
+    }
+
+    private boolean isHealthProbed(GeneratedApiEntity api) {
+        return HEALTH_PROBED_DATASOURCES.contains(dataSourceKey(api));
+    }
+
+    private String dataSourceKey(GeneratedApiEntity api) {
+        if (api.getDataSourceTargetId() != null && !api.getDataSourceTargetId().isEmpty()) {
+            return "target:" + api.getDataSourceTargetId();
+        }
+        String databaseType = api.getDatabaseType() != null ? api.getDatabaseType().trim().toLowerCase() : "oracle";
+        return "postgres".equals(databaseType) || "postgresql".equals(databaseType) ? "postgresql" : "oracle";
+    }
+
+    /**
+     * Connection failures and timeouts signal an unhealthy database; anything else is a
+     * response from a healthy one
+     */
+    private boolean isInfrastructureFailure(Throwable e) {
+        Throwable current = e;
+        int depth = 0;
+        while (current != null && depth++ < 10) {
+            if (current instanceof CannotGetJdbcConnectionException
+                    || current instanceof DataAccessResourceFailureException
+                    || current instanceof TransientDataAccessResourceException
+                    || current instanceof QueryTimeoutException
+                    || current instanceof SQLTransientConnectionException
+                    || current instanceof SQLRecoverableException
+                    || current instanceof SQLTimeoutException) {
+                return true;
+            }
+            String message = current.getMessage();
+            if (message != null && (message.contains("Connection is not available")
+                    || message.contains("canceling statement due to statement timeout")
+                    || message.contains("ORA-01013")
+                    || message.contains("ORA-03113")
+                    || message.contains("ORA-03114")
+                    || message.contains("ORA-12541")
+                    || message.contains("ORA-12170"))) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private class Circuit {
+        final String name;
+        final boolean timeBasedHalfOpen;
+        final long bucketMillis;
+        final long[] bucketEpochs = new long[WINDOW_BUCKETS];
+        final int[] bucketCalls = new int[WINDOW_BUCKETS];
+        final int[] bucketFailures = new int[WINDOW_BUCKETS];
+        final int[] bucketSlowCalls = new int[WINDOW_BUCKETS];
+
+        volatile State state = State.CLOSED;
+        long openedAtMillis;
+        long currentOpenMillis;
+        int consecutiveOpens;
+        boolean probeInFlight;
+        long rejectedCalls;
+        String lastTransitionReason;
+        Instant lastTransitionAt;
+
+        Circuit(String name, boolean timeBasedHalfOpen) {
+            this.name = name;
+            this.timeBasedHalfOpen = timeBasedHalfOpen;
+            this.bucketMillis = Math.max(100, windowSeconds * 1000L / WINDOW_BUCKETS);
+        }
+
+        /**
+         * Admit a call or throw; returns true when the admitted call is the half-open probe
+         */
+        synchronized boolean tryAcquire() {
+            long now = System.currentTimeMillis();
+            if (state == State.OPEN && timeBasedHalfOpen && now - openedAtMillis >= currentOpenMillis) {
+                transition(State.HALF_OPEN, "open period elapsed");
+            }
+
+            if (state == State.CLOSED) {
+                return false;
+            }
+            if (state == State.HALF_OPEN && !probeInFlight) {
+                probeInFlight = true;
+                return true;
+            }
+
+            rejectedCalls++;
+            long retryAfterMillis = state == State.OPEN ? Math.max(0, currentOpenMillis - (now - openedAtMillis)) : 1000;
+            throw new ApiCircuitOpenException(name, Math.max(1, (retryAfterMillis + 999) / 1000),
+                    String.format("Circuit %s is %s", name, state.name().toLowerCase().replace('_', '-')));
+        }
+
+        synchronized void releaseProbe() {
+            probeInFlight = false;
+        }
+
+        synchronized void record(boolean failure, boolean slow, boolean probe) {
+            if (probe) {
+                probeInFlight = false;
+                if (failure || slow) {
+                    open(failure ? "probe call failed" : "probe call was slow");
+                } else {
+                    close("probe call succeeded");
+                }
+                return;
+            }
+            if (state != State.CLOSED) {
+                return;
+            }
+
+            int index = currentBucket();
+            bucketCalls[index]++;
+            if (failure) bucketFailures[index]++;
+            if (slow) bucketSlowCalls[index]++;
+
+            int[] totals = windowTotals();
+            if (totals[0] < minimumCalls) {
+                return;
+            }
+            double failureRate = totals[1] * 100.0 / totals[0];
+            double slowRate = totals[2] * 100.0 / totals[0];
+            if (failureRate >= failureRateThreshold) {
+                open(String.format("failure rate %.1f%% over %d calls", failureRate, totals[0]));
+            } else if (slowRate >= slowCallRateThreshold) {
+                open(String.format("slow call rate %.1f%% over %d calls", slowRate, totals[0]));
+            }
+        }
+
+        synchronized boolean isProbeDue() {
+            return state == State.OPEN && System.currentTimeMillis() - openedAtMillis >= currentOpenMillis;
+        }
+
+        synchronized void onExternalProbe(boolean success) {
+            if (state != State.OPEN) {
+                return;
+            }
+            if (success) {
+                transition(State.HALF_OPEN, "health probe succeeded");
+            } else {
+                open("health probe failed");
+            }
+        }
+
+        private void open(String reason) {
+            consecutiveOpens++;
+            long baseMillis = openDurationSeconds * 1000L;
+            long maxMillis = Math.max(baseMillis, maxOpenDurationSeconds * 1000L);
+            currentOpenMillis = Math.min(maxMillis, baseMillis << Math.min(20, consecutiveOpens - 1));
+            openedAtMillis = System.currentTimeMillis();
+            transition(State.OPEN, reason);
+            log.warn("Circuit {} opened for {} ms: {}", name, currentOpenMillis, reason);
+        }
+
+        synchronized void close(String reason) {
+            consecutiveOpens = 0;
+            probeInFlight = false;
+            clearWindow();
+            if (state != State.CLOSED) {
+                log.info("Circuit {} closed: {}", name, reason);
+            }
+            transition(State.CLOSED, reason);
+        }
+
+        private void transition(State newState, String reason) {
+            state = newState;
+            lastTransitionReason = reason;
+            lastTransitionAt = Instant.now();
+        }
+
+        private int currentBucket() {
+            long epoch = System.currentTimeMillis() / bucketMillis;
+            int index = (int) (epoch % WINDOW_BUCKETS);
+            if (bucketEpochs[index] != epoch) {
+                bucketEpochs[index] = epoch;
+                bucketCalls[index] = 0;
+                bucketFailures[index] = 0;
+                bucketSlowCalls[index] = 0;
+            }
+            return index;
+        }
+
+        private int[] windowTotals() {
+            long oldestEpoch = System.currentTimeMillis() / bucketMillis - WINDOW_BUCKETS + 1;
+            int[] totals = new int[3];
+            for (int i = 0; i < WINDOW_BUCKETS; i++) {
+                if (bucketEpochs[i] >= oldestEpoch) {
+                    totals[0] += bucketCalls[i];
+                    totals[1] += bucketFailures[i];
+                    totals[2] += bucketSlowCalls[i];
+                }
+            }
+            return totals;
+        }
+
+        private void clearWindow() {
+            for (int i = 0; i < WINDOW_BUCKETS; i++) {
+                bucketEpochs[i] = 0;
+                bucketCalls[i] = 0;
+                bucketFailures[i] = 0;
+                bucketSlowCalls[i] = 0;
+            }
+        }
+
+        synchronized Map<String, Object> toStatus() {
+            int[] totals = windowTotals();
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("state", state.name());
+            status.put("windowCalls", totals[0]);
+            status.put("windowFailures", totals[1]);
+            status.put("windowSlowCalls", totals[2]);
+            status.put("failureRatePercent", totals[0] > 0 ? Math.round(totals[1] * 1000.0 / totals[0]) / 10.0 : 0.0);
+            status.put("rejectedCalls", rejectedCalls);
+            status.put("consecutiveOpens", consecutiveOpens);
+            status.put("recoveryProbe", timeBasedHalfOpen ? "request" : "health-checker");
+            if (state == State.OPEN) {
+                status.put("retryAfterMs", Math.max(0, currentOpenMillis - (System.currentTimeMillis() - openedAtMillis)));
+            }
+            status.put("lastTransitionReason", lastTransitionReason);
+            status.put("lastTransitionAt", lastTransitionAt != null ? lastTransitionAt.toString() : null);
+            return status;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.usg.autoAPIGenerator.services;
+
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiResponseConfigEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP conditional requests (ETag / If-None-Match / Last-Modified / If-Modified-Since) for generated read APIs.
+ *
+ * Enabled per API through ApiResponseConfigEntity.enableEtag, for GET and HEAD. The ETag is strong:
+ * a SHA-256 over the exact bytes the client receives. Last-Modified is the first time this server saw
+ * the current ETag for the same API and parameters, kept in a bounded LRU per process: after a restart,
+ * an eviction, or on another instance it restarts from the next time the ETag is seen.
+ *
+ * When the response cache holds the response, its ETag is stored with it and a matching request is
+ * answered with 304 before the cached body is decoded. A cached response whose ETag is not tracked
+ * here carries no Last-Modified, since when it was produced is not known.
+ */
+@Slf4j
+@Service
+public class ApiConditionalRequestService {
+
+    @Value("${api.conditional.enabled:true}")
+    private boolean conditionalEnabled;
+
+    @Value("${api.conditional.max-tracked:10000}")
+    private int maxTracked;
+
+    // apiId:requestKey -> current validators, least recently used evicted first
+    private Map<String, Validator> validators;
+
+    private final AtomicLong notModifiedResponses = new AtomicLong();
+    private final AtomicLong fullResponses = new AtomicLong();
+
+    /**
+     * The validators of a response: its ETag and when that ETag first appeared, if known
+     */
+    public static class Validator {
+        private final String etag;
+        private final Long lastModified;
+
+        Validator(String etag, Long lastModified) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * Epoch milliseconds, truncated to seconds like the HTTP date it is sent as; null when unknown
+         */
+        public Long getLastModified() {
+            return lastModified;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        int capacity = Math.max(16, maxTracked);
+        validators = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Validator> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    public boolean isEnabled(GeneratedApiEntity api, String httpMethod) {
+        if (!conditionalEnabled || api == null) {
+            return false;
+        }
+        ApiResponseConfigEntity responseConfig = api.getResponseConfig();
+        return responseConfig != null && responseConfig.isEtagEnabled()
+                && ("GET".equalsIgnoreCase(httpMethod) || "HEAD".equalsIgnoreCase(httpMethod));
+    }
+
+    /**
+     * Strong ETag (quoted) for a response body
+     */
+    public String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Record the ETag a request produced; Last-Modified moves only when the ETag changes
+     */
+    public Validator track(String apiId, String requestKey, String etag) {
+        String key = apiId + ":" + requestKey;
+        synchronized (validators) {
+            Validator current = validators.get(key);
+            if (current != null && current.etag.equals(etag)) {
+                return current;
+            }
+            Validator updated = new Validator(etag, System.currentTimeMillis() / 1000 * 1000);
+            validators.put(key, updated);
+            return updated;
+        }
+    }
+
+    /**
+     * Record the ETag of a response served from the response cache. The response may be older than
+     * anything tracked here, so an ETag seen for the first time gets no Last-Modified until it changes.
+     */
+    public Validator trackCached(String apiId, String requestKey, String etag) {
+        String key = apiId + ":" + requestKey;
+        synchronized (validators) {
+            Validator current = validators.get(key);
+            if (current != null && current.etag.equals(etag)) {
+                return current;
+            }
+            Validator untimed = new Validator(etag, null);
+            validators.put(key, untimed);
+            return untimed;
+        }
+    }
+
+    /**
+     * Whether the client's copy is current. If-None-Match takes precedence; If-Modified-Since is only
+     * consulted when the request carries no If-None-Match (RFC 9110, 13.2.2).
+     */
+    public boolean isNotModified(Map<String, String> requestHeaders, Validator validator) {
+        String ifNoneMatch = header(requestHeaders, "If-None-Match");
+        boolean notModified;
+        if (ifNoneMatch != null) {
+            notModified = matchesAny(ifNoneMatch, validator.etag);
+        } else {
+            String ifModifiedSince = header(requestHeaders, "If-Modified-Since");
+            notModified = ifModifiedSince != null && validator.lastModified != null
+                    && !isAfter(validator.lastModified, ifModifiedSince);
+        }
+        (notModified ? notModifiedResponses : fullResponses).incrementAndGet();
+        return notModified;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", conditionalEnabled);
+        stats.put("trackedValidators", validators.size());
+        stats.put("maxTracked", Math.max(16, maxTracked));
+        stats.put("notModifiedResponses", notModifiedResponses.get());
+        stats.put("fullResponses", fullResponses.get());
+        return stats;
+    }
+
+    // ==================== HELPERS ====================
+
+    // Weak comparison, as If-None-Match requires: W/"x" matches "x"
+    private boolean matchesAny(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag)) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAfter(long lastModified, String httpDate) {
+        try {
+            long since = ZonedDateTime.parse(httpDate.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return lastModified > since;
+        } catch (DateTimeParseException e) {
+            log.debug("Ignoring unparseable If-Modified-Since: {}", httpDate);
+            return true;
+        }
+    }
+
+    private String header(Map<String, String> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,513 @@
+package com.usg.autoAPIGenerator.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiDataSourceTargetDTO;
+import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiSourceObjectDTO;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiDataSourceTargetEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import com.usg.autoAPIGenerator.exceptions.DataSourceCredentialKeyMissingException;
+import com.usg.autoAPIGenerator.helpers.apiEngine.ApiConversionHelper;
+import com.usg.autoAPIGenerator.repositories.apiGenerationEngine.ApiDataSourceTargetRepository;
+import com.usg.autoAPIGenerator.repositories.apiGenerationEngine.GeneratedAPIRepository;
+import com.usg.autoAPIGenerator.utils.apiEngine.ApiDataSourceContextHolder;
+import com.usg.autoAPIGenerator.utils.apiEngine.DataSourceCredentialCipherUtil;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of named datasource targets for generated APIs.
+ *
+ * Targets are stored in tb_eng_datasource_targets with encrypted passwords. Each target
+ * gets its own Hikari pool, created on the first execution that needs it and closed when
+ * the target is changed or removed, so heavy APIs can be isolated from the default pools
+ * (which are shared with the application's own metadata traffic).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiDataSourceRegistryService {
+
+    private final ApiDataSourceTargetRepository targetRepository;
+    private final GeneratedAPIRepository generatedAPIRepository;
+    private final DataSourceCredentialCipherUtil cipherUtil;
+    private final ApiReadReplicaService readReplicaService;
+    private final ApiConversionHelper conversionHelper;
+    private final ObjectMapper objectMapper;
+
+    @Value("${api.datasource-targets.default-maximum-pool-size:10}")
+    private int defaultMaximumPoolSize;
+
+    @Value("${api.datasource-targets.default-minimum-idle:0}")
+    private int defaultMinimumIdle;
+
+    @Value("${api.datasource-targets.default-connection-timeout-ms:30000}")
+    private long defaultConnectionTimeoutMs;
+
+    @Value("${api.datasource-targets.default-idle-timeout-ms:600000}")
+    private long defaultIdleTimeoutMs;
+
+    @Value("${api.datasource-targets.default-max-lifetime-ms:1800000}")
+    private long defaultMaxLifetimeMs;
+
+    @Value("${api.execution.max-statement-timeout-seconds:300}")
+    private int maxStatementTimeoutSeconds;
+
+    @Value("${api.execution.lock-timeout-seconds:30}")
+    private int lockTimeoutSeconds;
+
+    // targetId -> started pool
+    private final Map<String, HikariDataSource> pools = new ConcurrentHashMap<>();
+
+    // Driver properties a target may set. Anything else (socketFactory, sslfactory, sslhostnameverifier,
+    // loggerFile, ...) can load classes or write files on this server, so it is refused.
+    private static final Set<String> ALLOWED_POSTGRESQL_DRIVER_PROPERTIES = Set.of(
+            "ssl", "sslmode", "sslrootcert", "sslcert", "sslkey", "sslpassword",
+            "connecttimeout", "sockettimeout", "logintimeout", "tcpkeepalive", "cancelsignaltimeout",
+            "applicationname", "currentschema", "readonly", "targetservertype", "loadbalancehosts",
+            "preparethreshold", "preparedstatementcachequeries", "preparedstatementcachesizemib",
+            "defaultrowfetchsize", "rewritebatchedinserts", "binarytransfer", "stringtype", "assumeminserverversion");
+
+    private static final Set<String> ALLOWED_ORACLE_DRIVER_PROPERTIES = Set.of(
+            "oracle.net.connect_timeout", "oracle.jdbc.readtimeout", "oracle.net.ssl_server_dn_match",
+            "oracle.net.ssl_version", "oracle.net.ssl_cipher_suites", "oracle.jdbc.timezoneasregion",
+            "oracle.jdbc.fanenabled", "oracle.jdbc.implicitstatementcachesize", "defaultrowprefetch",
+            "defaultbatchvalue", "implicitstatementcachesize", "v$session.program", "v$session.machine");
+
+    // ==================== EXECUTION ROUTING ====================
+
+    /**
+     * Bind the API's datasource target (if it has one) to the current thread for the duration
+     * of a database execution. Use with try-with-resources.
+     */
+    public ApiDataSourceContextHolder.Scope bindTarget(GeneratedApiEntity api) {
+        if (api == null || api.getDataSourceTargetId() == null || api.getDataSourceTargetId().isEmpty()) {
+            return ApiDataSourceContextHolder.bind(null, null);
+        }
+        return ApiDataSourceContextHolder.bind(normalizeDatabaseType(api.getDatabaseType()),
+                getDataSource(api.getDataSourceTargetId()));
+    }
+
+    /**
+     * Bind the connection a regular API execution should use: the API's datasource target when it
+     * has one, otherwise the read replica for read-only executions (lag permitting), otherwise nothing
+     * so the default primary pools are used. Use with try-with-resources.
+     */
+    public ApiDataSourceContextHolder.Scope bindTarget(GeneratedApiEntity api, ApiSourceObjectDTO sourceObject) {
+        if (api != null && api.getDataSourceTargetId() != null && !api.getDataSourceTargetId().isEmpty()) {
+            return bindTarget(api);
+        }
+        return readReplicaService.bindReplica(api, sourceObject);
+    }
+
+    /**
+     * Pool for a target, started on first use
+     */
+    public DataSource getDataSource(String targetId) {
+        HikariDataSource pool = pools.get(targetId);
+        if (pool != null) {
+            return pool;
+        }
+        return pools.computeIfAbsent(targetId, id -> {
+            ApiDataSourceTargetEntity target = targetRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Datasource target not found: " + id));
+            if (!Boolean.TRUE.equals(target.getIsActive())) {
+                throw new RuntimeException("Datasource target '" + target.getName() + "' is not active");
+            }
+            return createPool(target);
+        });
+    }
+
+    private HikariDataSource createPool(ApiDataSourceTargetEntity target) {
+        String databaseType = normalizeDatabaseType(target.getDatabaseType());
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(target.getJdbcUrl());
+        config.setUsername(target.getUsername());
+        if (target.getPasswordEncrypted() != null) {
+            config.setPassword(cipherUtil.decrypt(target.getPasswordEncrypted()));
+        }
+        config.setMaximumPoolSize(target.getMaximumPoolSize() != null ? target.getMaximumPoolSize() : defaultMaximumPoolSize);
+        config.setMinimumIdle(target.getMinimumIdle() != null ? target.getMinimumIdle() : defaultMinimumIdle);
+        config.setConnectionTimeout(target.getConnectionTimeoutMs() != null ? target.getConnectionTimeoutMs() : defaultConnectionTimeoutMs);
+        config.setIdleTimeout(target.getIdleTimeoutMs() != null ? target.getIdleTimeoutMs() : defaultIdleTimeoutMs);
+        config.setMaxLifetime(target.getMaxLifetimeMs() != null ? target.getMaxLifetimeMs() : defaultMaxLifetimeMs);
+        config.setPoolName("Target-" + target.getName());
+        config.setAutoCommit(true);
+        // Do not fail (or block) pool creation when the target is unreachable; the first borrow reports it
+        config.setInitializationFailTimeout(-1);
+
+        if ("postgresql".equals(databaseType)) {
+            config.setDriverClassName("org.postgresql.Driver");
+            config.addDataSourceProperty("prepareThreshold", "3");
+            config.addDataSourceProperty("preparedStatementCacheQueries", "256");
+            config.addDataSourceProperty("defaultRowFetchSize", "500");
+            config.addDataSourceProperty("reWriteBatchedInserts", "true");
+            config.addDataSourceProperty("options",
+                    "-c statement_timeout=" + maxStatementTimeoutSeconds + "s" +
+                    " -c lock_timeout=" + lockTimeoutSeconds + "s");
+            config.addDataSourceProperty("socketTimeout", String.valueOf(maxStatementTimeoutSeconds + 30));
+            config.addDataSourceProperty("ApplicationName", "api-automation-target");
+        } else {
+            config.setDriverClassName("oracle.jdbc.OracleDriver");
+            config.addDataSourceProperty("defaultRowPrefetch", "500");
+            config.addDataSourceProperty("defaultBatchValue", "100");
+            config.addDataSourceProperty("implicitStatementCacheSize", "50");
+            config.addDataSourceProperty("oracle.net.CONNECT_TIMEOUT", "10000");
+        }
+
+        if (target.getDriverProperties() != null) {
+            target.getDriverProperties().forEach((name, value) -> {
+                if (isAllowedDriverProperty(databaseType, name)) {
+                    config.addDataSourceProperty(name, value);
+                } else {
+                    // Stored before the allow-list existed; never handed to the driver
+                    log.warn("Ignoring driver property '{}' on datasource target '{}'", name, target.getName());
+                }
+            });
+        }
+
+        log.info("Starting pool for datasource target '{}' ({}, max {} connections)",
+                target.getName(), databaseType, config.getMaximumPoolSize());
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Close a target's pool once the surrounding transaction commits, so a concurrent execution
+     * cannot restart it from the settings that are about to be replaced
+     */
+    private void evictPoolAfterCommit(String targetId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictPool(targetId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictPool(targetId);
+            }
+        });
+    }
+
+    /**
+     * Close a target's pool; the next execution starts a fresh one with the current settings
+     */
+    public void evictPool(String targetId) {
+        HikariDataSource pool = pools.remove(targetId);
+        if (pool != null) {
+            log.info("Closing pool {}", pool.getPoolName());
+            pool.close();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pools.keySet().forEach(this::evictPool);
+    }
+
+    // ==================== TARGET MANAGEMENT ====================
+
+    @Transactional(readOnly = true)
+    public List<ApiDataSourceTargetDTO> getTargets() {
+        return targetRepository.findAllByOrderByNameAsc().stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public ApiDataSourceTargetDTO getTarget(String targetId) {
+        return toDTO(findTarget(targetId));
+    }
+
+    @Transactional
+    public ApiDataSourceTargetDTO createTarget(ApiDataSourceTargetDTO request, String performedBy) {
+        validateRequest(request, true);
+        if (targetRepository.existsByNameIgnoreCase(request.getName().trim())) {
+            throw new RuntimeException("A datasource target named '" + request.getName() + "' already exists");
+        }
+
+        ApiDataSourceTargetEntity target = ApiDataSourceTargetEntity.builder()
+                .name(request.getName().trim())
+                .createdBy(performedBy)
+                .updatedBy(performedBy)
+                .build();
+        applyRequest(target, request);
+        target = targetRepository.save(target);
+
+        log.info("Datasource target '{}' created by {}", target.getName(), performedBy);
+        return toDTO(target);
+    }
+
+    @Transactional
+    public ApiDataSourceTargetDTO updateTarget(String targetId, ApiDataSourceTargetDTO request, String performedBy) {
+        validateRequest(request, false);
+        ApiDataSourceTargetEntity target = findTarget(targetId);
+
+        if (request.getName() != null && !request.getName().trim().equalsIgnoreCase(target.getName())) {
+            if (targetRepository.existsByNameIgnoreCase(request.getName().trim())) {
+                throw new RuntimeException("A datasource target named '" + request.getName() + "' already exists");
+            }
+            target.setName(request.getName().trim());
+        }
+        if (request.getDatabaseType() != null
+                && !normalizeDatabaseType(request.getDatabaseType()).equals(normalizeDatabaseType(target.getDatabaseType()))
+                && generatedAPIRepository.countByDataSourceTargetId(targetId) > 0) {
+            throw new RuntimeException("Cannot change the database type of a target that APIs are assigned to");
+        }
+
+        applyRequest(target, request);
+        target.setUpdatedBy(performedBy);
+        target = targetRepository.save(target);
+
+        // Settings or credentials may have changed
+        evictPoolAfterCommit(targetId);
+
+        log.info("Datasource target '{}' updated by {}", target.getName(), performedBy);
+        return toDTO(target);
+    }
+
+    @Transactional
+    public void deleteTarget(String targetId, String performedBy) {
+        ApiDataSourceTargetEntity target = findTarget(targetId);
+        long apiCount = generatedAPIRepository.countByDataSourceTargetId(targetId);
+        if (apiCount > 0) {
+            throw new RuntimeException(String.format(
+                    "Datasource target '%s' is used by %d API(s). Reassign them before deleting it.",
+                    target.getName(), apiCount));
+        }
+
+        targetRepository.delete(target);
+        evictPoolAfterCommit(targetId);
+        log.info("Datasource target '{}' deleted by {}", target.getName(), performedBy);
+    }
+
+    /**
+     * Borrow a connection from the target's pool and report round-trip latency and server details
+     */
+    public Map<String, Object> testTarget(String targetId) {
+        ApiDataSourceTargetEntity target = findTarget(targetId);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("targetId", targetId);
+        result.put("name", target.getName());
+
+        long start = System.currentTimeMillis();
+        try (Connection conn = getDataSource(targetId).getConnection()) {
+            boolean valid = conn.isValid(5);
+            DatabaseMetaData metaData = conn.getMetaData();
+            result.put("success", valid);
+            result.put("databaseProductName", metaData.getDatabaseProductName());
+            result.put("databaseProductVersion", metaData.getDatabaseProductVersion());
+        } catch (DataSourceCredentialKeyMissingException e) {
+            // A configuration problem on this server, not a failed connection to the target
+            throw e;
+        } catch (Exception e) {
+            log.warn("Connection test failed for datasource target '{}': {}", target.getName(), e.getMessage());
+            result.put("success", false);
+            result.put("error", e.getMessage());
+        }
+        result.put("latencyMs", System.currentTimeMillis() - start);
+        result.put("pool", getPoolStats(targetId));
+        return result;
+    }
+
+    /**
+     * Point an API at a target, or back at the default pool when targetId is null/empty
+     */
+    @Transactional
+    public Map<String, Object> assignApi(String apiId, String targetId, String performedBy) {
+        GeneratedApiEntity api = generatedAPIRepository.findById(apiId)
+                .orElseThrow(() -> new RuntimeException("API not found: " + apiId));
+
+        String newTargetId = targetId != null && !targetId.trim().isEmpty() ? targetId.trim() : null;
+        String targetName = null;
+        if (newTargetId != null) {
+            ApiDataSourceTargetEntity target = findTarget(newTargetId);
+            String apiDatabaseType = normalizeDatabaseType(api.getDatabaseType());
+            if (!apiDatabaseType.equals(normalizeDatabaseType(target.getDatabaseType()))) {
+                throw new RuntimeException(String.format("API '%s' uses %s but target '%s' is %s",
+                        api.getApiName(), apiDatabaseType, target.getName(), target.getDatabaseType()));
+            }
+            targetName = target.getName();
+        }
+
+        api.setDataSourceTargetId(newTargetId);
+        api.setUpdatedBy(performedBy);
+        generatedAPIRepository.save(api);
+
+        log.info("API {} datasource target set to {} by {}", apiId,
+                newTargetId != null ? targetName : "<default>", performedBy);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("apiId", apiId);
+        result.put("dataSourceTargetId", newTargetId);
+        result.put("dataSourceTargetName", targetName);
+        return result;
+    }
+
+    /**
+     * Set where read-only executions of an API are sent: AUTO, PRIMARY or REPLICA (null resets to AUTO).
+     * REPLICA is rejected for APIs that write, since the replica pool is read-only
+     */
+    @Transactional
+    public Map<String, Object> setReadRouting(String apiId, String readRouting, String performedBy) {
+        GeneratedApiEntity api = generatedAPIRepository.findById(apiId)
+                .orElseThrow(() -> new RuntimeException("API not found: " + apiId));
+
+        String routing = readReplicaService.normalizeRouting(readRouting);
+        if (ApiReadReplicaService.ROUTING_REPLICA.equals(routing)
+                && !readReplicaService.isReadOnly(api, conversionHelper.extractSourceObject(api, objectMapper))) {
+            throw new RuntimeException("REPLICA routing is only allowed for read-only APIs; API " + apiId + " writes data");
+        }
+        api.setReadRouting(routing);
+        api.setUpdatedBy(performedBy);
+        generatedAPIRepository.save(api);
+
+        log.info("API {} read routing set to {} by {}", apiId, routing, performedBy);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("apiId", apiId);
+        result.put("readRouting", routing);
+        result.put("dataSourceTargetId", api.getDataSourceTargetId());
+        return result;
+    }
+
+    // ==================== HELPERS ====================
+
+    private ApiDataSourceTargetEntity findTarget(String targetId) {
+        return targetRepository.findById(targetId)
+                .orElseThrow(() -> new RuntimeException("Datasource target not found: " + targetId));
+    }
+
+    private void validateRequest(ApiDataSourceTargetDTO request, boolean create) {
+        if (request == null) {
+            throw new RuntimeException("Datasource target details are required");
+        }
+        if (create) {
+            if (request.getName() == null || request.getName().trim().isEmpty()) {
+                throw new RuntimeException("Datasource target name is required");
+            }
+            if (request.getJdbcUrl() == null || request.getJdbcUrl().trim().isEmpty()) {
+                throw new RuntimeException("JDBC URL is required");
+            }
+            if (request.getDatabaseType() == null) {
+                throw new RuntimeException("Database type is required (oracle or postgresql)");
+            }
+        }
+        if (request.getDatabaseType() != null) {
+            String databaseType = normalizeDatabaseType(request.getDatabaseType());
+            if (!"oracle".equals(databaseType) && !"postgresql".equals(databaseType)) {
+                throw new RuntimeException("Unsupported database type: " + request.getDatabaseType());
+            }
+        }
+        if (request.getJdbcUrl() != null) {
+            String url = request.getJdbcUrl().trim().toLowerCase();
+            if (!url.startsWith("jdbc:postgresql:") && !url.startsWith("jdbc:oracle:")) {
+                throw new RuntimeException("JDBC URL must start with jdbc:postgresql: or jdbc:oracle:");
+            }
+        }
+        if (request.getMaximumPoolSize() != null && request.getMaximumPoolSize() < 1) {
+            throw new RuntimeException("maximumPoolSize must be at least 1");
+        }
+    }
+
+    private void validateDriverProperties(String databaseType, Map<String, String> driverProperties) {
+        List<String> rejected = driverProperties.keySet().stream()
+                .filter(name -> !isAllowedDriverProperty(databaseType, name))
+                .collect(Collectors.toList());
+        if (!rejected.isEmpty()) {
+            throw new RuntimeException("Driver properties not allowed: " + rejected);
+        }
+    }
+
+    private boolean isAllowedDriverProperty(String databaseType, String name) {
+        if (name == null) {
+            return false;
+        }
+        Set<String> allowed = "postgresql".equals(databaseType)
+                ? ALLOWED_POSTGRESQL_DRIVER_PROPERTIES : ALLOWED_ORACLE_DRIVER_PROPERTIES;
+        return allowed.contains(name.trim().toLowerCase());
+    }
+
+    private void applyRequest(ApiDataSourceTargetEntity target, ApiDataSourceTargetDTO request) {
+        if (request.getDescription() != null) target.setDescription(request.getDescription());
+        if (request.getDatabaseType() != null) target.setDatabaseType(normalizeDatabaseType(request.getDatabaseType()));
+        if (request.getJdbcUrl() != null) target.setJdbcUrl(request.getJdbcUrl().trim());
+        if (request.getUsername() != null) target.setUsername(request.getUsername());
+        if (request.getPassword() != null) target.setPasswordEncrypted(cipherUtil.encrypt(request.getPassword()));
+        if (request.getMaximumPoolSize() != null) target.setMaximumPoolSize(request.getMaximumPoolSize());
+        if (request.getMinimumIdle() != null) target.setMinimumIdle(request.getMinimumIdle());
+        if (request.getConnectionTimeoutMs() != null) target.setConnectionTimeoutMs(request.getConnectionTimeoutMs());
+        if (request.getIdleTimeoutMs() != null) target.setIdleTimeoutMs(request.getIdleTimeoutMs());
+        if (request.getMaxLifetimeMs() != null) target.setMaxLifetimeMs(request.getMaxLifetimeMs());
+        if (request.getDriverProperties() != null) {
+            validateDriverProperties(normalizeDatabaseType(target.getDatabaseType()), request.getDriverProperties());
+            target.setDriverProperties(request.getDriverProperties());
+        }
+        if (request.getIsActive() != null) target.setIsActive(request.getIsActive());
+    }
+
+    private ApiDataSourceTargetDTO toDTO(ApiDataSourceTargetEntity target) {
+        return ApiDataSourceTargetDTO.builder()
+                .id(target.getId())
+                .name(target.getName())
+                .description(target.getDescription())
+                .databaseType(target.getDatabaseType())
+                .jdbcUrl(target.getJdbcUrl())
+                .username(target.getUsername())
+                .maximumPoolSize(target.getMaximumPoolSize())
+                .minimumIdle(target.getMinimumIdle())
+                .connectionTimeoutMs(target.getConnectionTimeoutMs())
+                .idleTimeoutMs(target.getIdleTimeoutMs())
+                .maxLifetimeMs(target.getMaxLifetimeMs())
+                .driverProperties(target.getDriverProperties())
+                .isActive(target.getIsActive())
+                .createdBy(target.getCreatedBy())
+                .updatedBy(target.getUpdatedBy())
+                .createdAt(target.getCreatedAt())
+                .updatedAt(target.getUpdatedAt())
+                .apiCount(target.getId() != null ? generatedAPIRepository.countByDataSourceTargetId(target.getId()) : 0L)
+                .pool(getPoolStats(target.getId()))
+                .build();
+    }
+
+    private Map<String, Object> getPoolStats(String targetId) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        HikariDataSource pool = targetId != null ? pools.get(targetId) : null;
+        stats.put("started", pool != null);
+        if (pool != null) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            stats.put("poolName", pool.getPoolName());
+            stats.put("maximumPoolSize", pool.getMaximumPoolSize());
+            if (mxBean != null) {
+                stats.put("activeConnections", mxBean.getActiveConnections());
+                stats.put("idleConnections", mxBean.getIdleConnections());
+                stats.put("totalConnections", mxBean.getTotalConnections());
+                stats.put("threadsAwaitingConnection", mxBean.getThreadsAwaitingConnection());
+            }
+        }
+        return stats;
+    }
+
+    private String normalizeDatabaseType(String databaseType) {
+        if (databaseType == null || databaseType.isEmpty()) {
+            return "oracle";
+        }
+        String normalized = databaseType.trim().toLowerCase();
+        return "postgres".equals(normalized) ? "postgresql" : normalized;
+    }
+}
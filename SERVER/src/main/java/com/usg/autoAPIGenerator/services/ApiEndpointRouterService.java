@@ -0,0 +1,354 @@
+package com.usg.autoAPIGenerator.services;
+
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import com.usg.autoAPIGenerator.repositories.apiGenerationEngine.GeneratedAPIRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory router for generated API endpoints.
+ *
+ * Each API's base path + endpoint template is compiled once into literal / {param} segments and
+ * placed in a segment tree. Path parameters for /plx/api/gen/{apiId}/** are then extracted without
+ * a database load or regex, and /plx/api/gen/_route/** can resolve an API by its readable path.
+ *
+ * The tree is rebuilt and swapped whenever an API is registered or removed, so readers never lock.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiEndpointRouterService {
+
+    private static final String ANY_METHOD = "ANY";
+
+    private final GeneratedAPIRepository generatedAPIRepository;
+
+    // apiId -> compiled template
+    private final Map<String, CompiledRoute> routesByApiId = new ConcurrentHashMap<>();
+
+    private volatile RouteNode root = new RouteNode();
+
+    /**
+     * Result of resolving a readable path to a generated API
+     */
+    public static class RouteMatch {
+        private final String apiId;
+        private final String template;
+        private final Map<String, Object> pathParams;
+
+        RouteMatch(String apiId, String template, Map<String, Object> pathParams) {
+            this.apiId = apiId;
+            this.template = template;
+            this.pathParams = pathParams;
+        }
+
+        public String getApiId() {
+            return apiId;
+        }
+
+        public String getTemplate() {
+            return template;
+        }
+
+        public Map<String, Object> getPathParams() {
+            return pathParams;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // Routes are compiled lazily per API until the next refresh
+            log.warn("Could not load endpoint routes at startup: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recompile every route from the database and swap the tree
+     */
+    public synchronized int refresh() {
+        Map<String, CompiledRoute> loaded = new HashMap<>();
+        for (Object[] row : generatedAPIRepository.findRouteDefinitions()) {
+            String apiId = (String) row[0];
+            loaded.put(apiId, compile(apiId, (String) row[1], (String) row[2], (String) row[3]));
+        }
+        routesByApiId.keySet().retainAll(loaded.keySet());
+        routesByApiId.putAll(loaded);
+        rebuildTree();
+        log.info("Compiled {} generated API endpoint routes", loaded.size());
+        return loaded.size();
+    }
+
+    /**
+     * Compile (or recompile) one API's route after it was created or updated. Inside a transaction
+     * the route is published once the transaction commits, so a rolled-back save never becomes routable.
+     */
+    public void register(GeneratedApiEntity api) {
+        if (api == null || api.getId() == null) {
+            return;
+        }
+        String apiId = api.getId();
+        String httpMethod = api.getHttpMethod();
+        String basePath = api.getBasePath();
+        String endpointPath = api.getEndpointPath();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registerRoute(apiId, httpMethod, basePath, endpointPath);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                registerRoute(apiId, httpMethod, basePath, endpointPath);
+            }
+        });
+    }
+
+    private synchronized void registerRoute(String apiId, String httpMethod, String basePath, String endpointPath) {
+        CompiledRoute route = compile(apiId, httpMethod, basePath, endpointPath);
+        CompiledRoute previous = routesByApiId.put(apiId, route);
+        if (previous == null || !previous.sameAs(route)) {
+            rebuildTree();
+            log.debug("Route for API {} compiled as {} {}", apiId, route.httpMethod, route.template);
+        }
+    }
+
+    /**
+     * Drop an API's route after it was deleted
+     */
+    public synchronized void unregister(String apiId) {
+        if (apiId != null && routesByApiId.remove(apiId) != null) {
+            rebuildTree();
+        }
+    }
+
+    /**
+     * Extract path parameters from /plx/api/gen/{apiId}/... using the API's compiled template.
+     * Returns an empty map when the request path does not fit the template.
+     */
+    public Map<String, Object> extractPathParameters(String apiId, String requestURI) {
+        CompiledRoute route = routesByApiId.get(apiId);
+        if (route == null) {
+            route = compileOnDemand(apiId);
+            if (route == null) {
+                return new HashMap<>();
+            }
+        }
+
+        String apiIdSegment = "/" + apiId;
+        int apiIdIndex = requestURI.indexOf(apiIdSegment);
+        if (apiIdIndex < 0) {
+            return new HashMap<>();
+        }
+        List<String> requestSegments = splitPath(requestURI, apiIdIndex + apiIdSegment.length());
+
+        Map<String, Object> pathParams = route.match(requestSegments);
+        if (pathParams == null) {
+            log.warn("Request path for API {} doesn't match template {}", apiId, route.template);
+            return new HashMap<>();
+        }
+        return pathParams;
+    }
+
+    /**
+     * Resolve a readable endpoint path (base path + endpoint) to an API. Literal segments win over
+     * {param} segments; routes registered without an HTTP method match any method.
+     *
+     * @return the match, or null when no API is routed at that method and path
+     */
+    public RouteMatch resolve(String httpMethod, String path) {
+        List<String> segments = splitPath(path, 0);
+        String method = httpMethod != null ? httpMethod.toUpperCase() : ANY_METHOD;
+
+        CompiledRoute route = find(root, segments, 0, method);
+        if (route == null && "HEAD".equals(method)) {
+            route = find(root, segments, 0, "GET");
+        }
+        if (route == null) {
+            return null;
+        }
+        return new RouteMatch(route.apiId, route.template, route.match(segments));
+    }
+
+    public List<Map<String, Object>> getRoutes() {
+        List<Map<String, Object>> routes = new ArrayList<>();
+        routesByApiId.values().stream()
+                .sorted(Comparator.comparing((CompiledRoute r) -> r.template).thenComparing(r -> r.httpMethod))
+                .forEach(route -> {
+                    Map<String, Object> entry = new LinkedHashMap<>();
+                    entry.put("apiId", route.apiId);
+                    entry.put("httpMethod", route.httpMethod);
+                    entry.put("template", route.template);
+                    entry.put("pathParams", route.paramNames());
+                    routes.add(entry);
+                });
+        return routes;
+    }
+
+    // ==================== HELPERS ====================
+
+    private CompiledRoute compileOnDemand(String apiId) {
+        try {
+            GeneratedApiEntity api = generatedAPIRepository.findById(apiId).orElse(null);
+            if (api == null) {
+                return null;
+            }
+            register(api);
+            return routesByApiId.get(apiId);
+        } catch (Exception e) {
+            log.error("Failed to compile route for API {}: {}", apiId, e.getMessage());
+            return null;
+        }
+    }
+
+    private static CompiledRoute compile(String apiId, String httpMethod, String basePath, String endpointPath) {
+        // Same combination rule the gen URLs are built with
+        String fullPattern = endpointPath != null ? endpointPath : "";
+        if (basePath != null && !basePath.isEmpty() && !fullPattern.startsWith(basePath)) {
+            fullPattern = basePath + fullPattern;
+        }
+
+        List<String> segments = splitPath(fullPattern, 0);
+        String[] literals = new String[segments.size()];
+        String[] params = new String[segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (segment.length() > 1 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}') {
+                params[i] = segment.substring(1, segment.length() - 1);
+            } else {
+                literals[i] = segment;
+            }
+        }
+
+        String method = httpMethod != null && !httpMethod.isBlank() ? httpMethod.trim().toUpperCase() : ANY_METHOD;
+        return new CompiledRoute(apiId, method, "/" + String.join("/", segments), literals, params);
+    }
+
+    private void rebuildTree() {
+        RouteNode newRoot = new RouteNode();
+        routesByApiId.values().stream()
+                .sorted(Comparator.comparing(r -> r.apiId))
+                .forEach(route -> {
+                    RouteNode node = newRoot;
+                    for (int i = 0; i < route.literals.length; i++) {
+                        if (route.literals[i] != null) {
+                            node = node.literals.computeIfAbsent(route.literals[i], k -> new RouteNode());
+                        } else {
+                            if (node.param == null) {
+                                node.param = new RouteNode();
+                            }
+                            node = node.param;
+                        }
+                    }
+                    CompiledRoute existing = node.routesByMethod.putIfAbsent(route.httpMethod, route);
+                    if (existing != null) {
+                        log.warn("APIs {} and {} share route {} {}; {} is used for path routing",
+                                existing.apiId, route.apiId, route.httpMethod, route.template, existing.apiId);
+                    }
+                });
+        root = newRoot;
+    }
+
+    private static CompiledRoute find(RouteNode node, List<String> segments, int index, String method) {
+        if (index == segments.size()) {
+            CompiledRoute route = node.routesByMethod.get(method);
+            return route != null ? route : node.routesByMethod.get(ANY_METHOD);
+        }
+        RouteNode literal = node.literals.get(segments.get(index));
+        if (literal != null) {
+            CompiledRoute route = find(literal, segments, index + 1, method);
+            if (route != null) {
+                return route;
+            }
+        }
+        return node.param != null ? find(node.param, segments, index + 1, method) : null;
+    }
+
+    private static List<String> splitPath(String path, int from) {
+        List<String> segments = new ArrayList<>();
+        int length = path.length();
+        int start = from;
+        for (int i = from; i <= length; i++) {
+            if (i == length || path.charAt(i) == '/' || path.charAt(i) == '?') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                if (i < length && path.charAt(i) == '?') {
+                    break;
+                }
+                start = i + 1;
+            }
+        }
+        return segments;
+    }
+
+    private static final class RouteNode {
+        final Map<String, RouteNode> literals = new HashMap<>();
+        RouteNode param;
+        final Map<String, CompiledRoute> routesByMethod = new HashMap<>();
+    }
+
+    private static final class CompiledRoute {
+        final String apiId;
+        final String httpMethod;
+        final String template;
+        // Per segment: the literal, or null when the segment is a parameter
+        final String[] literals;
+        // Per segment: the parameter name, or null when the segment is a literal
+        final String[] params;
+
+        CompiledRoute(String apiId, String httpMethod, String template, String[] literals, String[] params) {
+            this.apiId = apiId;
+            this.httpMethod = httpMethod;
+            this.template = template;
+            this.literals = literals;
+            this.params = params;
+        }
+
+        Map<String, Object> match(List<String> segments) {
+            if (segments.size() != literals.length) {
+                return null;
+            }
+            Map<String, Object> pathParams = new HashMap<>();
+            for (int i = 0; i < literals.length; i++) {
+                String segment = segments.get(i);
+                if (literals[i] != null) {
+                    if (!literals[i].equals(segment)) {
+                        return null;
+                    }
+                } else {
+                    pathParams.put(params[i], segment);
+                }
+            }
+            return pathParams;
+        }
+
+        List<String> paramNames() {
+            List<String> names = new ArrayList<>();
+            for (String param : params) {
+                if (param != null) {
+                    names.add(param);
+                }
+            }
+            return names;
+        }
+
+        boolean sameAs(CompiledRoute other) {
+            return httpMethod.equals(other.httpMethod) && template.equals(other.template);
+        }
+    }
+}
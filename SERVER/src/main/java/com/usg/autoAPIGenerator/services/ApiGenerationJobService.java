@@ -0,0 +1,583 @@
+package com.usg.autoAPIGenerator.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generation job pipeline for the artifacts of a generated API.
+ *
+ * generateApi / updateApi commit the API entity first and submit a job; once that transaction
+ * commits, the codebase, collections, documentation and code stages run on a bounded executor,
+ * each in its own short transaction. Documentation waits for the codebase and collections stages
+ * (it links their request and collection); the others run in parallel.
+ *
+ * Jobs of one API run one at a time, in commit order. A committed job waits while another job of
+ * the same API runs, and a newer update job cancels the update jobs still waiting, since its request
+ * replaces theirs. A generate job is never superseded: the updates behind it need its artifacts.
+ *
+ * A failed stage is retried up to api.generation.stage-max-attempts times, then stays FAILED and
+ * blocks its dependents until retried through retryStage. A stage the full executor queue rejects is
+ * QUEUE_FULL and is retried the same way. Jobs are kept in memory, newest first, up to
+ * api.generation.max-retained-jobs.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiGenerationJobService {
+
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${api.generation.async.enabled:true}")
+    private boolean asyncEnabled;
+
+    @Value("${api.generation.pool-size:4}")
+    private int poolSize;
+
+    @Value("${api.generation.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${api.generation.stage-max-attempts:2}")
+    private int stageMaxAttempts;
+
+    @Value("${api.generation.stage-timeout-seconds:120}")
+    private int stageTimeoutSeconds;
+
+    @Value("${api.generation.max-retained-jobs:500}")
+    private int maxRetainedJobs;
+
+    // ==================== CONSTANTS ====================
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_BLOCKED = "BLOCKED";
+    public static final String STATUS_SKIPPED = "SKIPPED";
+    public static final String STATUS_CANCELLED = "CANCELLED";
+    public static final String STATUS_QUEUE_FULL = "QUEUE_FULL";
+
+    private static final String OPERATION_GENERATE = "GENERATE";
+
+    /**
+     * Pipeline stages, in the order they are listed; a stage starts once its dependencies completed
+     */
+    public enum Stage {
+        CODEBASE,
+        COLLECTIONS,
+        DOCUMENTATION(CODEBASE, COLLECTIONS),
+        CODE;
+
+        private final Stage[] dependencies;
+
+        Stage(Stage... dependencies) {
+            this.dependencies = dependencies;
+        }
+
+        public Stage[] getDependencies() {
+            return dependencies;
+        }
+    }
+
+    /**
+     * Work of one stage. Receives the outputs of the stages completed so far and returns its own
+     * (null values are dropped). Runs inside the stage transaction.
+     */
+    @FunctionalInterface
+    public interface StageTask {
+        Map<String, Object> run(Map<String, Object> outputs) throws Exception;
+    }
+
+    private TransactionTemplate stageTransaction;
+    private ThreadPoolExecutor stageExecutor;
+
+    // jobId -> job, oldest first
+    private final Map<String, GenerationJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    // apiId -> the job whose stages run; guards waitingJobs and latestJobIds too
+    private final Map<String, GenerationJob> activeJobs = new HashMap<>();
+
+    // apiId -> committed jobs waiting for the active one, oldest first
+    private final Map<String, Deque<GenerationJob>> waitingJobs = new HashMap<>();
+
+    // apiId -> id of the most recently committed job, the only one whose stages may be retried
+    private final Map<String, String> latestJobIds = new HashMap<>();
+
+    private final AtomicLong jobsSubmitted = new AtomicLong();
+    private final AtomicLong stagesCompleted = new AtomicLong();
+    private final AtomicLong stagesFailed = new AtomicLong();
+    private final AtomicLong stageRetries = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        stageTransaction = new TransactionTemplate(transactionManager);
+        stageTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        stageTransaction.setTimeout(stageTimeoutSeconds);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = Math.max(1, poolSize);
+        // A full queue rejects the stage, which schedule records as QUEUE_FULL
+        stageExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread thread = new Thread(r, "api-generation-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        stageExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stageExecutor.shutdown();
+        try {
+            if (!stageExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                stageExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            stageExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    // ==================== SUBMISSION ====================
+
+    /**
+     * Create a job for the given stage tasks. Stages start after the caller's transaction commits
+     * (immediately when there is none) and are cancelled if it rolls back. Stages without a task are SKIPPED.
+     */
+    public GenerationJob submit(String apiId, String operation, String performedBy, Map<Stage, StageTask> tasks) {
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), apiId, operation, performedBy, tasks);
+        retain(job);
+        jobsSubmitted.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        start(job);
+                    } else {
+                        job.cancel("The API transaction did not commit");
+                        log.info("Generation job {} for API {} cancelled, the API transaction did not commit", job.jobId, apiId);
+                    }
+                }
+            });
+        } else {
+            start(job);
+        }
+        return job;
+    }
+
+    /**
+     * Run a FAILED, BLOCKED or QUEUE_FULL stage of the latest job of its API again, followed by its
+     * blocked dependents. Cancelled jobs stay cancelled: they were rolled back or superseded.
+     */
+    public GenerationJob retryStage(String jobId, Stage stage) {
+        GenerationJob job = getJob(jobId);
+        synchronized (activeJobs) {
+            if (!jobId.equals(latestJobIds.get(job.apiId))) {
+                throw new IllegalStateException("Job " + jobId + " is not the latest generation job of API " + job.apiId);
+            }
+            GenerationJob active = activeJobs.get(job.apiId);
+            if (active != null && active != job) {
+                throw new IllegalStateException("Generation job " + active.jobId + " of API " + job.apiId + " is still running");
+            }
+            synchronized (job) {
+                StageRun run = job.stages.get(stage);
+                if (!STATUS_FAILED.equals(run.status) && !STATUS_BLOCKED.equals(run.status)
+                        && !STATUS_QUEUE_FULL.equals(run.status)) {
+                    throw new IllegalStateException("Stage " + stage + " of job " + jobId + " is " + run.status + " and cannot be retried");
+                }
+                for (Stage dependency : stage.getDependencies()) {
+                    String dependencyStatus = job.stages.get(dependency).status;
+                    if (STATUS_FAILED.equals(dependencyStatus) || STATUS_QUEUE_FULL.equals(dependencyStatus)) {
+                        throw new IllegalStateException("Stage " + stage + " depends on " + dependency + ", which is " + dependencyStatus);
+                    }
+                }
+                run.reset();
+                for (StageRun dependent : job.stages.values()) {
+                    if (STATUS_BLOCKED.equals(dependent.status)) {
+                        dependent.reset();
+                    }
+                }
+                job.started = true;
+            }
+            activeJobs.put(job.apiId, job);
+        }
+        stageRetries.incrementAndGet();
+        log.info("Retrying stage {} of generation job {} for API {}", stage, jobId, job.apiId);
+        schedule(job);
+        return job;
+    }
+
+    // ==================== QUERIES ====================
+
+    public GenerationJob getJob(String jobId) {
+        GenerationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("Generation job not found: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Retained jobs, newest first, optionally for one API
+     */
+    public List<GenerationJob> getJobs(String apiId) {
+        List<GenerationJob> result = new ArrayList<>();
+        synchronized (jobs) {
+            for (GenerationJob job : jobs.values()) {
+                if (apiId == null || apiId.equals(job.apiId)) {
+                    result.add(job);
+                }
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("asyncEnabled", asyncEnabled);
+        stats.put("poolSize", stageExecutor.getMaximumPoolSize());
+        stats.put("activeStages", stageExecutor.getActiveCount());
+        stats.put("queuedStages", stageExecutor.getQueue().size());
+        stats.put("queueCapacity", Math.max(1, queueCapacity));
+        stats.put("retainedJobs", jobs.size());
+        stats.put("jobsSubmitted", jobsSubmitted.get());
+        stats.put("stagesCompleted", stagesCompleted.get());
+        stats.put("stagesFailed", stagesFailed.get());
+        stats.put("stageRetries", stageRetries.get());
+        return stats;
+    }
+
+    // ==================== EXECUTION ====================
+
+    /**
+     * Run a committed job now, or queue it behind the running job of the same API
+     */
+    private void start(GenerationJob job) {
+        synchronized (activeJobs) {
+            latestJobIds.put(job.apiId, job.jobId);
+            GenerationJob active = activeJobs.get(job.apiId);
+            if (active != null) {
+                Deque<GenerationJob> waiting = waitingJobs.computeIfAbsent(job.apiId, apiId -> new ArrayDeque<>());
+                waiting.removeIf(older -> {
+                    if (OPERATION_GENERATE.equals(older.operation)) {
+                        return false;
+                    }
+                    older.cancel("Superseded by generation job " + job.jobId);
+                    log.info("Generation job {} for API {} superseded by job {}", older.jobId, job.apiId, job.jobId);
+                    return true;
+                });
+                waiting.add(job);
+                log.info("Generation job {} for API {} waits for job {}", job.jobId, job.apiId, active.jobId);
+                return;
+            }
+            activeJobs.put(job.apiId, job);
+        }
+        begin(job);
+    }
+
+    private void begin(GenerationJob job) {
+        synchronized (job) {
+            job.started = true;
+        }
+        schedule(job);
+    }
+
+    /**
+     * Once a job has no stage left to run, hand its API to the next waiting job
+     */
+    private void releaseIfDone(GenerationJob job) {
+        if (STATUS_RUNNING.equals(job.getState())) {
+            return;
+        }
+        GenerationJob next;
+        synchronized (activeJobs) {
+            if (activeJobs.get(job.apiId) != job) {
+                return;
+            }
+            Deque<GenerationJob> waiting = waitingJobs.get(job.apiId);
+            next = waiting != null ? waiting.poll() : null;
+            if (waiting != null && waiting.isEmpty()) {
+                waitingJobs.remove(job.apiId);
+            }
+            if (next != null) {
+                activeJobs.put(job.apiId, next);
+            } else {
+                activeJobs.remove(job.apiId);
+            }
+        }
+        if (next != null) {
+            begin(next);
+        }
+    }
+
+    /**
+     * Queue every pending stage whose dependencies completed; block the dependents of failed stages.
+     * A stage the executor rejects is QUEUE_FULL, and its dependents are blocked on the next pass.
+     */
+    private void schedule(GenerationJob job) {
+        List<Stage> ready = new ArrayList<>();
+        synchronized (job) {
+            if (!job.started) {
+                return;
+            }
+            for (Stage stage : Stage.values()) {
+                StageRun run = job.stages.get(stage);
+                if (!STATUS_PENDING.equals(run.status)) {
+                    continue;
+                }
+                boolean dependenciesDone = true;
+                for (Stage dependency : stage.getDependencies()) {
+                    String dependencyStatus = job.stages.get(dependency).status;
+                    if (STATUS_FAILED.equals(dependencyStatus) || STATUS_BLOCKED.equals(dependencyStatus)
+                            || STATUS_QUEUE_FULL.equals(dependencyStatus)) {
+                        run.status = STATUS_BLOCKED;
+                        run.error = "Waiting for " + dependency + " to be retried";
+                    }
+                    if (!STATUS_COMPLETED.equals(dependencyStatus) && !STATUS_SKIPPED.equals(dependencyStatus)) {
+                        dependenciesDone = false;
+                    }
+                }
+                if (dependenciesDone) {
+                    run.status = STATUS_QUEUED;
+                    ready.add(stage);
+                }
+            }
+        }
+        boolean rejected = false;
+        for (Stage stage : ready) {
+            try {
+                stageExecutor.execute(() -> runStage(job, stage));
+            } catch (RejectedExecutionException e) {
+                synchronized (job) {
+                    StageRun run = job.stages.get(stage);
+                    run.status = STATUS_QUEUE_FULL;
+                    run.error = "Generation queue is full (" + Math.max(1, queueCapacity) + " stages); retry the stage";
+                    run.finishedAt = LocalDateTime.now();
+                }
+                stagesFailed.incrementAndGet();
+                log.warn("Generation job {} stage {} for API {} rejected, the queue is full", job.jobId, stage, job.apiId);
+                rejected = true;
+            }
+        }
+        if (rejected) {
+            schedule(job);
+        } else {
+            releaseIfDone(job);
+        }
+    }
+
+    private void runStage(GenerationJob job, Stage stage) {
+        StageRun run = job.stages.get(stage);
+        StageTask task = job.tasks.get(stage);
+        int maxAttempts = Math.max(1, stageMaxAttempts);
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            synchronized (job) {
+                if (!STATUS_QUEUED.equals(run.status) && !STATUS_RUNNING.equals(run.status)) {
+                    return; // cancelled meanwhile
+                }
+                run.status = STATUS_RUNNING;
+                run.attempts++;
+                if (run.startedAt == null) {
+                    run.startedAt = LocalDateTime.now();
+                }
+            }
+            long stageStart = System.currentTimeMillis();
+            try {
+                Map<String, Object> inputs = Collections.unmodifiableMap(new HashMap<>(job.outputs));
+                Map<String, Object> stageOutputs = stageTransaction.execute(status -> {
+                    try {
+                        return task.run(inputs);
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new RuntimeException(e.getMessage(), e);
+                    }
+                });
+                if (stageOutputs != null) {
+                    stageOutputs.forEach((key, value) -> {
+                        if (value != null) {
+                            job.outputs.put(key, value);
+                        }
+                    });
+                }
+                synchronized (job) {
+                    run.status = STATUS_COMPLETED;
+                    run.error = null;
+                    run.durationMs = System.currentTimeMillis() - stageStart;
+                    run.finishedAt = LocalDateTime.now();
+                }
+                stagesCompleted.incrementAndGet();
+                log.info("Generation job {} stage {} completed for API {} in {}ms",
+                        job.jobId, stage, job.apiId, run.durationMs);
+                break;
+            } catch (Exception e) {
+                log.warn("Generation job {} stage {} failed for API {} (attempt {}/{}): {}",
+                        job.jobId, stage, job.apiId, attempt, maxAttempts, e.getMessage());
+                synchronized (job) {
+                    run.error = e.getMessage();
+                    run.durationMs = System.currentTimeMillis() - stageStart;
+                    if (attempt == maxAttempts) {
+                        run.status = STATUS_FAILED;
+                        run.finishedAt = LocalDateTime.now();
+                    }
+                }
+                if (attempt == maxAttempts) {
+                    stagesFailed.incrementAndGet();
+                }
+            }
+        }
+        schedule(job);
+    }
+
+    private void retain(GenerationJob job) {
+        synchronized (jobs) {
+            jobs.put(job.jobId, job);
+            // Evict the oldest finished jobs past the limit; running jobs are never dropped
+            Iterator<GenerationJob> iterator = jobs.values().iterator();
+            while (jobs.size() > Math.max(1, maxRetainedJobs) && iterator.hasNext()) {
+                GenerationJob oldest = iterator.next();
+                String state = oldest.getState();
+                if (!STATUS_PENDING.equals(state) && !STATUS_RUNNING.equals(state)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    // ==================== JOB MODEL ====================
+
+    /**
+     * One run of the pipeline for one API
+     */
+    public static class GenerationJob {
+        private final String jobId;
+        private final String apiId;
+        private final String operation;
+        private final String performedBy;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final Map<Stage, StageTask> tasks;
+        private final Map<Stage, StageRun> stages = new EnumMap<>(Stage.class);
+        private final Map<String, Object> outputs = new ConcurrentHashMap<>();
+        private boolean started;
+
+        GenerationJob(String jobId, String apiId, String operation, String performedBy, Map<Stage, StageTask> tasks) {
+            this.jobId = jobId;
+            this.apiId = apiId;
+            this.operation = operation;
+            this.performedBy = performedBy;
+            this.tasks = new EnumMap<>(tasks);
+            for (Stage stage : Stage.values()) {
+                StageRun run = new StageRun();
+                run.status = this.tasks.containsKey(stage) ? STATUS_PENDING : STATUS_SKIPPED;
+                stages.put(stage, run);
+            }
+        }
+
+        public String getJobId() {
+            return jobId;
+        }
+
+        public String getApiId() {
+            return apiId;
+        }
+
+        /**
+         * PENDING until the API commits and no other job of the API runs, then RUNNING, COMPLETED,
+         * FAILED (a stage failed, is blocked or was rejected) or CANCELLED (rolled back or superseded)
+         */
+        public synchronized String getState() {
+            if (!started) {
+                return stages.values().stream().anyMatch(run -> STATUS_CANCELLED.equals(run.status))
+                        ? STATUS_CANCELLED : STATUS_PENDING;
+            }
+            boolean failed = false;
+            for (StageRun run : stages.values()) {
+                if (STATUS_PENDING.equals(run.status) || STATUS_QUEUED.equals(run.status) || STATUS_RUNNING.equals(run.status)) {
+                    return STATUS_RUNNING;
+                }
+                failed |= STATUS_FAILED.equals(run.status) || STATUS_BLOCKED.equals(run.status)
+                        || STATUS_QUEUE_FULL.equals(run.status);
+            }
+            return failed ? STATUS_FAILED : STATUS_COMPLETED;
+        }
+
+        synchronized void cancel(String reason) {
+            for (StageRun run : stages.values()) {
+                if (STATUS_PENDING.equals(run.status)) {
+                    run.status = STATUS_CANCELLED;
+                    run.error = reason;
+                }
+            }
+        }
+
+        public synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("jobId", jobId);
+            map.put("apiId", apiId);
+            map.put("operation", operation);
+            map.put("performedBy", performedBy);
+            map.put("createdAt", createdAt.toString());
+            map.put("state", getState());
+
+            Map<String, Object> stageMap = new LinkedHashMap<>();
+            stages.forEach((stage, run) -> stageMap.put(stage.name(), run.toMap()));
+            map.put("stages", stageMap);
+            map.put("outputs", new TreeMap<>(outputs));
+            return map;
+        }
+    }
+
+    private static class StageRun {
+        String status;
+        int attempts;
+        String error;
+        LocalDateTime startedAt;
+        LocalDateTime finishedAt;
+        Long durationMs;
+
+        void reset() {
+            status = STATUS_PENDING;
+            error = null;
+            finishedAt = null;
+            durationMs = null;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("status", status);
+            map.put("attempts", attempts);
+            map.put("startedAt", startedAt != null ? startedAt.toString() : null);
+            map.put("finishedAt", finishedAt != null ? finishedAt.toString() : null);
+            map.put("durationMs", durationMs);
+            map.put("error", error);
+            return map;
+        }
+    }
+}
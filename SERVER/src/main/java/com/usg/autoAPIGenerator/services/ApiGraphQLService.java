@@ -0,0 +1,898 @@
+package com.usg.autoAPIGenerator.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.GraphQLConfigDTO;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiParameterEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiResponseMappingEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiSchemaConfigEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import com.usg.autoAPIGenerator.exceptions.PersistedQueryNotFoundException;
+import com.usg.autoAPIGenerator.utils.apiEngine.graphql.GraphQLDocument;
+import com.usg.autoAPIGenerator.utils.apiEngine.graphql.GraphQLDocumentParser;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GraphQL layer for generated APIs.
+ *
+ * Each API is exposed as a single root field (its GraphQL operation name, or its API code) whose
+ * arguments are the API's parameters and whose type has one field per response mapping. A request
+ * document is parsed once per distinct query text (cached by SHA-256), then validated against that
+ * schema: operation type, root field, arguments, variables, selected fields, depth and complexity.
+ *
+ * Clients may send only the SHA-256 of a document they registered before (Automatic Persisted
+ * Queries, extensions.persistedQuery). The validated selection and its SQL projection are compiled
+ * once per API, document and operation, so a repeated request only binds its variables.
+ *
+ * The validated selection set is pushed down to SQL for table and view queries through the
+ * executors' "fields" projection, and used to shape the result (aliases, nested selections,
+ * __typename) exactly as requested.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiGraphQLService {
+
+    private static final String TYPENAME = "__typename";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${api.graphql.max-depth:10}")
+    private int defaultMaxDepth;
+
+    @Value("${api.graphql.max-complexity:500}")
+    private int maxComplexity;
+
+    @Value("${api.graphql.max-document-length:100000}")
+    private int maxDocumentLength;
+
+    @Value("${api.graphql.document-cache-size:1000}")
+    private int documentCacheSize;
+
+    @Value("${api.graphql.plan-cache-size:2000}")
+    private int planCacheSize;
+
+    @Value("${api.graphql.persisted-queries.enabled:true}")
+    private boolean persistedQueriesEnabled;
+
+    // query hash -> parsed document, least recently used evicted first; also the persisted query store
+    private Map<String, GraphQLDocument> documentCache;
+
+    // apiId:queryHash:operationName -> compiled operation
+    private Map<String, CompiledOperation> planCache;
+
+    private final AtomicLong documentCacheHits = new AtomicLong();
+    private final AtomicLong documentCacheMisses = new AtomicLong();
+    private final AtomicLong planCacheHits = new AtomicLong();
+    private final AtomicLong planCacheMisses = new AtomicLong();
+    private final AtomicLong persistedQueriesRegistered = new AtomicLong();
+    private final AtomicLong persistedQueriesNotFound = new AtomicLong();
+
+    /**
+     * A selected field after fragments are inlined and @skip / @include applied
+     */
+    public static class SelectedField {
+        private final String responseKey;
+        private final String name;
+        private final List<SelectedField> children;
+
+        SelectedField(String responseKey, String name, List<SelectedField> children) {
+            this.responseKey = responseKey;
+            this.name = name;
+            this.children = children;
+        }
+
+        public String getResponseKey() {
+            return responseKey;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<SelectedField> getChildren() {
+            return children;
+        }
+    }
+
+    /**
+     * What a validated GraphQL request asks the API to do
+     */
+    public static class ExecutionPlan {
+        private final String operationType;
+        private final SelectedField rootField;
+        private final Map<String, Object> arguments;
+        private final List<String> projection;
+        private final String typeName;
+        private final Map<String, String> columnsByField;
+
+        ExecutionPlan(String operationType, SelectedField rootField, Map<String, Object> arguments,
+                      List<String> projection, String typeName, Map<String, String> columnsByField) {
+            this.operationType = operationType;
+            this.rootField = rootField;
+            this.arguments = arguments;
+            this.projection = projection;
+            this.typeName = typeName;
+            this.columnsByField = columnsByField;
+        }
+
+        public String getOperationType() {
+            return operationType;
+        }
+
+        public SelectedField getRootField() {
+            return rootField;
+        }
+
+        /**
+         * Parameter key -> value, variables already substituted
+         */
+        public Map<String, Object> getArguments() {
+            return arguments;
+        }
+
+        /**
+         * API fields to select in SQL, or null to keep the API's default column list
+         */
+        public List<String> getProjection() {
+            return projection;
+        }
+    }
+
+    /**
+     * The variable-independent part of a validated operation: everything but the argument values
+     */
+    private static class CompiledOperation {
+        private final String operationType;
+        private final SelectedField rootField;
+        private final GraphQLDocument.Field rootNode;
+        private final List<String> projection;
+        private final String typeName;
+        private final Map<String, String> columnsByField;
+        private final LocalDateTime apiUpdatedAt;
+
+        CompiledOperation(String operationType, SelectedField rootField, GraphQLDocument.Field rootNode,
+                          List<String> projection, String typeName, Map<String, String> columnsByField,
+                          LocalDateTime apiUpdatedAt) {
+            this.operationType = operationType;
+            this.rootField = rootField;
+            this.rootNode = rootNode;
+            this.projection = projection;
+            this.typeName = typeName;
+            this.columnsByField = columnsByField;
+            this.apiUpdatedAt = apiUpdatedAt;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        int capacity = Math.max(16, documentCacheSize);
+        documentCache = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GraphQLDocument> eldest) {
+                return size() > capacity;
+            }
+        });
+        int planCapacity = Math.max(16, planCacheSize);
+        planCache = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledOperation> eldest) {
+                return size() > planCapacity;
+            }
+        });
+    }
+
+    /**
+     * Parse and validate a GraphQL request body ({query, variables, operationName, extensions}) for the API.
+     *
+     * @return the plan, or null when the body carries neither a query, a persisted query hash nor variables
+     * @throws ValidationException when the document is malformed or not valid for this API
+     * @throws PersistedQueryNotFoundException when only a hash is sent and its document is not registered
+     */
+    public ExecutionPlan prepare(GeneratedApiEntity api, Map<String, Object> body) {
+        Object queryObj = body.get("query");
+        String query = queryObj instanceof String && !((String) queryObj).trim().isEmpty() ? (String) queryObj : null;
+        Map<String, Object> variables = readVariables(body.get("variables"));
+        String persistedHash = readPersistedQueryHash(body.get("extensions"));
+
+        String hash;
+        GraphQLDocument document;
+        if (persistedHash != null) {
+            GraphQLConfigDTO config = api.getGraphqlConfig();
+            if (!persistedQueriesEnabled || (config != null && Boolean.FALSE.equals(config.getEnablePersistedQueries()))) {
+                if (query == null) {
+                    throw new ValidationException("PersistedQueryNotSupported");
+                }
+                hash = sha256(query);
+                document = parseCached(hash, query);
+            } else if (query != null) {
+                // Registration: the client sends the document together with its hash
+                hash = sha256(query);
+                if (!hash.equals(persistedHash)) {
+                    throw new ValidationException("provided sha does not match query");
+                }
+                boolean known = documentCache.containsKey(hash);
+                document = parseCached(hash, query);
+                if (!known) {
+                    persistedQueriesRegistered.incrementAndGet();
+                }
+            } else {
+                hash = persistedHash;
+                document = documentCache.get(hash);
+                if (document == null) {
+                    persistedQueriesNotFound.incrementAndGet();
+                    throw new PersistedQueryNotFoundException(hash);
+                }
+                documentCacheHits.incrementAndGet();
+            }
+        } else if (query != null) {
+            hash = sha256(query);
+            document = parseCached(hash, query);
+        } else {
+            if (variables == null) {
+                return null;
+            }
+            // Variables without a document: bind them to the API's parameters as they are
+            return new ExecutionPlan(operationTypeOf(api), null, canonicalArguments(api, variables, null),
+                    null, typeNameOf(api), columnsByField(api));
+        }
+
+        Object operationName = body.get("operationName");
+        GraphQLDocument.Operation operation = selectOperation(document,
+                operationName instanceof String ? (String) operationName : null);
+        Map<String, Object> supplied = variables != null ? variables : Collections.emptyMap();
+        Map<String, Object> coerced = coerceVariables(operation, supplied);
+
+        CompiledOperation compiled;
+        if (document.isVariableDirectives()) {
+            // @skip / @include on variables: the selection itself depends on this request
+            compiled = compile(api, document, operation, coerced);
+        } else {
+            compiled = compileCached(api, hash, document, operation);
+        }
+        return bind(api, compiled, coerced, supplied);
+    }
+
+    /**
+     * Shape an execution result to the plan's selection set: {rootKey: shaped result}
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> shapeResult(ExecutionPlan plan, Object result) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        SelectedField root = plan.rootField;
+        if (root == null) {
+            return null;
+        }
+
+        Object value = result;
+        if (result instanceof Map && !root.children.isEmpty()) {
+            Map<String, Object> resultMap = (Map<String, Object>) result;
+            boolean selectsResultKeys = root.children.stream()
+                    .anyMatch(child -> lookup(resultMap, child.name, plan) != null);
+            if (!selectsResultKeys) {
+                // Procedure and DML results wrap their rows in data / result
+                if (resultMap.containsKey("data")) {
+                    value = resultMap.get("data");
+                } else if (resultMap.containsKey("result")) {
+                    value = resultMap.get("result");
+                }
+            }
+        }
+
+        data.put(root.responseKey, root.children.isEmpty() ? value : shape(value, root.children, plan));
+        return data;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("documentCacheSize", documentCache.size());
+        stats.put("documentCacheCapacity", Math.max(16, documentCacheSize));
+        stats.put("documentCacheHits", documentCacheHits.get());
+        stats.put("documentCacheMisses", documentCacheMisses.get());
+        stats.put("planCacheSize", planCache.size());
+        stats.put("planCacheCapacity", Math.max(16, planCacheSize));
+        stats.put("planCacheHits", planCacheHits.get());
+        stats.put("planCacheMisses", planCacheMisses.get());
+        stats.put("persistedQueriesEnabled", persistedQueriesEnabled);
+        stats.put("persistedQueriesRegistered", persistedQueriesRegistered.get());
+        stats.put("persistedQueriesNotFound", persistedQueriesNotFound.get());
+        stats.put("maxDepth", defaultMaxDepth);
+        stats.put("maxComplexity", maxComplexity);
+        stats.put("maxDocumentLength", maxDocumentLength);
+        return stats;
+    }
+
+    /**
+     * Drop the compiled operations of an API after its definition changed
+     */
+    public int evictApi(String apiId) {
+        if (apiId == null) {
+            return 0;
+        }
+        String prefix = apiId + ":";
+        int removed = 0;
+        synchronized (planCache) {
+            Iterator<String> keys = planCache.keySet().iterator();
+            while (keys.hasNext()) {
+                if (keys.next().startsWith(prefix)) {
+                    keys.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.debug("Evicted {} compiled GraphQL operations for API {}", removed, apiId);
+        }
+        return removed;
+    }
+
+    // ==================== PARSING ====================
+
+    GraphQLDocument parseCached(String query) {
+        return parseCached(sha256(query), query);
+    }
+
+    private GraphQLDocument parseCached(String hash, String query) {
+        GraphQLDocument document = documentCache.get(hash);
+        if (document != null) {
+            documentCacheHits.incrementAndGet();
+            return document;
+        }
+        documentCacheMisses.incrementAndGet();
+        if (query.length() > maxDocumentLength) {
+            throw new ValidationException("GraphQL document exceeds " + maxDocumentLength + " characters");
+        }
+        document = GraphQLDocumentParser.parse(query);
+        documentCache.put(hash, document);
+        return document;
+    }
+
+    static String sha256(String text) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readVariables(Object variables) {
+        if (variables instanceof Map) {
+            return (Map<String, Object>) variables;
+        }
+        if (variables instanceof String && !((String) variables).trim().isEmpty()) {
+            try {
+                return objectMapper.readValue((String) variables, Map.class);
+            } catch (Exception e) {
+                throw new ValidationException("Variables must be a JSON object");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * extensions.persistedQuery.sha256Hash (lower case), or null when the request does not use one
+     */
+    @SuppressWarnings("unchecked")
+    private String readPersistedQueryHash(Object extensionsObj) {
+        Map<String, Object> extensions = readVariables(extensionsObj);
+        if (extensions == null || !(extensions.get("persistedQuery") instanceof Map)) {
+            return null;
+        }
+        Map<String, Object> persistedQuery = (Map<String, Object>) extensions.get("persistedQuery");
+        Object version = persistedQuery.get("version");
+        if (version != null && !"1".equals(version.toString())) {
+            throw new ValidationException("Unsupported persisted query version: " + version);
+        }
+        Object hash = persistedQuery.get("sha256Hash");
+        if (!(hash instanceof String) || !((String) hash).matches("(?i)[0-9a-f]{64}")) {
+            throw new ValidationException("persistedQuery.sha256Hash must be a hex SHA-256 digest");
+        }
+        return ((String) hash).toLowerCase();
+    }
+
+    private GraphQLDocument.Operation selectOperation(GraphQLDocument document, String operationName) {
+        if (operationName != null && !operationName.isEmpty()) {
+            for (GraphQLDocument.Operation operation : document.getOperations()) {
+                if (operationName.equals(operation.getName())) {
+                    return operation;
+                }
+            }
+            throw new ValidationException("Unknown operation named '" + operationName + "'");
+        }
+        if (document.getOperations().size() > 1) {
+            throw new ValidationException("The document contains several operations; operationName is required");
+        }
+        return document.getOperations().get(0);
+    }
+
+    // ==================== VALIDATION ====================
+
+    private CompiledOperation compileCached(GeneratedApiEntity api, String hash, GraphQLDocument document,
+                                            GraphQLDocument.Operation operation) {
+        String key = api.getId() + ":" + hash + ":" + (operation.getName() != null ? operation.getName() : "");
+        CompiledOperation compiled = planCache.get(key);
+        if (compiled != null && Objects.equals(compiled.apiUpdatedAt, api.getUpdatedAt())) {
+            planCacheHits.incrementAndGet();
+            return compiled;
+        }
+        planCacheMisses.incrementAndGet();
+        compiled = compile(api, document, operation, Collections.emptyMap());
+        planCache.put(key, compiled);
+        return compiled;
+    }
+
+    /**
+     * Validate the operation against the API's schema and resolve its selection and SQL projection.
+     * Variables are only consulted by @skip / @include.
+     */
+    private CompiledOperation compile(GeneratedApiEntity api, GraphQLDocument document,
+                                      GraphQLDocument.Operation operation, Map<String, Object> variables) {
+        String apiOperationType = operationTypeOf(api);
+        if ("subscription".equals(operation.getOperationType())) {
+            throw new ValidationException("Subscriptions are not supported");
+        }
+        if (!apiOperationType.equals(operation.getOperationType())) {
+            throw new ValidationException("This API exposes a " + apiOperationType +
+                    ", but the document sends a " + operation.getOperationType());
+        }
+
+        List<SelectedField> rootFields = new ArrayList<>();
+        int complexity = collect(operation.getSelections(), document, variables, rootFields, new HashSet<>(), 0);
+        rootFields.removeIf(field -> TYPENAME.equals(field.name));
+        if (rootFields.size() != 1) {
+            throw new ValidationException("Select exactly one root field: " + rootFieldNameOf(api));
+        }
+
+        SelectedField root = rootFields.get(0);
+        if (!isRootFieldName(api, root.name)) {
+            throw new ValidationException("Cannot query field '" + root.name + "' on type '" +
+                    rootTypeName(apiOperationType) + "'. This API exposes '" + rootFieldNameOf(api) + "'");
+        }
+
+        int maxDepth = maxDepthOf(api);
+        int depth = depthOf(root);
+        if (depth > maxDepth) {
+            throw new ValidationException("Query depth " + depth + " exceeds the maximum of " + maxDepth);
+        }
+        if (complexity > maxComplexity) {
+            throw new ValidationException("Query complexity " + complexity + " exceeds the maximum of " + maxComplexity);
+        }
+
+        GraphQLDocument.Field rootNode = findRootNode(operation.getSelections(), document, root.responseKey);
+
+        Map<String, String> columnsByField = columnsByField(api);
+        String typeName = typeNameOf(api);
+        List<String> projection = null;
+        if (isProjectable(api, apiOperationType)) {
+            validateSelection(root.children, columnsByField, typeName);
+            projection = projectionOf(root.children, api);
+        }
+
+        return new CompiledOperation(apiOperationType, root, rootNode, projection, typeName, columnsByField,
+                api.getUpdatedAt());
+    }
+
+    /**
+     * Substitute this request's variables into the root field's arguments
+     */
+    private ExecutionPlan bind(GeneratedApiEntity api, CompiledOperation compiled,
+                               Map<String, Object> variables, Map<String, Object> suppliedVariables) {
+        Map<String, Object> rawArguments = new LinkedHashMap<>();
+        if (compiled.rootNode != null) {
+            for (Map.Entry<String, Object> argument : compiled.rootNode.getArguments().entrySet()) {
+                Object value = substitute(argument.getValue(), variables);
+                if ("input".equals(argument.getKey()) && value instanceof Map) {
+                    // Mutation style: field(input: {...}) carries the parameters as an object
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> input = (Map<String, Object>) value;
+                    rawArguments.putAll(input);
+                } else {
+                    rawArguments.put(argument.getKey(), value);
+                }
+            }
+        }
+        Map<String, Object> arguments = canonicalArguments(api, rawArguments, compiled.rootField.name);
+
+        // Variables named after parameters fill any argument the field does not pass explicitly
+        Map<String, Object> fromVariables = canonicalArgumentsLenient(api, suppliedVariables);
+        fromVariables.forEach(arguments::putIfAbsent);
+
+        return new ExecutionPlan(compiled.operationType, compiled.rootField, arguments, compiled.projection,
+                compiled.typeName, compiled.columnsByField);
+    }
+
+    private Map<String, Object> coerceVariables(GraphQLDocument.Operation operation, Map<String, Object> supplied) {
+        Map<String, Object> variables = new HashMap<>();
+        for (GraphQLDocument.VariableDefinition definition : operation.getVariables()) {
+            if (supplied.containsKey(definition.getName())) {
+                Object value = supplied.get(definition.getName());
+                if (value == null && definition.isNonNull()) {
+                    throw new ValidationException("Variable $" + definition.getName() + " of non-null type " +
+                            definition.getType() + " must not be null");
+                }
+                variables.put(definition.getName(), value);
+            } else if (definition.isHasDefault()) {
+                variables.put(definition.getName(), definition.getDefaultValue());
+            } else if (definition.isNonNull()) {
+                throw new ValidationException("Variable $" + definition.getName() + " of required type " +
+                        definition.getType() + " was not provided");
+            }
+        }
+        return variables;
+    }
+
+    /**
+     * Inline fragments and apply @skip / @include, returning the number of selections visited.
+     * Every selection counts, fragment spreads and skipped ones included, so repeated spreads
+     * cannot expand past maxComplexity for free.
+     */
+    private int collect(List<GraphQLDocument.Selection> selections, GraphQLDocument document,
+                        Map<String, Object> variables, List<SelectedField> into,
+                        Set<String> fragmentPath, int complexity) {
+        int visited = 0;
+        Map<String, SelectedField> byResponseKey = new LinkedHashMap<>();
+        for (SelectedField existing : into) {
+            byResponseKey.put(existing.responseKey, existing);
+        }
+
+        for (GraphQLDocument.Selection selection : selections) {
+            visited++;
+            if (complexity + visited > maxComplexity) {
+                throw new ValidationException("Query complexity exceeds the maximum of " + maxComplexity);
+            }
+            if (!isIncluded(selection.getDirectives(), variables)) {
+                continue;
+            }
+            if (selection instanceof GraphQLDocument.Field) {
+                GraphQLDocument.Field field = (GraphQLDocument.Field) selection;
+                List<SelectedField> children = new ArrayList<>();
+                visited += collect(field.getSelections(), document, variables, children, fragmentPath, complexity + visited);
+                SelectedField existing = byResponseKey.get(field.getResponseKey());
+                if (existing != null) {
+                    if (!existing.name.equals(field.getName())) {
+                        throw new ValidationException("Fields '" + existing.name + "' and '" + field.getName() +
+                                "' conflict because they share the response name '" + field.getResponseKey() + "'");
+                    }
+                    // Same field selected twice: merge the sub-selections
+                    List<SelectedField> merged = new ArrayList<>(existing.children);
+                    for (SelectedField child : children) {
+                        if (merged.stream().noneMatch(c -> c.responseKey.equals(child.responseKey))) {
+                            merged.add(child);
+                        }
+                    }
+                    SelectedField replacement = new SelectedField(existing.responseKey, existing.name, merged);
+                    into.set(into.indexOf(existing), replacement);
+                    byResponseKey.put(existing.responseKey, replacement);
+                } else {
+                    SelectedField selected = new SelectedField(field.getResponseKey(), field.getName(), children);
+                    into.add(selected);
+                    byResponseKey.put(selected.responseKey, selected);
+                }
+            } else if (selection instanceof GraphQLDocument.InlineFragment) {
+                visited += collect(((GraphQLDocument.InlineFragment) selection).getSelections(),
+                        document, variables, into, fragmentPath, complexity + visited);
+                into.forEach(field -> byResponseKey.put(field.responseKey, field));
+            } else if (selection instanceof GraphQLDocument.FragmentSpread) {
+                String name = ((GraphQLDocument.FragmentSpread) selection).getFragmentName();
+                GraphQLDocument.FragmentDefinition fragment = document.getFragments().get(name);
+                if (fragment == null) {
+                    throw new ValidationException("Unknown fragment '" + name + "'");
+                }
+                if (!fragmentPath.add(name)) {
+                    throw new ValidationException("Fragment '" + name + "' spreads itself");
+                }
+                visited += collect(fragment.getSelections(), document, variables, into, fragmentPath, complexity + visited);
+                fragmentPath.remove(name);
+                into.forEach(field -> byResponseKey.put(field.responseKey, field));
+            }
+        }
+        return visited;
+    }
+
+    private boolean isIncluded(List<GraphQLDocument.Directive> directives, Map<String, Object> variables) {
+        for (GraphQLDocument.Directive directive : directives) {
+            if ("skip".equals(directive.getName()) || "include".equals(directive.getName())) {
+                Object condition = substitute(directive.getArguments().get("if"), variables);
+                if (!(condition instanceof Boolean)) {
+                    throw new ValidationException("@" + directive.getName() + " requires a Boolean 'if' argument");
+                }
+                boolean flag = (Boolean) condition;
+                if ("skip".equals(directive.getName()) == flag) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private GraphQLDocument.Field findRootNode(List<GraphQLDocument.Selection> selections, GraphQLDocument document,
+                                               String responseKey) {
+        for (GraphQLDocument.Selection selection : selections) {
+            if (selection instanceof GraphQLDocument.Field) {
+                if (((GraphQLDocument.Field) selection).getResponseKey().equals(responseKey)) {
+                    return (GraphQLDocument.Field) selection;
+                }
+            } else {
+                List<GraphQLDocument.Selection> nested = selection instanceof GraphQLDocument.InlineFragment
+                        ? ((GraphQLDocument.InlineFragment) selection).getSelections()
+                        : document.getFragments().get(((GraphQLDocument.FragmentSpread) selection).getFragmentName()).getSelections();
+                GraphQLDocument.Field found = findRootNode(nested, document, responseKey);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object substitute(Object value, Map<String, Object> variables) {
+        if (value instanceof GraphQLDocument.VariableReference) {
+            String name = ((GraphQLDocument.VariableReference) value).getName();
+            if (!variables.containsKey(name)) {
+                throw new ValidationException("Variable $" + name + " is not defined by the operation");
+            }
+            return variables.get(name);
+        }
+        if (value instanceof GraphQLDocument.EnumValue) {
+            return value.toString();
+        }
+        if (value instanceof List) {
+            List<Object> resolved = new ArrayList<>();
+            for (Object item : (List<Object>) value) {
+                resolved.add(substitute(item, variables));
+            }
+            return resolved;
+        }
+        if (value instanceof Map) {
+            Map<String, Object> resolved = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                resolved.put(entry.getKey(), substitute(entry.getValue(), variables));
+            }
+            return resolved;
+        }
+        return value;
+    }
+
+    /**
+     * Map argument names onto the API's parameter keys; unknown arguments are rejected
+     */
+    private Map<String, Object> canonicalArguments(GeneratedApiEntity api, Map<String, Object> arguments, String fieldName) {
+        Map<String, Object> canonical = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> argument : arguments.entrySet()) {
+            String key = parameterKeyOf(api, argument.getKey());
+            if (key == null) {
+                if (fieldName == null) {
+                    // Bare variables keep their names, as before
+                    canonical.put(argument.getKey(), argument.getValue());
+                    continue;
+                }
+                throw new ValidationException("Unknown argument '" + argument.getKey() + "' on field '" + fieldName + "'");
+            }
+            canonical.put(key, argument.getValue());
+        }
+        return canonical;
+    }
+
+    private Map<String, Object> canonicalArgumentsLenient(GeneratedApiEntity api, Map<String, Object> variables) {
+        Map<String, Object> canonical = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> variable : variables.entrySet()) {
+            String key = parameterKeyOf(api, variable.getKey());
+            if (key != null) {
+                canonical.put(key, variable.getValue());
+            }
+        }
+        return canonical;
+    }
+
+    private String parameterKeyOf(GeneratedApiEntity api, String name) {
+        if (api.getParameters() == null) {
+            return null;
+        }
+        for (ApiParameterEntity parameter : api.getParameters()) {
+            if (parameter.getKey() != null && parameter.getKey().equalsIgnoreCase(name)) {
+                return parameter.getKey();
+            }
+        }
+        return null;
+    }
+
+    private void validateSelection(List<SelectedField> fields, Map<String, String> columnsByField, String typeName) {
+        if (columnsByField.isEmpty()) {
+            return;
+        }
+        for (SelectedField field : fields) {
+            if (TYPENAME.equals(field.name)) {
+                continue;
+            }
+            if (!columnsByField.containsKey(field.name.toLowerCase())) {
+                throw new ValidationException("Cannot query field '" + field.name + "' on type '" + typeName + "'");
+            }
+            if (!field.children.isEmpty()) {
+                throw new ValidationException("Field '" + field.name + "' of type '" + typeName +
+                        "' is a scalar and cannot have a selection");
+            }
+        }
+    }
+
+    /**
+     * API fields to push into the SELECT list; null when the selection cannot be fully mapped
+     */
+    private List<String> projectionOf(List<SelectedField> fields, GeneratedApiEntity api) {
+        Set<String> projection = new LinkedHashSet<>();
+        for (SelectedField field : fields) {
+            if (TYPENAME.equals(field.name)) {
+                continue;
+            }
+            ApiResponseMappingEntity mapping = mappingOf(api, field.name);
+            if (mapping == null || mapping.getApiField() == null || mapping.getDbColumn() == null) {
+                return null;
+            }
+            projection.add(mapping.getApiField());
+        }
+        return projection.isEmpty() ? null : new ArrayList<>(projection);
+    }
+
+    private int depthOf(SelectedField field) {
+        int deepest = 0;
+        for (SelectedField child : field.children) {
+            deepest = Math.max(deepest, depthOf(child));
+        }
+        return deepest + 1;
+    }
+
+    // ==================== RESULT SHAPING ====================
+
+    @SuppressWarnings("unchecked")
+    private Object shape(Object value, List<SelectedField> fields, ExecutionPlan plan) {
+        if (value instanceof List) {
+            List<Object> shaped = new ArrayList<>(((List<?>) value).size());
+            for (Object item : (List<?>) value) {
+                shaped.add(shape(item, fields, plan));
+            }
+            return shaped;
+        }
+        if (!(value instanceof Map)) {
+            return value;
+        }
+        Map<String, Object> source = (Map<String, Object>) value;
+        Map<String, Object> shaped = new LinkedHashMap<>();
+        for (SelectedField field : fields) {
+            if (TYPENAME.equals(field.name)) {
+                shaped.put(field.responseKey, plan.typeName);
+                continue;
+            }
+            Object fieldValue = lookup(source, field.name, plan);
+            shaped.put(field.responseKey, field.children.isEmpty() ? fieldValue : shape(fieldValue, field.children, plan));
+        }
+        return shaped;
+    }
+
+    // Row keys may be the API field, the database column, or either in another case (Oracle upper-cases labels)
+    private Object lookup(Map<String, Object> source, String name, ExecutionPlan plan) {
+        if (source.containsKey(name)) {
+            return source.get(name);
+        }
+        String column = plan.columnsByField.get(name.toLowerCase());
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name) || (column != null && entry.getKey().equalsIgnoreCase(column))) {
+                return entry.getValue();
+            }
+        }
+        if ("success".equals(name) && !source.containsKey("error")) {
+            return Boolean.TRUE;
+        }
+        return null;
+    }
+
+    // ==================== SCHEMA ====================
+
+    private String operationTypeOf(GeneratedApiEntity api) {
+        GraphQLConfigDTO config = api.getGraphqlConfig();
+        if (config != null && config.getOperationType() != null && !config.getOperationType().isEmpty()) {
+            return config.getOperationType().toLowerCase();
+        }
+        ApiSchemaConfigEntity schemaConfig = api.getSchemaConfig();
+        String operation = schemaConfig != null ? schemaConfig.getOperation() : null;
+        return operation == null || "SELECT".equalsIgnoreCase(operation) ? "query" : "mutation";
+    }
+
+    private String rootFieldNameOf(GeneratedApiEntity api) {
+        GraphQLConfigDTO config = api.getGraphqlConfig();
+        return config != null && config.getOperationName() != null && !config.getOperationName().isEmpty()
+                ? config.getOperationName() : api.getApiCode();
+    }
+
+    private boolean isRootFieldName(GeneratedApiEntity api, String name) {
+        GraphQLConfigDTO config = api.getGraphqlConfig();
+        return name.equalsIgnoreCase(rootFieldNameOf(api))
+                || (api.getApiCode() != null && name.equalsIgnoreCase(api.getApiCode()))
+                || (config != null && config.getOperationName() != null && name.equalsIgnoreCase(config.getOperationName()));
+    }
+
+    private String rootTypeName(String operationType) {
+        return "mutation".equals(operationType) ? "Mutation" : "Query";
+    }
+
+    private String typeNameOf(GeneratedApiEntity api) {
+        ApiSchemaConfigEntity schemaConfig = api.getSchemaConfig();
+        String base = schemaConfig != null && schemaConfig.getObjectName() != null
+                ? schemaConfig.getObjectName() : api.getApiCode();
+        if (base == null || base.isEmpty()) {
+            return "Result";
+        }
+        StringBuilder typeName = new StringBuilder();
+        for (String part : base.toLowerCase().split("[^a-z0-9]+")) {
+            if (!part.isEmpty()) {
+                typeName.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+        return typeName.length() > 0 ? typeName.toString() : "Result";
+    }
+
+    private int maxDepthOf(GeneratedApiEntity api) {
+        GraphQLConfigDTO config = api.getGraphqlConfig();
+        return config != null && config.getMaxQueryDepth() != null && config.getMaxQueryDepth() > 0
+                ? config.getMaxQueryDepth() : defaultMaxDepth;
+    }
+
+    private boolean isProjectable(GeneratedApiEntity api, String operationType) {
+        ApiSchemaConfigEntity schemaConfig = api.getSchemaConfig();
+        if (!"query".equals(operationType) || schemaConfig == null || schemaConfig.getObjectType() == null) {
+            return false;
+        }
+        String objectType = schemaConfig.getObjectType().toUpperCase();
+        return ("TABLE".equals(objectType) || "VIEW".equals(objectType))
+                && (schemaConfig.getOperation() == null || "SELECT".equalsIgnoreCase(schemaConfig.getOperation()));
+    }
+
+    // lower-case API field -> database column, from the response mappings
+    private Map<String, String> columnsByField(GeneratedApiEntity api) {
+        Map<String, String> columns = new HashMap<>();
+        if (api.getResponseMappings() != null) {
+            for (ApiResponseMappingEntity mapping : api.getResponseMappings()) {
+                if (mapping.getApiField() != null) {
+                    columns.put(mapping.getApiField().toLowerCase(),
+                            mapping.getDbColumn() != null ? mapping.getDbColumn() : mapping.getApiField());
+                }
+            }
+        }
+        return columns;
+    }
+
+    private ApiResponseMappingEntity mappingOf(GeneratedApiEntity api, String field) {
+        if (api.getResponseMappings() == null) {
+            return null;
+        }
+        for (ApiResponseMappingEntity mapping : api.getResponseMappings()) {
+            if (mapping.getApiField() != null && mapping.getApiField().equalsIgnoreCase(field)) {
+                return mapping;
+            }
+        }
+        return null;
+    }
+}
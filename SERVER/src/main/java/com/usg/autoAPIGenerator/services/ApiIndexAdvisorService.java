@@ -0,0 +1,480 @@
+package com.usg.autoAPIGenerator.services;
+
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiParameterEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiSchemaConfigEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import com.usg.autoAPIGenerator.repositories.apiGenerationEngine.ApiExecutionLogRepository;
+import com.usg.autoAPIGenerator.repositories.apiGenerationEngine.GeneratedAPIRepository;
+import com.usg.autoAPIGenerator.repositories.schemaBrowser.oracle.OracleTableRepository;
+import com.usg.autoAPIGenerator.repositories.schemaBrowser.postgresql.PostgreSQLTableRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Index advisor for generated table APIs.
+ *
+ * Aggregates which filter-column combinations callers actually send (from the execution
+ * log) together with their latencies, checks each combination against the table's existing
+ * indexes, and recommends composite indexes ordered by column selectivity.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiIndexAdvisorService {
+
+    private final GeneratedAPIRepository generatedAPIRepository;
+    private final ApiExecutionLogRepository executionLogRepository;
+    private final OracleTableRepository oracleTableRepository;
+    private final PostgreSQLTableRepository postgreSQLTableRepository;
+
+    // ==================== CONSTANTS ====================
+    private static final int MAX_LOGS_PER_API = 5000;
+    private static final long SMALL_TABLE_ROWS = 1000;
+    private static final int ORACLE_MAX_INDEX_NAME_LENGTH = 30;
+    private static final int POSTGRES_MAX_INDEX_NAME_LENGTH = 63;
+
+    /**
+     * Build index advice for every table SELECT API, optionally limited to one database type,
+     * schema and table.
+     *
+     * @param databaseType "oracle", "postgresql" or null for both
+     * @param schema       schema/owner filter, or null
+     * @param tableName    table filter, or null
+     * @param days         how far back to read the execution log
+     * @param minCalls     minimum calls for a filter combination to be recommended
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getIndexAdvice(String databaseType, String schema, String tableName,
+                                              int days, int minCalls) {
+        LocalDateTime since = LocalDateTime.now().minusDays(Math.max(days, 1));
+        Map<String, TableUsage> tables = new LinkedHashMap<>();
+        int apisAnalyzed = 0;
+        long logsAnalyzed = 0;
+
+        for (GeneratedApiEntity api : generatedAPIRepository.findAll()) {
+            String apiDatabaseType = normalizeDatabaseType(api.getDatabaseType());
+            if (databaseType != null && !normalizeDatabaseType(databaseType).equals(apiDatabaseType)) {
+                continue;
+            }
+
+            String[] target = resolveTarget(api, apiDatabaseType);
+            if (target == null) {
+                continue;
+            }
+            if (schema != null && !schema.equalsIgnoreCase(target[0])) {
+                continue;
+            }
+            if (tableName != null && !tableName.equalsIgnoreCase(target[1])) {
+                continue;
+            }
+
+            List<ApiParameterEntity> filterParams = getFilterParameters(api);
+            if (filterParams.isEmpty()) {
+                continue;
+            }
+
+            List<Object[]> usageRows = executionLogRepository.findFilterUsageSince(
+                    api.getId(), since, PageRequest.of(0, MAX_LOGS_PER_API));
+            if (usageRows.isEmpty()) {
+                continue;
+            }
+
+            String tableKey = apiDatabaseType + ":" + target[0].toLowerCase() + "." + target[1].toLowerCase();
+            TableUsage usage = tables.computeIfAbsent(tableKey,
+                    k -> new TableUsage(apiDatabaseType, target[0], target[1]));
+            usage.apiCodes.add(api.getApiCode());
+            apisAnalyzed++;
+
+            for (Object[] row : usageRows) {
+                List<String> columns = extractUsedColumns(filterParams, asMap(row[0]), asMap(row[1]));
+                if (columns.isEmpty()) {
+                    continue;
+                }
+                long latency = row[2] instanceof Number ? ((Number) row[2]).longValue() : 0L;
+                usage.combinations.computeIfAbsent(String.join(",", columns), k -> new FilterUsage(columns))
+                        .record(latency, api.getApiCode());
+                logsAnalyzed++;
+            }
+        }
+
+        List<Map<String, Object>> tableResults = new ArrayList<>();
+        List<Map<String, Object>> allRecommendations = new ArrayList<>();
+
+        for (TableUsage usage : tables.values()) {
+            if (usage.combinations.isEmpty()) {
+                continue;
+            }
+            Map<String, Object> tableResult = adviseTable(usage, minCalls);
+            tableResults.add(tableResult);
+
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> recommendations = (List<Map<String, Object>>) tableResult.get("recommendations");
+            allRecommendations.addAll(recommendations);
+        }
+
+        allRecommendations.sort(Comparator.comparingDouble(
+                (Map<String, Object> r) -> ((Number) r.get("estimatedTimeSavedMs")).doubleValue()).reversed());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("generatedAt", LocalDateTime.now().toString());
+        result.put("windowDays", Math.max(days, 1));
+        result.put("minCalls", minCalls);
+        result.put("apisAnalyzed", apisAnalyzed);
+        result.put("executionsAnalyzed", logsAnalyzed);
+        result.put("tables", tableResults);
+        result.put("recommendations", allRecommendations);
+        result.put("recommendationCount", allRecommendations.size());
+        return result;
+    }
+
+    // =====================================================
+    // PER-TABLE ADVICE
+    // =====================================================
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> adviseTable(TableUsage usage, int minCalls) {
+        boolean isPostgres = "postgresql".equals(usage.databaseType);
+        List<List<String>> indexes = isPostgres
+                ? postgreSQLTableRepository.getIndexedColumnLists(usage.schema, usage.table)
+                : oracleTableRepository.getIndexedColumnLists(usage.schema, usage.table);
+        Map<String, Object> stats = isPostgres
+                ? postgreSQLTableRepository.getColumnSelectivityStats(usage.schema, usage.table)
+                : oracleTableRepository.getColumnSelectivityStats(usage.schema, usage.table);
+
+        Long rowCount = stats.get("rowCount") instanceof Number ? ((Number) stats.get("rowCount")).longValue() : null;
+        Map<String, Double> distinctCounts = (Map<String, Double>) stats.getOrDefault("distinctCounts", Collections.emptyMap());
+
+        List<Map<String, Object>> filterUsage = new ArrayList<>();
+        List<Map<String, Object>> recommendations = new ArrayList<>();
+
+        List<FilterUsage> combinations = new ArrayList<>(usage.combinations.values());
+        combinations.sort(Comparator.comparingLong((FilterUsage f) -> f.totalLatencyMs).reversed());
+
+        for (FilterUsage combination : combinations) {
+            List<String> coveringIndex = findCoveringIndex(indexes, combination.columns);
+            int usablePrefix = longestUsablePrefix(indexes, combination.columns);
+            String coverage = coveringIndex != null ? "FULL" : usablePrefix > 0 ? "PARTIAL" : "NONE";
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("columns", combination.columns);
+            entry.put("calls", combination.calls);
+            entry.put("avgLatencyMs", combination.averageLatency());
+            entry.put("maxLatencyMs", combination.maxLatencyMs);
+            entry.put("totalLatencyMs", combination.totalLatencyMs);
+            entry.put("apis", combination.apiCodes);
+            entry.put("coverage", coverage);
+            entry.put("coveringIndexColumns", coveringIndex);
+            filterUsage.add(entry);
+
+            if (!"FULL".equals(coverage) && combination.calls >= minCalls) {
+                recommendations.add(buildRecommendation(usage, combination, coverage, rowCount, distinctCounts));
+            }
+        }
+
+        mergeRedundantRecommendations(recommendations);
+
+        Map<String, Object> tableResult = new LinkedHashMap<>();
+        tableResult.put("databaseType", usage.databaseType);
+        tableResult.put("schema", usage.schema);
+        tableResult.put("table", usage.table);
+        tableResult.put("estimatedRows", rowCount);
+        tableResult.put("apis", usage.apiCodes);
+        tableResult.put("existingIndexes", indexes);
+        tableResult.put("filterUsage", filterUsage);
+        tableResult.put("recommendations", recommendations);
+        return tableResult;
+    }
+
+    /**
+     * Recommend an index on the combination with the most selective column first. The benefit estimate
+     * assumes column independence and that latency is dominated by the scan, so it is an upper bound.
+     */
+    private Map<String, Object> buildRecommendation(TableUsage usage, FilterUsage combination, String coverage,
+                                                    Long rowCount, Map<String, Double> distinctCounts) {
+        List<String> orderedColumns = new ArrayList<>(combination.columns);
+        orderedColumns.sort(Comparator.comparingDouble(
+                (String column) -> distinctCounts.getOrDefault(column, 0d)).reversed());
+
+        Double selectivity = null;
+        Double rowsPerLookup = null;
+        if (rowCount != null && rowCount > 0) {
+            double combinedDistinct = 1d;
+            boolean haveStats = true;
+            for (String column : orderedColumns) {
+                Double distinct = distinctCounts.get(column);
+                if (distinct == null || distinct <= 0) {
+                    haveStats = false;
+                    break;
+                }
+                combinedDistinct *= distinct;
+            }
+            if (haveStats) {
+                rowsPerLookup = Math.max(1d, rowCount / Math.min(combinedDistinct, rowCount.doubleValue()));
+                selectivity = rowsPerLookup / rowCount;
+            }
+        }
+
+        double savedFraction = selectivity != null ? 1d - selectivity : 0.5d;
+        double estimatedTimeSavedMs = Math.round(combination.totalLatencyMs * savedFraction);
+
+        String benefit;
+        if (rowCount != null && rowCount < SMALL_TABLE_ROWS) {
+            benefit = "LOW";
+        } else if (selectivity != null && selectivity <= 0.01 && combination.averageLatency() >= 100) {
+            benefit = "HIGH";
+        } else if (selectivity == null || selectivity <= 0.05) {
+            benefit = "MEDIUM";
+        } else {
+            benefit = "LOW";
+        }
+
+        Map<String, Object> recommendation = new LinkedHashMap<>();
+        recommendation.put("databaseType", usage.databaseType);
+        recommendation.put("schema", usage.schema);
+        recommendation.put("table", usage.table);
+        recommendation.put("columns", orderedColumns);
+        recommendation.put("createIndexSql", buildCreateIndexSql(usage, orderedColumns));
+        recommendation.put("currentCoverage", coverage);
+        recommendation.put("calls", combination.calls);
+        recommendation.put("avgLatencyMs", combination.averageLatency());
+        recommendation.put("estimatedRowsPerLookup", rowsPerLookup != null ? Math.round(rowsPerLookup) : null);
+        recommendation.put("estimatedSelectivity", selectivity);
+        recommendation.put("estimatedTimeSavedMs", estimatedTimeSavedMs);
+        recommendation.put("benefit", benefit);
+        recommendation.put("apis", combination.apiCodes);
+        recommendation.put("alsoServes", new ArrayList<List<String>>());
+        return recommendation;
+    }
+
+    /**
+     * Drop a recommendation whose columns are a leading prefix of another one - the wider index serves both.
+     */
+    @SuppressWarnings("unchecked")
+    private void mergeRedundantRecommendations(List<Map<String, Object>> recommendations) {
+        Iterator<Map<String, Object>> iterator = recommendations.iterator();
+        while (iterator.hasNext()) {
+            Map<String, Object> narrow = iterator.next();
+            List<String> narrowColumns = (List<String>) narrow.get("columns");
+
+            for (Map<String, Object> wide : recommendations) {
+                List<String> wideColumns = (List<String>) wide.get("columns");
+                if (wide != narrow && wideColumns.size() > narrowColumns.size() &&
+                        wideColumns.subList(0, narrowColumns.size()).equals(narrowColumns)) {
+                    ((List<List<String>>) wide.get("alsoServes")).add(narrowColumns);
+                    wide.put("calls", (Long) wide.get("calls") + (Long) narrow.get("calls"));
+                    wide.put("estimatedTimeSavedMs", (Double) wide.get("estimatedTimeSavedMs") +
+                            (Double) narrow.get("estimatedTimeSavedMs"));
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    private String buildCreateIndexSql(TableUsage usage, List<String> columns) {
+        boolean isPostgres = "postgresql".equals(usage.databaseType);
+        String indexName = "idx_" + usage.table.toLowerCase() + "_" + String.join("_", columns);
+        int maxLength = isPostgres ? POSTGRES_MAX_INDEX_NAME_LENGTH : ORACLE_MAX_INDEX_NAME_LENGTH;
+        if (indexName.length() > maxLength) {
+            String hash = Integer.toHexString(indexName.hashCode());
+            indexName = indexName.substring(0, maxLength - hash.length() - 1) + "_" + hash;
+        }
+
+        if (isPostgres) {
+            return "CREATE INDEX CONCURRENTLY " + indexName + " ON " + usage.schema + "." + usage.table +
+                    " (" + columns.stream().map(c -> "\"" + c + "\"").collect(Collectors.joining(", ")) + ")";
+        }
+        return "CREATE INDEX " + indexName.toUpperCase() + " ON " + usage.schema.toUpperCase() + "." +
+                usage.table.toUpperCase() + " (" +
+                columns.stream().map(String::toUpperCase).collect(Collectors.joining(", ")) + ") ONLINE";
+    }
+
+    /**
+     * An index fully covers the combination when its leading columns are exactly the combination's columns.
+     */
+    private List<String> findCoveringIndex(List<List<String>> indexes, List<String> columns) {
+        Set<String> wanted = new HashSet<>(columns);
+        for (List<String> index : indexes) {
+            if (index.size() >= wanted.size() &&
+                    new HashSet<>(index.subList(0, wanted.size())).equals(wanted)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Longest leading run of any index made only of filtered columns - what the database can use today.
+     */
+    private int longestUsablePrefix(List<List<String>> indexes, List<String> columns) {
+        int best = 0;
+        for (List<String> index : indexes) {
+            int prefix = 0;
+            while (prefix < index.size() && columns.contains(index.get(prefix))) {
+                prefix++;
+            }
+            best = Math.max(best, prefix);
+        }
+        return best;
+    }
+
+    // =====================================================
+    // LOG PARSING
+    // =====================================================
+
+    private List<ApiParameterEntity> getFilterParameters(GeneratedApiEntity api) {
+        List<ApiParameterEntity> filterParams = new ArrayList<>();
+        if (api.getParameters() == null) {
+            return filterParams;
+        }
+        for (ApiParameterEntity param : api.getParameters()) {
+            String paramType = param.getParameterType() != null ? param.getParameterType() : "query";
+            if (param.getKey() != null && param.getDbColumn() != null && !param.getDbColumn().isEmpty() &&
+                    ("query".equals(paramType) || "path".equals(paramType) || "body".equals(paramType))) {
+                filterParams.add(param);
+            }
+        }
+        return filterParams;
+    }
+
+    /**
+     * Which configured filter columns a logged call supplied a non-empty value for (sorted, lower-case)
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> extractUsedColumns(List<ApiParameterEntity> filterParams,
+                                            Map<String, Object> requestParams, Map<String, Object> requestBody) {
+        List<Map<String, Object>> sources = new ArrayList<>();
+        if (requestParams != null) {
+            if (requestParams.get("queryParams") instanceof Map) sources.add((Map<String, Object>) requestParams.get("queryParams"));
+            if (requestParams.get("pathParams") instanceof Map) sources.add((Map<String, Object>) requestParams.get("pathParams"));
+        }
+        if (requestBody != null) {
+            sources.add(requestBody);
+        }
+
+        TreeSet<String> columns = new TreeSet<>();
+        for (ApiParameterEntity param : filterParams) {
+            for (Map<String, Object> source : sources) {
+                if (hasValue(source, param.getKey()) ||
+                        ("path".equals(param.getParameterType()) && param.getPosition() != null &&
+                                hasValue(source, "param" + (param.getPosition() + 1)))) {
+                    columns.add(param.getDbColumn().toLowerCase());
+                    break;
+                }
+            }
+        }
+        return new ArrayList<>(columns);
+    }
+
+    private boolean hasValue(Map<String, Object> source, String key) {
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(key)) {
+                Object value = entry.getValue();
+                if (value instanceof Collection) {
+                    return !((Collection<?>) value).isEmpty();
+                }
+                return value != null && !value.toString().trim().isEmpty();
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> asMap(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : null;
+    }
+
+    // =====================================================
+    // HELPERS
+    // =====================================================
+
+    /**
+     * [schema, table] the API filters on, or null when it is not a table SELECT API
+     */
+    private String[] resolveTarget(GeneratedApiEntity api, String databaseType) {
+        ApiSchemaConfigEntity schemaConfig = api.getSchemaConfig();
+        if (schemaConfig == null || schemaConfig.getObjectName() == null) {
+            return null;
+        }
+        if (api.getCustomSelectStatement() != null && !api.getCustomSelectStatement().trim().isEmpty()) {
+            return null;
+        }
+
+        String objectType = schemaConfig.getObjectType() != null ? schemaConfig.getObjectType().toUpperCase() : "";
+        String operation = schemaConfig.getOperation() != null ? schemaConfig.getOperation().toUpperCase() : "SELECT";
+        if (!"TABLE".equals(objectType)) {
+            return null;
+        }
+        if (!"SELECT".equals(operation) && !"GET".equalsIgnoreCase(api.getHttpMethod())) {
+            return null;
+        }
+
+        String schema = schemaConfig.getSchemaName();
+        String objectName = schemaConfig.getObjectName();
+        if (Boolean.TRUE.equals(schemaConfig.getIsSynonym()) && schemaConfig.getTargetName() != null) {
+            schema = schemaConfig.getTargetOwner();
+            objectName = schemaConfig.getTargetName();
+        }
+        if (schema == null || schema.isEmpty()) {
+            schema = "postgresql".equals(databaseType)
+                    ? postgreSQLTableRepository.getCurrentSchema()
+                    : oracleTableRepository.getCurrentUser();
+        }
+
+        return "postgresql".equals(databaseType)
+                ? new String[]{schema, objectName}
+                : new String[]{schema.toUpperCase(), objectName.toUpperCase()};
+    }
+
+    private String normalizeDatabaseType(String databaseType) {
+        return databaseType != null && databaseType.toLowerCase().startsWith("postgres") ? "postgresql" : "oracle";
+    }
+
+    // =====================================================
+    // AGGREGATION STATE
+    // =====================================================
+
+    private static class TableUsage {
+        private final String databaseType;
+        private final String schema;
+        private final String table;
+        private final Set<String> apiCodes = new LinkedHashSet<>();
+        private final Map<String, FilterUsage> combinations = new HashMap<>();
+
+        private TableUsage(String databaseType, String schema, String table) {
+            this.databaseType = databaseType;
+            this.schema = schema;
+            this.table = table;
+        }
+    }
+
+    private static class FilterUsage {
+        private final List<String> columns;
+        private final Set<String> apiCodes = new LinkedHashSet<>();
+        private long calls;
+        private long totalLatencyMs;
+        private long maxLatencyMs;
+
+        private FilterUsage(List<String> columns) {
+            this.columns = columns;
+        }
+
+        private void record(long latencyMs, String apiCode) {
+            calls++;
+            totalLatencyMs += latencyMs;
+            maxLatencyMs = Math.max(maxLatencyMs, latencyMs);
+            apiCodes.add(apiCode);
+        }
+
+        private long averageLatency() {
+            return calls > 0 ? totalLatencyMs / calls : 0;
+        }
+    }
+}
@@ -0,0 +1,600 @@
+package com.usg.autoAPIGenerator.services;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiParameterEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiSchemaConfigEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiSettingsEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import com.usg.autoAPIGenerator.repositories.apiGenerationEngine.GeneratedAPIRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Query cost guard for generated APIs.
+ *
+ * Runs EXPLAIN against the SQL a table/view/custom-query API will issue, using the
+ * configured parameters as bind placeholders (and their example/default values where
+ * available), flags large full scans and high-cost plans, and stores the result in
+ * {@code GeneratedApiEntity.queryPlanInfo}. When {@code ApiSettingsEntity.enforcePlanCost}
+ * is set, an API whose plan cost exceeds the limit is not allowed to become ACTIVE.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiQueryCostGuardService {
+
+    private final GeneratedAPIRepository generatedAPIRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("postgresqlJdbcTemplate")
+    private JdbcTemplate postgresqlJdbcTemplate;
+
+    @Autowired
+    @Lazy
+    @Qualifier("oracleJdbcTemplate")
+    private JdbcTemplate oracleJdbcTemplate;
+
+    @Value("${api.cost-guard.enabled:true}")
+    private boolean costGuardEnabled;
+
+    @Value("${api.cost-guard.default-max-cost:100000}")
+    private double defaultMaxPlanCost;
+
+    @Value("${api.cost-guard.full-scan-min-rows:10000}")
+    private long fullScanMinRows;
+
+    @Value("${api.cost-guard.recheck-interval-minutes:360}")
+    private long recheckIntervalMinutes;
+
+    // ==================== CONSTANTS ====================
+    public static final String PLAN_STATUS_OK = "OK";
+    public static final String PLAN_STATUS_WARNING = "WARNING";
+    public static final String PLAN_STATUS_SKIPPED = "SKIPPED";
+    public static final String PLAN_STATUS_ERROR = "ERROR";
+
+    private static final int EXPLAIN_TIMEOUT_SECONDS = 10;
+    private static final Pattern NAMED_PARAMETER_PATTERN = Pattern.compile("(?<!:):([A-Za-z_][A-Za-z0-9_]*)");
+
+    private final ScheduledExecutorService planRechecker = Executors.newSingleThreadScheduledExecutor();
+
+    @PostConstruct
+    public void init() {
+        if (!costGuardEnabled || recheckIntervalMinutes <= 0) {
+            log.info("Query cost guard periodic re-check is disabled");
+            return;
+        }
+        planRechecker.scheduleAtFixedRate(() -> {
+            try {
+                recheckActiveApis();
+            } catch (Exception e) {
+                log.error("Query cost guard re-check failed: {}", e.getMessage());
+            }
+        }, recheckIntervalMinutes, recheckIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        planRechecker.shutdown();
+        try {
+            if (!planRechecker.awaitTermination(5, TimeUnit.SECONDS)) {
+                planRechecker.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            planRechecker.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // =====================================================
+    // PUBLIC METHODS
+    // =====================================================
+
+    /**
+     * Explain the API's SQL and store the result on the entity (the caller saves it).
+     * Never throws - failures are recorded in the plan info with status ERROR.
+     */
+    public Map<String, Object> analyzeApi(GeneratedApiEntity api) {
+        Map<String, Object> planInfo = new LinkedHashMap<>();
+        planInfo.put("checkedAt", LocalDateTime.now().toString());
+        planInfo.put("databaseType", resolveDatabaseType(api));
+        planInfo.put("maxPlanCost", getMaxPlanCost(api));
+        planInfo.put("enforcePlanCost", isCostEnforced(api));
+
+        if (!costGuardEnabled) {
+            planInfo.put("status", PLAN_STATUS_SKIPPED);
+            planInfo.put("message", "Query cost guard is disabled");
+            api.setQueryPlanInfo(planInfo);
+            return planInfo;
+        }
+
+        try {
+            List<Object> representativeValues = new ArrayList<>();
+            String sql = buildExplainableSql(api, representativeValues);
+
+            if (sql == null) {
+                planInfo.put("status", PLAN_STATUS_SKIPPED);
+                planInfo.put("message", "Only SELECT operations on tables, views and custom queries are explained");
+                api.setQueryPlanInfo(planInfo);
+                return planInfo;
+            }
+
+            planInfo.put("explainedSql", sql);
+
+            if ("postgresql".equals(planInfo.get("databaseType"))) {
+                explainPostgreSQL(sql, representativeValues, planInfo);
+            } else {
+                explainOracle(sql, planInfo);
+            }
+
+            List<String> warnings = new ArrayList<>();
+            Double totalCost = (Double) planInfo.get("totalCost");
+            List<?> fullScans = (List<?>) planInfo.get("fullScans");
+
+            if (fullScans != null && !fullScans.isEmpty()) {
+                warnings.add("Plan contains " + fullScans.size() + " full scan(s) over " + fullScanMinRows + "+ rows");
+            }
+            boolean costExceeded = totalCost != null && totalCost > getMaxPlanCost(api);
+            if (costExceeded) {
+                warnings.add("Plan cost " + totalCost + " exceeds the maximum of " + getMaxPlanCost(api));
+            }
+
+            planInfo.put("costExceeded", costExceeded);
+            planInfo.put("warnings", warnings);
+            planInfo.put("status", warnings.isEmpty() ? PLAN_STATUS_OK : PLAN_STATUS_WARNING);
+
+            if (!warnings.isEmpty()) {
+                log.warn("Query cost guard flagged API {}: {}", api.getApiCode(), warnings);
+            }
+
+        } catch (Exception e) {
+            log.error("Query cost guard failed for API {}: {}", api.getApiCode(), e.getMessage());
+            planInfo.put("status", PLAN_STATUS_ERROR);
+            planInfo.put("message", "Failed to explain query: " + e.getMessage());
+        }
+
+        api.setQueryPlanInfo(planInfo);
+        return planInfo;
+    }
+
+    /**
+     * Analyze the API and, when its plan cost is enforced and exceeded, keep it out of ACTIVE.
+     * Used at generation/update time, where the API should still be saved.
+     */
+    public void applyCostGuard(GeneratedApiEntity api) {
+        Map<String, Object> planInfo = analyzeApi(api);
+
+        if ("ACTIVE".equalsIgnoreCase(api.getStatus()) && isActivationBlocked(api, planInfo)) {
+            log.warn("API {} saved as DRAFT - plan cost {} exceeds enforced maximum {}",
+                    api.getApiCode(), planInfo.get("totalCost"), getMaxPlanCost(api));
+            api.setStatus("DRAFT");
+            planInfo.put("activationBlocked", true);
+        }
+    }
+
+    /**
+     * Re-explain the API and refuse activation when its plan cost is enforced and exceeded.
+     */
+    public void validateActivation(GeneratedApiEntity api) {
+        Map<String, Object> planInfo = analyzeApi(api);
+
+        if (isActivationBlocked(api, planInfo)) {
+            planInfo.put("activationBlocked", true);
+            throw new RuntimeException("Cannot activate API " + api.getApiCode() +
+                    ": query plan cost " + planInfo.get("totalCost") +
+                    " exceeds the configured maximum of " + getMaxPlanCost(api));
+        }
+    }
+
+    /**
+     * Re-explain every active API so plan regressions (dropped indexes, data growth) are caught.
+     */
+    public void recheckActiveApis() {
+        List<String> apiIds = transactionTemplate.execute(status ->
+                generatedAPIRepository.findAllActive().stream()
+                        .map(GeneratedApiEntity::getId)
+                        .toList());
+
+        if (apiIds == null || apiIds.isEmpty()) {
+            return;
+        }
+
+        log.info("Query cost guard re-checking {} active APIs", apiIds.size());
+        int flagged = 0;
+
+        for (String apiId : apiIds) {
+            try {
+                // Load what analyzeApi reads, then EXPLAIN outside the transaction and write back only the
+                // plan, so an update committed meanwhile is not overwritten by this stale copy
+                GeneratedApiEntity api = transactionTemplate.execute(status ->
+                        generatedAPIRepository.findById(apiId).map(found -> {
+                            Hibernate.initialize(found.getSchemaConfig());
+                            Hibernate.initialize(found.getSettings());
+                            Hibernate.initialize(found.getParameters());
+                            return found;
+                        }).orElse(null));
+                if (api == null) {
+                    continue;
+                }
+
+                Map<String, Object> planInfo = analyzeApi(api);
+                generatedAPIRepository.updateQueryPlanInfo(apiId, planInfo);
+
+                if (PLAN_STATUS_WARNING.equals(planInfo.get("status"))) {
+                    flagged++;
+                }
+            } catch (Exception e) {
+                log.error("Query cost guard re-check failed for API {}: {}", apiId, e.getMessage());
+            }
+        }
+
+        log.info("Query cost guard re-check complete - {} of {} APIs flagged", flagged, apiIds.size());
+    }
+
+    // =====================================================
+    // SQL BUILDING
+    // =====================================================
+
+    /**
+     * Build the SELECT the executors would issue, with one placeholder per filterable parameter.
+     * Returns null when the API is not a read that can be explained.
+     */
+    private String buildExplainableSql(GeneratedApiEntity api, List<Object> representativeValues) {
+        boolean isPostgres = "postgresql".equals(resolveDatabaseType(api));
+        String customQuery = resolveCustomQuery(api);
+
+        if (customQuery != null) {
+            String cleaned = customQuery.trim();
+            if (cleaned.endsWith(";")) {
+                cleaned = cleaned.substring(0, cleaned.length() - 1).trim();
+            }
+            String firstWord = cleaned.split("\\s+", 2)[0].toUpperCase();
+            if (!"SELECT".equals(firstWord) && !"WITH".equals(firstWord)) {
+                return null;
+            }
+            return isPostgres ? toPositionalParameters(cleaned, api, representativeValues) : cleaned;
+        }
+
+        ApiSchemaConfigEntity schemaConfig = api.getSchemaConfig();
+        if (schemaConfig == null || schemaConfig.getObjectName() == null) {
+            return null;
+        }
+
+        String objectType = schemaConfig.getObjectType() != null ? schemaConfig.getObjectType().toUpperCase() : "";
+        String operation = schemaConfig.getOperation() != null ? schemaConfig.getOperation().toUpperCase() : "SELECT";
+        if (!"TABLE".equals(objectType) && !"VIEW".equals(objectType)) {
+            return null;
+        }
+        if (!"SELECT".equals(operation) && !"GET".equalsIgnoreCase(api.getHttpMethod())) {
+            return null;
+        }
+
+        String schema = schemaConfig.getSchemaName();
+        String objectName = schemaConfig.getObjectName();
+        if (Boolean.TRUE.equals(schemaConfig.getIsSynonym()) && schemaConfig.getTargetName() != null) {
+            schema = schemaConfig.getTargetOwner();
+            objectName = schemaConfig.getTargetName();
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT * FROM ");
+        if (schema != null && !schema.isEmpty()) {
+            sql.append(schema).append(".");
+        }
+        sql.append(objectName);
+
+        List<String> whereClauses = new ArrayList<>();
+        if (api.getParameters() != null) {
+            for (ApiParameterEntity param : api.getParameters()) {
+                String paramType = param.getParameterType() != null ? param.getParameterType() : "query";
+                if (param.getDbColumn() == null || param.getDbColumn().isEmpty() ||
+                        !("query".equals(paramType) || "path".equals(paramType) || "body".equals(paramType))) {
+                    continue;
+                }
+
+                int position = whereClauses.size() + 1;
+                String column = isPostgres && "TABLE".equals(objectType) ? "\"" + param.getDbColumn() + "\"" : param.getDbColumn();
+                whereClauses.add(column + " = " + (isPostgres ? "$" + position : ":p" + position));
+                representativeValues.add(getRepresentativeValue(param));
+            }
+        }
+
+        if (!whereClauses.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", whereClauses));
+        }
+
+        return sql.toString();
+    }
+
+    /**
+     * Rewrite :name placeholders as $n for PREPARE, collecting each parameter's representative value.
+     */
+    private String toPositionalParameters(String sql, GeneratedApiEntity api, List<Object> representativeValues) {
+        Map<String, Integer> positions = new LinkedHashMap<>();
+        Matcher matcher = NAMED_PARAMETER_PATTERN.matcher(sql);
+        StringBuilder rewritten = new StringBuilder();
+
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            Integer position = positions.get(name.toLowerCase());
+            if (position == null) {
+                position = positions.size() + 1;
+                positions.put(name.toLowerCase(), position);
+                representativeValues.add(findRepresentativeValue(api, name));
+            }
+            matcher.appendReplacement(rewritten, Matcher.quoteReplacement("$" + position));
+        }
+        matcher.appendTail(rewritten);
+
+        return rewritten.toString();
+    }
+
+    private Object findRepresentativeValue(GeneratedApiEntity api, String name) {
+        if (api.getParameters() != null) {
+            for (ApiParameterEntity param : api.getParameters()) {
+                if (name.equalsIgnoreCase(param.getKey()) || name.equalsIgnoreCase(param.getDbParameter()) ||
+                        name.equalsIgnoreCase(param.getDbColumn())) {
+                    return getRepresentativeValue(param);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Object getRepresentativeValue(ApiParameterEntity param) {
+        if (param.getExample() != null && !param.getExample().trim().isEmpty()) {
+            return param.getExample().trim();
+        }
+        if (param.getDefaultValue() != null && !param.getDefaultValue().trim().isEmpty()) {
+            return param.getDefaultValue().trim();
+        }
+        return null;
+    }
+
+    // =====================================================
+    // EXPLAIN EXECUTION
+    // =====================================================
+
+    /**
+     * PREPARE the statement so PostgreSQL infers parameter types, then EXPLAIN EXECUTE it.
+     * If any parameter has no representative value the generic plan is explained instead.
+     */
+    private void explainPostgreSQL(String sql, List<Object> representativeValues, Map<String, Object> planInfo) {
+        String statementName = "cost_guard_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        boolean useGenericPlan = representativeValues.stream().anyMatch(Objects::isNull);
+
+        String planJson = postgresqlJdbcTemplate.execute((ConnectionCallback<String>) conn -> {
+            // Inside generateApi/updateApi this is the JPA transaction's connection: a failed PREPARE or
+            // EXPLAIN is rolled back to this savepoint so the transaction can still save the API
+            Savepoint savepoint = conn.getAutoCommit() ? null : conn.setSavepoint();
+            boolean prepared = false;
+            try (Statement stmt = conn.createStatement()) {
+                stmt.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+                try {
+                    stmt.execute("PREPARE " + statementName + " AS " + sql);
+                    prepared = true;
+                    if (useGenericPlan) {
+                        stmt.execute("SET plan_cache_mode = force_generic_plan");
+                    }
+
+                    StringBuilder explainSql = new StringBuilder("EXPLAIN (FORMAT JSON) EXECUTE ").append(statementName);
+                    if (!representativeValues.isEmpty()) {
+                        List<String> args = new ArrayList<>();
+                        for (Object value : representativeValues) {
+                            args.add(value == null ? "NULL" : "'" + value.toString().replace("'", "''") + "'");
+                        }
+                        explainSql.append("(").append(String.join(", ", args)).append(")");
+                    }
+
+                    String plan;
+                    try (ResultSet rs = stmt.executeQuery(explainSql.toString())) {
+                        plan = rs.next() ? rs.getString(1) : null;
+                    }
+                    if (savepoint != null) {
+                        conn.releaseSavepoint(savepoint);
+                    }
+                    return plan;
+                } catch (SQLException | RuntimeException e) {
+                    if (savepoint != null) {
+                        conn.rollback(savepoint);
+                    }
+                    throw e;
+                } finally {
+                    // Prepared statements are not transactional, so they are deallocated either way
+                    if (prepared) {
+                        stmt.execute("DEALLOCATE " + statementName);
+                    }
+                    if (useGenericPlan) {
+                        stmt.execute("RESET plan_cache_mode");
+                    }
+                }
+            }
+        });
+
+        if (planJson == null) {
+            throw new RuntimeException("EXPLAIN returned no plan");
+        }
+
+        try {
+            List<Map<String, Object>> explainOutput = objectMapper.readValue(planJson,
+                    new TypeReference<List<Map<String, Object>>>() {});
+            @SuppressWarnings("unchecked")
+            Map<String, Object> rootPlan = (Map<String, Object>) explainOutput.get(0).get("Plan");
+
+            List<Map<String, Object>> fullScans = new ArrayList<>();
+            collectPostgreSQLFullScans(rootPlan, fullScans);
+
+            planInfo.put("planType", useGenericPlan ? "generic" : "representative");
+            planInfo.put("totalCost", toDouble(rootPlan.get("Total Cost")));
+            planInfo.put("estimatedRows", toLong(rootPlan.get("Plan Rows")));
+            planInfo.put("fullScans", fullScans);
+            planInfo.put("plan", explainOutput);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse EXPLAIN output: " + e.getMessage(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collectPostgreSQLFullScans(Map<String, Object> node, List<Map<String, Object>> fullScans) {
+        if (node == null) return;
+
+        if ("Seq Scan".equals(node.get("Node Type"))) {
+            Long rows = toLong(node.get("Plan Rows"));
+            if (rows != null && rows >= fullScanMinRows) {
+                Map<String, Object> scan = new LinkedHashMap<>();
+                scan.put("object", node.get("Schema") != null ?
+                        node.get("Schema") + "." + node.get("Relation Name") : node.get("Relation Name"));
+                scan.put("estimatedRows", rows);
+                scan.put("cost", toDouble(node.get("Total Cost")));
+                scan.put("filter", node.get("Filter"));
+                fullScans.add(scan);
+            }
+        }
+
+        Object children = node.get("Plans");
+        if (children instanceof List) {
+            for (Object child : (List<?>) children) {
+                if (child instanceof Map) {
+                    collectPostgreSQLFullScans((Map<String, Object>) child, fullScans);
+                }
+            }
+        }
+    }
+
+    /**
+     * EXPLAIN PLAN into the session's PLAN_TABLE and read it back on the same connection.
+     * Bind placeholders are left unbound, which matches how the executors prepare statements.
+     */
+    private void explainOracle(String sql, Map<String, Object> planInfo) {
+        String statementId = "CG_" + UUID.randomUUID().toString().replace("-", "").substring(0, 20).toUpperCase();
+
+        List<Map<String, Object>> planRows = oracleJdbcTemplate.execute((ConnectionCallback<List<Map<String, Object>>>) conn -> {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+                stmt.execute("EXPLAIN PLAN SET STATEMENT_ID = '" + statementId + "' FOR " + sql);
+
+                List<Map<String, Object>> rows = new ArrayList<>();
+                try {
+                    try (ResultSet rs = stmt.executeQuery(
+                            "SELECT ID, PARENT_ID, OPERATION, OPTIONS, OBJECT_OWNER, OBJECT_NAME, COST, CARDINALITY, BYTES " +
+                                    "FROM PLAN_TABLE WHERE STATEMENT_ID = '" + statementId + "' ORDER BY ID")) {
+                        while (rs.next()) {
+                            Map<String, Object> row = new LinkedHashMap<>();
+                            row.put("id", rs.getInt("ID"));
+                            row.put("parentId", rs.getObject("PARENT_ID"));
+                            row.put("operation", rs.getString("OPERATION"));
+                            row.put("options", rs.getString("OPTIONS"));
+                            row.put("objectOwner", rs.getString("OBJECT_OWNER"));
+                            row.put("objectName", rs.getString("OBJECT_NAME"));
+                            row.put("cost", rs.getObject("COST") != null ? rs.getDouble("COST") : null);
+                            row.put("cardinality", rs.getObject("CARDINALITY") != null ? rs.getLong("CARDINALITY") : null);
+                            row.put("bytes", rs.getObject("BYTES") != null ? rs.getLong("BYTES") : null);
+                            rows.add(row);
+                        }
+                    }
+                } finally {
+                    stmt.executeUpdate("DELETE FROM PLAN_TABLE WHERE STATEMENT_ID = '" + statementId + "'");
+                }
+                return rows;
+            }
+        });
+
+        if (planRows == null || planRows.isEmpty()) {
+            throw new RuntimeException("EXPLAIN PLAN returned no plan");
+        }
+
+        List<Map<String, Object>> fullScans = new ArrayList<>();
+        for (Map<String, Object> row : planRows) {
+            Long cardinality = (Long) row.get("cardinality");
+            if ("TABLE ACCESS".equals(row.get("operation")) && "FULL".equals(row.get("options")) &&
+                    cardinality != null && cardinality >= fullScanMinRows) {
+                Map<String, Object> scan = new LinkedHashMap<>();
+                scan.put("object", row.get("objectOwner") + "." + row.get("objectName"));
+                scan.put("estimatedRows", cardinality);
+                scan.put("cost", row.get("cost"));
+                fullScans.add(scan);
+            }
+        }
+
+        Map<String, Object> rootRow = planRows.get(0);
+        planInfo.put("planType", "bind");
+        planInfo.put("totalCost", rootRow.get("cost"));
+        planInfo.put("estimatedRows", rootRow.get("cardinality"));
+        planInfo.put("fullScans", fullScans);
+        planInfo.put("plan", planRows);
+    }
+
+    // =====================================================
+    // HELPERS
+    // =====================================================
+
+    private boolean isActivationBlocked(GeneratedApiEntity api, Map<String, Object> planInfo) {
+        return isCostEnforced(api) && Boolean.TRUE.equals(planInfo.get("costExceeded"));
+    }
+
+    private boolean isCostEnforced(GeneratedApiEntity api) {
+        ApiSettingsEntity settings = api.getSettings();
+        return settings != null && Boolean.TRUE.equals(settings.getEnforcePlanCost());
+    }
+
+    private double getMaxPlanCost(GeneratedApiEntity api) {
+        ApiSettingsEntity settings = api.getSettings();
+        if (settings != null && settings.getMaxPlanCost() != null && settings.getMaxPlanCost() > 0) {
+            return settings.getMaxPlanCost();
+        }
+        return defaultMaxPlanCost;
+    }
+
+    private String resolveDatabaseType(GeneratedApiEntity api) {
+        String databaseType = api.getDatabaseType();
+        if (databaseType != null && ("postgresql".equalsIgnoreCase(databaseType) || "postgres".equalsIgnoreCase(databaseType))) {
+            return "postgresql";
+        }
+        return "oracle";
+    }
+
+    private String resolveCustomQuery(GeneratedApiEntity api) {
+        if (api.getCustomSelectStatement() != null && !api.getCustomSelectStatement().trim().isEmpty()) {
+            return api.getCustomSelectStatement();
+        }
+        if (api.getSourceObjectInfo() != null) {
+            Object customQuery = api.getSourceObjectInfo().get("customSelectStatement");
+            if (customQuery instanceof String && !((String) customQuery).trim().isEmpty()) {
+                return (String) customQuery;
+            }
+        }
+        return null;
+    }
+
+    private Double toDouble(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    private Long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+}
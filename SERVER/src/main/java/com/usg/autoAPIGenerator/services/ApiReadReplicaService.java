@@ -0,0 +1,357 @@
+package com.usg.autoAPIGenerator.services;
+
+import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiSourceObjectDTO;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiSchemaConfigEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import com.usg.autoAPIGenerator.utils.apiEngine.ApiDataSourceContextHolder;
+import com.usg.autoAPIGenerator.utils.apiEngine.executor.CustomQueryExecutionHelper;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Read/write splitting for generated APIs.
+ *
+ * Read-only executions (SELECT table APIs, views and custom SELECT queries) are sent to a
+ * configured read replica instead of the primary, so reporting traffic does not compete with
+ * transactional writes. Replica lag is sampled in the background; while a replica is unreachable
+ * or behind by more than the configured limit, reads fall back to the primary.
+ *
+ * Per-API routing is controlled by GeneratedApiEntity.readRouting:
+ * AUTO (default) and REPLICA - replica for read-only APIs, PRIMARY - always primary.
+ * Routing never makes an API read-only: writes always stay on the primary, and REPLICA
+ * can only be set on APIs that are read-only.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiReadReplicaService {
+
+    public static final String ROUTING_AUTO = "AUTO";
+    public static final String ROUTING_PRIMARY = "PRIMARY";
+    public static final String ROUTING_REPLICA = "REPLICA";
+
+    private static final Pattern WRITE_KEYWORD_PATTERN = Pattern.compile(
+            "\\b(INSERT|UPDATE|DELETE|MERGE|FOR\\s+UPDATE|FOR\\s+SHARE|NEXTVAL)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final CustomQueryExecutionHelper customQueryExecutionHelper;
+
+    @Value("${api.read-replica.enabled:false}")
+    private boolean replicaEnabled;
+
+    @Value("${api.read-replica.max-lag-seconds:10}")
+    private double maxLagSeconds;
+
+    @Value("${api.read-replica.lag-check-interval-seconds:5}")
+    private long lagCheckIntervalSeconds;
+
+    @Value("${api.read-replica.lag-check-timeout-seconds:3}")
+    private int lagCheckTimeoutSeconds;
+
+    @Value("${api.read-replica.postgresql.url:}")
+    private String postgresqlUrl;
+
+    @Value("${api.read-replica.postgresql.username:}")
+    private String postgresqlUsername;
+
+    @Value("${api.read-replica.postgresql.password:}")
+    private String postgresqlPassword;
+
+    @Value("${api.read-replica.postgresql.maximum-pool-size:10}")
+    private int postgresqlMaximumPoolSize;
+
+    @Value("${api.read-replica.postgresql.lag-query:SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END}")
+    private String postgresqlLagQuery;
+
+    @Value("${api.read-replica.oracle.url:}")
+    private String oracleUrl;
+
+    @Value("${api.read-replica.oracle.username:}")
+    private String oracleUsername;
+
+    @Value("${api.read-replica.oracle.password:}")
+    private String oraclePassword;
+
+    @Value("${api.read-replica.oracle.maximum-pool-size:10}")
+    private int oracleMaximumPoolSize;
+
+    @Value("${api.read-replica.oracle.lag-query:SELECT EXTRACT(DAY FROM TO_DSINTERVAL(value)) * 86400 + EXTRACT(HOUR FROM TO_DSINTERVAL(value)) * 3600 + EXTRACT(MINUTE FROM TO_DSINTERVAL(value)) * 60 + EXTRACT(SECOND FROM TO_DSINTERVAL(value)) FROM v$dataguard_stats WHERE name = 'apply lag'}")
+    private String oracleLagQuery;
+
+    @Value("${api.read-replica.connection-timeout-ms:5000}")
+    private long connectionTimeoutMs;
+
+    @Value("${api.execution.max-statement-timeout-seconds:300}")
+    private int maxStatementTimeoutSeconds;
+
+    // databaseType -> replica
+    private final Map<String, Replica> replicas = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService lagChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "read-replica-lag-checker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void init() {
+        if (!replicaEnabled) {
+            log.info("Read replica routing is disabled");
+            return;
+        }
+
+        if (postgresqlUrl != null && !postgresqlUrl.trim().isEmpty()) {
+            replicas.put("postgresql", new Replica("postgresql", createPool("postgresql", postgresqlUrl.trim(),
+                    postgresqlUsername, postgresqlPassword, postgresqlMaximumPoolSize), postgresqlLagQuery));
+        }
+        if (oracleUrl != null && !oracleUrl.trim().isEmpty()) {
+            replicas.put("oracle", new Replica("oracle", createPool("oracle", oracleUrl.trim(),
+                    oracleUsername, oraclePassword, oracleMaximumPoolSize), oracleLagQuery));
+        }
+
+        if (replicas.isEmpty()) {
+            log.warn("Read replica routing is enabled but no replica URL is configured");
+            return;
+        }
+
+        // Replicas start out unavailable; the first lag check runs immediately
+        lagChecker.scheduleWithFixedDelay(() -> {
+            for (Replica replica : replicas.values()) {
+                try {
+                    checkLag(replica);
+                } catch (Exception e) {
+                    log.error("Read replica lag check failed for {}: {}", replica.databaseType, e.getMessage());
+                }
+            }
+        }, 0, Math.max(1, lagCheckIntervalSeconds), TimeUnit.SECONDS);
+        log.info("Read replica routing enabled for {} (max lag {}s)", replicas.keySet(), maxLagSeconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lagChecker.shutdownNow();
+        replicas.values().forEach(replica -> replica.pool.close());
+        replicas.clear();
+    }
+
+    // ==================== ROUTING ====================
+
+    /**
+     * Bind the replica for the API's database type when the execution is read-only and the replica
+     * is healthy; otherwise bind nothing so the execution stays on the primary. Use with try-with-resources.
+     */
+    public ApiDataSourceContextHolder.Scope bindReplica(GeneratedApiEntity api, ApiSourceObjectDTO sourceObject) {
+        if (replicas.isEmpty() || api == null) {
+            return ApiDataSourceContextHolder.bind(null, null);
+        }
+
+        Replica replica = replicas.get(normalizeDatabaseType(api.getDatabaseType()));
+        if (replica == null || !isReplicaEligible(api, sourceObject)) {
+            return ApiDataSourceContextHolder.bind(null, null);
+        }
+
+        if (!replica.isHealthy(maxLagSeconds)) {
+            replica.primaryFallbacks.incrementAndGet();
+            log.debug("Read replica for {} unavailable or lagging ({}s), API {} falls back to primary",
+                    replica.databaseType, replica.lagSeconds, api.getId());
+            return ApiDataSourceContextHolder.bind(null, null);
+        }
+
+        replica.routedReads.incrementAndGet();
+        return ApiDataSourceContextHolder.bind(replica.databaseType, replica.pool);
+    }
+
+    /**
+     * Whether an execution of this API may be sent to the replica: it is read-only and not pinned to the primary
+     */
+    public boolean isReplicaEligible(GeneratedApiEntity api, ApiSourceObjectDTO sourceObject) {
+        return isReadOnly(api, sourceObject) && !ROUTING_PRIMARY.equals(normalizeRouting(api.getReadRouting()));
+    }
+
+    /**
+     * Whether an execution of this API only reads data, decided from its operation alone
+     */
+    public boolean isReadOnly(GeneratedApiEntity api, ApiSourceObjectDTO sourceObject) {
+        // Custom queries: use the same protocol-aware detection as execution
+        if (sourceObject != null && sourceObject.isCustomQuery()) {
+            String sql = sourceObject.getCustomSelectStatement();
+            return "SELECT".equals(customQueryExecutionHelper.detectQueryType(api, sql))
+                    && !WRITE_KEYWORD_PATTERN.matcher(sql).find();
+        }
+
+        if ("SELECT".equalsIgnoreCase(api.getSqlOperationType())) {
+            return true;
+        }
+
+        ApiSchemaConfigEntity schemaConfig = api.getSchemaConfig();
+        if (schemaConfig == null || schemaConfig.getObjectType() == null) {
+            return false;
+        }
+        String objectType = schemaConfig.getObjectType().toUpperCase();
+        if ("VIEW".equals(objectType) || "MATERIALIZED VIEW".equals(objectType)) {
+            return true;
+        }
+        return "TABLE".equals(objectType) && "SELECT".equalsIgnoreCase(schemaConfig.getOperation());
+    }
+
+    public String normalizeRouting(String routing) {
+        if (routing == null || routing.trim().isEmpty()) {
+            return ROUTING_AUTO;
+        }
+        String normalized = routing.trim().toUpperCase();
+        if (!ROUTING_AUTO.equals(normalized) && !ROUTING_PRIMARY.equals(normalized) && !ROUTING_REPLICA.equals(normalized)) {
+            throw new RuntimeException("Unsupported read routing: " + routing + ". Use AUTO, PRIMARY or REPLICA.");
+        }
+        return normalized;
+    }
+
+    // ==================== STATUS ====================
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", replicaEnabled);
+        status.put("maxLagSeconds", maxLagSeconds);
+        status.put("lagCheckIntervalSeconds", lagCheckIntervalSeconds);
+
+        Map<String, Object> replicaStatus = new LinkedHashMap<>();
+        for (Replica replica : replicas.values()) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("available", replica.available);
+            stats.put("healthy", replica.isHealthy(maxLagSeconds));
+            stats.put("lagSeconds", replica.lagSeconds);
+            stats.put("lastCheckedAt", replica.lastCheckedAt);
+            stats.put("lastError", replica.lastError);
+            stats.put("routedReads", replica.routedReads.get());
+            stats.put("primaryFallbacks", replica.primaryFallbacks.get());
+
+            HikariPoolMXBean mxBean = replica.pool.getHikariPoolMXBean();
+            if (mxBean != null) {
+                stats.put("activeConnections", mxBean.getActiveConnections());
+                stats.put("idleConnections", mxBean.getIdleConnections());
+                stats.put("threadsAwaitingConnection", mxBean.getThreadsAwaitingConnection());
+            }
+            replicaStatus.put(replica.databaseType, stats);
+        }
+        status.put("replicas", replicaStatus);
+        return status;
+    }
+
+    // ==================== HELPERS ====================
+
+    private void checkLag(Replica replica) {
+        try (Connection conn = replica.pool.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.setQueryTimeout(lagCheckTimeoutSeconds);
+            try (ResultSet rs = stmt.executeQuery(replica.lagQuery)) {
+                // No row (e.g. no Data Guard stats yet) means lag is unknown: keep reads on the primary
+                Double lag = rs.next() ? rs.getDouble(1) : null;
+                if (lag == null || rs.wasNull()) {
+                    markUnavailable(replica, "Replica lag could not be determined");
+                    return;
+                }
+                boolean wasHealthy = replica.isHealthy(maxLagSeconds);
+                replica.lagSeconds = lag;
+                replica.available = true;
+                replica.lastError = null;
+                replica.lastCheckedAt = LocalDateTime.now();
+                if (wasHealthy != replica.isHealthy(maxLagSeconds)) {
+                    log.info("Read replica for {} is now {} (lag {}s)", replica.databaseType,
+                            replica.isHealthy(maxLagSeconds) ? "serving reads" : "lagging, reads use primary", lag);
+                }
+            }
+        } catch (Exception e) {
+            markUnavailable(replica, e.getMessage());
+        }
+    }
+
+    private void markUnavailable(Replica replica, String error) {
+        if (replica.available) {
+            log.warn("Read replica for {} unavailable, reads fall back to primary: {}", replica.databaseType, error);
+        }
+        replica.available = false;
+        replica.lastError = error;
+        replica.lastCheckedAt = LocalDateTime.now();
+    }
+
+    private HikariDataSource createPool(String databaseType, String url, String username, String password, int maximumPoolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(0);
+        config.setConnectionTimeout(connectionTimeoutMs);
+        config.setPoolName("ReadReplica-" + databaseType);
+        config.setAutoCommit(true);
+        config.setReadOnly(true);
+        config.setInitializationFailTimeout(-1);
+
+        if ("postgresql".equals(databaseType)) {
+            config.setDriverClassName("org.postgresql.Driver");
+            config.addDataSourceProperty("prepareThreshold", "3");
+            config.addDataSourceProperty("preparedStatementCacheQueries", "256");
+            config.addDataSourceProperty("defaultRowFetchSize", "500");
+            config.addDataSourceProperty("options",
+                    "-c statement_timeout=" + maxStatementTimeoutSeconds + "s -c default_transaction_read_only=on");
+            config.addDataSourceProperty("socketTimeout", String.valueOf(maxStatementTimeoutSeconds + 30));
+            config.addDataSourceProperty("ApplicationName", "api-automation-replica");
+        } else {
+            config.setDriverClassName("oracle.jdbc.OracleDriver");
+            config.addDataSourceProperty("defaultRowPrefetch", "500");
+            config.addDataSourceProperty("implicitStatementCacheSize", "50");
+            config.addDataSourceProperty("oracle.net.CONNECT_TIMEOUT", "10000");
+        }
+
+        log.info("Starting read replica pool for {} (max {} connections)", databaseType, maximumPoolSize);
+        return new HikariDataSource(config);
+    }
+
+    private String normalizeDatabaseType(String databaseType) {
+        if (databaseType == null || databaseType.isEmpty()) {
+            return "oracle";
+        }
+        String normalized = databaseType.trim().toLowerCase();
+        return "postgres".equals(normalized) ? "postgresql" : normalized;
+    }
+
+    private static class Replica {
+        final String databaseType;
+        final HikariDataSource pool;
+        final String lagQuery;
+        final AtomicLong routedReads = new AtomicLong();
+        final AtomicLong primaryFallbacks = new AtomicLong();
+        volatile boolean available;
+        volatile Double lagSeconds;
+        volatile String lastError;
+        volatile LocalDateTime lastCheckedAt;
+
+        Replica(String databaseType, HikariDataSource pool, String lagQuery) {
+            this.databaseType = databaseType;
+            this.pool = pool;
+            this.lagQuery = lagQuery;
+        }
+
+        boolean isHealthy(double maxLagSeconds) {
+            return available && lagSeconds != null && lagSeconds <= maxLagSeconds;
+        }
+    }
+}
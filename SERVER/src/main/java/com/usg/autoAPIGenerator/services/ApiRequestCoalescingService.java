@@ -0,0 +1,124 @@
+package com.usg.autoAPIGenerator.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-flight coalescing for identical concurrent read executions.
+ *
+ * The first request for a key (apiId + normalized parameters) runs the database call; requests
+ * arriving while it is in flight wait for it and share its result (or its exception) instead
+ * of issuing their own query. Followers get their own copy of the Map/List structure, since the
+ * response pipeline may reshape the result. Nothing is kept once the call completes - use the
+ * response cache for that.
+ */
+@Slf4j
+@Service
+public class ApiRequestCoalescingService {
+
+    @Value("${api.coalescing.enabled:true}")
+    private boolean coalescingEnabled;
+
+    @Value("${api.coalescing.max-wait-ms:30000}")
+    private long maxWaitMs;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong leaderCalls = new AtomicLong();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+
+    public boolean isEnabled() {
+        return coalescingEnabled;
+    }
+
+    /**
+     * Run the execution, or join an identical one already in flight
+     */
+    public Object execute(String key, ApiCircuitBreakerService.GuardedExecution<Object> execution) throws Exception {
+        if (!coalescingEnabled) {
+            return execution.execute();
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedCalls.incrementAndGet();
+            return awaitLeader(key, existing);
+        }
+
+        leaderCalls.incrementAndGet();
+        try {
+            Object result = execution.execute();
+            future.complete(result);
+            return result;
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw e;
+        } catch (Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", coalescingEnabled);
+        stats.put("inFlight", inFlight.size());
+        stats.put("leaderCalls", leaderCalls.get());
+        stats.put("coalescedCalls", coalescedCalls.get());
+        long total = leaderCalls.get() + coalescedCalls.get();
+        stats.put("coalescedPercent", total > 0 ? Math.round(coalescedCalls.get() * 1000.0 / total) / 10.0 : 0.0);
+        return stats;
+    }
+
+    private Object awaitLeader(String key, CompletableFuture<Object> leader) throws Exception {
+        try {
+            return copyStructure(leader.get(maxWaitMs, TimeUnit.MILLISECONDS));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        } catch (TimeoutException e) {
+            log.warn("Timed out after {} ms waiting for in-flight execution {}", maxWaitMs, key);
+            throw new QueryTimeoutException("Timed out waiting for an identical in-flight execution");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyStructure(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            ((Map<Object, Object>) value).forEach((k, v) -> copy.put(k, copyStructure(v)));
+            return copy;
+        }
+        if (value instanceof List) {
+            List<Object> list = (List<Object>) value;
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) {
+                copy.add(copyStructure(item));
+            }
+            return copy;
+        }
+        return value;
+    }
+}
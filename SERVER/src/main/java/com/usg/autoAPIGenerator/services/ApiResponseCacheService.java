@@ -0,0 +1,445 @@
+package com.usg.autoAPIGenerator.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiParameterDTO;
+import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ExecuteApiRequestDTO;
+import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ExecuteApiResponseDTO;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiSchemaConfigEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiSettingsEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in response cache for idempotent generated APIs.
+ *
+ * Enabled per API through ApiSettingsEntity (enableCaching, cacheTtl in seconds, cacheMaxEntries,
+ * cacheMaxBytes). Entries hold the serialized response as a byte array, keyed by a hash of the
+ * normalized parameter set, in a size-aware LRU segment per API. A global byte budget bounds
+ * the heap used by all segments together.
+ *
+ * Segments are tagged with the table the API reads; executing a write API on the same table
+ * purges them. Views and custom queries cannot be tied to their base tables and rely on the TTL.
+ *
+ * An entry keeps the response's ETag (when conditional requests are on for the API), so a matching
+ * If-None-Match can be answered from peekEtag without decoding the entry. Entries stored before the
+ * API enabled ETags get theirs computed from the stored body on the first peekEtag.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiResponseCacheService {
+
+    private final ApiConditionalRequestService conditionalRequestService;
+
+    private final ObjectMapper cacheMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Value("${api.response-cache.enabled:true}")
+    private boolean responseCacheEnabled;
+
+    @Value("${api.response-cache.default-max-entries:1000}")
+    private int defaultMaxEntries;
+
+    @Value("${api.response-cache.default-max-bytes:10485760}")
+    private long defaultMaxBytes;
+
+    @Value("${api.response-cache.max-entry-bytes:1048576}")
+    private long maxEntryBytes;
+
+    @Value("${api.response-cache.max-total-bytes:268435456}")
+    private long maxTotalBytes;
+
+    // apiId -> segment
+    private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+
+    // table key -> apiIds whose cached responses read from it
+    private final Map<String, Set<String>> tableDependents = new ConcurrentHashMap<>();
+
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * A cached response; rawResponseBody is what the request capture records
+     */
+    public static class CachedResponse {
+        private final ExecuteApiResponseDTO response;
+        private final String rawResponseBody;
+
+        CachedResponse(ExecuteApiResponseDTO response, String rawResponseBody) {
+            this.response = response;
+            this.rawResponseBody = rawResponseBody;
+        }
+
+        public ExecuteApiResponseDTO getResponse() {
+            return response;
+        }
+
+        public String getRawResponseBody() {
+            return rawResponseBody;
+        }
+    }
+
+    // ==================== LOOKUP / STORE ====================
+
+    public boolean isCachingEnabled(GeneratedApiEntity api) {
+        if (!responseCacheEnabled || api == null || api.getSettings() == null) {
+            return false;
+        }
+        ApiSettingsEntity settings = api.getSettings();
+        return Boolean.TRUE.equals(settings.getEnableCaching())
+                && settings.getCacheTtl() != null && settings.getCacheTtl() > 0;
+    }
+
+    /**
+     * Key for a request: a SHA-256 over the parameter set with maps sorted, so parameter order does not matter
+     */
+    public String buildKey(ExecuteApiRequestDTO request, List<ApiParameterDTO> configuredParamDTOs) {
+        Map<String, Object> normalized = new TreeMap<>();
+        normalized.put("path", sorted(request.getPathParams()));
+        normalized.put("query", sorted(request.getQueryParams()));
+        normalized.put("body", request.getBody() instanceof Map ? sorted((Map<?, ?>) request.getBody()) : request.getBody());
+
+        // Only headers the API binds as parameters influence the result
+        if (request.getHeaders() != null && configuredParamDTOs != null) {
+            Map<String, Object> headers = new TreeMap<>();
+            for (ApiParameterDTO param : configuredParamDTOs) {
+                if ("header".equalsIgnoreCase(param.getParameterLocation()) && param.getKey() != null) {
+                    request.getHeaders().forEach((name, value) -> {
+                        if (name != null && name.equalsIgnoreCase(param.getKey())) {
+                            headers.put(param.getKey().toLowerCase(), value);
+                        }
+                    });
+                }
+            }
+            normalized.put("headers", headers);
+        }
+
+        try {
+            byte[] canonical = cacheMapper.writeValueAsBytes(normalized);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Unable to build response cache key", e);
+        }
+    }
+
+    public CachedResponse get(GeneratedApiEntity api, String key) {
+        Segment segment = segments.get(api.getId());
+        if (segment == null) {
+            return null;
+        }
+        Entry entry = segment.get(key);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            ExecuteApiResponseDTO response = cacheMapper.readValue(entry.response, ExecuteApiResponseDTO.class);
+            if (entry.encoded) {
+                // The stored bytes are the client encoding; a hit is written without re-serializing
+                response.setEncodedBody(entry.response);
+            }
+            response.setEtag(entry.etag);
+            String raw = entry.rawResponse != null ? new String(entry.rawResponse, StandardCharsets.UTF_8) : null;
+            return new CachedResponse(response, raw);
+        } catch (Exception e) {
+            log.warn("Discarding unreadable cache entry for API {}: {}", api.getId(), e.getMessage());
+            segment.remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * ETag of a live entry, without decoding it or counting a lookup; null when there is none.
+     * An entry cached without one gets it from the bytes the client receives, then keeps it.
+     */
+    public String peekEtag(GeneratedApiEntity api, String key) {
+        Segment segment = segments.get(api.getId());
+        if (segment == null) {
+            return null;
+        }
+        Entry entry = segment.peek(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.etag == null) {
+            byte[] sentBody = entry.encoded ? entry.response : entry.rawResponse;
+            if (sentBody != null) {
+                entry.etag = conditionalRequestService.etagOf(sentBody);
+            }
+        }
+        return entry.etag;
+    }
+
+    public void put(GeneratedApiEntity api, String key, ExecuteApiResponseDTO response, String rawResponseBody) {
+        boolean encoded = response.getEncodedBody() != null;
+        byte[] responseBytes = response.getEncodedBody();
+        if (!encoded) {
+            try {
+                responseBytes = cacheMapper.writeValueAsBytes(response);
+            } catch (Exception e) {
+                log.debug("Response for API {} is not cacheable: {}", api.getId(), e.getMessage());
+                return;
+            }
+        }
+        // An encoded response doubles as the raw body, so it is not stored twice
+        byte[] rawBytes = !encoded && rawResponseBody != null ? rawResponseBody.getBytes(StandardCharsets.UTF_8) : null;
+        long size = responseBytes.length + (rawBytes != null ? rawBytes.length : 0) + key.length();
+
+        ApiSettingsEntity settings = api.getSettings();
+        int maxEntries = settings.getCacheMaxEntries() != null && settings.getCacheMaxEntries() > 0
+                ? settings.getCacheMaxEntries() : defaultMaxEntries;
+        long maxBytes = settings.getCacheMaxBytes() != null && settings.getCacheMaxBytes() > 0
+                ? settings.getCacheMaxBytes() : defaultMaxBytes;
+
+        if (size > maxEntryBytes || size > maxBytes) {
+            log.debug("Response for API {} is {} bytes, too large to cache", api.getId(), size);
+            return;
+        }
+
+        Segment segment = segments.compute(api.getId(), (id, existing) -> {
+            if (existing != null && existing.maxEntries == maxEntries && existing.maxBytes == maxBytes) {
+                return existing;
+            }
+            if (existing != null) {
+                existing.clear();
+            }
+            return new Segment(id, maxEntries, maxBytes);
+        });
+
+        long expiresAt = System.currentTimeMillis() + settings.getCacheTtl() * 1000L;
+        segment.put(key, new Entry(responseBytes, rawBytes, encoded, response.getEtag(), size, expiresAt));
+
+        String tableKey = tableKey(api);
+        if (tableKey != null) {
+            tableDependents.computeIfAbsent(tableKey, k -> ConcurrentHashMap.newKeySet()).add(api.getId());
+        }
+    }
+
+    // ==================== INVALIDATION ====================
+
+    /**
+     * Purge cached responses of every API reading the table a write API just modified
+     */
+    public void invalidateForWrite(GeneratedApiEntity writeApi) {
+        String tableKey = tableKey(writeApi);
+        if (tableKey == null) {
+            return;
+        }
+        Set<String> dependents = tableDependents.remove(tableKey);
+        if (dependents == null || dependents.isEmpty()) {
+            return;
+        }
+        for (String apiId : dependents) {
+            evictApi(apiId);
+        }
+        invalidations.incrementAndGet();
+        log.debug("Write to {} by API {} purged cached responses of {} API(s)", tableKey, writeApi.getId(), dependents.size());
+    }
+
+    /**
+     * Purge one API's cached responses; returns the number of entries removed
+     */
+    public int evictApi(String apiId) {
+        Segment segment = segments.remove(apiId);
+        return segment != null ? segment.clear() : 0;
+    }
+
+    /**
+     * Purge everything; returns the number of entries removed
+     */
+    public int evictAll() {
+        int removed = 0;
+        for (String apiId : new ArrayList<>(segments.keySet())) {
+            removed += evictApi(apiId);
+        }
+        tableDependents.clear();
+        return removed;
+    }
+
+    // ==================== STATS ====================
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", responseCacheEnabled);
+        stats.put("totalBytes", totalBytes.get());
+        stats.put("maxTotalBytes", maxTotalBytes);
+        stats.put("tableInvalidations", invalidations.get());
+
+        Map<String, Object> apis = new TreeMap<>();
+        segments.forEach((apiId, segment) -> apis.put(apiId, segment.toStats()));
+        stats.put("apis", apis);
+        return stats;
+    }
+
+    public Map<String, Object> getApiStats(String apiId) {
+        Segment segment = segments.get(apiId);
+        Map<String, Object> stats = segment != null ? segment.toStats() : new LinkedHashMap<>();
+        stats.put("apiId", apiId);
+        return stats;
+    }
+
+    // ==================== HELPERS ====================
+
+    private String tableKey(GeneratedApiEntity api) {
+        ApiSchemaConfigEntity schemaConfig = api.getSchemaConfig();
+        if (schemaConfig == null || schemaConfig.getObjectName() == null
+                || !"TABLE".equalsIgnoreCase(schemaConfig.getObjectType())) {
+            return null;
+        }
+        String target = api.getDataSourceTargetId() != null ? api.getDataSourceTargetId()
+                : (api.getDatabaseType() != null ? api.getDatabaseType().toLowerCase() : "oracle");
+        String schema = schemaConfig.getSchemaName() != null ? schemaConfig.getSchemaName().toUpperCase() + "." : "";
+        return target + ":" + schema + schemaConfig.getObjectName().toUpperCase();
+    }
+
+    private static Map<String, Object> sorted(Map<?, ?> map) {
+        if (map == null) {
+            return null;
+        }
+        Map<String, Object> sorted = new TreeMap<>();
+        map.forEach((k, v) -> sorted.put(String.valueOf(k), v instanceof Map ? sorted((Map<?, ?>) v) : v));
+        return sorted;
+    }
+
+    private static class Entry {
+        final byte[] response;
+        final byte[] rawResponse;
+        final boolean encoded;
+        // Filled lazily for entries cached before the API enabled ETags
+        volatile String etag;
+        final long size;
+        final long expiresAt;
+
+        Entry(byte[] response, byte[] rawResponse, boolean encoded, String etag, long size, long expiresAt) {
+            this.response = response;
+            this.rawResponse = rawResponse;
+            this.encoded = encoded;
+            this.etag = etag;
+            this.size = size;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Per-API LRU bounded by entry count and bytes
+     */
+    private class Segment {
+        final String apiId;
+        final int maxEntries;
+        final long maxBytes;
+        final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        long bytes;
+        boolean retired;
+        long hits;
+        long misses;
+        long evictions;
+
+        Segment(String apiId, int maxEntries, long maxBytes) {
+            this.apiId = apiId;
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized Entry get(String key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            if (entry.expiresAt <= System.currentTimeMillis()) {
+                removeEntry(key);
+                misses++;
+                return null;
+            }
+            hits++;
+            return entry;
+        }
+
+        synchronized Entry peek(String key) {
+            Entry entry = entries.get(key);
+            return entry != null && entry.expiresAt > System.currentTimeMillis() ? entry : null;
+        }
+
+        synchronized void put(String key, Entry entry) {
+            if (retired) {
+                return;
+            }
+            removeEntry(key);
+
+            // Global budget: make room by evicting this API's own least recently used entries
+            while (!entries.isEmpty() && totalBytes.get() + entry.size > maxTotalBytes) {
+                evictEldest();
+            }
+            if (totalBytes.get() + entry.size > maxTotalBytes) {
+                log.debug("Response cache is at its global limit, not caching response for API {}", apiId);
+                return;
+            }
+
+            entries.put(key, entry);
+            bytes += entry.size;
+            totalBytes.addAndGet(entry.size);
+
+            while (entries.size() > maxEntries || bytes > maxBytes) {
+                evictEldest();
+            }
+        }
+
+        synchronized void remove(String key) {
+            removeEntry(key);
+        }
+
+        synchronized int clear() {
+            int removed = entries.size();
+            retired = true;
+            totalBytes.addAndGet(-bytes);
+            entries.clear();
+            bytes = 0;
+            return removed;
+        }
+
+        private void evictEldest() {
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            if (iterator.hasNext()) {
+                Entry eldest = iterator.next().getValue();
+                iterator.remove();
+                bytes -= eldest.size;
+                totalBytes.addAndGet(-eldest.size);
+                evictions++;
+            }
+        }
+
+        private void removeEntry(String key) {
+            Entry removed = entries.remove(key);
+            if (removed != null) {
+                bytes -= removed.size;
+                totalBytes.addAndGet(-removed.size);
+            }
+        }
+
+        synchronized Map<String, Object> toStats() {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("entries", entries.size());
+            stats.put("bytes", bytes);
+            stats.put("maxEntries", maxEntries);
+            stats.put("maxBytes", maxBytes);
+            stats.put("hits", hits);
+            stats.put("misses", misses);
+            stats.put("evictions", evictions);
+            long lookups = hits + misses;
+            stats.put("hitRatePercent", lookups > 0 ? Math.round(hits * 1000.0 / lookups) / 10.0 : 0.0);
+            return stats;
+        }
+    }
+}
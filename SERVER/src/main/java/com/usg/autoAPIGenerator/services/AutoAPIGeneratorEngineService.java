@@ -1,5 +1,7 @@
 package com.usg.autoAPIGenerator.services;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.*;
 import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.*;
@@ -23,6 +25,9 @@ import com.usg.autoAPIGenerator.repositories.collections.ParameterRepository;
 import com.usg.autoAPIGenerator.repositories.documentation.*;
 import com.usg.autoAPIGenerator.helpers.apiEngine.*;
 import com.usg.autoAPIGenerator.interfaces.DatabaseSchemaService;
+import com.usg.autoAPIGenerator.exceptions.ApiBulkheadFullException;
+import com.usg.autoAPIGenerator.exceptions.ApiCircuitOpenException;
+import com.usg.autoAPIGenerator.exceptions.PersistedQueryNotFoundException;
 import com.usg.autoAPIGenerator.services.schemaBrowser.OracleSchemaService;
 import com.usg.autoAPIGenerator.services.schemaBrowser.PostgreSQLSchemaService;
 import com.usg.autoAPIGenerator.utils.apiEngine.*;
@@ -42,17 +47,23 @@ import com.usg.autoAPIGenerator.utils.apiEngine.OracleParameterValidatorUtil;
 import com.usg.autoAPIGenerator.utils.apiEngine.OracleTypeMapperUtil;
 import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.regex.Matcher;
@@ -132,6 +143,20 @@ public class AutoAPIGeneratorEngineService {
 
     // ==================== API REQUEST LOGGING ====================
     private final ApiRequestService apiRequestService;
+    private final ApiQueryCostGuardService queryCostGuardService;
+    private final BulkPayloadReaderUtil bulkPayloadReaderUtil;
+    private final ApiDataSourceRegistryService dataSourceRegistryService;
+    private final ApiBulkheadService bulkheadService;
+    private final ApiCircuitBreakerService circuitBreakerService;
+    private final ApiReadReplicaService readReplicaService;
+    private final ApiResponseCacheService responseCacheService;
+    private final ApiRequestCoalescingService requestCoalescingService;
+    private final ApiEndpointRouterService endpointRouterService;
+    private final LobStreamingUtil lobStreamingUtil;
+    private final SoapMessageUtil soapMessageUtil;
+    private final ApiGraphQLService graphQLService;
+    private final ApiConditionalRequestService conditionalRequestService;
+    private final ApiGenerationJobService generationJobService;
 
     // ==================== EXTERNAL DEPENDENCIES ====================
     private final ObjectMapper objectMapper;
@@ -140,13 +165,35 @@ public class AutoAPIGeneratorEngineService {
     private final OracleSchemaService oracleSchemaService;
     private final PostgreSQLSchemaService postgreSQLSchemaService;
     private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
 
     private final IPWhitelistEntryRepository ipWhitelistRepository;
 
+    // Column names accepted for LOB downloads (they are interpolated into the SELECT)
+    private static final Pattern SQL_IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$#]*");
+
     @Autowired
     @Qualifier("oracleJdbcTemplate")
     private JdbcTemplate oracleJdbcTemplate;
 
+    @Value("${api.bulk.default-chunk-size:1000}")
+    private int bulkDefaultChunkSize;
+
+    @Value("${api.bulk.max-chunk-size:10000}")
+    private int bulkMaxChunkSize;
+
+    @Value("${api.batch.procedure.default-chunk-size:100}")
+    private int procedureBatchDefaultChunkSize;
+
+    @Value("${api.batch.procedure.max-chunk-size:500}")
+    private int procedureBatchMaxChunkSize;
+
+    @Value("${api.batch.procedure.max-items:10000}")
+    private int procedureBatchMaxItems;
+
+    @Value("${api.capture.max-response-body-bytes:0}")
+    private int captureMaxResponseBodyBytes;
+
     // ==================== PUBLIC API METHODS ====================
 
     @Transactional
@@ -204,10 +251,37 @@ public class AutoAPIGeneratorEngineService {
                 savedApi.setFileUploadConfig(request.getFileUploadConfig());
             }
 
+            // Explain the generated SQL and keep it out of ACTIVE if its plan cost is enforced and exceeded
+            queryCostGuardService.applyCostGuard(savedApi);
+
             savedApi = generatedAPIRepository.save(savedApi);
             // ============ END CORRECTION ============
 
             GenUrlBuilderUtil.GenUrlInfo genUrlInfo = genUrlBuilder.buildGenUrlInfo(savedApi);
+
+            // Artifacts are produced by a generation job once this transaction has committed the API
+            if (generationJobService.isAsyncEnabled()) {
+                endpointRouterService.register(savedApi);
+                ApiGenerationJobService.GenerationJob job = generationJobService.submit(
+                        savedApi.getId(), "GENERATE", performedBy,
+                        buildGenerateStages(savedApi.getId(), performedBy, request, collectionInfo));
+
+                GeneratedApiResponseDTO response = responseHelper.buildGenerateApiResponse(
+                        savedApi, genUrlInfo, null, null, null,
+                        collectionInfo, genUrlBuilder, conversionHelper,
+                        (api) -> null);
+                response.getMetadata().put("generationJobId", job.getJobId());
+                response.getMetadata().put("generationState", job.getState());
+
+                loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
+                        ", API generated with ID: " + savedApi.getId() +
+                        ", Database: " + databaseType +
+                        " in " + (System.currentTimeMillis() - startTime) + "ms" +
+                        ", artifacts pending in generation job: " + job.getJobId());
+
+                return response;
+            }
+
             String codeBaseRequestId = codeBaseGeneratorUtil.generate(savedApi, performedBy, request, collectionInfo);
 
             Map<String, String> collectionResult = collectionsGeneratorUtil.generateWithDetails(
@@ -217,6 +291,7 @@ public class AutoAPIGeneratorEngineService {
 
             savedApi.setSourceRequestId(collectionsRequestId);
             generatedAPIRepository.save(savedApi);
+            endpointRouterService.register(savedApi);
 
             String docCollectionId = documentationGeneratorUtil.generate(savedApi, performedBy, request,
                     codeBaseRequestId, collectionId, collectionInfo);
@@ -382,6 +457,10 @@ public class AutoAPIGeneratorEngineService {
     public GeneratedApiResponseDTO updateApi(String requestId, String apiId, String performedBy,
                                              GenerateApiRequestDTO request) {
         try {
+            // Settings, parameters or the source may change what a cached response would contain
+            responseCacheService.evictApi(apiId);
+            graphQLService.evictApi(apiId);
+
             loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
                     ", Updating API: " + apiId + " by: " + performedBy);
 
@@ -505,8 +584,33 @@ public class AutoAPIGeneratorEngineService {
             }
             // ============ END UPDATE ============
 
+            // Re-explain the updated SQL and keep it out of ACTIVE if its plan cost is enforced and exceeded
+            queryCostGuardService.applyCostGuard(api);
+
             GeneratedApiEntity savedApi = generatedAPIRepository.save(api);
             entityManager.flush();
+            endpointRouterService.register(savedApi);
+
+            // Artifacts are updated by a generation job once this transaction has committed the API
+            if (generationJobService.isAsyncEnabled() && !shouldRegenerateComponents(request)) {
+                ApiGenerationJobService.GenerationJob job = generationJobService.submit(
+                        savedApi.getId(), "UPDATE", performedBy,
+                        buildUpdateStages(savedApi.getId(), performedBy, request, collectionInfo));
+
+                GeneratedApiResponseDTO response = conversionHelper.mapToResponse(savedApi);
+                Map<String, Object> metadata = response.getMetadata() != null
+                        ? new HashMap<>(response.getMetadata()) : new HashMap<>();
+                metadata.put("generationJobId", job.getJobId());
+                metadata.put("generationState", job.getState());
+                response.setMetadata(metadata);
+
+                loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
+                        ", API updated: " + savedApi.getId() +
+                        " on database: " + databaseType +
+                        ", artifacts pending in generation job: " + job.getJobId());
+
+                return response;
+            }
 
             componentHelper.updateComponents(
                     savedApi, performedBy, request, collectionInfo,
@@ -812,7 +916,7 @@ public class AutoAPIGeneratorEngineService {
             // CRITICAL: Update the API with the new collections request ID
             if (collectionsRequestId != null) {
                 api.setSourceRequestId(collectionsRequestId);
-                generatedAPIRepository.save(api);
+                generatedAPIRepository.updateSourceRequestId(api.getId(), collectionsRequestId);
                 log.info("Generated new collections request with ID: {} and updated API", collectionsRequestId);
             } else {
                 log.error("Failed to generate new collections request - requestId is null");
@@ -1380,133 +1484,47 @@ public class AutoAPIGeneratorEngineService {
     }
 
 
-    /**
-     * Extract parameters from GraphQL request body
-     * Supports both standard variables field AND inline parameters
-     */
-    private Map<String, Object> extractGraphQLVariables(Map<String, Object> bodyMap) {
-        Map<String, Object> extractedParams = new HashMap<>();
-
-        if (bodyMap == null) {
-            return extractedParams;
-        }
-
-        // PRIORITY 1: Check for standard variables field
-        if (bodyMap.containsKey("variables") && bodyMap.get("variables") instanceof Map) {
-            Map<String, Object> variables = (Map<String, Object>) bodyMap.get("variables");
-            extractedParams.putAll(variables);
-            log.info("Extracted GraphQL variables from 'variables' field: {}", variables.keySet());
-            return extractedParams; // Standard format, no need to parse query
-        }
-
-        // PRIORITY 2: Check for inline parameters in query (for backward compatibility)
-        if (bodyMap.containsKey("query") && bodyMap.get("query") instanceof String) {
-            String query = (String) bodyMap.get("query");
-            Map<String, Object> inlineParams = extractInlineGraphQLParameters(query);
-            if (!inlineParams.isEmpty()) {
-                extractedParams.putAll(inlineParams);
-                log.info("Extracted inline GraphQL parameters from query string: {}", inlineParams.keySet());
-            }
-        }
-
-        return extractedParams;
-    }
-
-    /**
-     * Extract inline parameters from GraphQL query string (backward compatibility)
-     * Example: query { getUser(id: "123", name: "John") { ... } }
-     */
-    private Map<String, Object> extractInlineGraphQLParameters(String query) {
-        Map<String, Object> parameters = new HashMap<>();
-
-        if (query == null || query.trim().isEmpty()) {
-            return parameters;
-        }
-
-        try {
-            // Pattern to match field with parameters: getTbsysuserss(user_id: "value", total_logins: "value")
-            Pattern pattern = Pattern.compile(
-                    "(\\w+)\\s*\\(([^)]+)\\)\\s*\\{",
-                    Pattern.CASE_INSENSITIVE
-            );
-
-            Matcher matcher = pattern.matcher(query);
-
-            while (matcher.find()) {
-                String paramsSection = matcher.group(2);
-                if (paramsSection != null && !paramsSection.trim().isEmpty()) {
-                    Map<String, Object> extracted = parseParameterString(paramsSection);
-                    parameters.putAll(extracted);
-                }
-            }
-
-            log.debug("Extracted {} inline parameters from query", parameters.size());
-
-        } catch (Exception e) {
-            log.error("Error extracting inline GraphQL parameters: {}", e.getMessage(), e);
-        }
-
-        return parameters;
-    }
-
-    /**
-     * Parse a parameter string like: user_id: "value", total_logins: "value"
-     */
-    private Map<String, Object> parseParameterString(String paramsSection) {
-        Map<String, Object> parameters = new HashMap<>();
-
-        // Pattern for parameter: name: value
-        Pattern paramPattern = Pattern.compile(
-                "(\\w+)\\s*:\\s*(?:" +
-                        "\"([^\"]*)\"|" +      // Double-quoted string
-                        "'([^']*)'|" +         // Single-quoted string
-                        "(\\d+(?:\\.\\d+)?)|" + // Number
-                        "(true|false)|" +      // Boolean
-                        "null|" +              // Null
-                        "\\$\\w+)"              // Variable reference (skip)
-        );
-
-        Matcher matcher = paramPattern.matcher(paramsSection);
-
-        while (matcher.find()) {
-            String paramName = matcher.group(1);
-            Object paramValue = null;
-
-            if (matcher.group(2) != null) {
-                paramValue = matcher.group(2); // Double-quoted string
-            } else if (matcher.group(3) != null) {
-                paramValue = matcher.group(3); // Single-quoted string
-            } else if (matcher.group(4) != null) {
-                String numStr = matcher.group(4);
-                if (numStr.contains(".")) {
-                    paramValue = Double.parseDouble(numStr);
-                } else {
-                    paramValue = Long.parseLong(numStr);
-                }
-            } else if (matcher.group(5) != null) {
-                paramValue = Boolean.parseBoolean(matcher.group(5));
-            }
-
-            if (paramValue != null) {
-                parameters.put(paramName, paramValue);
-                log.debug("Extracted parameter: {} = {}", paramName, paramValue);
-            }
-        }
-
-        return parameters;
-    }
-
-
     /**
      * Execute API based on the database type stored in the API entity
      * Supports multiple database types: Oracle, PostgreSQL, etc.
      * NOW WITH PROPER PROTOCOL-BASED RESPONSE FORMATTING FOR ERRORS
+     *
+     * Bulkhead permits are reserved before the execution transaction opens, so a request queued
+     * behind a full bulkhead does not hold a JPA connection while it waits. A rejected reservation
+     * surfaces inside the execution as the usual 503. APIs that can be answered from the response
+     * cache or with a 304 are not reserved here: their permits are taken at the database call, once
+     * the cache step has decided one is needed, so cache hits never queue or hold a permit.
      */
-    @Transactional
     public ExecuteApiResponseDTO executeApi(String requestId, String performedBy,
                                             String apiId, ExecuteApiRequestDTO executeRequest,
                                             String clientIp, String userAgent,
                                             HttpServletRequest httpServletRequest) {
+        TransactionTemplate readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        GeneratedApiEntity bulkheadApi = readTransaction.execute(status -> {
+            GeneratedApiEntity api = generatedAPIRepository.findById(apiId).orElse(null);
+            if (api != null) {
+                // The bulkhead and the cache checks below read these after this transaction ends
+                Hibernate.initialize(api.getSettings());
+                Hibernate.initialize(api.getResponseConfig());
+            }
+            return api;
+        });
+
+        boolean answerableFromCache = bulkheadApi != null && (responseCacheService.isCachingEnabled(bulkheadApi)
+                || conditionalRequestService.isEnabled(bulkheadApi, httpServletRequest != null ? httpServletRequest.getMethod() : null));
+        try (ApiBulkheadService.Permit ignored = answerableFromCache
+                ? () -> { }
+                : bulkheadService.reserve(bulkheadApi)) {
+            return new TransactionTemplate(transactionManager).execute(status -> executeApiInTransaction(
+                    requestId, performedBy, apiId, executeRequest, clientIp, userAgent, httpServletRequest));
+        }
+    }
+
+    private ExecuteApiResponseDTO executeApiInTransaction(String requestId, String performedBy,
+                                                          String apiId, ExecuteApiRequestDTO executeRequest,
+                                                          String clientIp, String userAgent,
+                                                          HttpServletRequest httpServletRequest) {
 
         long startTime = System.currentTimeMillis();
         String capturedRequestId = null;
@@ -1850,11 +1868,66 @@ public class AutoAPIGeneratorEngineService {
             // 14. Create consolidated params
             Map<String, Object> consolidatedParams = createConsolidatedParamsWithHeaders(validatedRequest, api);
 
+            ApiGraphQLService.ExecutionPlan graphQLPlan = null;
             if ("graphql".equalsIgnoreCase(protocolType)) {
-                // Get the extracted GraphQL variables
+                // Parse and validate the GraphQL document; its arguments become the API's parameters
                 if (validatedRequest.getBody() instanceof Map) {
                     Map<String, Object> bodyMap = (Map<String, Object>) validatedRequest.getBody();
-                    Map<String, Object> graphqlVars = extractGraphQLVariables(bodyMap);
+                    try {
+                        graphQLPlan = graphQLService.prepare(api, bodyMap);
+                    } catch (PersistedQueryNotFoundException e) {
+                        // Apollo clients expect 200 with this message, then retry with the full query
+                        Map<String, Object> errorMap = new HashMap<>();
+                        errorMap.put("code", "PERSISTED_QUERY_NOT_FOUND");
+                        errorMap.put("technicalMessage", "No document is registered for hash " + e.getSha256Hash());
+                        errorMap.put("apiId", apiId);
+                        errorMap.put("timestamp", LocalDateTime.now().toString());
+
+                        finalResponse = buildProtocolSpecificErrorResponse(protocolType, 200, e.getMessage(), errorMap, api);
+                        rawResponseBody = getRawErrorResponseBody(finalResponse, protocolType);
+
+                        if (capturedRequestId != null) {
+                            try {
+                                apiRequestService.updateRequestWithRawResponse(
+                                        requestId, capturedRequestId, 200,
+                                        e.getMessage(), System.currentTimeMillis() - startTime, rawResponseBody);
+                            } catch (Exception ex) {
+                                log.error("Failed to update captured request with error: {}", ex.getMessage());
+                            }
+                        }
+
+                        executionHelper.logExecution(executionLogRepository, api, validatedRequest,
+                                null, 200, System.currentTimeMillis() - startTime,
+                                performedBy, actualClientIp, userAgent, e.getMessage(), objectMapper);
+
+                        return finalResponse;
+                    } catch (jakarta.validation.ValidationException e) {
+                        Map<String, Object> errorMap = new HashMap<>();
+                        errorMap.put("code", "GRAPHQL_VALIDATION_FAILED");
+                        errorMap.put("technicalMessage", e.getMessage());
+                        errorMap.put("apiId", apiId);
+                        errorMap.put("timestamp", LocalDateTime.now().toString());
+
+                        finalResponse = buildProtocolSpecificErrorResponse(protocolType, 400, e.getMessage(), errorMap, api);
+                        rawResponseBody = getRawErrorResponseBody(finalResponse, protocolType);
+
+                        if (capturedRequestId != null) {
+                            try {
+                                apiRequestService.updateRequestWithRawResponse(
+                                        requestId, capturedRequestId, 400,
+                                        e.getMessage(), System.currentTimeMillis() - startTime, rawResponseBody);
+                            } catch (Exception ex) {
+                                log.error("Failed to update captured request with error: {}", ex.getMessage());
+                            }
+                        }
+
+                        executionHelper.logExecution(executionLogRepository, api, validatedRequest,
+                                null, 400, System.currentTimeMillis() - startTime,
+                                performedBy, actualClientIp, userAgent, e.getMessage(), objectMapper);
+
+                        return finalResponse;
+                    }
+                    Map<String, Object> graphqlVars = graphQLPlan != null ? graphQLPlan.getArguments() : new HashMap<>();
 
                     if (!graphqlVars.isEmpty()) {
                         // IMPORTANT: Add extracted variables to the request body
@@ -1886,6 +1959,15 @@ public class AutoAPIGeneratorEngineService {
 
                         log.info("Added GraphQL variables to request body: {}", graphqlVars.keySet());
                     }
+
+                    // Push the selection set down into the SELECT list
+                    if (graphQLPlan != null && graphQLPlan.getProjection() != null) {
+                        if (validatedRequest.getQueryParams() == null) {
+                            validatedRequest.setQueryParams(new HashMap<>());
+                        }
+                        validatedRequest.getQueryParams().put("fields", graphQLPlan.getProjection());
+                        log.info("GraphQL selection pushed down to SQL: {}", graphQLPlan.getProjection());
+                    }
                 }
             }
 
@@ -1894,7 +1976,7 @@ public class AutoAPIGeneratorEngineService {
                 String rawBody = (String) validatedRequest.getBody();
                 if (rawBody.trim().startsWith("<")) {
                     log.info("XML body detected, parsing to extract parameters");
-                    Map<String, Object> xmlParams = parseXmlParameters(rawBody, api.getParameters());
+                    Map<String, Object> xmlParams = soapMessageUtil.extractParameters(rawBody, api.getParameters());
 
                     if (validatedRequest.getBody() == null) {
                         validatedRequest.setBody(new HashMap<>());
@@ -2039,6 +2121,105 @@ public class AutoAPIGeneratorEngineService {
             // 21. Convert parameters to DTOs for execution
             List<ApiParameterDTO> configuredParamDTOs = conversionHelper.convertParametersToDTOs(api.getParameters());
 
+            // 21a. Binary download mode: GET answers with the API's LOB column, streamed by the controller
+            if (isBinaryDownloadEnabled(api) && "rest".equalsIgnoreCase(protocolType)
+                    && ("GET".equalsIgnoreCase(validatedRequest.getHttpMethod())
+                    || "HEAD".equalsIgnoreCase(validatedRequest.getHttpMethod()))) {
+                try {
+                    LobDownloadDTO download = buildLobDownload(api, null, validatedRequest);
+                    return ExecuteApiResponseDTO.builder()
+                            .responseCode(200)
+                            .success(true)
+                            .message("Binary download")
+                            .contentType(download.getContentType())
+                            .protocolType(protocolType)
+                            .lobDownload(download)
+                            .build();
+                } catch (jakarta.validation.ValidationException e) {
+                    Map<String, Object> errorMap = new HashMap<>();
+                    errorMap.put("code", "LOB_VALIDATION_ERROR");
+                    errorMap.put("technicalMessage", e.getMessage());
+                    errorMap.put("apiId", apiId);
+                    errorMap.put("timestamp", LocalDateTime.now().toString());
+
+                    executionHelper.logExecution(executionLogRepository, api, validatedRequest,
+                            null, 400, System.currentTimeMillis() - startTime,
+                            performedBy, actualClientIp, userAgent, e.getMessage(), objectMapper);
+
+                    return buildProtocolSpecificErrorResponse(protocolType, 400, e.getMessage(), errorMap, api);
+                }
+            }
+
+            // 21b. Response cache (opt-in per API, idempotent reads only)
+            boolean readOnlyExecution = readReplicaService.isReadOnly(api, sourceObject);
+            // ETag / Last-Modified validators (opt-in per API through the response config)
+            boolean conditionalGet = readOnlyExecution
+                    && conditionalRequestService.isEnabled(api, validatedRequest.getHttpMethod());
+            String responseCacheKey = null;
+            if (readOnlyExecution && responseCacheService.isCachingEnabled(api)
+                    && (!"rest".equalsIgnoreCase(protocolType) || "GET".equalsIgnoreCase(validatedRequest.getHttpMethod()))) {
+                responseCacheKey = responseCacheService.buildKey(validatedRequest, configuredParamDTOs);
+
+                // A client already holding the cached response gets 304 before the entry is decoded
+                String cachedEtag = conditionalGet ? responseCacheService.peekEtag(api, responseCacheKey) : null;
+                if (cachedEtag != null) {
+                    ApiConditionalRequestService.Validator validator =
+                            conditionalRequestService.trackCached(apiId, responseCacheKey, cachedEtag);
+                    if (conditionalRequestService.isNotModified(validatedRequest.getHeaders(), validator)) {
+                        long notModifiedTime = System.currentTimeMillis() - startTime;
+                        log.info("API {} not modified since the client's copy, answering 304", apiId);
+
+                        if (capturedRequestId != null) {
+                            try {
+                                apiRequestService.updateRequestWithRawRequestAndResponse(
+                                        requestId, capturedRequestId, rawRequestBody,
+                                        "", 304, "Not Modified", notModifiedTime);
+                            } catch (Exception e) {
+                                log.error("Failed to update captured request with raw data: {}", e.getMessage(), e);
+                            }
+                        }
+
+                        executionHelper.updateApiStats(api, generatedAPIRepository);
+                        executionHelper.logExecution(executionLogRepository, api, validatedRequest,
+                                null, 304, notModifiedTime, performedBy,
+                                actualClientIp, userAgent, null, objectMapper);
+
+                        return buildNotModifiedResponse(protocolType, validator);
+                    }
+                }
+
+                ApiResponseCacheService.CachedResponse cached = responseCacheService.get(api, responseCacheKey);
+                if (cached != null) {
+                    long cachedExecutionTime = System.currentTimeMillis() - startTime;
+                    log.info("Serving API {} from response cache", apiId);
+
+                    if (conditionalGet && cached.getResponse().getEtag() != null) {
+                        cached.getResponse().setLastModified(conditionalRequestService
+                                .trackCached(apiId, responseCacheKey, cached.getResponse().getEtag()).getLastModified());
+                    }
+
+                    if (capturedRequestId != null) {
+                        try {
+                            String cachedRawBody = cached.getResponse().getEncodedBody() != null
+                                    ? rawBodyForCapture(cached.getResponse().getEncodedBody())
+                                    : cached.getRawResponseBody();
+                            apiRequestService.updateRequestWithRawRequestAndResponse(
+                                    requestId, capturedRequestId, rawRequestBody,
+                                    cachedRawBody, 200, "Success", cachedExecutionTime);
+                        } catch (Exception e) {
+                            log.error("Failed to update captured request with raw data: {}", e.getMessage(), e);
+                        }
+                    }
+
+                    executionHelper.updateApiStats(api, generatedAPIRepository);
+                    executionHelper.logExecution(executionLogRepository, api, validatedRequest,
+                            cached.getResponse().getData(), 200, cachedExecutionTime, performedBy,
+                            actualClientIp, userAgent, null, objectMapper);
+
+                    return cached.getResponse();
+                }
+            }
+
             // 22. Execute against the appropriate database
             Object result;
             long executionTime;
@@ -2046,7 +2227,27 @@ public class AutoAPIGeneratorEngineService {
             try {
                 log.info("Executing against database: {}", databaseType);
 
-                result = executionHelper.executeAgainstDatabase(api, sourceObject, validatedRequest, configuredParamDTOs);
+                // Open circuits fail fast; the bulkhead permits reserved before the transaction are
+                // picked up here (a rejected reservation throws), or acquired here for APIs that skipped
+                // the reservation for the cache, and released when the execution ends
+                ApiCircuitBreakerService.GuardedExecution<Object> databaseCall = () -> circuitBreakerService.execute(api, () -> {
+                    try (ApiBulkheadService.Permit permit = bulkheadService.acquire(api);
+                         ApiDataSourceContextHolder.Scope ignored = dataSourceRegistryService.bindTarget(api, sourceObject)) {
+                        // LOB locators are resolved (inlined or turned into _lob links) before the connection goes back
+                        return lobStreamingUtil.inlineOrLinkLobs(api,
+                                executionHelper.executeAgainstDatabase(api, sourceObject, validatedRequest, configuredParamDTOs));
+                    }
+                });
+
+                // Identical concurrent reads share one in-flight database call (opt-in per API)
+                if (readOnlyExecution && isRequestCoalescingEnabled(api)) {
+                    String coalescingKey = apiId + ":" + (responseCacheKey != null
+                            ? responseCacheKey
+                            : responseCacheService.buildKey(validatedRequest, configuredParamDTOs));
+                    result = requestCoalescingService.execute(coalescingKey, databaseCall);
+                } else {
+                    result = databaseCall.execute();
+                }
 
                 executionTime = System.currentTimeMillis() - startTime;
 
@@ -2054,7 +2255,7 @@ public class AutoAPIGeneratorEngineService {
 
                 if ("soap".equalsIgnoreCase(protocolType)) {
                     // Build raw SOAP XML response
-                    rawResponseBody = buildRawSoapResponse(result, api);
+                    rawResponseBody = soapMessageUtil.buildResponse(result, api);
 
                     finalResponse = ExecuteApiResponseDTO.builder()
                             .responseCode(200)
@@ -2069,7 +2270,7 @@ public class AutoAPIGeneratorEngineService {
 
                 } else if ("graphql".equalsIgnoreCase(protocolType)) {
                     // Build raw GraphQL JSON response
-                    rawResponseBody = buildRawGraphQLResponse(result, api);
+                    rawResponseBody = buildRawGraphQLResponse(result, api, graphQLPlan);
 
                     finalResponse = ExecuteApiResponseDTO.builder()
                             .responseCode(200)
@@ -2110,8 +2311,6 @@ public class AutoAPIGeneratorEngineService {
                     // They will be included in the formattedData
                 }
 
-                rawResponseBody = buildRawRestResponse(result, api, 200, responseMessage);
-
                 Object formattedData = responseHelper.formatResponse(api, responseData);
                 finalResponse = ExecuteApiResponseDTO.builder()
                         .responseCode(200)
@@ -2122,8 +2321,60 @@ public class AutoAPIGeneratorEngineService {
                         .protocolType(protocolType)
                         .build();
 
-                log.info("REST API - captured raw JSON response ({} chars)", rawResponseBody.length());
-            }
+                // Format and encode once: the same bytes go to the client, the capture and the cache
+                byte[] encodedBody = encodeResponseBody(finalResponse);
+                if (encodedBody != null) {
+                    finalResponse.setEncodedBody(encodedBody);
+                    rawResponseBody = rawBodyForCapture(encodedBody);
+                } else {
+                    rawResponseBody = buildRawRestResponse(result, api, 200, responseMessage);
+                }
+
+                log.info("REST API - captured raw JSON response ({} bytes)",
+                        encodedBody != null ? encodedBody.length : rawResponseBody.length());
+            }
+
+                // Strong ETag over the exact bytes the client receives; kept with the cached response
+                ApiConditionalRequestService.Validator validator = null;
+                if (conditionalGet) {
+                    byte[] sentBody = finalResponse.getEncodedBody() != null
+                            ? finalResponse.getEncodedBody()
+                            : rawResponseBody.getBytes(StandardCharsets.UTF_8);
+                    String conditionalKey = responseCacheKey != null
+                            ? responseCacheKey
+                            : responseCacheService.buildKey(validatedRequest, configuredParamDTOs);
+                    validator = conditionalRequestService.track(apiId, conditionalKey,
+                            conditionalRequestService.etagOf(sentBody));
+                    finalResponse.setEtag(validator.getEtag());
+                    finalResponse.setLastModified(validator.getLastModified());
+                }
+
+                // Keep the response for identical reads, or drop cached reads of the table this API writes
+                if (responseCacheKey != null) {
+                    responseCacheService.put(api, responseCacheKey, finalResponse, rawResponseBody);
+                } else if (!readOnlyExecution) {
+                    responseCacheService.invalidateForWrite(api);
+                }
+
+                // The client's copy is still current: the validators go back without the body
+                if (validator != null && conditionalRequestService.isNotModified(validatedRequest.getHeaders(), validator)) {
+                    if (capturedRequestId != null) {
+                        try {
+                            apiRequestService.updateRequestWithRawRequestAndResponse(
+                                    requestId, capturedRequestId, rawRequestBody,
+                                    "", 304, "Not Modified", executionTime);
+                        } catch (Exception e) {
+                            log.error("Failed to update captured request with raw data: {}", e.getMessage(), e);
+                        }
+                    }
+
+                    executionHelper.updateApiStats(api, generatedAPIRepository);
+                    executionHelper.logExecution(executionLogRepository, api, validatedRequest,
+                            null, 304, executionTime, performedBy,
+                            actualClientIp, userAgent, null, objectMapper);
+
+                    return buildNotModifiedResponse(protocolType, validator);
+                }
 
                 // Update captured request with EXACT raw request and response bodies
                 if (capturedRequestId != null) {
@@ -2151,6 +2402,68 @@ public class AutoAPIGeneratorEngineService {
 
                 return finalResponse;
 
+            } catch (ApiCircuitOpenException e) {
+                executionTime = System.currentTimeMillis() - startTime;
+                String userFriendlyMessage = "The service is temporarily unavailable. Please try again shortly.";
+
+                Map<String, Object> errorMap = new HashMap<>();
+                errorMap.put("code", "CIRCUIT_OPEN");
+                errorMap.put("technicalMessage", e.getMessage());
+                errorMap.put("circuit", e.getCircuitName());
+                errorMap.put("retryAfterSeconds", e.getRetryAfterSeconds());
+                errorMap.put("apiId", apiId);
+                errorMap.put("timestamp", LocalDateTime.now().toString());
+
+                finalResponse = buildProtocolSpecificErrorResponse(protocolType, 503, userFriendlyMessage, errorMap, api);
+                rawResponseBody = getRawErrorResponseBody(finalResponse, protocolType);
+
+                if (capturedRequestId != null) {
+                    try {
+                        apiRequestService.updateRequestWithRawResponse(
+                                requestId, capturedRequestId, 503,
+                                userFriendlyMessage, executionTime, rawResponseBody);
+                    } catch (Exception ex) {
+                        log.error("Failed to update captured request with error: {}", ex.getMessage());
+                    }
+                }
+
+                executionHelper.logExecution(executionLogRepository, api, validatedRequest,
+                        null, 503, executionTime,
+                        performedBy, actualClientIp, userAgent, "Circuit open", objectMapper);
+
+                return finalResponse;
+
+            } catch (ApiBulkheadFullException e) {
+                executionTime = System.currentTimeMillis() - startTime;
+                String userFriendlyMessage = "The service is busy. Please try again shortly.";
+
+                Map<String, Object> errorMap = new HashMap<>();
+                errorMap.put("code", "CONCURRENCY_LIMIT_EXCEEDED");
+                errorMap.put("technicalMessage", e.getMessage());
+                errorMap.put("bulkhead", e.getBulkheadName());
+                errorMap.put("maxConcurrent", e.getMaxConcurrent());
+                errorMap.put("apiId", apiId);
+                errorMap.put("timestamp", LocalDateTime.now().toString());
+
+                finalResponse = buildProtocolSpecificErrorResponse(protocolType, 503, userFriendlyMessage, errorMap, api);
+                rawResponseBody = getRawErrorResponseBody(finalResponse, protocolType);
+
+                if (capturedRequestId != null) {
+                    try {
+                        apiRequestService.updateRequestWithRawResponse(
+                                requestId, capturedRequestId, 503,
+                                userFriendlyMessage, executionTime, rawResponseBody);
+                    } catch (Exception ex) {
+                        log.error("Failed to update captured request with error: {}", ex.getMessage());
+                    }
+                }
+
+                executionHelper.logExecution(executionLogRepository, api, validatedRequest,
+                        null, 503, executionTime,
+                        performedBy, actualClientIp, userAgent, "Concurrency limit exceeded", objectMapper);
+
+                return finalResponse;
+
             } catch (Exception e) {
                 executionTime = System.currentTimeMillis() - startTime;
                 log.error("Database execution failed for {}: ", databaseType, e);
@@ -2243,21 +2556,664 @@ public class AutoAPIGeneratorEngineService {
                 finalProtocolType = api.getProtocolType();
             }
 
-            finalResponse = buildProtocolSpecificErrorResponse(finalProtocolType, 500, userFriendlyMessage, errorMap, api);
-            rawResponseBody = getRawErrorResponseBody(finalResponse, finalProtocolType);
+            finalResponse = buildProtocolSpecificErrorResponse(finalProtocolType, 500, userFriendlyMessage, errorMap, api);
+            rawResponseBody = getRawErrorResponseBody(finalResponse, finalProtocolType);
+
+            if (capturedRequestId != null) {
+                try {
+                    apiRequestService.updateRequestWithRawResponse(
+                            requestId, capturedRequestId, 500,
+                            userFriendlyMessage, executionTime, rawResponseBody);
+                } catch (Exception updateError) {
+                    log.error("Failed to update captured request: {}", updateError.getMessage());
+                }
+            }
+
+            return finalResponse;
+        }
+    }
+
+    /**
+     * Execute a bulk INSERT / UPSERT against a generated table API.
+     * The body (JSON array, NDJSON or CSV) is streamed row by row into chunked
+     * JDBC batches; each chunk commits separately and is reported in the response.
+     * Goes through the same status, IP whitelist, authentication and authorization
+     * checks as a single execution, but is logged once for the whole load.
+     */
+    public ExecuteApiResponseDTO executeBulkLoad(String requestId, String performedBy, String apiId,
+                                                 ExecuteApiRequestDTO metadataRequest, String mode,
+                                                 String format, Integer chunkSize, List<String> conflictColumns,
+                                                 boolean stopOnError, String userAgent,
+                                                 HttpServletRequest httpServletRequest) {
+        long startTime = System.currentTimeMillis();
+
+        loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
+                ", Executing bulk load for API: " + apiId + " by: " + performedBy);
+
+        GeneratedApiEntity api = generatedAPIRepository.findById(apiId)
+                .orElseThrow(() -> new RuntimeException("API not found: " + apiId));
+
+        String databaseType = api.getDatabaseType() != null && !api.getDatabaseType().isEmpty()
+                ? api.getDatabaseType() : "oracle";
+        String protocolType = api.getProtocolType() != null && !api.getProtocolType().isEmpty()
+                ? api.getProtocolType() : "rest";
+        BaseApiExecutionHelper executionHelper = executionHelperFactory.getExecutionHelper(databaseType);
+        String actualClientIp = getClientIpAddress(httpServletRequest);
+
+        boolean upsert = "upsert".equalsIgnoreCase(mode);
+        int effectiveChunkSize = chunkSize != null && chunkSize > 0 ? Math.min(chunkSize, bulkMaxChunkSize) : bulkDefaultChunkSize;
+
+        // 1. Only table INSERT (and UPDATE for upsert) APIs support bulk mode
+        ApiSchemaConfigEntity schemaConfig = api.getSchemaConfig();
+        String objectType = schemaConfig != null && schemaConfig.getObjectType() != null
+                ? schemaConfig.getObjectType().toUpperCase() : "";
+        String operation = schemaConfig != null && schemaConfig.getOperation() != null
+                ? schemaConfig.getOperation().toUpperCase() : "";
+        boolean supported = "TABLE".equals(objectType)
+                && ("INSERT".equals(operation) || (upsert && "UPDATE".equals(operation)));
+        if (!supported) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 400,
+                    "Bulk mode is only available for table INSERT APIs (and UPDATE APIs in upsert mode).",
+                    "BULK_NOT_SUPPORTED", String.format("Object type '%s', operation '%s'", objectType, operation),
+                    startTime, performedBy, actualClientIp, userAgent);
+        }
+
+        // 2-5. Status, IP whitelist, authentication and authorization
+        ExecuteApiResponseDTO accessError = checkBulkAccess(api, metadataRequest, executionHelper, protocolType,
+                startTime, performedBy, actualClientIp, userAgent, httpServletRequest);
+        if (accessError != null) {
+            return accessError;
+        }
+
+        // 6. Stream the body into the table executor
+        String tableName = schemaConfig.getObjectName();
+        String schema = schemaConfig.getSchemaName();
+        List<ApiParameterDTO> configuredParamDTOs = conversionHelper.convertParametersToDTOs(api.getParameters());
+        String payloadFormat = bulkPayloadReaderUtil.resolveFormat(format, httpServletRequest.getContentType());
+
+        Map<String, Object> result;
+        try (ApiBulkheadService.Permit permit = bulkheadService.acquire(api);
+             ApiDataSourceContextHolder.Scope ignored = dataSourceRegistryService.bindTarget(api);
+             BulkPayloadReaderUtil.RowSource rows =
+                     bulkPayloadReaderUtil.open(httpServletRequest.getInputStream(), payloadFormat)) {
+
+            if ("postgresql".equalsIgnoreCase(databaseType)) {
+                result = postgreSQLTableExecutorUtil.executeBulkInsert(tableName, schema, rows, api,
+                        configuredParamDTOs, effectiveChunkSize, upsert, conflictColumns, stopOnError);
+            } else {
+                result = oracleTableExecutorUtil.executeBulkInsert(tableName, schema, rows, api,
+                        configuredParamDTOs, effectiveChunkSize, upsert, conflictColumns, stopOnError);
+            }
+        } catch (ApiBulkheadFullException e) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 503,
+                    "The service is busy. Please try again shortly.", "CONCURRENCY_LIMIT_EXCEEDED", e.getMessage(),
+                    startTime, performedBy, actualClientIp, userAgent);
+        } catch (jakarta.validation.ValidationException e) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 400,
+                    e.getMessage(), "BULK_VALIDATION_ERROR", e.getMessage(),
+                    startTime, performedBy, actualClientIp, userAgent);
+        } catch (Exception e) {
+            log.error("Bulk load failed for API {}: {}", apiId, e.getMessage(), e);
+            Map<String, Object> errorDetails = extractDatabaseErrorWithStatus(e, databaseType);
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType,
+                    (int) errorDetails.get("statusCode"), (String) errorDetails.get("message"),
+                    "BULK_EXECUTION_ERROR", (String) errorDetails.get("technicalMessage"),
+                    startTime, performedBy, actualClientIp, userAgent);
+        }
+
+        long executionTime = System.currentTimeMillis() - startTime;
+        result.put("executionTimeMs", executionTime);
+        result.put("format", payloadFormat);
+
+        long failedRows = ((Number) result.getOrDefault("failedRows", 0)).longValue();
+        long totalRows = ((Number) result.getOrDefault("totalRows", 0)).longValue();
+        // 207 when only some chunks committed, so clients know to inspect per-chunk results
+        int statusCode = failedRows == 0 ? 200 : (failedRows < totalRows ? 207 : 422);
+        if (failedRows < totalRows) {
+            responseCacheService.invalidateForWrite(api);
+        }
+
+        executionHelper.updateApiStats(api, generatedAPIRepository);
+        Map<String, Object> logSummary = new LinkedHashMap<>(result);
+        logSummary.remove("chunks");
+        executionHelper.logExecution(executionLogRepository, api, metadataRequest,
+                logSummary, statusCode, executionTime, performedBy, actualClientIp, userAgent,
+                failedRows == 0 ? null : failedRows + " of " + totalRows + " rows failed", objectMapper);
+
+        loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
+                ", Bulk load completed for API: " + apiId + " - rows: " + totalRows +
+                ", failed: " + failedRows + " - Time: " + executionTime + "ms");
+
+        return ExecuteApiResponseDTO.builder()
+                .responseCode(statusCode)
+                .success(failedRows == 0)
+                .message(String.valueOf(result.get("message")))
+                .data(result)
+                .contentType("application/json")
+                .protocolType(protocolType)
+                .build();
+    }
+
+    /**
+     * Ingest a CSV / NDJSON body into a generated PostgreSQL table API with COPY FROM STDIN.
+     * The whole load is one transaction: either every row is inserted or none is. When the API
+     * defines required, pattern or default rules, rows pass through a staging table and any
+     * violations are returned with a 422 instead of being inserted.
+     */
+    public ExecuteApiResponseDTO executeCopyIngest(String requestId, String performedBy, String apiId,
+                                                   ExecuteApiRequestDTO metadataRequest, String format,
+                                                   String userAgent, HttpServletRequest httpServletRequest) {
+        long startTime = System.currentTimeMillis();
+
+        loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
+                ", Executing COPY ingest for API: " + apiId + " by: " + performedBy);
+
+        GeneratedApiEntity api = generatedAPIRepository.findById(apiId)
+                .orElseThrow(() -> new RuntimeException("API not found: " + apiId));
+
+        String databaseType = api.getDatabaseType() != null && !api.getDatabaseType().isEmpty()
+                ? api.getDatabaseType() : "oracle";
+        String protocolType = api.getProtocolType() != null && !api.getProtocolType().isEmpty()
+                ? api.getProtocolType() : "rest";
+        BaseApiExecutionHelper executionHelper = executionHelperFactory.getExecutionHelper(databaseType);
+        String actualClientIp = getClientIpAddress(httpServletRequest);
+
+        // 1. Only PostgreSQL table INSERT APIs support COPY
+        ApiSchemaConfigEntity schemaConfig = api.getSchemaConfig();
+        String objectType = schemaConfig != null && schemaConfig.getObjectType() != null
+                ? schemaConfig.getObjectType().toUpperCase() : "";
+        String operation = schemaConfig != null && schemaConfig.getOperation() != null
+                ? schemaConfig.getOperation().toUpperCase() : "";
+        if (!"postgresql".equalsIgnoreCase(databaseType) || !"TABLE".equals(objectType) || !"INSERT".equals(operation)) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 400,
+                    "COPY ingest is only available for PostgreSQL table INSERT APIs. Use the _bulk endpoint instead.",
+                    "COPY_NOT_SUPPORTED", String.format("Database '%s', object type '%s', operation '%s'",
+                            databaseType, objectType, operation),
+                    startTime, performedBy, actualClientIp, userAgent);
+        }
+
+        // 2-5. Status, IP whitelist, authentication and authorization
+        ExecuteApiResponseDTO accessError = checkBulkAccess(api, metadataRequest, executionHelper, protocolType,
+                startTime, performedBy, actualClientIp, userAgent, httpServletRequest);
+        if (accessError != null) {
+            return accessError;
+        }
+
+        // 6. Stream the body into COPY
+        List<ApiParameterDTO> configuredParamDTOs = conversionHelper.convertParametersToDTOs(api.getParameters());
+        String payloadFormat = bulkPayloadReaderUtil.resolveFormat(format, httpServletRequest.getContentType());
+
+        Map<String, Object> result;
+        try (ApiBulkheadService.Permit permit = bulkheadService.acquire(api);
+             ApiDataSourceContextHolder.Scope ignored = dataSourceRegistryService.bindTarget(api)) {
+            result = postgreSQLTableExecutorUtil.executeCopyIngest(schemaConfig.getObjectName(),
+                    schemaConfig.getSchemaName(), httpServletRequest.getInputStream(), payloadFormat,
+                    api, configuredParamDTOs);
+        } catch (ApiBulkheadFullException e) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 503,
+                    "The service is busy. Please try again shortly.", "CONCURRENCY_LIMIT_EXCEEDED", e.getMessage(),
+                    startTime, performedBy, actualClientIp, userAgent);
+        } catch (jakarta.validation.ValidationException e) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 400,
+                    e.getMessage(), "COPY_VALIDATION_ERROR", e.getMessage(),
+                    startTime, performedBy, actualClientIp, userAgent);
+        } catch (Exception e) {
+            log.error("COPY ingest failed for API {}: {}", apiId, e.getMessage(), e);
+            Map<String, Object> errorDetails = extractDatabaseErrorWithStatus(e, databaseType);
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType,
+                    (int) errorDetails.get("statusCode"), (String) errorDetails.get("message"),
+                    "COPY_EXECUTION_ERROR", (String) errorDetails.get("technicalMessage"),
+                    startTime, performedBy, actualClientIp, userAgent);
+        }
+
+        long executionTime = System.currentTimeMillis() - startTime;
+        result.put("executionTimeMs", executionTime);
+
+        boolean rejected = result.containsKey("violations");
+        int statusCode = rejected ? 422 : 200;
+        if (!rejected) {
+            responseCacheService.invalidateForWrite(api);
+        }
+
+        executionHelper.updateApiStats(api, generatedAPIRepository);
+        executionHelper.logExecution(executionLogRepository, api, metadataRequest,
+                result, statusCode, executionTime, performedBy, actualClientIp, userAgent,
+                rejected ? "COPY rejected by validation rules" : null, objectMapper);
+
+        loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
+                ", COPY ingest completed for API: " + apiId + " - rows: " + result.get("rowsInserted") +
+                " - Time: " + executionTime + "ms");
+
+        return ExecuteApiResponseDTO.builder()
+                .responseCode(statusCode)
+                .success(!rejected)
+                .message(String.valueOf(result.get("message")))
+                .data(result)
+                .contentType("application/json")
+                .protocolType(protocolType)
+                .build();
+    }
+
+    /**
+     * Stream one LOB column of a table/view API's row to the response (GET /gen/{apiId}/_lob/{column}).
+     * The row is identified by the API's filter parameters or its key columns in the query string;
+     * binary LOBs honour Range requests. Goes through the same status, IP whitelist, authentication
+     * and authorization checks as a single execution.
+     *
+     * @return null once the LOB has been written, or an error response when nothing was sent
+     */
+    public ExecuteApiResponseDTO executeLobDownload(String requestId, String performedBy, String apiId, String column,
+                                                    ExecuteApiRequestDTO metadataRequest, String userAgent,
+                                                    HttpServletRequest httpServletRequest,
+                                                    HttpServletResponse httpServletResponse) {
+        long startTime = System.currentTimeMillis();
+
+        loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
+                ", Streaming LOB column " + column + " for API: " + apiId + " by: " + performedBy);
+
+        GeneratedApiEntity api = generatedAPIRepository.findById(apiId)
+                .orElseThrow(() -> new RuntimeException("API not found: " + apiId));
+
+        String databaseType = api.getDatabaseType() != null && !api.getDatabaseType().isEmpty()
+                ? api.getDatabaseType() : "oracle";
+        String protocolType = api.getProtocolType() != null && !api.getProtocolType().isEmpty()
+                ? api.getProtocolType() : "rest";
+        BaseApiExecutionHelper executionHelper = executionHelperFactory.getExecutionHelper(databaseType);
+        String actualClientIp = getClientIpAddress(httpServletRequest);
+
+        ExecuteApiResponseDTO accessError = checkBulkAccess(api, metadataRequest, executionHelper, protocolType,
+                startTime, performedBy, actualClientIp, userAgent, httpServletRequest);
+        if (accessError != null) {
+            return accessError;
+        }
+
+        LobDownloadDTO download;
+        try {
+            download = buildLobDownload(api, column, metadataRequest);
+        } catch (jakarta.validation.ValidationException e) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 400,
+                    e.getMessage(), "LOB_VALIDATION_ERROR", e.getMessage(),
+                    startTime, performedBy, actualClientIp, userAgent);
+        }
+
+        return writeLobDownload(requestId, api, download, metadataRequest, startTime, performedBy,
+                actualClientIp, userAgent, httpServletRequest, httpServletResponse);
+    }
+
+    /**
+     * Stream the LOB of a binary-download API execution (see executeApi step 21a); access checks
+     * have already passed there
+     *
+     * @return null once the LOB has been written, or an error response when nothing was sent
+     */
+    public ExecuteApiResponseDTO streamLobDownload(String requestId, String performedBy, LobDownloadDTO download,
+                                                   ExecuteApiRequestDTO request, String clientIp, String userAgent,
+                                                   HttpServletRequest httpServletRequest,
+                                                   HttpServletResponse httpServletResponse) {
+        GeneratedApiEntity api = generatedAPIRepository.findById(download.getApiId())
+                .orElseThrow(() -> new RuntimeException("API not found: " + download.getApiId()));
+        return writeLobDownload(requestId, api, download, request, System.currentTimeMillis(), performedBy,
+                clientIp, userAgent, httpServletRequest, httpServletResponse);
+    }
+
+    private ExecuteApiResponseDTO writeLobDownload(String requestId, GeneratedApiEntity api, LobDownloadDTO download,
+                                                   ExecuteApiRequestDTO request, long startTime, String performedBy,
+                                                   String clientIp, String userAgent,
+                                                   HttpServletRequest httpServletRequest,
+                                                   HttpServletResponse httpServletResponse) {
+        String protocolType = api.getProtocolType() != null && !api.getProtocolType().isEmpty()
+                ? api.getProtocolType() : "rest";
+        BaseApiExecutionHelper executionHelper = executionHelperFactory.getExecutionHelper(download.getDatabaseType());
+        String rangeHeader = httpServletRequest.getHeader("Range");
+        LobStreamingUtil.LobSink sink = lobStreamingUtil.responseSink(httpServletResponse, rangeHeader,
+                "HEAD".equalsIgnoreCase(httpServletRequest.getMethod()), download.getContentType());
+
+        Integer status;
+        try (ApiBulkheadService.Permit permit = bulkheadService.acquire(api);
+             ApiDataSourceContextHolder.Scope ignored = dataSourceRegistryService.bindTarget(api)) {
+            if ("postgresql".equalsIgnoreCase(download.getDatabaseType())) {
+                status = postgreSQLTableExecutorUtil.streamLob(download.getObjectName(), download.getSchemaName(),
+                        download.getColumn(), download.getKeyValues(), api, sink, lobStreamingUtil.getChunkSizeBytes());
+            } else {
+                status = oracleTableExecutorUtil.streamLob(download.getObjectName(), download.getSchemaName(),
+                        download.getColumn(), download.getKeyValues(), sink);
+            }
+        } catch (ApiBulkheadFullException e) {
+            return buildBulkErrorResponse(api, request, executionHelper, protocolType, 503,
+                    "The service is busy. Please try again shortly.", "CONCURRENCY_LIMIT_EXCEEDED", e.getMessage(),
+                    startTime, performedBy, clientIp, userAgent);
+        } catch (Exception e) {
+            log.error("LOB download failed for API {}: {}", api.getId(), e.getMessage(), e);
+            if (httpServletResponse.isCommitted()) {
+                // Part of the body is already out; the client sees a short response
+                executionHelper.logExecution(executionLogRepository, api, request, null, 500,
+                        System.currentTimeMillis() - startTime, performedBy, clientIp, userAgent,
+                        truncateErrorMessage(e.getMessage(), 1000), objectMapper);
+                return null;
+            }
+            httpServletResponse.reset();
+            Map<String, Object> errorDetails = extractDatabaseErrorWithStatus(e, download.getDatabaseType());
+            return buildBulkErrorResponse(api, request, executionHelper, protocolType,
+                    (int) errorDetails.get("statusCode"), (String) errorDetails.get("message"),
+                    "LOB_STREAM_ERROR", (String) errorDetails.get("technicalMessage"),
+                    startTime, performedBy, clientIp, userAgent);
+        }
+
+        if (status == null) {
+            return buildBulkErrorResponse(api, request, executionHelper, protocolType, 404,
+                    "No record found for the given key.", "LOB_NOT_FOUND",
+                    String.format("No row in %s matches %s", download.getObjectName(), download.getKeyValues().keySet()),
+                    startTime, performedBy, clientIp, userAgent);
+        }
+        if (status == 409) {
+            return buildBulkErrorResponse(api, request, executionHelper, protocolType, 409,
+                    "The given key matches more than one record.", "LOB_KEY_NOT_UNIQUE",
+                    String.format("More than one row in %s matches %s; identify the record by its key columns %s",
+                            download.getObjectName(), download.getKeyValues().keySet(),
+                            lobStreamingUtil.linkableKeyColumns(api)),
+                    startTime, performedBy, clientIp, userAgent);
+        }
+        if (status == 204) {
+            httpServletResponse.setStatus(204);
+        }
+
+        long executionTime = System.currentTimeMillis() - startTime;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("column", download.getColumn());
+        result.put("status", status);
+        result.put("range", rangeHeader);
+
+        executionHelper.updateApiStats(api, generatedAPIRepository);
+        executionHelper.logExecution(executionLogRepository, api, request, result, status, executionTime,
+                performedBy, clientIp, userAgent, null, objectMapper);
+
+        loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
+                ", LOB " + download.getColumn() + " streamed for API: " + api.getId() +
+                " - status: " + status + " - Time: " + executionTime + "ms");
+        return null;
+    }
+
+    /**
+     * Resolve which LOB a download addresses: the requested column (or, in binary download mode,
+     * the API's single LOB column) of the row identified by the request's filter parameters.
+     */
+    private LobDownloadDTO buildLobDownload(GeneratedApiEntity api, String column, ExecuteApiRequestDTO request) {
+        ApiSchemaConfigEntity schemaConfig = api.getSchemaConfig();
+        String objectType = schemaConfig != null && schemaConfig.getObjectType() != null
+                ? schemaConfig.getObjectType().toUpperCase() : "";
+        if (!"TABLE".equals(objectType) && !"VIEW".equals(objectType)) {
+            throw new jakarta.validation.ValidationException("LOB downloads are only available for table and view APIs");
+        }
+
+        ApiResponseMappingEntity lobMapping;
+        if (column != null) {
+            lobMapping = lobStreamingUtil.findMapping(api, column);
+            if (lobMapping == null) {
+                throw new jakarta.validation.ValidationException("Column '" + column + "' is not part of this API's response");
+            }
+        } else {
+            List<ApiResponseMappingEntity> lobMappings = api.getResponseMappings() == null ? new ArrayList<>()
+                    : api.getResponseMappings().stream()
+                    .filter(m -> LobStreamingUtil.isLobType(m.getOracleType()))
+                    .collect(Collectors.toList());
+            if (lobMappings.size() != 1) {
+                throw new jakarta.validation.ValidationException("Binary download needs exactly one BLOB, CLOB or bytea " +
+                        "column in the API's response mappings, found " + lobMappings.size());
+            }
+            lobMapping = lobMappings.get(0);
+        }
+        if (lobMapping.getDbColumn() == null || !SQL_IDENTIFIER.matcher(lobMapping.getDbColumn()).matches()) {
+            throw new jakarta.validation.ValidationException("Column '" + lobMapping.getDbColumn() + "' cannot be downloaded");
+        }
+
+        // Key columns: the API's parameters by key, or response columns by name
+        Map<String, Object> supplied = new LinkedHashMap<>();
+        if (request.getQueryParams() != null) {
+            supplied.putAll(request.getQueryParams());
+        }
+        if (request.getPathParams() != null) {
+            supplied.putAll(request.getPathParams());
+        }
+        Map<String, Object> keyValues = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : supplied.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof List) {
+                value = ((List<?>) value).isEmpty() ? null : ((List<?>) value).get(0);
+            }
+            if (value == null || value.toString().isEmpty()) {
+                continue;
+            }
+            String keyColumn = null;
+            if (api.getParameters() != null) {
+                for (ApiParameterEntity param : api.getParameters()) {
+                    if (entry.getKey().equalsIgnoreCase(param.getKey())) {
+                        keyColumn = param.getDbColumn() != null && !param.getDbColumn().isEmpty()
+                                ? param.getDbColumn() : param.getKey();
+                        break;
+                    }
+                }
+            }
+            if (keyColumn == null) {
+                ApiResponseMappingEntity mapping = lobStreamingUtil.findMapping(api, entry.getKey());
+                keyColumn = mapping != null ? mapping.getDbColumn() : null;
+            }
+            if (keyColumn != null && SQL_IDENTIFIER.matcher(keyColumn).matches()) {
+                keyValues.putIfAbsent(keyColumn, value);
+            }
+        }
+        if (keyValues.isEmpty()) {
+            throw new jakarta.validation.ValidationException("Identify the record with the API's filter parameters or " +
+                    "its key columns " + lobStreamingUtil.linkableKeyColumns(api));
+        }
+
+        String databaseType = api.getDatabaseType() != null && !api.getDatabaseType().isEmpty()
+                ? api.getDatabaseType() : "oracle";
+        String lobType = lobMapping.getOracleType() != null ? lobMapping.getOracleType().toUpperCase() : "";
+        boolean binary = !lobType.contains("CLOB") && !lobType.contains("TEXT");
+
+        return LobDownloadDTO.builder()
+                .apiId(api.getId())
+                .databaseType(databaseType)
+                .schemaName(schemaConfig.getSchemaName())
+                .objectName(schemaConfig.getObjectName())
+                .column(lobMapping.getDbColumn())
+                .contentType(lobStreamingUtil.contentTypeFor(api, lobMapping.getDbColumn(), binary))
+                .keyValues(keyValues)
+                .build();
+    }
+
+    /**
+     * Execute an Oracle procedure API once per item of a JSON array body
+     * (or {"items": [...]}) using the procedure executor's chunked PL/SQL batch.
+     * Query and path parameters apply to every item unless the item overrides them.
+     */
+    public ExecuteApiResponseDTO executeProcedureBatch(String requestId, String performedBy, String apiId,
+                                                       ExecuteApiRequestDTO metadataRequest, Integer chunkSize,
+                                                       String userAgent, HttpServletRequest httpServletRequest) {
+        long startTime = System.currentTimeMillis();
+
+        loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
+                ", Executing procedure batch for API: " + apiId + " by: " + performedBy);
+
+        GeneratedApiEntity api = generatedAPIRepository.findById(apiId)
+                .orElseThrow(() -> new RuntimeException("API not found: " + apiId));
+
+        String databaseType = api.getDatabaseType() != null && !api.getDatabaseType().isEmpty()
+                ? api.getDatabaseType() : "oracle";
+        String protocolType = api.getProtocolType() != null && !api.getProtocolType().isEmpty()
+                ? api.getProtocolType() : "rest";
+        BaseApiExecutionHelper executionHelper = executionHelperFactory.getExecutionHelper(databaseType);
+        String actualClientIp = getClientIpAddress(httpServletRequest);
+
+        int effectiveChunkSize = chunkSize != null && chunkSize > 0
+                ? Math.min(chunkSize, procedureBatchMaxChunkSize) : procedureBatchDefaultChunkSize;
+
+        // 1. Only Oracle procedure APIs support batch mode
+        ApiSchemaConfigEntity schemaConfig = api.getSchemaConfig();
+        String objectType = schemaConfig != null && schemaConfig.getObjectType() != null
+                ? schemaConfig.getObjectType().toUpperCase() : "";
+        if (!"oracle".equalsIgnoreCase(databaseType) || !"PROCEDURE".equals(objectType)) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 400,
+                    "Batch mode is only available for Oracle procedure APIs.",
+                    "BATCH_NOT_SUPPORTED", String.format("Database '%s', object type '%s'", databaseType, objectType),
+                    startTime, performedBy, actualClientIp, userAgent);
+        }
+
+        // 2-5. Status, IP whitelist, authentication and authorization
+        ExecuteApiResponseDTO accessError = checkBulkAccess(api, metadataRequest, executionHelper, protocolType,
+                startTime, performedBy, actualClientIp, userAgent, httpServletRequest);
+        if (accessError != null) {
+            return accessError;
+        }
+
+        // 6. Read the items
+        List<Map<String, Object>> items;
+        try {
+            JsonNode root = objectMapper.readTree(httpServletRequest.getInputStream());
+            JsonNode itemsNode = root != null && root.isObject() ? root.get("items") : root;
+            if (itemsNode == null || !itemsNode.isArray()) {
+                throw new jakarta.validation.ValidationException(
+                        "Batch body must be a JSON array of parameter objects or an object with an 'items' array");
+            }
+            if (itemsNode.size() > procedureBatchMaxItems) {
+                throw new jakarta.validation.ValidationException(String.format(
+                        "Batch contains %d items, the maximum is %d", itemsNode.size(), procedureBatchMaxItems));
+            }
+            items = objectMapper.convertValue(itemsNode, new TypeReference<List<Map<String, Object>>>() {});
+        } catch (jakarta.validation.ValidationException e) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 400,
+                    e.getMessage(), "BATCH_VALIDATION_ERROR", e.getMessage(),
+                    startTime, performedBy, actualClientIp, userAgent);
+        } catch (Exception e) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 400,
+                    "Batch body is not valid JSON", "BATCH_VALIDATION_ERROR", e.getMessage(),
+                    startTime, performedBy, actualClientIp, userAgent);
+        }
+
+        Map<String, Object> sharedParams = new HashMap<>();
+        if (metadataRequest.getQueryParams() != null) {
+            sharedParams.putAll(metadataRequest.getQueryParams());
+        }
+        if (metadataRequest.getPathParams() != null) {
+            sharedParams.putAll(metadataRequest.getPathParams());
+        }
+
+        // 7. Execute
+        List<ApiParameterDTO> configuredParamDTOs = conversionHelper.convertParametersToDTOs(api.getParameters());
+        Map<String, Object> result;
+        try (ApiBulkheadService.Permit permit = bulkheadService.acquire(api);
+             ApiDataSourceContextHolder.Scope ignored = dataSourceRegistryService.bindTarget(api)) {
+            result = oracleProcedureExecutorUtil.executeBatch(api, schemaConfig.getObjectName(),
+                    schemaConfig.getSchemaName(), items, sharedParams, configuredParamDTOs, effectiveChunkSize);
+        } catch (ApiBulkheadFullException e) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 503,
+                    "The service is busy. Please try again shortly.", "CONCURRENCY_LIMIT_EXCEEDED", e.getMessage(),
+                    startTime, performedBy, actualClientIp, userAgent);
+        } catch (jakarta.validation.ValidationException e) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 400,
+                    e.getMessage(), "BATCH_VALIDATION_ERROR", e.getMessage(),
+                    startTime, performedBy, actualClientIp, userAgent);
+        } catch (Exception e) {
+            log.error("Procedure batch failed for API {}: {}", apiId, e.getMessage(), e);
+            Map<String, Object> errorDetails = extractDatabaseErrorWithStatus(e, databaseType);
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType,
+                    (int) errorDetails.get("statusCode"), (String) errorDetails.get("message"),
+                    "BATCH_EXECUTION_ERROR", (String) errorDetails.get("technicalMessage"),
+                    startTime, performedBy, actualClientIp, userAgent);
+        }
+
+        long executionTime = System.currentTimeMillis() - startTime;
+        result.put("executionTimeMs", executionTime);
+
+        long failed = ((Number) result.getOrDefault("failed", 0)).longValue();
+        long itemCount = ((Number) result.getOrDefault("itemCount", 0)).longValue();
+        int statusCode = failed == 0 ? 200 : (failed < itemCount ? 207 : 422);
+
+        executionHelper.updateApiStats(api, generatedAPIRepository);
+        Map<String, Object> logSummary = new LinkedHashMap<>(result);
+        logSummary.remove("items");
+        executionHelper.logExecution(executionLogRepository, api, metadataRequest,
+                logSummary, statusCode, executionTime, performedBy, actualClientIp, userAgent,
+                failed == 0 ? null : failed + " of " + itemCount + " items failed", objectMapper);
+
+        loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
+                ", Procedure batch completed for API: " + apiId + " - items: " + itemCount +
+                ", failed: " + failed + " - Time: " + executionTime + "ms");
+
+        return ExecuteApiResponseDTO.builder()
+                .responseCode(statusCode)
+                .success(failed == 0)
+                .message(String.valueOf(result.get("message")))
+                .data(result)
+                .contentType("application/json")
+                .protocolType(protocolType)
+                .build();
+    }
+
+    /**
+     * Gatekeeping shared by the streaming load endpoints: status, IP whitelist, authentication
+     * and authorization. Returns the error response to send, or null when the request may proceed.
+     */
+    private ExecuteApiResponseDTO checkBulkAccess(GeneratedApiEntity api, ExecuteApiRequestDTO metadataRequest,
+                                                  BaseApiExecutionHelper executionHelper, String protocolType,
+                                                  long startTime, String performedBy, String actualClientIp,
+                                                  String userAgent, HttpServletRequest httpServletRequest) {
+        // API status
+        String apiStatus = api.getStatus() != null ? api.getStatus().toUpperCase() : "UNKNOWN";
+        if (!"ACTIVE".equals(apiStatus) || !Boolean.TRUE.equals(api.getIsActive())) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 403,
+                    "This service is currently unavailable. Please contact support for assistance.",
+                    "API_INACTIVE", String.format("API status is '%s'", apiStatus),
+                    startTime, performedBy, actualClientIp, userAgent);
+        }
+
+        // IP whitelist
+        try {
+            validateIpWhitelist(actualClientIp, httpServletRequest.getRequestURI(), api.getEndpointPath());
+        } catch (RuntimeException e) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 403,
+                    "Unable to process your request. Please contact support for assistance.",
+                    "IP_WHITELIST_ERROR", e.getMessage(), startTime, performedBy, actualClientIp, userAgent);
+        }
+
+        // Authentication
+        AuthenticationServiceUtil.AuthenticationResult authResult =
+                authenticationService.validateAuthentication(api, metadataRequest);
+        if (!authResult.isAuthenticated()) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 401,
+                    "Unable to verify your credentials. Please check your API key and try again.",
+                    "AUTHENTICATION_FAILED", authResult.getReason(), startTime, performedBy, actualClientIp, userAgent);
+        }
+
+        // Authorization
+        if (!validatorService.validateAuthorization(api, performedBy)) {
+            return buildBulkErrorResponse(api, metadataRequest, executionHelper, protocolType, 403,
+                    "You don't have permission to access this service. Please contact your administrator.",
+                    "AUTHORIZATION_FAILED", String.format("User '%s' not authorized to access API '%s'", performedBy, api.getId()),
+                    startTime, performedBy, actualClientIp, userAgent);
+        }
+
+        return null;
+    }
+
+    private ExecuteApiResponseDTO buildBulkErrorResponse(GeneratedApiEntity api, ExecuteApiRequestDTO request,
+                                                         BaseApiExecutionHelper executionHelper, String protocolType,
+                                                         int statusCode, String message, String errorCode,
+                                                         String technicalMessage, long startTime, String performedBy,
+                                                         String clientIp, String userAgent) {
+        log.warn("Bulk load rejected for API {} - {}: {}", api.getId(), errorCode, technicalMessage);
 
-            if (capturedRequestId != null) {
-                try {
-                    apiRequestService.updateRequestWithRawResponse(
-                            requestId, capturedRequestId, 500,
-                            userFriendlyMessage, executionTime, rawResponseBody);
-                } catch (Exception updateError) {
-                    log.error("Failed to update captured request: {}", updateError.getMessage());
-                }
-            }
+        Map<String, Object> errorMap = new HashMap<>();
+        errorMap.put("code", errorCode);
+        errorMap.put("technicalMessage", technicalMessage);
+        errorMap.put("apiId", api.getId());
+        errorMap.put("timestamp", LocalDateTime.now().toString());
 
-            return finalResponse;
-        }
+        executionHelper.logExecution(executionLogRepository, api, request,
+                null, statusCode, System.currentTimeMillis() - startTime,
+                performedBy, clientIp, userAgent, truncateErrorMessage(technicalMessage, 1000), objectMapper);
+
+        return buildProtocolSpecificErrorResponse(protocolType, statusCode, message, errorMap, api);
     }
 
     /**
@@ -2352,7 +3308,7 @@ public class AutoAPIGeneratorEngineService {
             Map<String, Object> errorDetails, GeneratedApiEntity api) {
 
         if ("soap".equalsIgnoreCase(protocolType)) {
-            String soapEnvelope = buildSoapErrorResponse(message, errorDetails, api);
+            String soapEnvelope = soapMessageUtil.buildFault(message, errorDetails, api);
             log.info("SOAP error response - returning SOAP envelope in data field");
 
             return ExecuteApiResponseDTO.builder()
@@ -2396,77 +3352,6 @@ public class AutoAPIGeneratorEngineService {
         }
     }
 
-    /**
-     * Build SOAP error response envelope
-     */
-    private String buildSoapErrorResponse(String message, Map<String, Object> errorDetails, GeneratedApiEntity api) {
-        try {
-            SoapConfigDTO soapConfig = api != null ? api.getSoapConfig() : null;
-            String soapVersion = soapConfig != null && soapConfig.getVersion() != null ? soapConfig.getVersion() : "1.1";
-            String soapNamespace = soapConfig != null && soapConfig.getNamespace() != null ? soapConfig.getNamespace() : "http://tempuri.org/";
-            String operationName = api != null && api.getApiCode() != null ? api.getApiCode() : "ErrorResponse";
-
-            StringBuilder soapResponse = new StringBuilder();
-
-            soapResponse.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-
-            if ("1.2".equals(soapVersion)) {
-                soapResponse.append("<soap:Envelope xmlns:soap=\"http://www.w3.org/2003/05/soap-envelope\">\n");
-            } else {
-                soapResponse.append("<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n");
-            }
-
-            soapResponse.append("  <soap:Header/>\n");
-            soapResponse.append("  <soap:Body>\n");
-            soapResponse.append("    <soap:Fault>\n");
-            soapResponse.append("      <faultcode>soap:Client</faultcode>\n");
-            soapResponse.append("      <faultstring>").append(escapeXml(message)).append("</faultstring>\n");
-            soapResponse.append("      <detail>\n");
-            soapResponse.append("        <").append(operationName).append("Error xmlns=\"").append(soapNamespace).append("\">\n");
-
-            if (errorDetails != null) {
-                for (Map.Entry<String, Object> entry : errorDetails.entrySet()) {
-                    String key = entry.getKey();
-                    Object value = entry.getValue();
-                    soapResponse.append("          <").append(key).append(">");
-                    if (value instanceof Map) {
-                        soapResponse.append("\n");
-                        for (Map.Entry<String, Object> subEntry : ((Map<String, Object>) value).entrySet()) {
-                            soapResponse.append("            <").append(subEntry.getKey()).append(">");
-                            soapResponse.append(escapeXml(String.valueOf(subEntry.getValue())));
-                            soapResponse.append("</").append(subEntry.getKey()).append(">\n");
-                        }
-                        soapResponse.append("          ");
-                    } else {
-                        soapResponse.append(escapeXml(String.valueOf(value)));
-                    }
-                    soapResponse.append("</").append(key).append(">\n");
-                }
-            }
-
-            soapResponse.append("        </").append(operationName).append("Error>\n");
-            soapResponse.append("      </detail>\n");
-            soapResponse.append("    </soap:Fault>\n");
-            soapResponse.append("  </soap:Body>\n");
-            soapResponse.append("</soap:Envelope>");
-
-            return soapResponse.toString();
-
-        } catch (Exception e) {
-            log.error("Error building SOAP error response: {}", e.getMessage(), e);
-            // Fallback simple SOAP error
-            return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
-                    "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n" +
-                    "  <soap:Body>\n" +
-                    "    <soap:Fault>\n" +
-                    "      <faultcode>soap:Server</faultcode>\n" +
-                    "      <faultstring>" + escapeXml(message) + "</faultstring>\n" +
-                    "    </soap:Fault>\n" +
-                    "  </soap:Body>\n" +
-                    "</soap:Envelope>";
-        }
-    }
-
     /**
      * Build GraphQL error response
      */
@@ -2516,62 +3401,6 @@ public class AutoAPIGeneratorEngineService {
     }
 
 
-    /**
-     * Format response as SOAP XML
-     */
-    private Object formatAsSoapResponse(Object result, GeneratedApiEntity api) {
-        try {
-            SoapConfigDTO soapConfig = api.getSoapConfig();
-            String soapVersion = soapConfig != null && soapConfig.getVersion() != null ? soapConfig.getVersion() : "1.1";
-            String soapNamespace = soapConfig != null && soapConfig.getNamespace() != null ? soapConfig.getNamespace() : "http://tempuri.org/";
-
-            // Get the operation name from the API
-            String operationName = api.getApiCode() != null ? api.getApiCode() : "Response";
-
-            StringBuilder soapResponse = new StringBuilder();
-
-            // SOAP Envelope header
-            soapResponse.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-
-            if ("1.2".equals(soapVersion)) {
-                soapResponse.append("<soap:Envelope xmlns:soap=\"http://www.w3.org/2003/05/soap-envelope\">\n");
-            } else {
-                soapResponse.append("<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n");
-            }
-
-            soapResponse.append("  <soap:Header/>\n");
-            soapResponse.append("  <soap:Body>\n");
-            soapResponse.append("    <").append(operationName).append("Response xmlns=\"").append(soapNamespace).append("\">\n");
-
-            // Convert result to XML
-            String xmlContent = convertToXml(result, api);
-            soapResponse.append(xmlContent);
-
-            soapResponse.append("    </").append(operationName).append("Response>\n");
-            soapResponse.append("  </soap:Body>\n");
-            soapResponse.append("</soap:Envelope>");
-
-            log.info("Generated SOAP XML response of length: {} characters", soapResponse.length());
-            return soapResponse.toString();
-
-        } catch (Exception e) {
-            log.error("Error formatting SOAP response: {}", e.getMessage(), e);
-
-            // Return error SOAP response
-            StringBuilder errorResponse = new StringBuilder();
-            errorResponse.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-            errorResponse.append("<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n");
-            errorResponse.append("  <soap:Body>\n");
-            errorResponse.append("    <soap:Fault>\n");
-            errorResponse.append("      <faultcode>soap:Server</faultcode>\n");
-            errorResponse.append("      <faultstring>").append(escapeXml(e.getMessage())).append("</faultstring>\n");
-            errorResponse.append("    </soap:Fault>\n");
-            errorResponse.append("  </soap:Body>\n");
-            errorResponse.append("</soap:Envelope>");
-            return errorResponse.toString();
-        }
-    }
-
     /**
      * Format response as GraphQL
      */
@@ -2630,83 +3459,6 @@ public class AutoAPIGeneratorEngineService {
         }
     }
 
-    /**
-     * Convert result object to XML format
-     */
-    private String convertToXml(Object result, GeneratedApiEntity api) {
-        StringBuilder xml = new StringBuilder();
-
-        try {
-            if (result == null) {
-                xml.append("      <result>null</result>\n");
-                return xml.toString();
-            }
-
-            if (result instanceof Map) {
-                Map<String, Object> resultMap = (Map<String, Object>) result;
-                for (Map.Entry<String, Object> entry : resultMap.entrySet()) {
-                    String key = entry.getKey();
-                    Object value = entry.getValue();
-
-                    // Skip internal fields
-                    if ("responseCode".equals(key) || "code".equals(key) || "status".equals(key) ||
-                            "message".equals(key) || "msg".equals(key)) {
-                        continue;
-                    }
-
-                    xml.append("      <").append(key).append(">");
-                    if (value instanceof Map || value instanceof List) {
-                        xml.append("\n");
-                        xml.append(convertToXml(value, api));
-                        xml.append("      ");
-                    } else {
-                        xml.append(escapeXml(String.valueOf(value)));
-                    }
-                    xml.append("</").append(key).append(">\n");
-                }
-            } else if (result instanceof List) {
-                List<?> resultList = (List<?>) result;
-                for (Object item : resultList) {
-                    if (item instanceof Map) {
-                        xml.append("      <item>\n");
-                        for (Map.Entry<String, Object> entry : ((Map<String, Object>) item).entrySet()) {
-                            String key = entry.getKey();
-                            Object value = entry.getValue();
-                            xml.append("        <").append(key).append(">");
-                            xml.append(escapeXml(String.valueOf(value)));
-                            xml.append("</").append(key).append(">\n");
-                        }
-                        xml.append("      </item>\n");
-                    } else {
-                        xml.append("      <item>").append(escapeXml(String.valueOf(item))).append("</item>\n");
-                    }
-                }
-            } else {
-                xml.append("      <result>").append(escapeXml(String.valueOf(result))).append("</result>\n");
-            }
-
-        } catch (Exception e) {
-            log.error("Error converting to XML: {}", e.getMessage(), e);
-            xml.append("      <error>").append(escapeXml(e.getMessage())).append("</error>\n");
-        }
-
-        return xml.toString();
-    }
-
-    /**
-     * Escape XML special characters
-     */
-    private String escapeXml(String input) {
-        if (input == null) return "";
-        return input
-                .replace("&", "&amp;")
-                .replace("<", "&lt;")
-                .replace(">", "&gt;")
-                .replace("\"", "&quot;")
-                .replace("'", "&apos;");
-    }
-
-
     /**
      * Execute PostgreSQL table operation
      */
@@ -2730,117 +3482,49 @@ public class AutoAPIGeneratorEngineService {
 
 
     /**
-     * Build raw SOAP XML response exactly as it should be returned to the client
+     * Encode a REST response with the application ObjectMapper - the same encoding Spring would apply
+     * when writing the DTO - so it is serialized once. Jackson reuses its thread-local buffers here.
      */
-    private String buildRawSoapResponse(Object result, GeneratedApiEntity api) {
+    private byte[] encodeResponseBody(ExecuteApiResponseDTO response) {
         try {
-            SoapConfigDTO soapConfig = api.getSoapConfig();
-            String soapVersion = soapConfig != null && soapConfig.getVersion() != null ? soapConfig.getVersion() : "1.1";
-            String soapNamespace = soapConfig != null && soapConfig.getNamespace() != null ? soapConfig.getNamespace() : "http://tempuri.org/";
-            String operationName = api.getApiCode() != null ? api.getApiCode() : "Response";
-
-            StringBuilder soapResponse = new StringBuilder();
-
-            // XML Declaration
-            soapResponse.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-
-            // SOAP Envelope
-            if ("1.2".equals(soapVersion)) {
-                soapResponse.append("<soap:Envelope xmlns:soap=\"http://www.w3.org/2003/05/soap-envelope\">\n");
-            } else {
-                soapResponse.append("<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n");
-            }
-
-            // SOAP Header
-            soapResponse.append("  <soap:Header/>\n");
-
-            // SOAP Body
-            soapResponse.append("  <soap:Body>\n");
-            soapResponse.append("    <").append(operationName).append("Response xmlns=\"").append(soapNamespace).append("\">\n");
-
-            // Convert result to raw XML
-            String xmlContent = convertResultToRawXml(result);
-            soapResponse.append(xmlContent);
-
-            soapResponse.append("    </").append(operationName).append("Response>\n");
-            soapResponse.append("  </soap:Body>\n");
-            soapResponse.append("</soap:Envelope>");
-
-            return soapResponse.toString();
-
+            return objectMapper.writeValueAsBytes(response);
         } catch (Exception e) {
-            log.error("Error building raw SOAP response: {}", e.getMessage(), e);
-            // Return error SOAP response
-            return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
-                    "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n" +
-                    "  <soap:Body>\n" +
-                    "    <soap:Fault>\n" +
-                    "      <faultcode>soap:Server</faultcode>\n" +
-                    "      <faultstring>" + escapeXml(e.getMessage()) + "</faultstring>\n" +
-                    "    </soap:Fault>\n" +
-                    "  </soap:Body>\n" +
-                    "</soap:Envelope>";
+            log.warn("Failed to encode response body, falling back to per-consumer serialization: {}", e.getMessage());
+            return null;
         }
     }
 
     /**
-     * Convert result object to raw XML string (preserves exact structure)
+     * 304 answer to a conditional GET: no body, only the validators for the ETag and Last-Modified headers
      */
-    private String convertResultToRawXml(Object result) {
-        StringBuilder xml = new StringBuilder();
-
-        try {
-            if (result == null) {
-                xml.append("        <result>null</result>\n");
-                return xml.toString();
-            }
+    private ExecuteApiResponseDTO buildNotModifiedResponse(String protocolType, ApiConditionalRequestService.Validator validator) {
+        return ExecuteApiResponseDTO.builder()
+                .responseCode(304)
+                .success(true)
+                .message("Not Modified")
+                .protocolType(protocolType)
+                .etag(validator.getEtag())
+                .lastModified(validator.getLastModified())
+                .build();
+    }
 
-            if (result instanceof Map) {
-                Map<String, Object> resultMap = (Map<String, Object>) result;
-                for (Map.Entry<String, Object> entry : resultMap.entrySet()) {
-                    String key = entry.getKey();
-                    Object value = entry.getValue();
-
-                    xml.append("        <").append(key).append(">");
-                    if (value instanceof Map || value instanceof List) {
-                        xml.append("\n");
-                        xml.append(convertResultToRawXml(value));
-                        xml.append("        ");
-                    } else if (value != null) {
-                        xml.append(escapeXml(value.toString()));
-                    }
-                    xml.append("</").append(key).append(">\n");
-                }
-            } else if (result instanceof List) {
-                List<?> resultList = (List<?>) result;
-                for (Object item : resultList) {
-                    xml.append("        <item>\n");
-                    if (item instanceof Map) {
-                        for (Map.Entry<String, Object> entry : ((Map<String, Object>) item).entrySet()) {
-                            String key = entry.getKey();
-                            Object value = entry.getValue();
-                            xml.append("          <").append(key).append(">");
-                            xml.append(escapeXml(String.valueOf(value)));
-                            xml.append("</").append(key).append(">\n");
-                        }
-                    } else {
-                        xml.append("          <value>").append(escapeXml(String.valueOf(item))).append("</value>\n");
-                    }
-                    xml.append("        </item>\n");
-                }
-            } else {
-                xml.append("        <result>").append(escapeXml(String.valueOf(result))).append("</result>\n");
+    /**
+     * Raw response body for request capture, cut at api.capture.max-response-body-bytes when set.
+     * The cut backs off to a UTF-8 character boundary so a multi-byte character is never split.
+     */
+    private String rawBodyForCapture(byte[] encodedBody) {
+        if (captureMaxResponseBodyBytes > 0 && encodedBody.length > captureMaxResponseBodyBytes) {
+            int end = captureMaxResponseBodyBytes;
+            // Continuation bytes are 10xxxxxx; the character they belong to starts before them
+            while (end > 0 && (encodedBody[end] & 0xC0) == 0x80) {
+                end--;
             }
-
-        } catch (Exception e) {
-            log.error("Error converting result to raw XML: {}", e.getMessage(), e);
-            xml.append("        <error>").append(escapeXml(e.getMessage())).append("</error>\n");
+            log.debug("Captured response truncated from {} to {} bytes", encodedBody.length, end);
+            return new String(encodedBody, 0, end, StandardCharsets.UTF_8);
         }
-
-        return xml.toString();
+        return new String(encodedBody, StandardCharsets.UTF_8);
     }
 
-
     /**
      * Build raw REST response exactly as it should be returned to the client
      * This returns the COMPLETE response object, not just the data field
@@ -2890,11 +3574,17 @@ public class AutoAPIGeneratorEngineService {
     /**
      * Build raw GraphQL JSON response exactly as it should be returned to the client
      */
-    private String buildRawGraphQLResponse(Object result, GeneratedApiEntity api) {
+    private String buildRawGraphQLResponse(Object result, GeneratedApiEntity api, ApiGraphQLService.ExecutionPlan plan) {
         try {
             Map<String, Object> graphqlResponse = new LinkedHashMap<>();
             GraphQLConfigDTO graphqlConfig = api.getGraphqlConfig();
 
+            // A parsed document answers with exactly the fields it selected
+            if (plan != null && plan.getRootField() != null) {
+                graphqlResponse.put("data", graphQLService.shapeResult(plan, result));
+                return objectMapper.writeValueAsString(graphqlResponse);
+            }
+
             Map<String, Object> data = new LinkedHashMap<>();
             String operationName = graphqlConfig != null && graphqlConfig.getOperationName() != null ?
                     graphqlConfig.getOperationName() : "data";
@@ -3416,6 +4106,10 @@ public class AutoAPIGeneratorEngineService {
     public GeneratedApiResponseDTO partialUpdateApi(String requestId, String apiId, String performedBy,
                                                     Map<String, Object> updates) {
         try {
+            // Settings, parameters or the source may change what a cached response would contain
+            responseCacheService.evictApi(apiId);
+            graphQLService.evictApi(apiId);
+
             loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
                     ", Partially updating API: " + apiId + " by: " + performedBy);
 
@@ -3453,6 +4147,7 @@ public class AutoAPIGeneratorEngineService {
 
             // Save updated API
             GeneratedApiEntity savedApi = generatedAPIRepository.save(api);
+            endpointRouterService.register(savedApi);
 
             loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
                     ", API partially updated successfully: " + savedApi.getId());
@@ -3488,6 +4183,11 @@ public class AutoAPIGeneratorEngineService {
 
             validationHelper.validateApiStatus(status);
 
+            // Refuse activation when the plan cost guard is enforced and the plan is too expensive
+            if ("ACTIVE".equals(status)) {
+                queryCostGuardService.validateActivation(api);
+            }
+
             api.setStatus(status);
             api.setUpdatedAt(LocalDateTime.now());
             api.setUpdatedBy(performedBy);
@@ -3507,6 +4207,102 @@ public class AutoAPIGeneratorEngineService {
 
 
 
+    public Map<String, Object> getBulkheadMetrics(String requestId) {
+        return bulkheadService.getMetrics();
+    }
+
+    public Map<String, Object> getResponseCacheStats(String requestId, String apiId) {
+        return apiId != null ? responseCacheService.getApiStats(apiId) : responseCacheService.getStats();
+    }
+
+    public Map<String, Object> getConditionalRequestStats(String requestId) {
+        return conditionalRequestService.getStats();
+    }
+
+    public Map<String, Object> purgeResponseCache(String requestId, String apiId, String performedBy) {
+        int removed = apiId != null ? responseCacheService.evictApi(apiId) : responseCacheService.evictAll();
+        log.info("Response cache purged for {} by {} ({} entries)", apiId != null ? apiId : "all APIs", performedBy, removed);
+        Map<String, Object> result = new HashMap<>();
+        result.put("apiId", apiId);
+        result.put("entriesRemoved", removed);
+        return result;
+    }
+
+    public List<Map<String, Object>> getEndpointRoutes(String requestId) {
+        return endpointRouterService.getRoutes();
+    }
+
+    public Map<String, Object> refreshEndpointRoutes(String requestId, String performedBy) {
+        int routes = endpointRouterService.refresh();
+        log.info("Endpoint routes recompiled by {} ({} routes)", performedBy, routes);
+        Map<String, Object> result = new HashMap<>();
+        result.put("routes", routes);
+        return result;
+    }
+
+    public ApiEndpointRouterService.RouteMatch resolveEndpointRoute(String httpMethod, String path) {
+        return endpointRouterService.resolve(httpMethod, path);
+    }
+
+    public Map<String, Object> getRequestCoalescingStats(String requestId) {
+        return requestCoalescingService.getStats();
+    }
+
+    public Map<String, Object> getGraphQLStats(String requestId) {
+        return graphQLService.getStats();
+    }
+
+    public Map<String, Object> getCircuitBreakerStatus(String requestId) {
+        return circuitBreakerService.getStatus();
+    }
+
+    public Map<String, Object> resetCircuitBreaker(String requestId, String circuitName, String performedBy) {
+        if (!circuitBreakerService.reset(circuitName)) {
+            throw new RuntimeException("Circuit not found: " + circuitName);
+        }
+        log.info("Circuit {} reset by {}", circuitName, performedBy);
+        Map<String, Object> result = new HashMap<>();
+        result.put("circuit", circuitName);
+        result.put("state", ApiCircuitBreakerService.State.CLOSED.name());
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getApiBulkheadMetrics(String requestId, String apiId) {
+        GeneratedApiEntity api = generatedAPIRepository.findById(apiId)
+                .orElseThrow(() -> new RuntimeException("API not found: " + apiId));
+        return bulkheadService.getApiMetrics(api);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getQueryPlan(String requestId, String apiId) {
+        GeneratedApiEntity api = generatedAPIRepository.findById(apiId)
+                .orElseThrow(() -> new RuntimeException("API not found: " + apiId));
+
+        loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
+                ", Getting query plan for API: " + apiId);
+
+        return api.getQueryPlanInfo() != null ? api.getQueryPlanInfo() : new HashMap<>();
+    }
+
+
+    @Transactional
+    public Map<String, Object> refreshQueryPlan(String requestId, String apiId, String performedBy) {
+        GeneratedApiEntity api = generatedAPIRepository.findById(apiId)
+                .orElseThrow(() -> new RuntimeException("API not found: " + apiId));
+
+        Map<String, Object> planInfo = queryCostGuardService.analyzeApi(api);
+        generatedAPIRepository.save(api);
+
+        loggerUtil.log("autoAPIGenerator", "Request ID: " + requestId +
+                ", Query plan refreshed for API: " + apiId + " by: " + performedBy +
+                ", status: " + planInfo.get("status"));
+
+        return planInfo;
+    }
+
+
+
     public ApiAnalyticsDTO getApiAnalytics(String requestId, String apiId,
                                            LocalDateTime startDate, LocalDateTime endDate) {
         try {
@@ -3712,6 +4508,117 @@ public class AutoAPIGeneratorEngineService {
         return executionHelper.getApiEntity(generatedAPIRepository, apiId);
     }
 
+    // ==================== GENERATION JOB STAGES ====================
+
+    /**
+     * Artifact stages of generateApi. Each stage reloads the committed API in its own transaction,
+     * read-only: a stage writes back sourceRequestId alone, never the whole entity.
+     */
+    private Map<ApiGenerationJobService.Stage, ApiGenerationJobService.StageTask> buildGenerateStages(
+            String apiId, String performedBy, GenerateApiRequestDTO request, CollectionInfoDTO collectionInfo) {
+        Map<ApiGenerationJobService.Stage, ApiGenerationJobService.StageTask> stages =
+                new EnumMap<>(ApiGenerationJobService.Stage.class);
+
+        stages.put(ApiGenerationJobService.Stage.CODEBASE, outputs -> {
+            GeneratedApiEntity api = loadApiForGeneration(apiId);
+            return Collections.singletonMap("codeBaseRequestId",
+                    codeBaseGeneratorUtil.generate(api, performedBy, request, collectionInfo));
+        });
+
+        stages.put(ApiGenerationJobService.Stage.COLLECTIONS, outputs -> {
+            GeneratedApiEntity api = loadApiForGeneration(apiId);
+            Map<String, String> collectionResult = collectionsGeneratorUtil.generateWithDetails(
+                    api, performedBy, request, collectionInfo);
+            generatedAPIRepository.updateSourceRequestId(apiId, collectionResult.get("requestId"));
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("collectionsCollectionId", collectionResult.get("collectionId"));
+            result.put("collectionsRequestId", collectionResult.get("requestId"));
+            return result;
+        });
+
+        stages.put(ApiGenerationJobService.Stage.DOCUMENTATION, outputs -> {
+            GeneratedApiEntity api = loadApiForGeneration(apiId);
+            return Collections.singletonMap("documentationCollectionId",
+                    documentationGeneratorUtil.generate(api, performedBy, request,
+                            (String) outputs.get("codeBaseRequestId"),
+                            (String) outputs.get("collectionsCollectionId"), collectionInfo));
+        });
+
+        stages.put(ApiGenerationJobService.Stage.CODE, outputs ->
+                Collections.singletonMap("generatedFiles", generateApiCode(loadApiForGeneration(apiId))));
+
+        return stages;
+    }
+
+    /**
+     * Artifact stages of updateApi: the existing codebase request, collection request and
+     * documentation endpoint are updated in place
+     */
+    private Map<ApiGenerationJobService.Stage, ApiGenerationJobService.StageTask> buildUpdateStages(
+            String apiId, String performedBy, GenerateApiRequestDTO request, CollectionInfoDTO collectionInfo) {
+        Map<ApiGenerationJobService.Stage, ApiGenerationJobService.StageTask> stages =
+                new EnumMap<>(ApiGenerationJobService.Stage.class);
+
+        stages.put(ApiGenerationJobService.Stage.CODEBASE, outputs -> {
+            GeneratedApiEntity api = loadApiForGeneration(apiId);
+            updateCodeBase(api, performedBy, request, collectionInfo);
+            return Collections.singletonMap("codeBaseRequestId", getCodeBaseRequestId(api));
+        });
+
+        stages.put(ApiGenerationJobService.Stage.COLLECTIONS, outputs -> {
+            GeneratedApiEntity api = loadApiForGeneration(apiId);
+            updateCollections(api, performedBy, request, collectionInfo, api.getSourceRequestId());
+            return Collections.singletonMap("collectionsCollectionId", getCollectionsCollectionId(api));
+        });
+
+        stages.put(ApiGenerationJobService.Stage.DOCUMENTATION, outputs -> {
+            GeneratedApiEntity api = loadApiForGeneration(apiId);
+            updateDocumentation(api, performedBy, request, collectionInfo,
+                    (String) outputs.get("codeBaseRequestId"),
+                    (String) outputs.get("collectionsCollectionId"));
+            return Collections.singletonMap("documentationCollectionId", getDocumentationCollectionId(api));
+        });
+
+        stages.put(ApiGenerationJobService.Stage.CODE, outputs ->
+                Collections.singletonMap("generatedFiles", generateApiCode(loadApiForGeneration(apiId))));
+
+        return stages;
+    }
+
+    private GeneratedApiEntity loadApiForGeneration(String apiId) {
+        GeneratedApiEntity api = generatedAPIRepository.findById(apiId)
+                .orElseThrow(() -> new RuntimeException("API not found: " + apiId));
+        // A concurrent updateApi may commit while the stage runs; the stage must not write its stale copy back
+        entityManager.unwrap(Session.class).setReadOnly(api, true);
+        return api;
+    }
+
+    public Map<String, Object> getGenerationJob(String requestId, String jobId) {
+        return generationJobService.getJob(jobId).toMap();
+    }
+
+    public Map<String, Object> getGenerationJobs(String requestId, String apiId) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("stats", generationJobService.getStats());
+        result.put("jobs", generationJobService.getJobs(apiId).stream()
+                .map(ApiGenerationJobService.GenerationJob::toMap)
+                .collect(Collectors.toList()));
+        return result;
+    }
+
+    public Map<String, Object> retryGenerationStage(String requestId, String jobId, String stage, String performedBy) {
+        ApiGenerationJobService.Stage parsedStage;
+        try {
+            parsedStage = ApiGenerationJobService.Stage.valueOf(stage.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown generation stage: " + stage +
+                    ". Expected one of " + Arrays.toString(ApiGenerationJobService.Stage.values()));
+        }
+        log.info("Generation job {} stage {} retried by {}", jobId, parsedStage, performedBy);
+        return generationJobService.retryStage(jobId, parsedStage).toMap();
+    }
+
     // ==================== DELEGATED METHODS ====================
 
     public Map<String, String> generateApiCode(GeneratedApiEntity api) {
@@ -4197,7 +5104,8 @@ public class AutoAPIGeneratorEngineService {
         }
 
         // ============ 5. HANDLE FILE UPLOADS FROM FILE MAP (PREFERRED) ============
-        // This handles named file parameters sent via multipart/form-data
+        // This handles named file parameters sent via multipart/form-data.
+        // Files are never read into memory here - the executors stream them into BLOB / bytea columns.
         if (executeRequest.getFileMap() != null && !executeRequest.getFileMap().isEmpty()) {
             log.info("Processing named file map: {} entries", executeRequest.getFileMap().size());
 
@@ -4205,41 +5113,20 @@ public class AutoAPIGeneratorEngineService {
                 String paramName = entry.getKey();
                 MultipartFile file = entry.getValue();
 
-                log.info("  Processing named file: {} -> {}", paramName, file.getOriginalFilename());
+                log.info("  Processing named file: {} -> {} ({} bytes)", paramName, file.getOriginalFilename(), file.getSize());
 
-                try {
-                    byte[] fileBytes = file.getBytes();
-                    String databaseType = api.getDatabaseType() != null ? api.getDatabaseType() : "oracle";
-
-                    // Store the file in multiple formats for flexibility
-                    allParams.put(paramName, fileBytes);           // Raw bytes
-                    allParams.put(paramName + "_file", file);      // Original MultipartFile
-                    allParams.put(paramName + "_name", file.getOriginalFilename());
-                    allParams.put(paramName + "_size", file.getSize());
-                    allParams.put(paramName + "_content_type", file.getContentType());
-
-                    // Database-specific storage
-                    if ("postgresql".equalsIgnoreCase(databaseType)) {
-                        allParams.put(paramName + "_bytea", fileBytes);
-                        log.info("Stored file for parameter '{}' as bytea ({} bytes) for PostgreSQL", paramName, fileBytes.length);
-                    } else if ("oracle".equalsIgnoreCase(databaseType)) {
-                        allParams.put(paramName + "_blob", fileBytes);
-                        log.info("Stored file for parameter '{}' as BLOB ({} bytes) for Oracle", paramName, fileBytes.length);
-                    }
-
-                    // Also add to body if body is a Map (for consistency)
-                    if (executeRequest.getBody() instanceof Map) {
-                        ((Map<String, Object>) executeRequest.getBody()).put(paramName, file);
-                        ((Map<String, Object>) executeRequest.getBody()).put(paramName + "_data", fileBytes);
-                        ((Map<String, Object>) executeRequest.getBody()).put(paramName + "_name", file.getOriginalFilename());
-                    }
+                allParams.put(paramName, file);
+                allParams.put(paramName + "_name", file.getOriginalFilename());
+                allParams.put(paramName + "_size", file.getSize());
+                allParams.put(paramName + "_content_type", file.getContentType());
 
-                    log.info("Successfully stored file for parameter: {}", paramName);
-
-                } catch (IOException e) {
-                    log.error("Failed to read uploaded file for parameter {}: {}", paramName, e.getMessage(), e);
-                    throw new RuntimeException("Failed to process file upload for parameter '" + paramName + "': " + e.getMessage(), e);
+                // Also add to body if body is a Map (for consistency)
+                if (executeRequest.getBody() instanceof Map) {
+                    ((Map<String, Object>) executeRequest.getBody()).put(paramName, file);
+                    ((Map<String, Object>) executeRequest.getBody()).put(paramName + "_name", file.getOriginalFilename());
                 }
+
+                log.info("Successfully stored file for parameter: {}", paramName);
             }
         }
 
@@ -4247,58 +5134,33 @@ public class AutoAPIGeneratorEngineService {
         // This handles cases where a single file is sent without a parameter name
         if (executeRequest.getFile() != null && !executeRequest.getFile().isEmpty()) {
             MultipartFile file = executeRequest.getFile();
-            log.info("Processing single file upload: {}", file.getOriginalFilename());
+            log.info("Processing single file upload: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
 
-            try {
-                // Find which parameter should receive this file
-                ApiParameterEntity fileParameter = findFileParameter(api);
-                byte[] fileBytes = file.getBytes();
-                String databaseType = api.getDatabaseType() != null ? api.getDatabaseType() : "oracle";
-
-                if (fileParameter != null) {
-                    String paramKey = fileParameter.getKey();
-                    log.info("Mapping single file to parameter: {} for database: {}", paramKey, databaseType);
-
-                    // Store file data based on database type
-                    allParams.put(paramKey, fileBytes);
-                    allParams.put(paramKey + "_file", file);
-                    allParams.put(paramKey + "_name", file.getOriginalFilename());
-                    allParams.put(paramKey + "_size", file.getSize());
-                    allParams.put(paramKey + "_content_type", file.getContentType());
-
-                    if ("postgresql".equalsIgnoreCase(databaseType)) {
-                        allParams.put(paramKey + "_bytea", fileBytes);
-                        log.info("Stored file as bytea ({} bytes) for PostgreSQL", fileBytes.length);
-                    } else if ("oracle".equalsIgnoreCase(databaseType)) {
-                        allParams.put(paramKey + "_blob", fileBytes);
-                        log.info("Stored file as BLOB ({} bytes) for Oracle", fileBytes.length);
-                    }
+            // Find which parameter should receive this file
+            ApiParameterEntity fileParameter = findFileParameter(api);
 
-                    // Also add to body if body is a Map (for consistency)
-                    if (executeRequest.getBody() instanceof Map) {
-                        ((Map<String, Object>) executeRequest.getBody()).put(paramKey, file);
-                        ((Map<String, Object>) executeRequest.getBody()).put(paramKey + "_data", fileBytes);
-                        ((Map<String, Object>) executeRequest.getBody()).put(paramKey + "_name", file.getOriginalFilename());
-                    }
+            if (fileParameter != null) {
+                String paramKey = fileParameter.getKey();
+                log.info("Mapping single file to parameter: {} for database: {}", paramKey, api.getDatabaseType());
 
-                } else {
-                    // No specific file parameter found, store with default key
-                    log.warn("No file parameter configured for API, storing with default key 'file'");
-                    allParams.put("file", fileBytes);
-                    allParams.put("file_name", file.getOriginalFilename());
-                    allParams.put("file_content_type", file.getContentType());
-                    allParams.put("file_size", file.getSize());
-
-                    if ("postgresql".equalsIgnoreCase(databaseType)) {
-                        allParams.put("file_bytea", fileBytes);
-                    } else if ("oracle".equalsIgnoreCase(databaseType)) {
-                        allParams.put("file_blob", fileBytes);
-                    }
+                allParams.put(paramKey, file);
+                allParams.put(paramKey + "_name", file.getOriginalFilename());
+                allParams.put(paramKey + "_size", file.getSize());
+                allParams.put(paramKey + "_content_type", file.getContentType());
+
+                // Also add to body if body is a Map (for consistency)
+                if (executeRequest.getBody() instanceof Map) {
+                    ((Map<String, Object>) executeRequest.getBody()).put(paramKey, file);
+                    ((Map<String, Object>) executeRequest.getBody()).put(paramKey + "_name", file.getOriginalFilename());
                 }
 
-            } catch (IOException e) {
-                log.error("Failed to read uploaded file: {}", e.getMessage(), e);
-                throw new RuntimeException("Failed to process file upload: " + e.getMessage(), e);
+            } else {
+                // No specific file parameter found, store with default key
+                log.warn("No file parameter configured for API, storing with default key 'file'");
+                allParams.put("file", file);
+                allParams.put("file_name", file.getOriginalFilename());
+                allParams.put("file_content_type", file.getContentType());
+                allParams.put("file_size", file.getSize());
             }
         }
 
@@ -4308,45 +5170,31 @@ public class AutoAPIGeneratorEngineService {
 
             List<Map<String, Object>> fileList = new ArrayList<>();
             Map<String, Object> filesByParam = new HashMap<>();
+            List<ApiParameterEntity> fileParameters = findFileParameters(api);
 
             for (int i = 0; i < executeRequest.getFiles().size(); i++) {
                 MultipartFile file = executeRequest.getFiles().get(i);
                 log.info("  Processing file {}: {}", i, file.getOriginalFilename());
 
-                try {
-                    byte[] fileBytes = file.getBytes();
-                    String databaseType = api.getDatabaseType() != null ? api.getDatabaseType() : "oracle";
-
-                    Map<String, Object> fileInfo = new HashMap<>();
-                    fileInfo.put("index", i);
-                    fileInfo.put("data", fileBytes);
-                    fileInfo.put("name", file.getOriginalFilename());
-                    fileInfo.put("contentType", file.getContentType());
-                    fileInfo.put("size", file.getSize());
-
-                    if ("oracle".equalsIgnoreCase(databaseType)) {
-                        fileInfo.put("oracle_blob", fileBytes);
-                    }
-
-                    fileList.add(fileInfo);
-
-                    // Try to map to parameters if multiple file parameters exist
-                    List<ApiParameterEntity> fileParameters = findFileParameters(api);
-                    if (i < fileParameters.size()) {
-                        String paramKey = fileParameters.get(i).getKey();
-                        filesByParam.put(paramKey, fileBytes);
-                        filesByParam.put(paramKey + "_metadata", fileInfo);
-                        filesByParam.put(paramKey + "_name", file.getOriginalFilename());
-                        log.info("  Mapped file {} to parameter: {}", file.getOriginalFilename(), paramKey);
-                    } else {
-                        // Store with index if no specific mapping
-                        filesByParam.put("file_" + i, fileBytes);
-                        filesByParam.put("file_" + i + "_name", file.getOriginalFilename());
-                    }
-
-                } catch (IOException e) {
-                    log.error("Failed to read uploaded file {}: {}", i, e.getMessage(), e);
-                    throw new RuntimeException("Failed to process file upload: " + e.getMessage(), e);
+                Map<String, Object> fileInfo = new HashMap<>();
+                fileInfo.put("index", i);
+                fileInfo.put("name", file.getOriginalFilename());
+                fileInfo.put("contentType", file.getContentType());
+                fileInfo.put("size", file.getSize());
+
+                fileList.add(fileInfo);
+
+                // Try to map to parameters if multiple file parameters exist
+                if (i < fileParameters.size()) {
+                    String paramKey = fileParameters.get(i).getKey();
+                    filesByParam.put(paramKey, file);
+                    filesByParam.put(paramKey + "_metadata", fileInfo);
+                    filesByParam.put(paramKey + "_name", file.getOriginalFilename());
+                    log.info("  Mapped file {} to parameter: {}", file.getOriginalFilename(), paramKey);
+                } else {
+                    // Store with index if no specific mapping
+                    filesByParam.put("file_" + i, file);
+                    filesByParam.put("file_" + i + "_name", file.getOriginalFilename());
                 }
             }
 
@@ -4703,49 +5551,6 @@ public class AutoAPIGeneratorEngineService {
     }
 
 
-    /**
-     * Parse XML body and extract parameter values
-     */
-    private Map<String, Object> parseXmlParameters(String xmlBody, List<ApiParameterEntity> parameters) {
-        Map<String, Object> extractedParams = new HashMap<>();
-
-        if (xmlBody == null || xmlBody.trim().isEmpty()) {
-            return extractedParams;
-        }
-
-        log.info("Parsing XML body to extract parameter values");
-
-        try {
-            // For each parameter, try to extract its value from XML
-            for (ApiParameterEntity param : parameters) {
-                String paramKey = param.getKey();
-                if (paramKey == null || paramKey.isEmpty()) {
-                    continue;
-                }
-
-                // Look for XML tags with this key (case-insensitive)
-                Pattern pattern = Pattern.compile("<" + paramKey + ">(.*?)</" + paramKey + ">",
-                        Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
-                Matcher matcher = pattern.matcher(xmlBody);
-
-                if (matcher.find()) {
-                    String value = matcher.group(1).trim();
-                    extractedParams.put(paramKey, value);
-                    log.info("✅ Extracted XML parameter: {} = {}", paramKey, value);
-                }
-            }
-
-            log.info("Extracted {} parameters from XML: {}", extractedParams.size(), extractedParams.keySet());
-
-        } catch (Exception e) {
-            log.error("Error parsing XML parameters: {}", e.getMessage(), e);
-        }
-
-        return extractedParams;
-    }
-
-
-
     /**
      * Check if the requesting IP is whitelisted and has access to the endpoint
      * DENY BY DEFAULT - Only allow if explicitly whitelisted
@@ -4851,6 +5656,14 @@ public class AutoAPIGeneratorEngineService {
         }
     }
 
+    private boolean isRequestCoalescingEnabled(GeneratedApiEntity api) {
+        return api.getSettings() != null && Boolean.TRUE.equals(api.getSettings().getEnableRequestCoalescing());
+    }
+
+    private boolean isBinaryDownloadEnabled(GeneratedApiEntity api) {
+        return api.getSettings() != null && Boolean.TRUE.equals(api.getSettings().getEnableBinaryDownload());
+    }
+
     /**
      * Check if a path matches an allowed pattern
      * Supports:
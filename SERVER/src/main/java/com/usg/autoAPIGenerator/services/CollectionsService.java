@@ -943,6 +943,9 @@ public class CollectionsService {
         dto.setLogLevel(entity.getLogLevel());
         dto.setEnableCaching(entity.getEnableCaching());
         dto.setCacheTtl(entity.getCacheTtl());
+        dto.setCacheMaxEntries(entity.getCacheMaxEntries());
+        dto.setCacheMaxBytes(entity.getCacheMaxBytes());
+        dto.setEnableRequestCoalescing(entity.getEnableRequestCoalescing());
         dto.setEnableRateLimiting(entity.getEnableRateLimiting());
         dto.setRateLimit(entity.getRateLimit());
         dto.setRateLimitPeriod(entity.getRateLimitPeriod());
@@ -956,6 +959,11 @@ public class CollectionsService {
         dto.setAlertEmail(entity.getAlertEmail());
         dto.setEnableTracing(entity.getEnableTracing());
         dto.setCorsEnabled(entity.getCorsEnabled());
+        dto.setMaxPlanCost(entity.getMaxPlanCost());
+        dto.setEnforcePlanCost(entity.getEnforcePlanCost());
+        dto.setMaxConcurrentExecutions(entity.getMaxConcurrentExecutions());
+        dto.setConcurrencyQueueTimeoutMs(entity.getConcurrencyQueueTimeoutMs());
+        dto.setEnableBinaryDownload(entity.getEnableBinaryDownload());
 
         if (entity.getCorsOrigins() != null) {
             dto.setCorsOrigins(Arrays.asList(entity.getCorsOrigins().split(",")));
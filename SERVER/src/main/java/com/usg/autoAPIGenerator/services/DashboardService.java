@@ -36,6 +36,7 @@ public class DashboardService {
     private final ApiAuthConfigRepository authConfigRepository;
     private final GeneratedAPIRepository generatedAPIRepository;
     private final ApiRequestRepository apiRequestRepository;
+    private final ApiIndexAdvisorService indexAdvisorService;
 
     // Inner classes for structured data
     private static class FolderData {
@@ -714,6 +715,15 @@ public class DashboardService {
         return new DashboardDocumentationResponseDTO(docs);
     }
 
+    // ============================================================
+    // 10a. INDEX ADVICE (generated table APIs)
+    // ============================================================
+    public Map<String, Object> getDashboardIndexAdvice(String requestId, HttpServletRequest req, String performedBy,
+                                                       String databaseType, int days, int minCalls) {
+        loggerUtil.log("dashboard", "Request ID: " + requestId + ", Building index advice for last " + days + " days");
+        return indexAdvisorService.getIndexAdvice(databaseType, null, null, days, minCalls);
+    }
+
     // ============================================================
     // 11. MOCK SERVERS OVERVIEW
     // ============================================================
@@ -5,7 +5,9 @@ import com.usg.autoAPIGenerator.enums.DatabaseTypeEnum;
 import com.usg.autoAPIGenerator.enums.PostgreSQLSqlStatementTypeEnum;
 import com.usg.autoAPIGenerator.interfaces.DatabaseSchemaService;
 import com.usg.autoAPIGenerator.repositories.schemaBrowser.postgresql.*;
+import com.usg.autoAPIGenerator.services.ApiIndexAdvisorService;
 import com.usg.autoAPIGenerator.utils.LoggerUtil;
+import jakarta.annotation.PreDestroy;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +19,13 @@ import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -39,6 +48,7 @@ public class PostgreSQLSchemaService implements DatabaseSchemaService {
     private final PostgreSQLRepository repository;
 
     private final LoggerUtil loggerUtil;
+    private final ApiIndexAdvisorService indexAdvisorService;
 
     @Autowired
     @Qualifier("postgresqlJdbcTemplate")
@@ -46,6 +56,29 @@ public class PostgreSQLSchemaService implements DatabaseSchemaService {
     @Autowired
     private JdbcTemplate oracleJdbcTemplate;
 
+    // Object counts cache per schema - cleared whenever DDL runs through the schema browser
+    private static final long OBJECT_COUNTS_CACHE_TTL = 300000; // 5 minutes
+    private static final int OBJECT_COUNTS_CACHE_MAX_SCHEMAS = 256;
+    private static final int OBJECT_COUNTS_PARALLELISM = 4;
+
+    // schema -> counts, least recently used schema evicted first
+    private final Map<String, CachedObjectCounts> objectCountsCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedObjectCounts> eldest) {
+                    return size() > OBJECT_COUNTS_CACHE_MAX_SCHEMAS;
+                }
+            });
+    private final ExecutorService objectCountsExecutor = Executors.newFixedThreadPool(OBJECT_COUNTS_PARALLELISM);
+
+    // Keyset table data pages loaded ahead of the viewer, served once and then dropped
+    private static final long TABLE_PAGE_PREFETCH_TTL = 30000; // 30 seconds
+    private static final int TABLE_PAGE_PREFETCH_MAX_ENTRIES = 200;
+
+    private final Map<String, Map<String, Object>> prefetchedTablePages = new ConcurrentHashMap<>();
+    private final Map<String, Long> prefetchedTablePageTimestamps = new ConcurrentHashMap<>();
+    private final ExecutorService tableDataPrefetchExecutor = Executors.newFixedThreadPool(2);
+
     // ============================================================
     // 1. CURRENT SCHEMA INFO
     // ============================================================
@@ -977,6 +1010,132 @@ public class PostgreSQLSchemaService implements DatabaseSchemaService {
         }
     }
 
+    // ============================================================
+    // 17a. KEYSET TABLE DATA SERVICE METHOD
+    // ============================================================
+
+    public Map<String, Object> getTableDataKeyset(String requestId, HttpServletRequest req,
+                                                  String performedBy, String tableName, int pageSize,
+                                                  String cursor, String sortDirection, String filter,
+                                                  boolean exactCount, boolean prefetch) {
+        log.info("RequestEntity ID: {}, Getting keyset table data for: {}, pageSize: {}, cursor: {}, filter: {}",
+                requestId, tableName, pageSize, cursor, filter);
+
+        try {
+            String pageKey = buildTablePageKey(tableName, pageSize, cursor, sortDirection, filter, exactCount);
+            Map<String, Object> tableData = takePrefetchedTablePage(pageKey);
+            boolean prefetched = tableData != null;
+            if (!prefetched) {
+                tableData = tableRepository.getTableDataKeyset(
+                        tableName, pageSize, cursor, sortDirection, filter, exactCount);
+            }
+
+            if (prefetch && Boolean.TRUE.equals(tableData.get("hasMore"))) {
+                prefetchTablePage(tableName, pageSize, (String) tableData.get("nextCursor"),
+                        sortDirection, filter, exactCount);
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("data", tableData);
+            result.put("prefetched", prefetched);
+            result.put("responseCode", 200);
+            result.put("message", "Table data retrieved successfully");
+            result.put("requestId", requestId);
+            result.put("timestamp", java.time.Instant.now().toString());
+
+            return result;
+
+        } catch (Exception e) {
+            log.error("RequestEntity ID: {}, Error getting keyset table data for {}: {}",
+                    requestId, tableName, e.getMessage());
+
+            return createErrorResponse(requestId, e.getMessage());
+        }
+    }
+
+    private void prefetchTablePage(String tableName, int pageSize, String cursor,
+                                   String sortDirection, String filter, boolean exactCount) {
+        String pageKey = buildTablePageKey(tableName, pageSize, cursor, sortDirection, filter, exactCount);
+        evictExpiredTablePages();
+        if (prefetchedTablePages.containsKey(pageKey)
+                || prefetchedTablePages.size() >= TABLE_PAGE_PREFETCH_MAX_ENTRIES) {
+            return;
+        }
+
+        try {
+            tableDataPrefetchExecutor.execute(() -> {
+                try {
+                    Map<String, Object> page = tableRepository.getTableDataKeyset(
+                            tableName, pageSize, cursor, sortDirection, filter, exactCount);
+                    prefetchedTablePages.put(pageKey, page);
+                    prefetchedTablePageTimestamps.put(pageKey, System.currentTimeMillis());
+                } catch (Exception e) {
+                    log.debug("Prefetch of next page for table {} failed: {}", tableName, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Prefetch of next page for table {} skipped: {}", tableName, e.getMessage());
+        }
+    }
+
+    private Map<String, Object> takePrefetchedTablePage(String pageKey) {
+        Long prefetchedAt = prefetchedTablePageTimestamps.remove(pageKey);
+        Map<String, Object> page = prefetchedTablePages.remove(pageKey);
+        if (page == null || prefetchedAt == null
+                || System.currentTimeMillis() - prefetchedAt > TABLE_PAGE_PREFETCH_TTL) {
+            return null;
+        }
+        return page;
+    }
+
+    private void evictExpiredTablePages() {
+        long now = System.currentTimeMillis();
+        prefetchedTablePageTimestamps.entrySet().removeIf(entry -> {
+            if (now - entry.getValue() > TABLE_PAGE_PREFETCH_TTL) {
+                prefetchedTablePages.remove(entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private String buildTablePageKey(String tableName, int pageSize, String cursor,
+                                     String sortDirection, String filter, boolean exactCount) {
+        return String.join("|", tableName.toUpperCase(), String.valueOf(pageSize), String.valueOf(cursor),
+                String.valueOf(sortDirection).toUpperCase(), String.valueOf(filter), String.valueOf(exactCount));
+    }
+
+    // ============================================================
+    // 17b. TABLE INDEX ADVICE SERVICE METHOD
+    // ============================================================
+
+    public Map<String, Object> getTableIndexAdvice(String requestId, HttpServletRequest req,
+                                                   String performedBy, String tableName,
+                                                   int days, int minCalls) {
+        log.info("RequestEntity ID: {}, Getting index advice for table: {}, days: {}, minCalls: {}",
+                requestId, tableName, days, minCalls);
+
+        try {
+            Map<String, Object> advice = indexAdvisorService.getIndexAdvice(
+                    "postgresql", repository.getCurrentSchema(), tableName, days, minCalls);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("data", advice);
+            result.put("responseCode", 200);
+            result.put("message", "Index advice retrieved successfully");
+            result.put("requestId", requestId);
+            result.put("timestamp", java.time.Instant.now().toString());
+
+            return result;
+
+        } catch (Exception e) {
+            log.error("RequestEntity ID: {}, Error getting index advice for {}: {}",
+                    requestId, tableName, e.getMessage());
+
+            return createErrorResponse(requestId, e.getMessage());
+        }
+    }
+
     // ============================================================
     // 18. PAGINATED PROCEDURE PARAMETERS SERVICE METHOD
     // ============================================================
@@ -1898,11 +2057,14 @@ public class PostgreSQLSchemaService implements DatabaseSchemaService {
                 case FUNCTION:
                 case PACKAGE:
                     queryResults = postgreSQLExecuteRepository.executeStoredProgram(trimmedQuery, statementType, timeoutSeconds);
+                    invalidateObjectCountsCache();
                     break;
 
                 case PLSQL_BLOCK:
                 case ANONYMOUS_BLOCK:
                     queryResults = postgreSQLExecuteRepository.executePlPgSqlBlock(query, timeoutSeconds, readOnly);
+                    // DO blocks may run DDL through EXECUTE
+                    invalidateObjectCountsCache();
                     break;
 
                 // Inside your executeQuery method, when handling DDL operations
@@ -1922,6 +2084,7 @@ public class PostgreSQLSchemaService implements DatabaseSchemaService {
                     Map<String, String> ddlInfo = parseDDLStatement(query, statementType);
 
                     queryResults = postgreSQLExecuteRepository.executeDdl(query);
+                    invalidateObjectCountsCache();
 
                     // Add DDL metadata to results for better messaging
                     if (queryResults != null) {
@@ -2748,7 +2911,7 @@ public class PostgreSQLSchemaService implements DatabaseSchemaService {
         log.info("RequestEntity ID: {}, Getting all object counts", requestId);
 
         try {
-            Map<String, Object> counts = repository.getAllObjectCounts();
+            Map<String, Object> counts = getCachedObjectCounts(repository.getCurrentSchema(), true, false);
 
             Map<String, Object> result = new HashMap<>();
             result.put("data", counts);
@@ -2767,6 +2930,113 @@ public class PostgreSQLSchemaService implements DatabaseSchemaService {
         }
     }
 
+    public Map<String, Object> getObjectCountsForSchemas(String requestId, HttpServletRequest req, String performedBy,
+                                                         List<String> schemas, boolean refresh) {
+        log.info("RequestEntity ID: {}, Getting object counts for schemas: {}, refresh: {}", requestId, schemas, refresh);
+
+        try {
+            Set<String> schemaNames = new LinkedHashSet<>();
+            if (schemas != null) {
+                for (String schema : schemas) {
+                    if (schema != null && !schema.isBlank()) {
+                        schemaNames.add(schema.trim());
+                    }
+                }
+            }
+            String currentSchema = repository.getCurrentSchema();
+            if (schemaNames.isEmpty()) {
+                schemaNames.add(currentSchema);
+            }
+
+            // Fan out one grouped count query per schema on the bounded executor
+            Map<String, CompletableFuture<Map<String, Object>>> pending = new LinkedHashMap<>();
+            for (String schemaName : schemaNames) {
+                pending.put(schemaName, CompletableFuture.supplyAsync(
+                        () -> getCachedObjectCounts(schemaName, schemaName.equals(currentSchema), refresh), objectCountsExecutor));
+            }
+
+            Map<String, Object> countsBySchema = new LinkedHashMap<>();
+            for (Map.Entry<String, CompletableFuture<Map<String, Object>>> entry : pending.entrySet()) {
+                try {
+                    countsBySchema.put(entry.getKey(), entry.getValue().join());
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    log.error("RequestEntity ID: {}, Error counting objects for schema {}: {}",
+                            requestId, entry.getKey(), cause.getMessage());
+                    countsBySchema.put(entry.getKey(), Map.of("error", String.valueOf(cause.getMessage())));
+                }
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("data", countsBySchema);
+            result.put("schemaCount", countsBySchema.size());
+            result.put("responseCode", 200);
+            result.put("message", "Object counts retrieved successfully");
+            result.put("requestId", requestId);
+            result.put("timestamp", java.time.Instant.now().toString());
+
+            return result;
+
+        } catch (Exception e) {
+            log.error("RequestEntity ID: {}, Error getting object counts for schemas: {}", requestId, e.getMessage());
+
+            return createErrorResponse(requestId, e.getMessage());
+        }
+    }
+
+    /**
+     * The current schema keeps the original information_schema counts; other schemas are counted
+     * through the catalog.
+     */
+    private Map<String, Object> getCachedObjectCounts(String schemaName, boolean currentSchema, boolean refresh) {
+        // The two scopes count differently, so they are cached under different keys
+        String cacheKey = (currentSchema ? "current:" : "schema:") + schemaName;
+        CachedObjectCounts cached = objectCountsCache.get(cacheKey);
+        if (!refresh && cached != null && System.currentTimeMillis() - cached.cachedAt < OBJECT_COUNTS_CACHE_TTL) {
+            return cached.counts;
+        }
+
+        // Errors propagate rather than caching all-zero counts for the whole TTL
+        Map<String, Object> counts = currentSchema
+                ? repository.queryAllObjectCounts()
+                : repository.getObjectCountsForSchema(schemaName);
+        objectCountsCache.put(cacheKey, new CachedObjectCounts(counts, System.currentTimeMillis()));
+        return counts;
+    }
+
+    private static class CachedObjectCounts {
+        final Map<String, Object> counts;
+        final long cachedAt;
+
+        CachedObjectCounts(Map<String, Object> counts, long cachedAt) {
+            this.counts = counts;
+            this.cachedAt = cachedAt;
+        }
+    }
+
+    /**
+     * Drops all cached object counts. DDL may target any schema through qualified
+     * names, so every schema is invalidated rather than just the current one.
+     */
+    public void invalidateObjectCountsCache() {
+        objectCountsCache.clear();
+    }
+
+    @PreDestroy
+    public void shutdownExecutors() {
+        for (ExecutorService executor : List.of(objectCountsExecutor, tableDataPrefetchExecutor)) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     public Map<String, Object> resolveSynonymTarget(String requestId, HttpServletRequest req,
                                                     String performedBy, String synonymName) {
         log.info("RequestEntity ID: {}, Synonyms not supported in PostgreSQL", requestId);
@@ -0,0 +1,61 @@
+package com.usg.autoAPIGenerator.utils.apiEngine;
+
+import javax.sql.DataSource;
+
+/**
+ * Holds the datasource target a generated API is currently executing against.
+ * The engine binds it around database execution; the Oracle routing DataSource
+ * and the PostgreSQL execution connection util consult it when handing out
+ * connections, so executors route to the target without being aware of it.
+ */
+public final class ApiDataSourceContextHolder {
+
+    private static final ThreadLocal<Target> CURRENT = new ThreadLocal<>();
+
+    private ApiDataSourceContextHolder() {
+    }
+
+    /**
+     * Bind a target for the current thread. Closing the returned scope restores the previous binding.
+     * A null dataSource binds nothing, which keeps call sites free of null checks.
+     */
+    public static Scope bind(String databaseType, DataSource dataSource) {
+        Target previous = CURRENT.get();
+        if (dataSource != null) {
+            CURRENT.set(new Target(databaseType != null ? databaseType.toLowerCase() : null, dataSource));
+        }
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * The bound DataSource if one is bound for the given database type, otherwise null
+     */
+    public static DataSource getDataSource(String databaseType) {
+        Target target = CURRENT.get();
+        if (target == null || databaseType == null || !databaseType.equalsIgnoreCase(target.databaseType)) {
+            return null;
+        }
+        return target.dataSource;
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static class Target {
+        final String databaseType;
+        final DataSource dataSource;
+
+        Target(String databaseType, DataSource dataSource) {
+            this.databaseType = databaseType;
+            this.dataSource = dataSource;
+        }
+    }
+}
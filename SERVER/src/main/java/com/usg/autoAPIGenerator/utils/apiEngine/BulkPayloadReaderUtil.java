@@ -0,0 +1,239 @@
+package com.usg.autoAPIGenerator.utils.apiEngine;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams rows out of a bulk request body one at a time.
+ * Supported formats:
+ * 1. JSON array of objects (or a single object)
+ * 2. NDJSON / JSON Lines (one object per line)
+ * 3. CSV with a header row (RFC 4180 quoting)
+ */
+@Slf4j
+@Component
+public class BulkPayloadReaderUtil {
+
+    public static final String FORMAT_JSON = "json";
+    public static final String FORMAT_NDJSON = "ndjson";
+    public static final String FORMAT_CSV = "csv";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Row iterator over a request body; must be closed once consumed
+     */
+    public interface RowSource extends Iterator<Map<String, Object>>, Closeable {
+    }
+
+    /**
+     * Resolve the payload format from an explicit format value or the Content-Type header
+     */
+    public String resolveFormat(String format, String contentType) {
+        if (format != null && !format.trim().isEmpty()) {
+            String normalized = format.trim().toLowerCase();
+            if ("jsonl".equals(normalized)) {
+                return FORMAT_NDJSON;
+            }
+            if (FORMAT_JSON.equals(normalized) || FORMAT_NDJSON.equals(normalized) || FORMAT_CSV.equals(normalized)) {
+                return normalized;
+            }
+            throw new ValidationException("Unsupported bulk format: " + format + ". Use json, ndjson or csv.");
+        }
+
+        String type = contentType != null ? contentType.toLowerCase() : "";
+        if (type.contains("ndjson") || type.contains("jsonl") || type.contains("json-seq")) {
+            return FORMAT_NDJSON;
+        }
+        if (type.contains("csv")) {
+            return FORMAT_CSV;
+        }
+        return FORMAT_JSON;
+    }
+
+    /**
+     * Open a streaming row source over the given input stream
+     */
+    public RowSource open(InputStream inputStream, String format) throws IOException {
+        if (inputStream == null) {
+            throw new ValidationException("Request body is required for bulk operations");
+        }
+
+        if (FORMAT_CSV.equals(format)) {
+            return new CsvRowSource(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+        }
+
+        // Jackson iterates the elements of a root-level array as well as whitespace-separated values,
+        // so the same reader covers both JSON arrays and NDJSON
+        MappingIterator<Map<String, Object>> iterator = objectMapper
+                .readerFor(Map.class)
+                .readValues(inputStream);
+        return new JsonRowSource(iterator);
+    }
+
+    private static class JsonRowSource implements RowSource {
+        private final MappingIterator<Map<String, Object>> iterator;
+
+        JsonRowSource(MappingIterator<Map<String, Object>> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return iterator.hasNextValue();
+            } catch (IOException e) {
+                throw new ValidationException("Invalid JSON in bulk payload: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public Map<String, Object> next() {
+            try {
+                return iterator.nextValue();
+            } catch (IOException e) {
+                throw new ValidationException("Invalid JSON in bulk payload: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+        }
+    }
+
+    private static class CsvRowSource implements RowSource {
+        private final Reader reader;
+        private final List<String> header;
+        private List<String> nextRecord;
+        private long lineNumber = 1;
+
+        CsvRowSource(Reader reader) throws IOException {
+            this.reader = reader;
+            this.header = readRecord();
+            if (header == null || header.isEmpty()) {
+                throw new ValidationException("CSV payload must start with a header row");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                header.set(i, header.get(i).replace("\uFEFF", "").trim());
+            }
+            this.nextRecord = readRecord();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRecord != null;
+        }
+
+        @Override
+        public Map<String, Object> next() {
+            if (nextRecord == null) {
+                throw new NoSuchElementException();
+            }
+            List<String> record = nextRecord;
+            if (record.size() != header.size()) {
+                throw new ValidationException(String.format(
+                        "CSV record near line %d has %d fields, expected %d", lineNumber, record.size(), header.size()));
+            }
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = record.get(i);
+                // Empty unquoted CSV fields are treated as NULL
+                row.put(header.get(i), value.isEmpty() ? null : value);
+            }
+
+            try {
+                nextRecord = readRecord();
+            } catch (IOException e) {
+                throw new ValidationException("Failed to read CSV payload: " + e.getMessage());
+            }
+            return row;
+        }
+
+        /**
+         * Read one CSV record, honouring quoted fields that contain delimiters or line breaks.
+         * Returns null at end of input; blank lines are skipped.
+         */
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean inQuotes = false;
+            boolean sawAnything = false;
+            int c;
+
+            while ((c = reader.read()) != -1) {
+                char ch = (char) c;
+                sawAnything = true;
+
+                if (inQuotes) {
+                    if (ch == '"') {
+                        reader.mark(1);
+                        int peek = reader.read();
+                        if (peek == '"') {
+                            field.append('"');
+                        } else {
+                            inQuotes = false;
+                            if (peek != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        if (ch == '\n') {
+                            lineNumber++;
+                        }
+                        field.append(ch);
+                    }
+                } else if (ch == '"') {
+                    inQuotes = true;
+                } else if (ch == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (ch == '\r') {
+                    // handled with the following \n
+                } else if (ch == '\n') {
+                    lineNumber++;
+                    if (fields.isEmpty() && field.length() == 0) {
+                        sawAnything = false;
+                        continue;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append(ch);
+                }
+            }
+
+            if (inQuotes) {
+                throw new ValidationException("Unterminated quoted field in CSV payload near line " + lineNumber);
+            }
+            if (!sawAnything) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
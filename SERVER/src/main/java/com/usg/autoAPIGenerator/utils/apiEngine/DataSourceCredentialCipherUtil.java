@@ -0,0 +1,102 @@
+package com.usg.autoAPIGenerator.utils.apiEngine;
+
+import com.usg.autoAPIGenerator.exceptions.DataSourceCredentialKeyMissingException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * AES-256-GCM encryption for datasource target credentials stored in PostgreSQL.
+ * The key is derived (SHA-256) from api.datasource-targets.encryption-key on first use. There is
+ * deliberately no fallback to another secret: without the key, storing or using a target credential
+ * fails with DataSourceCredentialKeyMissingException, but the application still starts.
+ */
+@Component
+public class DataSourceCredentialCipherUtil {
+
+    private static final String PREFIX = "v1:";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final String encryptionKey;
+    private volatile SecretKeySpec keySpec;
+
+    public DataSourceCredentialCipherUtil(
+            @Value("${api.datasource-targets.encryption-key:}") String encryptionKey) {
+        this.encryptionKey = encryptionKey;
+    }
+
+    private boolean isConfigured() {
+        return encryptionKey != null && !encryptionKey.trim().isEmpty();
+    }
+
+    /**
+     * Derived on first use so deployments that never store a target credential start without a key
+     */
+    private SecretKeySpec keySpec() {
+        SecretKeySpec spec = keySpec;
+        if (spec != null) {
+            return spec;
+        }
+        if (!isConfigured()) {
+            throw new DataSourceCredentialKeyMissingException();
+        }
+        try {
+            byte[] key = MessageDigest.getInstance("SHA-256").digest(encryptionKey.getBytes(StandardCharsets.UTF_8));
+            spec = new SecretKeySpec(key, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialise datasource credential cipher", e);
+        }
+        keySpec = spec;
+        return spec;
+    }
+
+    public String encrypt(String plainText) {
+        if (plainText == null) {
+            return null;
+        }
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            secureRandom.nextBytes(iv);
+
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, keySpec(), new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            byte[] cipherText = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+            ByteBuffer buffer = ByteBuffer.allocate(iv.length + cipherText.length);
+            buffer.put(iv).put(cipherText);
+            return PREFIX + Base64.getEncoder().encodeToString(buffer.array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to encrypt datasource credential", e);
+        }
+    }
+
+    public String decrypt(String encrypted) {
+        if (encrypted == null) {
+            return null;
+        }
+        if (!encrypted.startsWith(PREFIX)) {
+            throw new IllegalStateException("Unsupported datasource credential format");
+        }
+        try {
+            byte[] payload = Base64.getDecoder().decode(encrypted.substring(PREFIX.length()));
+
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, keySpec(), new GCMParameterSpec(TAG_LENGTH_BITS, payload, 0, IV_LENGTH));
+            byte[] plainText = cipher.doFinal(payload, IV_LENGTH, payload.length - IV_LENGTH);
+            return new String(plainText, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to decrypt datasource credential - check api.datasource-targets.encryption-key", e);
+        }
+    }
+}
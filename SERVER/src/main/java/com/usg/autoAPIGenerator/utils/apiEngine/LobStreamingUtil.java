@@ -0,0 +1,471 @@
+package com.usg.autoAPIGenerator.utils.apiEngine;
+
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiResponseMappingEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiSchemaConfigEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes LOB values to the HTTP response and keeps large LOBs out of JSON responses.
+ *
+ * Binary LOBs (BLOB, bytea, RAW) are served with Content-Length and single byte-range support;
+ * the executor supplies a RangeOpener so only the requested slice is read from the database.
+ * Character LOBs (CLOB, text) are streamed as UTF-8 without a length.
+ *
+ * In JSON results, values up to api.lob.inline-max-bytes are inlined and larger ones become a link
+ * to the _lob download endpoint. For Oracle BLOB/CLOB that decision is made by rowMapper(), from the
+ * locator's length while the row is open, so a large LOB is never read into memory. Values that reach
+ * inlineOrLinkLobs() were already read by the driver (PostgreSQL bytea and text), so there it only keeps
+ * them out of the JSON.
+ */
+@Slf4j
+@Component
+public class LobStreamingUtil {
+
+    public static final String DEFAULT_BINARY_CONTENT_TYPE = "application/octet-stream";
+    public static final String DEFAULT_TEXT_CONTENT_TYPE = "text/plain;charset=UTF-8";
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    // parseRange result for a range that lies outside the value
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    @Value("${api.lob.inline-max-bytes:65536}")
+    private long inlineMaxBytes;
+
+    @Value("${api.lob.chunk-size-bytes:1048576}")
+    private int chunkSizeBytes;
+
+    /**
+     * Opens the slice [offset, offset + length) of a binary LOB; offset is 0-based
+     */
+    @FunctionalInterface
+    public interface RangeOpener {
+        InputStream open(long offset, long length) throws SQLException, IOException;
+    }
+
+    /**
+     * Receives the LOB an executor located, while its row (and connection) is still open
+     */
+    public interface LobSink {
+        int writeBinary(long totalLength, RangeOpener opener) throws SQLException, IOException;
+
+        int writeText(Reader reader) throws IOException;
+    }
+
+    public int getChunkSizeBytes() {
+        return Math.max(8192, chunkSizeBytes);
+    }
+
+    /**
+     * Sink that writes the LOB to an HTTP response; contentType null picks the default per LOB kind
+     */
+    public LobSink responseSink(HttpServletResponse response, String rangeHeader, boolean headOnly, String contentType) {
+        return new LobSink() {
+            @Override
+            public int writeBinary(long totalLength, RangeOpener opener) throws SQLException, IOException {
+                return LobStreamingUtil.this.writeBinary(response, rangeHeader, headOnly,
+                        contentType != null ? contentType : DEFAULT_BINARY_CONTENT_TYPE, totalLength, opener);
+            }
+
+            @Override
+            public int writeText(Reader reader) throws IOException {
+                return LobStreamingUtil.this.writeText(response, headOnly,
+                        contentType != null ? contentType : DEFAULT_TEXT_CONTENT_TYPE, reader);
+            }
+        };
+    }
+
+    // ==================== BINARY DOWNLOAD ====================
+
+    /**
+     * Stream a binary LOB of known length, honouring a single-range Range header.
+     *
+     * @return the HTTP status written (200, 206 or 416)
+     */
+    public int writeBinary(HttpServletResponse response, String rangeHeader, boolean headOnly,
+                           String contentType, long totalLength, RangeOpener opener) throws SQLException, IOException {
+        response.setHeader("Accept-Ranges", "bytes");
+        response.setContentType(contentType != null ? contentType : DEFAULT_BINARY_CONTENT_TYPE);
+
+        long[] range = parseRange(rangeHeader, totalLength);
+        if (range == UNSATISFIABLE) {
+            response.setStatus(416);
+            response.setHeader("Content-Range", "bytes */" + totalLength);
+            response.setContentLengthLong(0);
+            return 416;
+        }
+
+        long offset = range != null ? range[0] : 0;
+        long length = range != null ? range[1] - range[0] + 1 : totalLength;
+        int status = range != null ? 206 : 200;
+
+        response.setStatus(status);
+        if (range != null) {
+            response.setHeader("Content-Range", "bytes " + range[0] + "-" + range[1] + "/" + totalLength);
+        }
+        response.setContentLengthLong(length);
+
+        if (!headOnly && length > 0) {
+            try (InputStream in = opener.open(offset, length)) {
+                copy(in, response.getOutputStream(), length);
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Stream a character LOB as UTF-8. The encoded length is unknown up front, so no ranges.
+     */
+    public int writeText(HttpServletResponse response, boolean headOnly, String contentType, Reader reader) throws IOException {
+        response.setHeader("Accept-Ranges", "none");
+        response.setContentType(contentType != null ? contentType : DEFAULT_TEXT_CONTENT_TYPE);
+        response.setStatus(200);
+        if (!headOnly && reader != null) {
+            Writer writer = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+            char[] buffer = new char[COPY_BUFFER_SIZE / 2];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                writer.write(buffer, 0, read);
+            }
+            writer.flush();
+        }
+        return 200;
+    }
+
+    /**
+     * Parse "bytes=a-b", "bytes=a-" or "bytes=-n" into inclusive [start, end].
+     * Returns null to serve the whole value (no header, or a form we don't serve, e.g. multi-range).
+     */
+    long[] parseRange(String rangeHeader, long totalLength) {
+        if (rangeHeader == null || !rangeHeader.trim().toLowerCase().startsWith("bytes=")) {
+            return null;
+        }
+        String spec = rangeHeader.trim().substring("bytes=".length()).trim();
+        if (spec.contains(",")) {
+            return null;
+        }
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return UNSATISFIABLE;
+                }
+                start = Math.max(0, totalLength - suffix);
+                end = totalLength - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? totalLength - 1 : Math.min(Long.parseLong(last), totalLength - 1);
+            }
+            if (start >= totalLength || start > end) {
+                return UNSATISFIABLE;
+            }
+            return new long[] { start, end };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void copy(InputStream in, OutputStream out, long length) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long remaining = length;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) {
+                break;
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+        out.flush();
+    }
+
+    // ==================== JSON RESULTS ====================
+
+    /**
+     * Row mapper for table/view selects that decides on each BLOB/CLOB column while the row is open:
+     * the locator's length is read first, and only values within the inline limit (or rows without
+     * a linkable key) are read; larger ones become links without being fetched.
+     */
+    public RowMapper<Map<String, Object>> rowMapper(GeneratedApiEntity api) {
+        List<String> keyColumns = linkableKeyColumns(api);
+        return new ColumnMapRowMapper() {
+            @Override
+            public Map<String, Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
+                Map<String, Object> row = super.mapRow(rs, rowNum);
+                // Key columns may follow the LOB column, so links are built once the whole row is mapped
+                for (Map.Entry<String, Object> entry : row.entrySet()) {
+                    Object value = entry.getValue();
+                    if (value instanceof Blob || value instanceof Clob) {
+                        entry.setValue(convertLob(api, keyColumns, row, entry.getKey(), value));
+                    }
+                }
+                return row;
+            }
+
+            @Override
+            protected Object getColumnValue(ResultSet rs, int index) throws SQLException {
+                switch (rs.getMetaData().getColumnType(index)) {
+                    case Types.BLOB:
+                        return rs.getBlob(index);
+                    case Types.CLOB:
+                    case Types.NCLOB:
+                        return rs.getClob(index);
+                    default:
+                        return super.getColumnValue(rs, index);
+                }
+            }
+        };
+    }
+
+    /**
+     * Replace LOB values in a query result with download links when they exceed the inline limit.
+     * Any Blob/Clob locators still present are read or linked here, so this must run before the
+     * connection the result came from is released; byte[] values, and text columns mapped as
+     * CLOB/NCLOB/TEXT, were already read and are only kept out of the JSON.
+     */
+    public Object inlineOrLinkLobs(GeneratedApiEntity api, Object result) throws SQLException {
+        List<String> keyColumns = linkableKeyColumns(api);
+        processValue(api, keyColumns, result, 0);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void processValue(GeneratedApiEntity api, List<String> keyColumns, Object value, int depth) throws SQLException {
+        if (depth > 3 || value == null) {
+            return;
+        }
+        if (value instanceof List) {
+            for (Object item : (List<Object>) value) {
+                processValue(api, keyColumns, item, depth + 1);
+            }
+        } else if (value instanceof Map) {
+            Map<String, Object> row = (Map<String, Object>) value;
+            for (Map.Entry<String, Object> entry : row.entrySet()) {
+                Object column = entry.getValue();
+                if (column instanceof Blob || column instanceof Clob || column instanceof byte[]) {
+                    entry.setValue(convertLob(api, keyColumns, row, entry.getKey(), column));
+                } else if (column instanceof String && isCharacterLobColumn(api, entry.getKey())) {
+                    entry.setValue(linkLargeText(api, keyColumns, row, entry.getKey(), (String) column));
+                } else if (column instanceof List || column instanceof Map) {
+                    processValue(api, keyColumns, column, depth + 1);
+                }
+            }
+        }
+    }
+
+    private Object convertLob(GeneratedApiEntity api, List<String> keyColumns, Map<String, Object> row,
+                              String column, Object value) throws SQLException {
+        if (value instanceof Blob) {
+            Blob blob = (Blob) value;
+            try {
+                long length = blob.length();
+                String href = length > inlineMaxBytes ? buildHref(api, keyColumns, row, column) : null;
+                return href != null
+                        ? buildLink(href, length, contentTypeFor(api, column, true))
+                        : blob.getBytes(1, (int) length);
+            } finally {
+                freeQuietly(blob);
+            }
+        }
+        if (value instanceof Clob) {
+            Clob clob = (Clob) value;
+            try {
+                long length = clob.length();
+                String href = length > inlineMaxBytes ? buildHref(api, keyColumns, row, column) : null;
+                return href != null
+                        ? buildLink(href, length, contentTypeFor(api, column, false))
+                        : clob.getSubString(1, (int) length);
+            } finally {
+                freeQuietly(clob);
+            }
+        }
+        byte[] bytes = (byte[]) value;
+        String href = bytes.length > inlineMaxBytes ? buildHref(api, keyColumns, row, column) : null;
+        return href != null ? buildLink(href, bytes.length, contentTypeFor(api, column, true)) : bytes;
+    }
+
+    private Object linkLargeText(GeneratedApiEntity api, List<String> keyColumns, Map<String, Object> row,
+                                 String column, String value) {
+        // Cheap check first: a UTF-8 character is at most 3 bytes per char
+        if ((long) value.length() * 3 <= inlineMaxBytes) {
+            return value;
+        }
+        long size = value.getBytes(StandardCharsets.UTF_8).length;
+        String href = size > inlineMaxBytes ? buildHref(api, keyColumns, row, column) : null;
+        return href != null ? buildLink(href, size, contentTypeFor(api, column, false)) : value;
+    }
+
+    private boolean isCharacterLobColumn(GeneratedApiEntity api, String column) {
+        ApiResponseMappingEntity mapping = findMapping(api, column);
+        if (mapping == null || mapping.getOracleType() == null) {
+            return false;
+        }
+        String type = mapping.getOracleType().trim().toUpperCase();
+        return type.contains("CLOB") || type.equals("TEXT");
+    }
+
+    private Map<String, Object> buildLink(String href, long size, String contentType) {
+        Map<String, Object> link = new LinkedHashMap<>();
+        link.put("href", href);
+        link.put("size", size);
+        link.put("contentType", contentType);
+        return link;
+    }
+
+    /**
+     * Link to the _lob endpoint for this row, or null (inline instead) when the row can't be addressed
+     */
+    private String buildHref(GeneratedApiEntity api, List<String> keyColumns, Map<String, Object> row, String column) {
+        if (keyColumns.isEmpty()) {
+            return null;
+        }
+        StringBuilder href = new StringBuilder("/plx/api/gen/").append(api.getId()).append("/_lob/")
+                .append(encode(column));
+        char separator = '?';
+        for (String keyColumn : keyColumns) {
+            Object keyValue = findIgnoreCase(row, keyColumn);
+            if (keyValue == null) {
+                return null;
+            }
+            href.append(separator).append(encode(keyColumn)).append('=').append(encode(String.valueOf(keyValue)));
+            separator = '&';
+        }
+        return href.toString();
+    }
+
+    /**
+     * Primary key columns of a table/view API, used to address a row from a link
+     */
+    public List<String> linkableKeyColumns(GeneratedApiEntity api) {
+        List<String> keyColumns = new ArrayList<>();
+        ApiSchemaConfigEntity schemaConfig = api.getSchemaConfig();
+        if (schemaConfig == null || schemaConfig.getObjectType() == null) {
+            return keyColumns;
+        }
+        String objectType = schemaConfig.getObjectType().toUpperCase();
+        if (!"TABLE".equals(objectType) && !"VIEW".equals(objectType)) {
+            return keyColumns;
+        }
+        if (api.getResponseMappings() != null) {
+            for (ApiResponseMappingEntity mapping : api.getResponseMappings()) {
+                if (Boolean.TRUE.equals(mapping.getIsPrimaryKey()) && mapping.getDbColumn() != null) {
+                    keyColumns.add(mapping.getDbColumn());
+                }
+            }
+        }
+        if (keyColumns.isEmpty() && schemaConfig.getPrimaryKeyColumn() != null
+                && !schemaConfig.getPrimaryKeyColumn().isBlank()) {
+            keyColumns.add(schemaConfig.getPrimaryKeyColumn().trim());
+        }
+        return keyColumns;
+    }
+
+    /**
+     * Content type to serve a LOB column with: an explicit MIME type in the mapping's format,
+     * otherwise by column type
+     */
+    public String contentTypeFor(GeneratedApiEntity api, String column, boolean binary) {
+        String explicit = explicitContentType(api, column);
+        if (explicit != null) {
+            return explicit;
+        }
+        return binary ? DEFAULT_BINARY_CONTENT_TYPE : DEFAULT_TEXT_CONTENT_TYPE;
+    }
+
+    /**
+     * MIME type configured as the response mapping's format (e.g. "image/png"), or null
+     */
+    public String explicitContentType(GeneratedApiEntity api, String column) {
+        ApiResponseMappingEntity mapping = findMapping(api, column);
+        if (mapping != null && mapping.getFormat() != null && mapping.getFormat().contains("/")) {
+            return mapping.getFormat().trim();
+        }
+        return null;
+    }
+
+    public ApiResponseMappingEntity findMapping(GeneratedApiEntity api, String column) {
+        if (api.getResponseMappings() == null || column == null) {
+            return null;
+        }
+        for (ApiResponseMappingEntity mapping : api.getResponseMappings()) {
+            if (column.equalsIgnoreCase(mapping.getDbColumn())) {
+                return mapping;
+            }
+        }
+        return null;
+    }
+
+    public static boolean isLobType(String type) {
+        if (type == null) {
+            return false;
+        }
+        String upperType = type.toUpperCase();
+        return upperType.contains("BLOB") || upperType.contains("CLOB") || upperType.contains("BYTEA")
+                || upperType.equals("RAW") || upperType.equals("LONG RAW");
+    }
+
+    private static Object findIgnoreCase(Map<String, Object> row, String column) {
+        Object value = row.get(column);
+        if (value != null) {
+            return value;
+        }
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            if (entry.getKey() != null && entry.getKey().equalsIgnoreCase(column)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static void freeQuietly(Blob blob) {
+        try {
+            blob.free();
+        } catch (SQLException | AbstractMethodError e) {
+            log.debug("Could not free BLOB: {}", e.getMessage());
+        }
+    }
+
+    private static void freeQuietly(Clob clob) {
+        try {
+            clob.free();
+        } catch (SQLException | AbstractMethodError e) {
+            log.debug("Could not free CLOB: {}", e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.usg.autoAPIGenerator.utils.apiEngine;
 
+import com.usg.autoAPIGenerator.utils.apiEngine.executor.postgresql.PostgreSQLExecutionConnectionUtil;
 import jakarta.validation.ValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +22,16 @@ public class PostgreSQLObjectResolverUtil {
     @Qualifier("postgresqlJdbcTemplate")
     private JdbcTemplate postgresqlJdbcTemplate;
 
+    @Autowired
+    private PostgreSQLExecutionConnectionUtil executionConnectionUtil;
+
+    /**
+     * The bound datasource target's template while an API executes against one, otherwise the primary
+     */
+    private JdbcTemplate jdbc() {
+        return executionConnectionUtil.resolveJdbcTemplate(postgresqlJdbcTemplate);
+    }
+
     /**
      * Resolve any PostgreSQL object (handles schema resolution)
      * @param schema The schema name (can be null)
@@ -81,7 +92,7 @@ public class PostgreSQLObjectResolverUtil {
                     "JOIN pg_namespace n ON c.relnamespace = n.oid " +
                     "WHERE n.nspname = ? AND c.relname = ?";
 
-            List<Map<String, Object>> objects = postgresqlJdbcTemplate.queryForList(relSql, schema, objectName);
+            List<Map<String, Object>> objects = jdbc().queryForList(relSql, schema, objectName);
 
             if (!objects.isEmpty()) {
                 String relkind = (String) objects.get(0).get("relkind");
@@ -102,7 +113,7 @@ public class PostgreSQLObjectResolverUtil {
                     "JOIN pg_namespace n ON p.pronamespace = n.oid " +
                     "WHERE n.nspname = ? AND p.proname = ?";
 
-            List<Map<String, Object>> procs = postgresqlJdbcTemplate.queryForList(procSql, schema, objectName);
+            List<Map<String, Object>> procs = jdbc().queryForList(procSql, schema, objectName);
 
             if (!procs.isEmpty()) {
                 String prokind = (String) procs.get(0).get("prokind");
@@ -186,7 +197,7 @@ public class PostgreSQLObjectResolverUtil {
         try {
             String sql = "SELECT COUNT(*) FROM information_schema.tables " +
                     "WHERE table_schema = ? AND table_name = ? AND table_type = 'BASE TABLE'";
-            Integer count = postgresqlJdbcTemplate.queryForObject(sql, Integer.class, schema, tableName);
+            Integer count = jdbc().queryForObject(sql, Integer.class, schema, tableName);
             return count != null && count > 0;
         } catch (Exception e) {
             return false;
@@ -200,7 +211,7 @@ public class PostgreSQLObjectResolverUtil {
         try {
             String sql = "SELECT COUNT(*) FROM information_schema.views " +
                     "WHERE table_schema = ? AND table_name = ?";
-            Integer count = postgresqlJdbcTemplate.queryForObject(sql, Integer.class, schema, viewName);
+            Integer count = jdbc().queryForObject(sql, Integer.class, schema, viewName);
             return count != null && count > 0;
         } catch (Exception e) {
             return false;
@@ -215,7 +226,7 @@ public class PostgreSQLObjectResolverUtil {
             String sql = "SELECT COUNT(*) FROM pg_class c " +
                     "JOIN pg_namespace n ON c.relnamespace = n.oid " +
                     "WHERE n.nspname = ? AND c.relname = ? AND c.relkind = 'm'";
-            Integer count = postgresqlJdbcTemplate.queryForObject(sql, Integer.class, schema, mvName);
+            Integer count = jdbc().queryForObject(sql, Integer.class, schema, mvName);
             return count != null && count > 0;
         } catch (Exception e) {
             return false;
@@ -230,7 +241,7 @@ public class PostgreSQLObjectResolverUtil {
             String sql = "SELECT COUNT(*) FROM pg_proc p " +
                     "JOIN pg_namespace n ON p.pronamespace = n.oid " +
                     "WHERE n.nspname = ? AND p.proname = ? AND p.prokind = 'f'";
-            Integer count = postgresqlJdbcTemplate.queryForObject(sql, Integer.class, schema, functionName);
+            Integer count = jdbc().queryForObject(sql, Integer.class, schema, functionName);
             return count != null && count > 0;
         } catch (Exception e) {
             return false;
@@ -245,7 +256,7 @@ public class PostgreSQLObjectResolverUtil {
             String sql = "SELECT COUNT(*) FROM pg_proc p " +
                     "JOIN pg_namespace n ON p.pronamespace = n.oid " +
                     "WHERE n.nspname = ? AND p.proname = ? AND p.prokind = 'p'";
-            Integer count = postgresqlJdbcTemplate.queryForObject(sql, Integer.class, schema, procedureName);
+            Integer count = jdbc().queryForObject(sql, Integer.class, schema, procedureName);
             return count != null && count > 0;
         } catch (Exception e) {
             return false;
@@ -259,7 +270,7 @@ public class PostgreSQLObjectResolverUtil {
         try {
             String sql = "SELECT COUNT(*) FROM information_schema.sequences " +
                     "WHERE sequence_schema = ? AND sequence_name = ?";
-            Integer count = postgresqlJdbcTemplate.queryForObject(sql, Integer.class, schema, sequenceName);
+            Integer count = jdbc().queryForObject(sql, Integer.class, schema, sequenceName);
             return count != null && count > 0;
         } catch (Exception e) {
             return false;
@@ -276,7 +287,7 @@ public class PostgreSQLObjectResolverUtil {
                 String sql = "SELECT COUNT(*) FROM pg_class c " +
                         "JOIN pg_namespace n ON c.relnamespace = n.oid " +
                         "WHERE n.nspname = ? AND c.relname = ? AND c.relkind = ?";
-                Integer count = postgresqlJdbcTemplate.queryForObject(sql, Integer.class, schema, objectName, relKind);
+                Integer count = jdbc().queryForObject(sql, Integer.class, schema, objectName, relKind);
                 return count != null && count > 0;
             }
             return false;
@@ -297,7 +308,7 @@ public class PostgreSQLObjectResolverUtil {
 
             Long oid = null;
             try {
-                oid = postgresqlJdbcTemplate.queryForObject(oidSql, Long.class, schema, objectName);
+                oid = jdbc().queryForObject(oidSql, Long.class, schema, objectName);
             } catch (EmptyResultDataAccessException e) {
                 log.debug("Could not find OID for {}.{}", schema, objectName);
                 return;
@@ -306,7 +317,7 @@ public class PostgreSQLObjectResolverUtil {
             if (oid != null) {
                 // Get argument information
                 String argsSql = "SELECT proargnames, proargmodes FROM pg_proc WHERE oid = ?";
-                Map<String, Object> procInfo = postgresqlJdbcTemplate.queryForMap(argsSql, oid);
+                Map<String, Object> procInfo = jdbc().queryForMap(argsSql, oid);
 
                 java.sql.Array proargnames = (java.sql.Array) procInfo.get("proargnames");
                 java.sql.Array proargmodes = (java.sql.Array) procInfo.get("proargmodes");
@@ -350,7 +361,7 @@ public class PostgreSQLObjectResolverUtil {
         try {
             String sql = "SELECT COUNT(*) FROM information_schema.columns " +
                     "WHERE table_schema = ? AND table_name = ?";
-            Integer columnCount = postgresqlJdbcTemplate.queryForObject(sql, Integer.class, schema, objectName);
+            Integer columnCount = jdbc().queryForObject(sql, Integer.class, schema, objectName);
             result.put("columnCount", columnCount != null ? columnCount : 0);
 
             // Get primary key columns
@@ -360,7 +371,7 @@ public class PostgreSQLObjectResolverUtil {
                     "WHERE tc.constraint_type = 'PRIMARY KEY' " +
                     "AND tc.table_schema = ? AND tc.table_name = ?";
 
-            Integer pkCount = postgresqlJdbcTemplate.queryForObject(pkSql, Integer.class, schema, objectName);
+            Integer pkCount = jdbc().queryForObject(pkSql, Integer.class, schema, objectName);
             result.put("primaryKeyCount", pkCount != null ? pkCount : 0);
 
             log.info("Table {}.{} has {} columns ({} primary keys)",
@@ -491,7 +502,7 @@ public class PostgreSQLObjectResolverUtil {
 
             // Additional validation for views - check if it's accessible
             try {
-                postgresqlJdbcTemplate.execute("SELECT 1 FROM " + schemaName + "." + viewName + " LIMIT 1");
+                jdbc().execute("SELECT 1 FROM " + schemaName + "." + viewName + " LIMIT 1");
                 log.info("✅ View {}.{} is accessible", schemaName, viewName);
             } catch (Exception e) {
                 throw new ValidationException(
@@ -578,7 +589,7 @@ public class PostgreSQLObjectResolverUtil {
 
             // Check if it's accessible
             try {
-                postgresqlJdbcTemplate.execute("SELECT 1 FROM " + schemaName + "." + mvName + " LIMIT 1");
+                jdbc().execute("SELECT 1 FROM " + schemaName + "." + mvName + " LIMIT 1");
                 log.info("✅ Materialized view {}.{} is accessible", schemaName, mvName);
             } catch (Exception e) {
                 throw new ValidationException(
@@ -644,7 +655,7 @@ public class PostgreSQLObjectResolverUtil {
      */
     public String getCurrentSchema() {
         try {
-            return postgresqlJdbcTemplate.queryForObject("SELECT current_schema()", String.class);
+            return jdbc().queryForObject("SELECT current_schema()", String.class);
         } catch (Exception e) {
             log.error("Error getting current schema: {}", e.getMessage());
             return "public";
@@ -656,7 +667,7 @@ public class PostgreSQLObjectResolverUtil {
      */
     public String getCurrentUser() {
         try {
-            return postgresqlJdbcTemplate.queryForObject("SELECT current_user", String.class);
+            return jdbc().queryForObject("SELECT current_user", String.class);
         } catch (Exception e) {
             log.error("Error getting current user: {}", e.getMessage());
             return null;
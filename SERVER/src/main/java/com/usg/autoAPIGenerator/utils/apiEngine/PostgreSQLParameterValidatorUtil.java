@@ -1,6 +1,7 @@
 package com.usg.autoAPIGenerator.utils.apiEngine;
 
 import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiParameterDTO;
+import com.usg.autoAPIGenerator.utils.apiEngine.executor.postgresql.PostgreSQLExecutionConnectionUtil;
 import jakarta.validation.ValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +21,16 @@ public class PostgreSQLParameterValidatorUtil {
     @Qualifier("postgresqlJdbcTemplate")
     private JdbcTemplate postgresqlJdbcTemplate;
 
+    @Autowired
+    private PostgreSQLExecutionConnectionUtil executionConnectionUtil;
+
+    /**
+     * The bound datasource target's template while an API executes against one, otherwise the primary
+     */
+    private JdbcTemplate jdbc() {
+        return executionConnectionUtil.resolveJdbcTemplate(postgresqlJdbcTemplate);
+    }
+
     public void validateParameters(List<ApiParameterDTO> configuredParams,
                                    Map<String, Object> providedParams,
                                    String schema,
@@ -114,7 +125,7 @@ public class PostgreSQLParameterValidatorUtil {
 
             Map<String, Object> procInfo = null;
             try {
-                procInfo = postgresqlJdbcTemplate.queryForMap(oidSql, schema, objectName);
+                procInfo = jdbc().queryForMap(oidSql, schema, objectName);
             } catch (Exception e) {
                 log.warn("Could not find function/procedure {}.{}", schema, objectName);
                 return parameters;
@@ -136,7 +147,7 @@ public class PostgreSQLParameterValidatorUtil {
                     "    pronargdefaults " +
                     "FROM pg_proc WHERE oid = ?";
 
-            Map<String, Object> argsInfo = postgresqlJdbcTemplate.queryForMap(argsSql, oid);
+            Map<String, Object> argsInfo = jdbc().queryForMap(argsSql, oid);
 
             java.sql.Array proargnames = (java.sql.Array) argsInfo.get("proargnames");
             java.sql.Array proargtypes = (java.sql.Array) argsInfo.get("proargtypes");
@@ -173,7 +184,7 @@ public class PostgreSQLParameterValidatorUtil {
     private String getDataTypeName(String typeOid) {
         try {
             String sql = "SELECT typname FROM pg_type WHERE oid = ?::regtype::oid";
-            return postgresqlJdbcTemplate.queryForObject(sql, String.class, typeOid);
+            return jdbc().queryForObject(sql, String.class, typeOid);
         } catch (Exception e) {
             return typeOid;
         }
@@ -396,6 +407,12 @@ public class PostgreSQLParameterValidatorUtil {
             return;
         }
 
+        if (value instanceof UploadedFileStreamValue) {
+            log.debug("Parameter '{}' validated as uploaded file, length: {} bytes",
+                    paramName, ((UploadedFileStreamValue) value).getSize());
+            return;
+        }
+
         if (value instanceof String) {
             String strValue = (String) value;
             // Check if it's valid base64 or hex
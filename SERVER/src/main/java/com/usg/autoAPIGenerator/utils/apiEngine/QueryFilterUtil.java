@@ -0,0 +1,356 @@
+package com.usg.autoAPIGenerator.utils.apiEngine;
+
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiParameterEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiResponseMappingEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import jakarta.validation.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Query DSL for generated table and view APIs, compiled into parameterized SQL.
+ *
+ * A filter value may carry an operator prefix: ?status=in:A,B&amount=gte:100&name=like:ab%.
+ * Values without a known prefix keep the plain equality filter, and a list of plain values becomes IN.
+ * Operators: eq, ne, gt, gte, lt, lte, in, nin, between, like, ilike, sw (starts with), is:null, is:notnull.
+ *
+ * Only columns configured on the API (parameters and response mappings) can be filtered, sorted or
+ * selected; every operand is a bind value. Predicates compare the bare column so the database can use
+ * its indexes (sw compiles to a prefix LIKE); only ilike on Oracle has to wrap the column in UPPER.
+ * The pattern operators (like, ilike, sw) apply to character columns only.
+ */
+@Slf4j
+@Component
+public class QueryFilterUtil {
+
+    public enum Dialect {
+        ORACLE,
+        POSTGRESQL
+    }
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$#]*");
+
+    private static final Map<String, String> COMPARISONS = Map.of(
+            "eq", "=", "ne", "<>", "gt", ">", "gte", ">=", "lt", "<", "lte", "<=");
+
+    private static final List<String> OPERATORS = Arrays.asList(
+            "eq", "ne", "gt", "gte", "lt", "lte", "in", "nin", "between", "like", "ilike", "sw", "is");
+
+    @Value("${api.query.max-in-list-size:1000}")
+    private int maxInListSize;
+
+    @Value("${api.query.max-sort-columns:5}")
+    private int maxSortColumns;
+
+    /**
+     * Compile the filter value sent for one column.
+     *
+     * @param column           the column as it appears in SQL (already quoted where the dialect needs it)
+     * @param value            the request value: a string with an optional operator prefix, a list, or a scalar
+     * @param characterColumn  whether the column holds text; like, ilike and sw are refused otherwise
+     * @param operandConverter converts each comparison operand to the column's Java type
+     * @param bindValues       receives the operands in placeholder order
+     * @return the predicate, or null when the value holds nothing to filter on
+     * @throws ValidationException when the operator or its operands are malformed
+     */
+    public String compileFilter(String column, Object value, Dialect dialect, boolean characterColumn,
+                                UnaryOperator<Object> operandConverter, List<Object> bindValues) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Collection || value instanceof Object[]) {
+            Collection<?> values = value instanceof Collection ? (Collection<?>) value : Arrays.asList((Object[]) value);
+            return compileList(column, values, dialect, characterColumn, operandConverter, bindValues);
+        }
+        if (!(value instanceof String)) {
+            bindValues.add(operandConverter.apply(value));
+            return column + " = ?";
+        }
+
+        String text = ((String) value).trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        int colon = text.indexOf(':');
+        String operator = colon > 0 ? text.substring(0, colon).toLowerCase() : null;
+        if (operator == null || !OPERATORS.contains(operator)) {
+            bindValues.add(operandConverter.apply(text));
+            return column + " = ?";
+        }
+        return compileOperator(column, operator, text.substring(colon + 1), dialect, characterColumn,
+                operandConverter, bindValues);
+    }
+
+    /**
+     * Operands of a filter value with any operator prefix removed, for type validation
+     */
+    public static List<Object> operandsOf(Object value) {
+        if (value instanceof Collection) {
+            List<Object> operands = new ArrayList<>();
+            for (Object item : (Collection<?>) value) {
+                operands.addAll(operandsOf(item));
+            }
+            return operands;
+        }
+        if (!(value instanceof String)) {
+            return value != null ? Collections.singletonList(value) : Collections.emptyList();
+        }
+        String text = ((String) value).trim();
+        int colon = text.indexOf(':');
+        String operator = colon > 0 ? text.substring(0, colon).toLowerCase() : null;
+        if (operator == null || !OPERATORS.contains(operator)) {
+            return Collections.singletonList(text);
+        }
+        String operand = text.substring(colon + 1);
+        if ("is".equals(operator) || "like".equals(operator) || "ilike".equals(operator) || "sw".equals(operator)) {
+            return Collections.emptyList();
+        }
+        if ("in".equals(operator) || "nin".equals(operator) || "between".equals(operator)) {
+            return new ArrayList<>(splitOperands(operand));
+        }
+        return Collections.singletonList(operand);
+    }
+
+    /**
+     * Whether a parameter holds text, from its declared type; an untyped parameter counts as text
+     */
+    public static boolean isCharacterParameter(ApiParameterEntity parameter) {
+        String type = parameter.getOracleType() != null ? parameter.getOracleType() : parameter.getApiType();
+        if (type == null) {
+            return true;
+        }
+        String upper = type.toUpperCase();
+        return upper.contains("CHAR") || upper.contains("TEXT") || upper.contains("STRING") || upper.contains("CLOB");
+    }
+
+    /**
+     * ORDER BY list for sort=-created_at,id; a leading - sorts descending, + or nothing uses order (ASC by default).
+     * Fields resolve as in {@link #resolveColumn}, so an API without configured columns sorts by plain identifiers.
+     *
+     * @param whitelist lower-case field or column name -> database column, from {@link #columnWhitelist}
+     * @param quote     renders a database column as it appears in SQL
+     * @return the ORDER BY list without the keywords, or an empty string when no sort was requested
+     */
+    public String compileOrderBy(Object sort, Object order, Map<String, String> whitelist,
+                                 Function<String, String> quote) {
+        if (sort == null) {
+            return "";
+        }
+        String defaultDirection = order != null && "DESC".equalsIgnoreCase(order.toString().trim()) ? "DESC" : "ASC";
+
+        List<String> entries = new ArrayList<>();
+        if (sort instanceof Collection) {
+            for (Object item : (Collection<?>) sort) {
+                if (item != null) {
+                    entries.addAll(splitOperands(item.toString()));
+                }
+            }
+        } else {
+            entries.addAll(splitOperands(sort.toString()));
+        }
+        if (entries.size() > maxSortColumns) {
+            throw new ValidationException("Sort on at most " + maxSortColumns + " fields");
+        }
+
+        List<String> orderBy = new ArrayList<>();
+        for (String entry : entries) {
+            String direction = defaultDirection;
+            String field = entry;
+            if (field.startsWith("-")) {
+                direction = "DESC";
+                field = field.substring(1).trim();
+            } else if (field.startsWith("+")) {
+                direction = "ASC";
+                field = field.substring(1).trim();
+            }
+            if (field.isEmpty()) {
+                continue;
+            }
+            String column;
+            try {
+                column = resolveColumn(field, whitelist);
+            } catch (ValidationException e) {
+                throw new ValidationException("Cannot sort by unknown field '" + field + "'");
+            }
+            orderBy.add(quote.apply(column) + " " + direction);
+        }
+        return String.join(", ", orderBy);
+    }
+
+    /**
+     * Columns a request may refer to: response mapping fields and parameter keys (lower case) and
+     * their database columns, each mapped to the database column name
+     */
+    public Map<String, String> columnWhitelist(GeneratedApiEntity api) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        if (api.getResponseMappings() != null) {
+            for (ApiResponseMappingEntity mapping : api.getResponseMappings()) {
+                if (mapping.getDbColumn() != null && !mapping.getDbColumn().isEmpty()) {
+                    columns.putIfAbsent(mapping.getDbColumn().toLowerCase(), mapping.getDbColumn());
+                    if (mapping.getApiField() != null && !mapping.getApiField().isEmpty()) {
+                        columns.putIfAbsent(mapping.getApiField().toLowerCase(), mapping.getDbColumn());
+                    }
+                }
+            }
+        }
+        if (api.getParameters() != null) {
+            for (ApiParameterEntity parameter : api.getParameters()) {
+                if (parameter.getDbColumn() != null && !parameter.getDbColumn().isEmpty()) {
+                    columns.putIfAbsent(parameter.getDbColumn().toLowerCase(), parameter.getDbColumn());
+                    if (parameter.getKey() != null && !parameter.getKey().isEmpty()) {
+                        columns.putIfAbsent(parameter.getKey().toLowerCase(), parameter.getDbColumn());
+                    }
+                }
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Database column for a requested field. Fields outside the whitelist are refused; an API without
+     * any configured column accepts plain identifiers only.
+     */
+    public String resolveColumn(String field, Map<String, String> whitelist) {
+        String column = whitelist.get(field.toLowerCase());
+        if (column != null) {
+            return column;
+        }
+        if (whitelist.isEmpty() && IDENTIFIER.matcher(field).matches()) {
+            return field;
+        }
+        throw new ValidationException("Unknown field '" + field + "'");
+    }
+
+    private String compileList(String column, Collection<?> values, Dialect dialect, boolean characterColumn,
+                               UnaryOperator<Object> operandConverter, List<Object> bindValues) {
+        List<Object> plain = new ArrayList<>();
+        List<String> predicates = new ArrayList<>();
+        for (Object item : values) {
+            if (item == null || (item instanceof String && ((String) item).trim().isEmpty())) {
+                continue;
+            }
+            String text = item instanceof String ? ((String) item).trim() : null;
+            int colon = text != null ? text.indexOf(':') : -1;
+            if (colon > 0 && OPERATORS.contains(text.substring(0, colon).toLowerCase())) {
+                // ?amount=gte:10&amount=lte:20 - every operator applies
+                predicates.add(compileOperator(column, text.substring(0, colon).toLowerCase(),
+                        text.substring(colon + 1), dialect, characterColumn, operandConverter, bindValues));
+            } else {
+                plain.add(text != null ? text : item);
+            }
+        }
+        if (plain.size() == 1) {
+            bindValues.add(operandConverter.apply(plain.get(0)));
+            predicates.add(column + " = ?");
+        } else if (plain.size() > 1) {
+            predicates.add(compileIn(column, plain, false, operandConverter, bindValues));
+        }
+        if (predicates.isEmpty()) {
+            return null;
+        }
+        return predicates.size() == 1 ? predicates.get(0) : "(" + String.join(" AND ", predicates) + ")";
+    }
+
+    private String compileOperator(String column, String operator, String operand, Dialect dialect,
+                                   boolean characterColumn, UnaryOperator<Object> operandConverter,
+                                   List<Object> bindValues) {
+        if (!characterColumn && ("like".equals(operator) || "ilike".equals(operator) || "sw".equals(operator))) {
+            throw new ValidationException(operator + " applies to text fields only");
+        }
+        String comparison = COMPARISONS.get(operator);
+        if (comparison != null) {
+            requireOperand(operator, operand);
+            bindValues.add(operandConverter.apply(operand));
+            return column + " " + comparison + " ?";
+        }
+
+        switch (operator) {
+            case "in":
+            case "nin":
+                return compileIn(column, new ArrayList<>(splitOperands(operand)), "nin".equals(operator),
+                        operandConverter, bindValues);
+            case "between": {
+                List<String> bounds = splitOperands(operand);
+                if (bounds.size() != 2) {
+                    throw new ValidationException("between needs two values: between:low,high");
+                }
+                bindValues.add(operandConverter.apply(bounds.get(0)));
+                bindValues.add(operandConverter.apply(bounds.get(1)));
+                return column + " BETWEEN ? AND ?";
+            }
+            case "like":
+                requireOperand(operator, operand);
+                bindValues.add(operand);
+                return column + " LIKE ?";
+            case "ilike":
+                requireOperand(operator, operand);
+                bindValues.add(operand);
+                return dialect == Dialect.POSTGRESQL
+                        ? column + " ILIKE ?"
+                        : "UPPER(" + column + ") LIKE UPPER(?)";
+            case "sw":
+                requireOperand(operator, operand);
+                bindValues.add(escapeLike(operand) + "%");
+                return column + " LIKE ? ESCAPE '\\'";
+            case "is":
+                if ("null".equalsIgnoreCase(operand.trim())) {
+                    return column + " IS NULL";
+                }
+                if ("notnull".equalsIgnoreCase(operand.trim())) {
+                    return column + " IS NOT NULL";
+                }
+                throw new ValidationException("is: accepts null or notnull, not '" + operand + "'");
+            default:
+                throw new ValidationException("Unsupported filter operator '" + operator + "'");
+        }
+    }
+
+    private String compileIn(String column, List<?> operands, boolean negated,
+                             UnaryOperator<Object> operandConverter, List<Object> bindValues) {
+        if (operands.isEmpty()) {
+            throw new ValidationException((negated ? "nin" : "in") + " needs at least one value");
+        }
+        if (operands.size() > maxInListSize) {
+            throw new ValidationException("A filter list may hold at most " + maxInListSize + " values");
+        }
+        StringBuilder predicate = new StringBuilder(column).append(negated ? " NOT IN (" : " IN (");
+        for (int i = 0; i < operands.size(); i++) {
+            predicate.append(i == 0 ? "?" : ", ?");
+            bindValues.add(operandConverter.apply(operands.get(i)));
+        }
+        return predicate.append(")").toString();
+    }
+
+    private void requireOperand(String operator, String operand) {
+        if (operand == null || operand.trim().isEmpty()) {
+            throw new ValidationException(operator + " needs a value: " + operator + ":value");
+        }
+    }
+
+    private static List<String> splitOperands(String operand) {
+        List<String> operands = new ArrayList<>();
+        for (String part : operand.split(",")) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty()) {
+                operands.add(trimmed);
+            }
+        }
+        return operands;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,302 @@
+package com.usg.autoAPIGenerator.utils.apiEngine;
+
+import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.SoapConfigDTO;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiParameterEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SOAP message handling for generated APIs, built on StAX:
+ * 1. Parameter extraction - one namespace-aware pass over the envelope for all declared parameters
+ * 2. Response and fault envelopes - written element by element with an XMLStreamWriter
+ */
+@Slf4j
+@Component
+public class SoapMessageUtil {
+
+    private static final String SOAP_11_NS = "http://schemas.xmlsoap.org/soap/envelope/";
+    private static final String SOAP_12_NS = "http://www.w3.org/2003/05/soap-envelope";
+    private static final String DEFAULT_NAMESPACE = "http://tempuri.org/";
+
+    // Factories are thread-safe once configured; DTDs and external entities are refused (XXE)
+    private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    static {
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+        INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * Extract the values of the API's parameters from a SOAP (or plain XML) body in a single pass.
+     * Elements are matched on their local name, case-insensitively, whatever their namespace prefix;
+     * the first occurrence of each parameter wins and its trimmed text content is the value.
+     */
+    public Map<String, Object> extractParameters(String xmlBody, List<ApiParameterEntity> parameters) {
+        Map<String, Object> extractedParams = new HashMap<>();
+        if (xmlBody == null || xmlBody.trim().isEmpty() || parameters == null || parameters.isEmpty()) {
+            return extractedParams;
+        }
+
+        Map<String, String> keysByLocalName = new HashMap<>();
+        for (ApiParameterEntity param : parameters) {
+            if (param.getKey() != null && !param.getKey().isEmpty()) {
+                keysByLocalName.putIfAbsent(param.getKey().toLowerCase(), param.getKey());
+            }
+        }
+
+        XMLStreamReader reader = null;
+        try {
+            reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(xmlBody));
+
+            // Text of the parameter element being read; nested elements contribute their text
+            String currentKey = null;
+            int currentDepth = 0;
+            StringBuilder text = new StringBuilder();
+            int depth = 0;
+
+            while (reader.hasNext() && extractedParams.size() < keysByLocalName.size()) {
+                int event = reader.next();
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        depth++;
+                        if (currentKey == null) {
+                            String key = keysByLocalName.get(reader.getLocalName().toLowerCase());
+                            if (key != null && !extractedParams.containsKey(key)) {
+                                currentKey = key;
+                                currentDepth = depth;
+                                text.setLength(0);
+                            }
+                        }
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                        if (currentKey != null) {
+                            text.append(reader.getText());
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        if (currentKey != null && depth == currentDepth) {
+                            extractedParams.put(currentKey, text.toString().trim());
+                            currentKey = null;
+                        }
+                        depth--;
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            log.info("Extracted {} parameters from XML: {}", extractedParams.size(), extractedParams.keySet());
+
+        } catch (XMLStreamException e) {
+            log.error("Error parsing XML parameters: {}", e.getMessage());
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // nothing held beyond the string
+                }
+            }
+        }
+
+        return extractedParams;
+    }
+
+    /**
+     * Build the SOAP response envelope for an execution result
+     */
+    public String buildResponse(Object result, GeneratedApiEntity api) {
+        StringWriter out = new StringWriter(1024);
+        try {
+            writeResponse(result, api, out);
+            return out.toString();
+        } catch (XMLStreamException e) {
+            log.error("Error building SOAP response: {}", e.getMessage(), e);
+            return buildFault(e.getMessage(), null, api, "soap:Server");
+        }
+    }
+
+    /**
+     * Write the SOAP response envelope for an execution result:
+     * Envelope / Body / {apiCode}Response xmlns={namespace} / result elements
+     */
+    public void writeResponse(Object result, GeneratedApiEntity api, Writer out) throws XMLStreamException {
+        SoapConfigDTO soapConfig = api != null ? api.getSoapConfig() : null;
+        String operationName = api != null && api.getApiCode() != null ? api.getApiCode() : "";
+
+        XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out);
+        try {
+            startEnvelope(writer, soapConfig);
+            writer.writeStartElement(toElementName(operationName + "Response"));
+            writer.writeDefaultNamespace(namespaceOf(soapConfig));
+            if (result == null) {
+                writeLeaf(writer, "result", "null");
+            } else if (result instanceof Map || result instanceof List) {
+                writeValue(writer, result);
+            } else {
+                writeLeaf(writer, "result", result);
+            }
+            writer.writeEndElement();
+            endEnvelope(writer);
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Build a SOAP fault envelope; errorDetails are written under detail/{apiCode}Error
+     */
+    public String buildFault(String message, Map<String, Object> errorDetails, GeneratedApiEntity api) {
+        return buildFault(message, errorDetails, api, "soap:Client");
+    }
+
+    private String buildFault(String message, Map<String, Object> errorDetails, GeneratedApiEntity api, String faultCode) {
+        SoapConfigDTO soapConfig = api != null ? api.getSoapConfig() : null;
+        String operationName = api != null && api.getApiCode() != null ? api.getApiCode() : "";
+
+        StringWriter out = new StringWriter(512);
+        XMLStreamWriter writer = null;
+        try {
+            writer = OUTPUT_FACTORY.createXMLStreamWriter(out);
+            startEnvelope(writer, soapConfig);
+            writer.writeStartElement("soap", "Fault", envelopeNamespaceOf(soapConfig));
+            writeLeaf(writer, "faultcode", faultCode);
+            writeLeaf(writer, "faultstring", message != null ? message : "");
+            if (errorDetails != null) {
+                writer.writeStartElement("detail");
+                writer.writeStartElement(toElementName(operationName + "Error"));
+                writer.writeDefaultNamespace(namespaceOf(soapConfig));
+                writeValue(writer, errorDetails);
+                writer.writeEndElement();
+                writer.writeEndElement();
+            }
+            writer.writeEndElement();
+            endEnvelope(writer);
+            writer.flush();
+            return out.toString();
+        } catch (XMLStreamException e) {
+            log.error("Error building SOAP fault: {}", e.getMessage(), e);
+            return "<?xml version=\"1.0\" encoding=\"UTF-8\"?><soap:Envelope xmlns:soap=\"" + SOAP_11_NS + "\">" +
+                    "<soap:Body><soap:Fault><faultcode>soap:Server</faultcode><faultstring/></soap:Fault>" +
+                    "</soap:Body></soap:Envelope>";
+        } finally {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (XMLStreamException ignored) {
+                    // StringWriter holds no resources
+                }
+            }
+        }
+    }
+
+    private void startEnvelope(XMLStreamWriter writer, SoapConfigDTO soapConfig) throws XMLStreamException {
+        String envelopeNs = envelopeNamespaceOf(soapConfig);
+        writer.writeStartDocument("UTF-8", "1.0");
+        writer.setPrefix("soap", envelopeNs);
+        writer.writeStartElement("soap", "Envelope", envelopeNs);
+        writer.writeNamespace("soap", envelopeNs);
+        writer.writeEmptyElement("soap", "Header", envelopeNs);
+        writer.writeStartElement("soap", "Body", envelopeNs);
+    }
+
+    private void endEnvelope(XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeEndElement(); // Body
+        writer.writeEndElement(); // Envelope
+        writer.writeEndDocument();
+    }
+
+    /**
+     * Map entries become elements named after their keys, list items become item elements
+     * (scalar items wrapped in value)
+     */
+    @SuppressWarnings("unchecked")
+    private void writeValue(XMLStreamWriter writer, Object value) throws XMLStreamException {
+        if (value instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                Object child = entry.getValue();
+                if (child instanceof Map || child instanceof List) {
+                    writer.writeStartElement(toElementName(entry.getKey()));
+                    writeValue(writer, child);
+                    writer.writeEndElement();
+                } else {
+                    writeLeaf(writer, entry.getKey(), child);
+                }
+            }
+        } else if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                writer.writeStartElement("item");
+                if (item instanceof Map || item instanceof List) {
+                    writeValue(writer, item);
+                } else {
+                    writeLeaf(writer, "value", item);
+                }
+                writer.writeEndElement();
+            }
+        }
+    }
+
+    private void writeLeaf(XMLStreamWriter writer, String name, Object value) throws XMLStreamException {
+        writer.writeStartElement(toElementName(name));
+        if (value instanceof byte[]) {
+            writer.writeCharacters(Base64.getEncoder().encodeToString((byte[]) value));
+        } else if (value != null) {
+            writer.writeCharacters(value.toString());
+        }
+        writer.writeEndElement();
+    }
+
+    // Column aliases and keys are not always valid XML names; keep them readable but well-formed
+    private String toElementName(String key) {
+        if (key == null || key.isEmpty()) {
+            return "value";
+        }
+        StringBuilder name = null;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            boolean valid = i == 0
+                    ? Character.isLetter(c) || c == '_'
+                    : Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.';
+            if (valid && name == null) {
+                continue;
+            }
+            if (name == null) {
+                name = new StringBuilder(key.length() + 1).append(key, 0, i);
+            }
+            if (i == 0 && (Character.isDigit(c) || c == '-' || c == '.')) {
+                name.append('_').append(c);
+            } else {
+                name.append(valid ? c : '_');
+            }
+        }
+        return name != null ? name.toString() : key;
+    }
+
+    private String envelopeNamespaceOf(SoapConfigDTO soapConfig) {
+        return soapConfig != null && "1.2".equals(soapConfig.getVersion()) ? SOAP_12_NS : SOAP_11_NS;
+    }
+
+    private String namespaceOf(SoapConfigDTO soapConfig) {
+        return soapConfig != null && soapConfig.getNamespace() != null ? soapConfig.getNamespace() : DEFAULT_NAMESPACE;
+    }
+}
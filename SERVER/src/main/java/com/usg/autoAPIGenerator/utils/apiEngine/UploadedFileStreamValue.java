@@ -0,0 +1,61 @@
+package com.usg.autoAPIGenerator.utils.apiEngine;
+
+import org.springframework.jdbc.core.DisposableSqlTypeValue;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Binds an uploaded file to a BLOB / bytea parameter as a stream of known length, so the upload is
+ * never copied into a byte[]. Works as a JdbcTemplate or SimpleJdbcCall argument; Spring closes the
+ * stream after execution, hand-bound statements call cleanup() themselves.
+ */
+public class UploadedFileStreamValue implements DisposableSqlTypeValue {
+
+    private final MultipartFile file;
+    private InputStream stream;
+
+    public UploadedFileStreamValue(MultipartFile file) {
+        this.file = file;
+    }
+
+    @Override
+    public void setTypeValue(PreparedStatement ps, int paramIndex, int sqlType, String typeName) throws SQLException {
+        cleanup();
+        try {
+            stream = file.getInputStream();
+        } catch (IOException e) {
+            throw new SQLException("Failed to open uploaded file " + file.getOriginalFilename(), e);
+        }
+        ps.setBinaryStream(paramIndex, stream, file.getSize());
+    }
+
+    @Override
+    public void cleanup() {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException ignored) {
+                // nothing left to release
+            }
+            stream = null;
+        }
+    }
+
+    public MultipartFile getFile() {
+        return file;
+    }
+
+    public long getSize() {
+        return file.getSize();
+    }
+
+    // Parameter maps are logged; never print file content
+    @Override
+    public String toString() {
+        return "<file " + file.getOriginalFilename() + " (" + file.getSize() + " bytes)>";
+    }
+}
@@ -237,6 +237,17 @@ public class CustomQueryExecutionHelper {
         }
     }
 
+    /**
+     * Detect the operation a custom SQL statement performs (SELECT, INSERT, UPDATE, DELETE, CALL, ...)
+     * without executing it, using the same protocol-aware rules as execution
+     */
+    public String detectQueryType(GeneratedApiEntity api, String sql) {
+        if (sql == null || sql.trim().isEmpty()) {
+            return "UNKNOWN";
+        }
+        return determineQueryType(api, cleanSqlQuery(sql));
+    }
+
     /**
      * Determine query type based on the API's protocol:
      * - SOAP: Uses SOAP Action mapping
@@ -8,6 +8,7 @@ import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiSourceObjectDTO;
 import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ExecuteApiRequestDTO;
 import com.usg.autoAPIGenerator.utils.apiEngine.OracleObjectResolverUtil;
 import com.usg.autoAPIGenerator.utils.apiEngine.OracleParameterValidatorUtil;
+import com.usg.autoAPIGenerator.utils.apiEngine.UploadedFileStreamValue;
 import jakarta.validation.ValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,7 +21,6 @@ import org.springframework.jdbc.core.simple.SimpleJdbcCall;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -143,31 +143,19 @@ public class OracleFunctionExecutorUtil {
                 for (Map.Entry<String, MultipartFile> entry : request.getFileMap().entrySet()) {
                     String paramName = entry.getKey();
                     MultipartFile file = entry.getValue();
-                    try {
-                        byte[] fileBytes = file.getBytes();
-                        String dbParamName = apiToDbParamMap.getOrDefault(paramName.toLowerCase(), paramName.toUpperCase());
-                        dbParams.put(dbParamName, fileBytes);
-                        log.info("✅ Added file to dbParams: {} -> {} ({} bytes) for Oracle BLOB",
-                                paramName, dbParamName, fileBytes.length);
-                    } catch (IOException e) {
-                        log.error("Failed to read file: {}", e.getMessage());
-                        throw new RuntimeException("Failed to read uploaded file", e);
-                    }
+                    String dbParamName = apiToDbParamMap.getOrDefault(paramName.toLowerCase(), paramName.toUpperCase());
+                    dbParams.put(dbParamName, new UploadedFileStreamValue(file));
+                    log.info("✅ Added file to dbParams: {} -> {} ({} bytes) for Oracle BLOB",
+                            paramName, dbParamName, file.getSize());
                 }
             }
 
             if (request.getFile() != null && !request.getFile().isEmpty()) {
                 MultipartFile file = request.getFile();
-                try {
-                    byte[] fileBytes = file.getBytes();
-                    String dbParamName = apiToDbParamMap.getOrDefault("file", "FILE");
-                    dbParams.put(dbParamName, fileBytes);
-                    log.info("✅ Added single file to dbParams: {} -> {} ({} bytes) for Oracle BLOB",
-                            file.getOriginalFilename(), dbParamName, fileBytes.length);
-                } catch (IOException e) {
-                    log.error("Failed to read file: {}", e.getMessage());
-                    throw new RuntimeException("Failed to read uploaded file", e);
-                }
+                String dbParamName = apiToDbParamMap.getOrDefault("file", "FILE");
+                dbParams.put(dbParamName, new UploadedFileStreamValue(file));
+                log.info("✅ Added single file to dbParams: {} -> {} ({} bytes) for Oracle BLOB",
+                        file.getOriginalFilename(), dbParamName, file.getSize());
             }
         }
 
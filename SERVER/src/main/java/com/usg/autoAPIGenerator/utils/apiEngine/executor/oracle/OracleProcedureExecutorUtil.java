@@ -8,11 +8,13 @@ import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiSourceObjectDTO;
 import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ExecuteApiRequestDTO;
 import com.usg.autoAPIGenerator.utils.apiEngine.OracleObjectResolverUtil;
 import com.usg.autoAPIGenerator.utils.apiEngine.OracleParameterValidatorUtil;
+import com.usg.autoAPIGenerator.utils.apiEngine.UploadedFileStreamValue;
 import jakarta.validation.ValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.SqlOutParameter;
 import org.springframework.jdbc.core.SqlParameter;
@@ -20,7 +22,9 @@ import org.springframework.jdbc.core.simple.SimpleJdbcCall;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.regex.Matcher;
@@ -38,6 +42,9 @@ public class OracleProcedureExecutorUtil {
     private final OracleObjectResolverUtil objectResolver;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    // Owner, procedure and argument names are spliced into the batch block, so only plain identifiers are allowed
+    private static final Pattern BATCH_IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z][A-Za-z0-9_$#]*");
+
     public OracleProcedureExecutorUtil(
             OracleParameterValidatorUtil oracleParameterValidatorUtil,
             OracleObjectResolverUtil objectResolver) {
@@ -158,31 +165,19 @@ public class OracleProcedureExecutorUtil {
                 for (Map.Entry<String, MultipartFile> entry : request.getFileMap().entrySet()) {
                     String paramName = entry.getKey();
                     MultipartFile file = entry.getValue();
-                    try {
-                        byte[] fileBytes = file.getBytes();
-                        String dbParamName = apiToDbParamMap.getOrDefault(paramName.toLowerCase(), paramName.toUpperCase());
-                        dbParams.put(dbParamName, fileBytes);
-                        log.info("✅ Added file to dbParams: {} -> {} ({} bytes) for Oracle BLOB",
-                                paramName, dbParamName, fileBytes.length);
-                    } catch (IOException e) {
-                        log.error("Failed to read file: {}", e.getMessage());
-                        throw new RuntimeException("Failed to read uploaded file", e);
-                    }
+                    String dbParamName = apiToDbParamMap.getOrDefault(paramName.toLowerCase(), paramName.toUpperCase());
+                    dbParams.put(dbParamName, new UploadedFileStreamValue(file));
+                    log.info("✅ Added file to dbParams: {} -> {} ({} bytes) for Oracle BLOB",
+                            paramName, dbParamName, file.getSize());
                 }
             }
 
             if (request.getFile() != null && !request.getFile().isEmpty()) {
                 MultipartFile file = request.getFile();
-                try {
-                    byte[] fileBytes = file.getBytes();
-                    String dbParamName = apiToDbParamMap.getOrDefault("file", "FILE");
-                    dbParams.put(dbParamName, fileBytes);
-                    log.info("✅ Added single file to dbParams: {} -> {} ({} bytes) for Oracle BLOB",
-                            file.getOriginalFilename(), dbParamName, fileBytes.length);
-                } catch (IOException e) {
-                    log.error("Failed to read file: {}", e.getMessage());
-                    throw new RuntimeException("Failed to read uploaded file", e);
-                }
+                String dbParamName = apiToDbParamMap.getOrDefault("file", "FILE");
+                dbParams.put(dbParamName, new UploadedFileStreamValue(file));
+                log.info("✅ Added single file to dbParams: {} -> {} ({} bytes) for Oracle BLOB",
+                        file.getOriginalFilename(), dbParamName, file.getSize());
             }
         }
 
@@ -439,68 +434,7 @@ public class OracleProcedureExecutorUtil {
             log.info("Oracle will execute: {}.{}", actualOwner != null ? actualOwner : "<default schema>", actualProcedureName);
 
             // ==================== DECLARE PARAMETERS IN CORRECT ORDER ====================
-            // Build a complete list of all parameters with their positions
-            List<ParameterDeclaration> allParameters = new ArrayList<>();
-
-            // 1. Add parameters from API configuration (both IN and OUT)
-            if (api.getParameters() != null && !api.getParameters().isEmpty()) {
-                for (ApiParameterEntity param : api.getParameters()) {
-                    if (param == null || param.getKey() == null) continue;
-
-                    String dbParamName = getDbParamName(param);
-                    String paramMode = param.getParamMode() != null ? param.getParamMode().toUpperCase() : "IN";
-                    int position = param.getPosition() != null ? param.getPosition() : Integer.MAX_VALUE;
-
-                    // Get SQL type
-                    int sqlType = mapToSqlType(param.getOracleType());
-
-                    allParameters.add(new ParameterDeclaration(
-                            dbParamName,
-                            paramMode,
-                            position,
-                            sqlType,
-                            param.getOracleType(),
-                            param
-                    ));
-
-                    log.debug("Added parameter from API config: {} (position: {}, mode: {})",
-                            dbParamName, position, paramMode);
-                }
-            }
-
-            // 2. Also add response mappings that might be OUT parameters (if not already covered)
-            if (api.getResponseMappings() != null && !api.getResponseMappings().isEmpty()) {
-                for (ApiResponseMappingEntity mapping : api.getResponseMappings()) {
-                    if (Boolean.TRUE.equals(mapping.getIncludeInResponse())) {
-                        String outParamName = mapping.getDbColumn() != null && !mapping.getDbColumn().isEmpty() ?
-                                mapping.getDbColumn().toUpperCase() : "out_param_" + mapping.getPosition();
-
-                        // Check if already added
-                        boolean exists = allParameters.stream()
-                                .anyMatch(p -> p.parameterName.equals(outParamName));
-
-                        if (!exists) {
-                            int position = mapping.getPosition() != null ? mapping.getPosition() : Integer.MAX_VALUE;
-                            int sqlType = mapToSqlType(mapping.getOracleType());
-
-                            allParameters.add(new ParameterDeclaration(
-                                    outParamName,
-                                    "OUT",
-                                    position,
-                                    sqlType,
-                                    mapping.getOracleType(),
-                                    null
-                            ));
-
-                            log.debug("Added OUT parameter from response mapping: {} (position: {})",
-                                    outParamName, position);
-                        }
-                    }
-                }
-            }
-
-            // Sort parameters by position
-            allParameters.sort(Comparator.comparingInt(p -> p.position));
+            List<ParameterDeclaration> allParameters = collectParameterDeclarations(api);
 
             log.info("Declaring parameters in order (by POSITION):");
             for (ParameterDeclaration param : allParameters) {
@@ -720,6 +654,427 @@ public class OracleProcedureExecutorUtil {
         }
     }
 
+    /**
+     * Execute a procedure once per item of a batch with as few round trips as possible.
+     * Each chunk of items is bound into a single anonymous PL/SQL block that calls the procedure
+     * once per item, each call guarded by its own savepoint and exception handler, so one
+     * failing item neither aborts the chunk nor leaves partial work behind. Returns per-item
+     * OUT parameters (through the API's response mappings) and per-item errors.
+     */
+    public Map<String, Object> executeBatch(GeneratedApiEntity api, String procedureName, String owner,
+                                            List<Map<String, Object>> items, Map<String, Object> sharedParams,
+                                            List<ApiParameterDTO> configuredParamDTOs, int chunkSize) {
+
+        log.info("=== PROCEDURE BATCH ===");
+        log.info("Procedure: {}.{}, items: {}, chunk size: {}", owner, procedureName, items.size(), chunkSize);
+
+        if (items.isEmpty()) {
+            throw new ValidationException("Batch payload contains no items");
+        }
+
+        Map<String, String> apiToDbParamMap = new HashMap<>();
+        Map<String, ApiParameterDTO> paramDtoByDbName = new HashMap<>();
+        if (configuredParamDTOs != null) {
+            for (ApiParameterDTO param : configuredParamDTOs) {
+                if (param.getKey() != null) {
+                    String dbParamName = param.getDbParameter();
+                    if (dbParamName == null || dbParamName.isEmpty()) {
+                        dbParamName = param.getDbColumn();
+                    }
+                    if (dbParamName == null || dbParamName.isEmpty()) {
+                        dbParamName = param.getKey();
+                    }
+                    apiToDbParamMap.put(param.getKey().toLowerCase(), dbParamName.toUpperCase());
+                    paramDtoByDbName.put(dbParamName.toUpperCase(), param);
+                }
+            }
+        }
+
+        // ============ RESOLVE TARGET ONCE FOR THE WHOLE BATCH ============
+        String oracleOwner = resolveOwner(owner, null, api, procedureName);
+        if (oracleOwner == null || oracleOwner.trim().isEmpty()) {
+            throw new ValidationException("Could not determine the database schema/owner for procedure: " + procedureName);
+        }
+        oracleOwner = oracleOwner.toUpperCase();
+        String oracleProcedureName = procedureName != null ? procedureName.trim().toUpperCase() : null;
+
+        Map<String, Object> resolution = objectResolver.resolveProcedureTarget(oracleOwner, oracleProcedureName);
+        String actualOwner = oracleOwner;
+        String actualProcedureName = oracleProcedureName;
+        if (resolution != null && Boolean.TRUE.equals(resolution.get("isSynonym"))) {
+            actualOwner = (String) resolution.get("targetOwner");
+            actualProcedureName = (String) resolution.get("targetName");
+            log.info("✅ Resolved synonym to: {}.{}", actualOwner, actualProcedureName);
+        }
+
+        try {
+            objectResolver.validateDatabaseObject(actualOwner, actualProcedureName, "PROCEDURE");
+        } catch (EmptyResultDataAccessException e) {
+            throw new ValidationException(String.format(
+                    "The procedure '%s.%s' does not exist or you don't have access to it.", actualOwner, actualProcedureName));
+        }
+
+        if (!BATCH_IDENTIFIER_PATTERN.matcher(actualOwner).matches()
+                || !BATCH_IDENTIFIER_PATTERN.matcher(actualProcedureName).matches()) {
+            throw new ValidationException("Procedure name is not a plain Oracle identifier: " + actualOwner + "." + actualProcedureName);
+        }
+
+        // Response-mapping placeholders without a column are not real procedure arguments
+        List<ParameterDeclaration> declarations = collectParameterDeclarations(api).stream()
+                .filter(p -> p.apiParameter != null || !p.parameterName.startsWith("out_param_"))
+                .collect(java.util.stream.Collectors.toList());
+        for (ParameterDeclaration declaration : declarations) {
+            if (!BATCH_IDENTIFIER_PATTERN.matcher(declaration.parameterName).matches()) {
+                throw new ValidationException("Parameter name is not a plain Oracle identifier: " + declaration.parameterName);
+            }
+            if (declaration.sqlType == oracle.jdbc.OracleTypes.CURSOR) {
+                throw new ValidationException("Batch mode does not support REF CURSOR parameters (" +
+                        declaration.parameterName + ")");
+            }
+        }
+
+        // ============ MAP AND VALIDATE EACH ITEM ============
+        List<Map<String, Object>> itemResults = new ArrayList<>();
+        List<Map<String, Object>> itemParams = new ArrayList<>();
+        boolean signatureChecked = false;
+
+        for (int i = 0; i < items.size(); i++) {
+            Map<String, Object> itemResult = new LinkedHashMap<>();
+            itemResult.put("index", i);
+            itemResults.add(itemResult);
+
+            Map<String, Object> dbParams = new HashMap<>();
+            if (sharedParams != null) {
+                sharedParams.forEach((key, value) -> dbParams.put(
+                        apiToDbParamMap.getOrDefault(key.toLowerCase(), key.toUpperCase()), value));
+            }
+            Map<String, Object> item = items.get(i);
+            if (item != null) {
+                for (Map.Entry<String, Object> entry : item.entrySet()) {
+                    Object value = entry.getValue();
+                    if (value instanceof Map || value instanceof List) {
+                        try {
+                            value = objectMapper.writeValueAsString(value);
+                        } catch (Exception e) {
+                            value = value.toString();
+                        }
+                    }
+                    dbParams.put(apiToDbParamMap.getOrDefault(entry.getKey().toLowerCase(),
+                            entry.getKey().toUpperCase()), value);
+                }
+            }
+
+            for (ParameterDeclaration declaration : declarations) {
+                if (declaration.apiParameter != null
+                        && "AUTOGENERATE".equalsIgnoreCase(declaration.apiParameter.getOracleType())
+                        && !dbParams.containsKey(declaration.parameterName)) {
+                    dbParams.put(declaration.parameterName, getCurrentTimestamp());
+                }
+            }
+
+            String validationError = validateBatchItem(dbParams, declarations, paramDtoByDbName);
+            if (validationError == null && !signatureChecked) {
+                // Check the argument list against ALL_ARGUMENTS once rather than per item
+                try {
+                    oracleParameterValidatorUtil.validateParameters(configuredParamDTOs, dbParams,
+                            actualOwner, actualProcedureName);
+                    signatureChecked = true;
+                } catch (ValidationException e) {
+                    validationError = e.getMessage();
+                }
+            }
+
+            if (validationError != null) {
+                itemResult.put("status", "INVALID");
+                itemResult.put("error", validationError);
+                itemParams.add(null);
+            } else {
+                itemParams.add(dbParams);
+            }
+        }
+
+        // ============ EXECUTE IN CHUNKS ============
+        List<Integer> runnable = new ArrayList<>();
+        for (int i = 0; i < itemParams.size(); i++) {
+            if (itemParams.get(i) != null) {
+                runnable.add(i);
+            }
+        }
+
+        String qualifiedProcedure = actualOwner + "." + actualProcedureName;
+        int roundTrips = 0;
+
+        for (int start = 0; start < runnable.size(); start += chunkSize) {
+            List<Integer> chunk = runnable.subList(start, Math.min(start + chunkSize, runnable.size()));
+            String block = buildBatchBlock(qualifiedProcedure, declarations, chunk.size());
+            roundTrips++;
+
+            try {
+                oracleJdbcTemplate.execute((ConnectionCallback<Void>) conn -> {
+                    try (CallableStatement cs = conn.prepareCall(block)) {
+                        int bindIndex = 1;
+                        for (Integer itemIndex : chunk) {
+                            Map<String, Object> dbParams = itemParams.get(itemIndex);
+                            for (ParameterDeclaration declaration : declarations) {
+                                boolean isOut = isOutMode(declaration.mode);
+                                boolean isIn = !"OUT".equals(declaration.mode);
+                                if (isIn) {
+                                    Object value = dbParams.get(declaration.parameterName);
+                                    if (value == null) {
+                                        cs.setNull(bindIndex, declaration.sqlType);
+                                    } else {
+                                        cs.setObject(bindIndex, value);
+                                    }
+                                }
+                                if (isOut) {
+                                    cs.registerOutParameter(bindIndex, declaration.sqlType);
+                                }
+                                bindIndex++;
+                            }
+                            cs.registerOutParameter(bindIndex++, java.sql.Types.INTEGER);
+                            cs.registerOutParameter(bindIndex++, java.sql.Types.VARCHAR);
+                        }
+
+                        cs.execute();
+
+                        bindIndex = 1;
+                        for (Integer itemIndex : chunk) {
+                            Map<String, Object> outValues = new LinkedHashMap<>();
+                            for (ParameterDeclaration declaration : declarations) {
+                                if (isOutMode(declaration.mode)) {
+                                    outValues.put(declaration.parameterName, readOutValue(cs.getObject(bindIndex)));
+                                }
+                                bindIndex++;
+                            }
+                            int sqlCode = cs.getInt(bindIndex++);
+                            String sqlErrm = cs.getString(bindIndex++);
+                            applyBatchItemResult(itemResults.get(itemIndex), api, outValues, sqlCode, sqlErrm);
+                        }
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                String error = extractOracleError(e.getMessage());
+                if (e.getMessage() != null && e.getMessage().contains("ORA-06550")) {
+                    // The generated block does not compile - every chunk would fail the same way
+                    throw new ValidationException(String.format(
+                            "Invalid parameters provided for procedure '%s'. Please check parameter names and data types. Details: %s",
+                            qualifiedProcedure, error));
+                }
+                log.warn("Batch chunk {} for {} failed: {}", roundTrips, qualifiedProcedure, error);
+                for (Integer itemIndex : chunk) {
+                    itemResults.get(itemIndex).put("status", "FAILED");
+                    itemResults.get(itemIndex).put("error", error);
+                }
+            }
+        }
+
+        long succeeded = itemResults.stream().filter(r -> "SUCCESS".equals(r.get("status"))).count();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("operation", "PROCEDURE_BATCH");
+        result.put("procedure", qualifiedProcedure);
+        result.put("itemCount", items.size());
+        result.put("succeeded", succeeded);
+        result.put("failed", items.size() - succeeded);
+        result.put("chunkSize", chunkSize);
+        result.put("roundTrips", roundTrips);
+        result.put("items", itemResults);
+        result.put("message", succeeded == items.size()
+                ? "Batch executed successfully"
+                : "Batch completed with failed items");
+
+        log.info("Procedure batch for {} complete: {} of {} items succeeded in {} round trips",
+                qualifiedProcedure, succeeded, items.size(), roundTrips);
+        return result;
+    }
+
+    /**
+     * Anonymous block with one guarded call per item. Binds per item: one per declared
+     * parameter (IN, OUT or IN OUT in declaration order), then SQLCODE and SQLERRM.
+     */
+    private String buildBatchBlock(String qualifiedProcedure, List<ParameterDeclaration> declarations, int itemCount) {
+        String call = qualifiedProcedure + "(" + declarations.stream()
+                .map(p -> p.parameterName + " => ?")
+                .collect(java.util.stream.Collectors.joining(", ")) + ");";
+
+        StringBuilder block = new StringBuilder("DECLARE\n  v_code INTEGER;\n  v_errm VARCHAR2(4000);\nBEGIN\n");
+        for (int i = 0; i < itemCount; i++) {
+            block.append("  v_code := 0; v_errm := NULL;\n")
+                    .append("  BEGIN\n")
+                    .append("    SAVEPOINT api_batch_item;\n")
+                    .append("    ").append(call).append("\n")
+                    .append("  EXCEPTION WHEN OTHERS THEN\n")
+                    .append("    v_code := SQLCODE; v_errm := SQLERRM;\n")
+                    .append("    BEGIN ROLLBACK TO SAVEPOINT api_batch_item; EXCEPTION WHEN OTHERS THEN NULL; END;\n")
+                    .append("  END;\n")
+                    .append("  ? := v_code; ? := v_errm;\n");
+        }
+        return block.append("END;").toString();
+    }
+
+    /**
+     * Required and pattern checks done in memory so a bad item is rejected without a round trip
+     */
+    private String validateBatchItem(Map<String, Object> dbParams, List<ParameterDeclaration> declarations,
+                                     Map<String, ApiParameterDTO> paramDtoByDbName) {
+        for (ParameterDeclaration declaration : declarations) {
+            if ("OUT".equals(declaration.mode)) {
+                continue;
+            }
+            ApiParameterDTO dto = paramDtoByDbName.get(declaration.parameterName);
+            if (dto == null) {
+                continue;
+            }
+            Object value = dbParams.get(declaration.parameterName);
+            if (value == null && dto.getDefaultValue() != null && !dto.getDefaultValue().isEmpty()) {
+                dbParams.put(declaration.parameterName, dto.getDefaultValue());
+                value = dto.getDefaultValue();
+            }
+            if (Boolean.TRUE.equals(dto.getRequired()) && (value == null || value.toString().trim().isEmpty())) {
+                return "Required parameter '" + dto.getKey() + "' is missing";
+            }
+            if (value != null && !(value instanceof byte[]) && !(value instanceof UploadedFileStreamValue)
+                    && dto.getValidationPattern() != null
+                    && !dto.getValidationPattern().isEmpty()) {
+                try {
+                    if (!Pattern.matches(dto.getValidationPattern(), value.toString())) {
+                        return "Parameter '" + dto.getKey() + "' does not match the required format";
+                    }
+                } catch (java.util.regex.PatternSyntaxException e) {
+                    log.warn("Invalid validation pattern for parameter {}: {}", dto.getKey(), e.getMessage());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fill one item's result from its OUT values, treating a non-success response_code as a business error
+     */
+    private void applyBatchItemResult(Map<String, Object> itemResult, GeneratedApiEntity api,
+                                      Map<String, Object> outValues, int sqlCode, String sqlErrm) {
+        if (sqlCode != 0) {
+            itemResult.put("status", "FAILED");
+            itemResult.put("errorCode", String.format("ORA-%05d", Math.abs(sqlCode)));
+            itemResult.put("error", sqlErrm);
+            return;
+        }
+
+        String responseCode = null;
+        String message = null;
+        for (Map.Entry<String, Object> entry : outValues.entrySet()) {
+            String key = entry.getKey().toLowerCase();
+            if (key.equals("response_code") || key.equals("responsecode") || key.equals("code")) {
+                responseCode = entry.getValue() != null ? entry.getValue().toString() : null;
+            }
+            if (key.equals("mess") || key.equals("message") || key.equals("err_msg") || key.equals("error_msg")) {
+                message = entry.getValue() != null ? entry.getValue().toString() : null;
+            }
+        }
+
+        Map<String, Object> outputs = new LinkedHashMap<>();
+        if (api.getResponseMappings() != null && !api.getResponseMappings().isEmpty()) {
+            for (ApiResponseMappingEntity mapping : api.getResponseMappings()) {
+                if (Boolean.TRUE.equals(mapping.getIncludeInResponse()) && mapping.getDbColumn() != null
+                        && outValues.containsKey(mapping.getDbColumn().toUpperCase())) {
+                    outputs.put(mapping.getApiField(), outValues.get(mapping.getDbColumn().toUpperCase()));
+                }
+            }
+        }
+        itemResult.put("outputs", outputs.isEmpty() ? outValues : outputs);
+
+        if (responseCode != null && !"000".equals(responseCode) && !"0".equals(responseCode)) {
+            itemResult.put("status", "BUSINESS_ERROR");
+            itemResult.put("errorCode", responseCode);
+            itemResult.put("error", message != null ? message : "Business rule violation (Code: " + responseCode + ")");
+        } else {
+            itemResult.put("status", "SUCCESS");
+        }
+    }
+
+    private Object readOutValue(Object value) throws SQLException {
+        if (value instanceof Clob) {
+            Clob clob = (Clob) value;
+            return clob.getSubString(1, (int) clob.length());
+        }
+        return value;
+    }
+
+    private boolean isOutMode(String mode) {
+        return "OUT".equals(mode) || "IN/OUT".equals(mode) || "INOUT".equals(mode) || "IN OUT".equals(mode);
+    }
+
+    /**
+     * Build the procedure's parameter declarations (API parameters plus OUT response mappings), sorted by position
+     */
+    private List<ParameterDeclaration> collectParameterDeclarations(GeneratedApiEntity api) {
+        // Build a complete list of all parameters with their positions
+        List<ParameterDeclaration> allParameters = new ArrayList<>();
+
+        // 1. Add parameters from API configuration (both IN and OUT)
+        if (api.getParameters() != null && !api.getParameters().isEmpty()) {
+            for (ApiParameterEntity param : api.getParameters()) {
+                if (param == null || param.getKey() == null) continue;
+
+                String dbParamName = getDbParamName(param);
+                String paramMode = param.getParamMode() != null ? param.getParamMode().toUpperCase() : "IN";
+                int position = param.getPosition() != null ? param.getPosition() : Integer.MAX_VALUE;
+
+                // Get SQL type
+                int sqlType = mapToSqlType(param.getOracleType());
+
+                allParameters.add(new ParameterDeclaration(
+                        dbParamName,
+                        paramMode,
+                        position,
+                        sqlType,
+                        param.getOracleType(),
+                        param
+                ));
+
+                log.debug("Added parameter from API config: {} (position: {}, mode: {})",
+                        dbParamName, position, paramMode);
+            }
+        }
+
+        // 2. Also add response mappings that might be OUT parameters (if not already covered)
+        if (api.getResponseMappings() != null && !api.getResponseMappings().isEmpty()) {
+            for (ApiResponseMappingEntity mapping : api.getResponseMappings()) {
+                if (Boolean.TRUE.equals(mapping.getIncludeInResponse())) {
+                    String outParamName = mapping.getDbColumn() != null && !mapping.getDbColumn().isEmpty() ?
+                            mapping.getDbColumn().toUpperCase() : "out_param_" + mapping.getPosition();
+
+                    // Check if already added
+                    boolean exists = allParameters.stream()
+                            .anyMatch(p -> p.parameterName.equals(outParamName));
+
+                    if (!exists) {
+                        int position = mapping.getPosition() != null ? mapping.getPosition() : Integer.MAX_VALUE;
+                        int sqlType = mapToSqlType(mapping.getOracleType());
+
+                        allParameters.add(new ParameterDeclaration(
+                                outParamName,
+                                "OUT",
+                                position,
+                                sqlType,
+                                mapping.getOracleType(),
+                                null
+                        ));
+
+                        log.debug("Added OUT parameter from response mapping: {} (position: {})",
+                                outParamName, position);
+                    }
+                }
+            }
+        }
+
+        // Sort parameters by position
+        allParameters.sort(Comparator.comparingInt(p -> p.position));
+
+        return allParameters;
+    }
+
     /**
      * Helper method to extract Oracle error message
      */
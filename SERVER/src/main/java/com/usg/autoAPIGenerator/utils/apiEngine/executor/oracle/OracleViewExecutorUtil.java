@@ -8,6 +8,7 @@ import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiSourceObjectDTO;
 import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ExecuteApiRequestDTO;
 import com.usg.autoAPIGenerator.utils.apiEngine.OracleObjectResolverUtil;
 import com.usg.autoAPIGenerator.utils.apiEngine.OracleParameterValidatorUtil;
+import com.usg.autoAPIGenerator.utils.apiEngine.QueryFilterUtil;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -233,21 +234,7 @@ public class OracleViewExecutorUtil {
         }
 
         // ============ HANDLE COLLECTION/ARRAY PARAMETERS ============
-        // Convert collection/array parameters to single values for WHERE clause
-        for (Map.Entry<String, Object> entry : dbParams.entrySet()) {
-            Object value = entry.getValue();
-            if (value instanceof List || (value != null && value.getClass().isArray())) {
-                Collection<?> collection = value instanceof List ?
-                        (List<?>) value : Arrays.asList((Object[]) value);
-                if (!collection.isEmpty()) {
-                    // Take the first value for WHERE clause
-                    dbParams.put(entry.getKey(), collection.iterator().next());
-                    log.info("Converted collection parameter '{}' to single value", entry.getKey());
-                } else {
-                    dbParams.put(entry.getKey(), null);
-                }
-            }
-        }
+        // Lists are kept: the table executor compiles several values for a column into IN (...)
 
         log.info("Final DB params for view execution: {}", dbParams.keySet());
 
@@ -561,9 +548,11 @@ public class OracleViewExecutorUtil {
                     );
                 }
 
-                // Validate data type if column exists
+                // Validate data type if column exists; filter operators (gte:, in: ...) are checked per operand
                 if (column != null && param.getValue() != null) {
-                    validateColumnDataType(param.getKey(), param.getValue(), column);
+                    for (Object operand : QueryFilterUtil.operandsOf(param.getValue())) {
+                        validateColumnDataType(param.getKey(), operand, column);
+                    }
                 }
             }
         }
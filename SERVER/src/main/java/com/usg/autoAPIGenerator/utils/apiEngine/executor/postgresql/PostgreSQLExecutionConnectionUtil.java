@@ -0,0 +1,137 @@
+package com.usg.autoAPIGenerator.utils.apiEngine.executor.postgresql;
+
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiSettingsEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import com.usg.autoAPIGenerator.utils.apiEngine.ApiDataSourceContextHolder;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Hands out connections from the dedicated "postgresqlExecutionDataSource" pool
+ * to the PostgreSQL executors. Session timeouts are applied once per physical
+ * connection by the pool, so a borrow is a plain pool checkout; per-API timeouts
+ * are resolved from the API settings and applied with Statement#setQueryTimeout.
+ */
+@Slf4j
+@Component
+public class PostgreSQLExecutionConnectionUtil {
+
+    @Autowired
+    @Qualifier("postgresqlExecutionDataSource")
+    private DataSource executionDataSource;
+
+    @Value("${api.execution.default-statement-timeout-seconds:30}")
+    private int defaultStatementTimeoutSeconds;
+
+    @Value("${api.execution.max-statement-timeout-seconds:300}")
+    private int maxStatementTimeoutSeconds;
+
+    // Bound target / replica pool -> JdbcTemplate configured like the primary one
+    private final Map<DataSource, JdbcTemplate> boundJdbcTemplates = new ConcurrentHashMap<>();
+
+    // Used by the driver to abort connections whose network timeout expires
+    private final ExecutorService networkTimeoutExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "pg-execution-network-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Borrow a connection for executing a generated API, from the API's datasource
+     * target when one is bound to the current thread
+     */
+    public Connection getConnection() throws SQLException {
+        DataSource target = ApiDataSourceContextHolder.getDataSource("postgresql");
+        if (target != null) {
+            return target.getConnection();
+        }
+        if (executionDataSource == null) {
+            throw new SQLException("No execution DataSource available");
+        }
+        return executionDataSource.getConnection();
+    }
+
+    /**
+     * JdbcTemplate for lookups made while executing a generated API: one over the datasource target
+     * or read replica bound to the current thread, with the primary template's settings, otherwise
+     * the primary template itself
+     */
+    public JdbcTemplate resolveJdbcTemplate(JdbcTemplate primary) {
+        DataSource target = ApiDataSourceContextHolder.getDataSource("postgresql");
+        if (target == null) {
+            return primary;
+        }
+        JdbcTemplate cached = boundJdbcTemplates.get(target);
+        if (cached != null) {
+            return cached;
+        }
+        // A new pool usually means an evicted one; drop templates over closed pools
+        boundJdbcTemplates.keySet().removeIf(ds -> ds instanceof HikariDataSource && ((HikariDataSource) ds).isClosed());
+        return boundJdbcTemplates.computeIfAbsent(target, ds -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(ds);
+            jdbcTemplate.setFetchSize(primary.getFetchSize());
+            jdbcTemplate.setQueryTimeout(primary.getQueryTimeout());
+            jdbcTemplate.setMaxRows(primary.getMaxRows());
+            jdbcTemplate.setResultsMapCaseInsensitive(primary.isResultsMapCaseInsensitive());
+            return jdbcTemplate;
+        });
+    }
+
+    /**
+     * Resolve the statement timeout (in seconds) for an API from its settings.
+     * Settings hold the timeout in milliseconds; the result is clamped to the
+     * server-side ceiling configured on the execution pool.
+     */
+    public int resolveStatementTimeoutSeconds(GeneratedApiEntity api) {
+        Integer timeoutMs = null;
+        if (api != null) {
+            ApiSettingsEntity settings = api.getSettings();
+            if (settings != null) {
+                timeoutMs = settings.getTimeout();
+            }
+        }
+
+        if (timeoutMs == null || timeoutMs <= 0) {
+            return defaultStatementTimeoutSeconds;
+        }
+
+        int seconds = (int) Math.ceil(timeoutMs / 1000.0);
+        if (seconds > maxStatementTimeoutSeconds) {
+            log.debug("API {} timeout of {}ms exceeds execution ceiling, using {}s",
+                    api.getId(), timeoutMs, maxStatementTimeoutSeconds);
+            return maxStatementTimeoutSeconds;
+        }
+        return seconds;
+    }
+
+    public int getDefaultStatementTimeoutSeconds() {
+        return defaultStatementTimeoutSeconds;
+    }
+
+    /**
+     * Raise the socket timeout of a borrowed connection for long-running work such as COPY.
+     * The pool restores its configured socket timeout when the connection is returned.
+     */
+    public void extendNetworkTimeout(Connection connection, int timeoutSeconds) throws SQLException {
+        connection.setNetworkTimeout(networkTimeoutExecutor, (int) Math.min(Integer.MAX_VALUE, timeoutSeconds * 1000L));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        networkTimeoutExecutor.shutdownNow();
+    }
+}
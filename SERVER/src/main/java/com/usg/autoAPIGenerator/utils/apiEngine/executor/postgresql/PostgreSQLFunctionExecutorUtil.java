@@ -8,6 +8,7 @@ import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiSourceObjectDTO;
 import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ExecuteApiRequestDTO;
 import com.usg.autoAPIGenerator.utils.apiEngine.PostgreSQLObjectResolverUtil;
 import com.usg.autoAPIGenerator.utils.apiEngine.PostgreSQLParameterValidatorUtil;
+import com.usg.autoAPIGenerator.utils.apiEngine.UploadedFileStreamValue;
 import jakarta.validation.ValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,10 +19,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.sql.DataSource;
-import java.io.IOException;
 import java.sql.*;
 import java.util.*;
-import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,14 +32,20 @@ public class PostgreSQLFunctionExecutorUtil {
     @Qualifier("postgresqlJdbcTemplate")
     private JdbcTemplate postgresqlJdbcTemplate;
 
+    @Autowired
+    private PostgreSQLExecutionConnectionUtil executionConnectionUtil;
+
+    /**
+     * The bound datasource target's template while an API executes against one, otherwise the primary
+     */
+    private JdbcTemplate jdbc() {
+        return executionConnectionUtil.resolveJdbcTemplate(postgresqlJdbcTemplate);
+    }
+
     private final PostgreSQLParameterValidatorUtil parameterValidatorUtil;
     private final PostgreSQLObjectResolverUtil objectResolver;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    // Timeout constants
-    private static final int STATEMENT_TIMEOUT_SECONDS = 30;
-    private static final int CONNECTION_TIMEOUT_MS = 30000;
-
     public PostgreSQLFunctionExecutorUtil(
             PostgreSQLParameterValidatorUtil parameterValidatorUtil,
             PostgreSQLObjectResolverUtil objectResolver) {
@@ -151,30 +156,18 @@ public class PostgreSQLFunctionExecutorUtil {
                 for (Map.Entry<String, MultipartFile> entry : request.getFileMap().entrySet()) {
                     String paramName = entry.getKey();
                     MultipartFile file = entry.getValue();
-                    try {
-                        byte[] fileBytes = file.getBytes();
-                        String dbParamName = apiToDbParamMap.getOrDefault(paramName.toLowerCase(), paramName.toLowerCase());
-                        dbParams.put(dbParamName, fileBytes);
-                        log.info("✅ Added file to dbParams: {} -> {} ({} bytes)", paramName, dbParamName, fileBytes.length);
-                    } catch (IOException e) {
-                        log.error("Failed to read file: {}", e.getMessage());
-                        throw new RuntimeException("Failed to read uploaded file", e);
-                    }
+                    String dbParamName = apiToDbParamMap.getOrDefault(paramName.toLowerCase(), paramName.toLowerCase());
+                    dbParams.put(dbParamName, new UploadedFileStreamValue(file));
+                    log.info("✅ Added file to dbParams: {} -> {} ({} bytes)", paramName, dbParamName, file.getSize());
                 }
             }
 
             if (request.getFile() != null && !request.getFile().isEmpty()) {
                 MultipartFile file = request.getFile();
-                try {
-                    byte[] fileBytes = file.getBytes();
-                    // Use mapping for the single file parameter name (e.g., "file" or whatever the API expects)
-                    String dbParamName = apiToDbParamMap.getOrDefault("file", "file");
-                    dbParams.put(dbParamName, fileBytes);
-                    log.info("✅ Added single file to dbParams: {} -> {} ({} bytes)", file.getOriginalFilename(), dbParamName, fileBytes.length);
-                } catch (IOException e) {
-                    log.error("Failed to read file: {}", e.getMessage());
-                    throw new RuntimeException("Failed to read uploaded file", e);
-                }
+                // Use mapping for the single file parameter name (e.g., "file" or whatever the API expects)
+                String dbParamName = apiToDbParamMap.getOrDefault("file", "file");
+                dbParams.put(dbParamName, new UploadedFileStreamValue(file));
+                log.info("✅ Added single file to dbParams: {} -> {} ({} bytes)", file.getOriginalFilename(), dbParamName, file.getSize());
             }
         }
 
@@ -331,23 +324,9 @@ public class PostgreSQLFunctionExecutorUtil {
 
         // ==================== EXECUTE FUNCTION WITH PROPER CONNECTION MANAGEMENT ====================
         try {
-            // Get DataSource from JdbcTemplate
-            DataSource dataSource = postgresqlJdbcTemplate.getDataSource();
-            if (dataSource == null) {
-                throw new SQLException("No DataSource available");
-            }
-
-            // Use try-with-resources to ensure connection is properly closed
-            try (Connection conn = dataSource.getConnection()) {
-                // Set network timeout
-                conn.setNetworkTimeout(Executors.newSingleThreadExecutor(), CONNECTION_TIMEOUT_MS);
-
-                // Set session statement timeout
-                try (Statement stmt = conn.createStatement()) {
-                    stmt.execute("SET statement_timeout = '" + STATEMENT_TIMEOUT_SECONDS + "s'");
-                    stmt.execute("SET lock_timeout = '" + STATEMENT_TIMEOUT_SECONDS + "s'");
-                }
+            int statementTimeoutSeconds = executionConnectionUtil.resolveStatementTimeoutSeconds(api);
 
+            try (Connection conn = executionConnectionUtil.getConnection()) {
                 // Build the CALL statement
                 String callSql = buildCallStatement(actualSchema, actualFunctionName, api.getParameters(), dbParams);
                 log.info("Executing PostgreSQL function with CALL syntax: {}", callSql);
@@ -359,7 +338,7 @@ public class PostgreSQLFunctionExecutorUtil {
                 // Use try-with-resources for CallableStatement
                 try (CallableStatement cs = conn.prepareCall(callSql)) {
                     // Set statement timeout
-                    cs.setQueryTimeout(STATEMENT_TIMEOUT_SECONDS);
+                    cs.setQueryTimeout(statementTimeoutSeconds);
 
                     // Set parameters
                     setParameters(cs, api.getParameters(), dbParams);
@@ -418,11 +397,13 @@ public class PostgreSQLFunctionExecutorUtil {
 
                     log.info("============ FUNCTION EXECUTION COMPLETE ============");
                     return responseData;
+                } finally {
+                    StatementCreatorUtils.cleanupParameters(dbParams.values());
                 }
             }
         } catch (SQLTimeoutException e) {
             log.error("Database operation timed out for {}.{}", actualSchema, actualFunctionName, e);
-            throw new RuntimeException("Database operation timed out after " + STATEMENT_TIMEOUT_SECONDS + " seconds", e);
+            throw new RuntimeException("Database operation timed out after " + executionConnectionUtil.resolveStatementTimeoutSeconds(api) + " seconds", e);
         } catch (ValidationException e) {
             throw e;
         } catch (Exception e) {
@@ -563,6 +544,8 @@ public class PostgreSQLFunctionExecutorUtil {
                     cs.setNull(index++, Types.NULL);
                 } else if (value instanceof byte[]) {
                     cs.setBytes(index++, (byte[]) value);
+                } else if (value instanceof UploadedFileStreamValue) {
+                    ((UploadedFileStreamValue) value).setTypeValue(cs, index++, Types.BINARY, null);
                 } else {
                     cs.setObject(index++, value);
                 }
@@ -783,7 +766,7 @@ public class PostgreSQLFunctionExecutorUtil {
 
         // Strategy 5: Try to get current schema
         try {
-            DataSource dataSource = postgresqlJdbcTemplate.getDataSource();
+            DataSource dataSource = jdbc().getDataSource();
             if (dataSource != null) {
                 try (Connection conn = dataSource.getConnection();
                      Statement stmt = conn.createStatement();
@@ -811,7 +794,7 @@ public class PostgreSQLFunctionExecutorUtil {
                     "AND n.nspname NOT IN ('pg_catalog', 'information_schema') " +
                     "LIMIT 1";
 
-            List<String> schemas = postgresqlJdbcTemplate.queryForList(findFunctionSql, String.class, functionName);
+            List<String> schemas = jdbc().queryForList(findFunctionSql, String.class, functionName);
 
             if (!schemas.isEmpty()) {
                 String foundSchema = schemas.get(0);
@@ -826,7 +809,7 @@ public class PostgreSQLFunctionExecutorUtil {
                     "AND n.nspname NOT IN ('pg_catalog', 'information_schema') " +
                     "LIMIT 1";
 
-            List<String> procSchemas = postgresqlJdbcTemplate.queryForList(findProcedureSql, String.class, functionName);
+            List<String> procSchemas = jdbc().queryForList(findProcedureSql, String.class, functionName);
 
             if (!procSchemas.isEmpty()) {
                 String foundSchema = procSchemas.get(0);
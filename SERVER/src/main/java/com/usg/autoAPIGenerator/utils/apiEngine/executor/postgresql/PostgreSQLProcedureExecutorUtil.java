@@ -8,6 +8,7 @@ import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiSourceObjectDTO;
 import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ExecuteApiRequestDTO;
 import com.usg.autoAPIGenerator.utils.apiEngine.PostgreSQLObjectResolverUtil;
 import com.usg.autoAPIGenerator.utils.apiEngine.PostgreSQLParameterValidatorUtil;
+import com.usg.autoAPIGenerator.utils.apiEngine.UploadedFileStreamValue;
 import jakarta.validation.ValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,11 +19,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.sql.DataSource;
-import java.io.IOException;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -34,14 +33,20 @@ public class PostgreSQLProcedureExecutorUtil {
     @Qualifier("postgresqlJdbcTemplate")
     private JdbcTemplate postgresqlJdbcTemplate;
 
+    @Autowired
+    private PostgreSQLExecutionConnectionUtil executionConnectionUtil;
+
+    /**
+     * The bound datasource target's template while an API executes against one, otherwise the primary
+     */
+    private JdbcTemplate jdbc() {
+        return executionConnectionUtil.resolveJdbcTemplate(postgresqlJdbcTemplate);
+    }
+
     private final PostgreSQLParameterValidatorUtil parameterValidatorUtil;
     private final PostgreSQLObjectResolverUtil objectResolver;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    // Timeout constants
-    private static final int STATEMENT_TIMEOUT_SECONDS = 30;
-    private static final int CONNECTION_TIMEOUT_MS = 30000;
-
     public PostgreSQLProcedureExecutorUtil(
             PostgreSQLParameterValidatorUtil parameterValidatorUtil,
             PostgreSQLObjectResolverUtil objectResolver) {
@@ -181,29 +186,17 @@ public class PostgreSQLProcedureExecutorUtil {
                 for (Map.Entry<String, MultipartFile> entry : request.getFileMap().entrySet()) {
                     String paramName = entry.getKey();
                     MultipartFile file = entry.getValue();
-                    try {
-                        byte[] fileBytes = file.getBytes();
-                        String dbParamName = apiToDbParamMap.getOrDefault(paramName.toLowerCase(), paramName.toLowerCase());
-                        dbParams.put(dbParamName, fileBytes);
-                        log.info("✅ Added file to dbParams: {} -> {} ({} bytes)", paramName, dbParamName, fileBytes.length);
-                    } catch (IOException e) {
-                        log.error("Failed to read file: {}", e.getMessage());
-                        throw new RuntimeException("Failed to read uploaded file", e);
-                    }
+                    String dbParamName = apiToDbParamMap.getOrDefault(paramName.toLowerCase(), paramName.toLowerCase());
+                    dbParams.put(dbParamName, new UploadedFileStreamValue(file));
+                    log.info("✅ Added file to dbParams: {} -> {} ({} bytes)", paramName, dbParamName, file.getSize());
                 }
             }
 
             if (request.getFile() != null && !request.getFile().isEmpty()) {
                 MultipartFile file = request.getFile();
-                try {
-                    byte[] fileBytes = file.getBytes();
-                    String dbParamName = apiToDbParamMap.getOrDefault("file", "file");
-                    dbParams.put(dbParamName, fileBytes);
-                    log.info("✅ Added single file to dbParams: {} -> {} ({} bytes)", file.getOriginalFilename(), dbParamName, fileBytes.length);
-                } catch (IOException e) {
-                    log.error("Failed to read file: {}", e.getMessage());
-                    throw new RuntimeException("Failed to read uploaded file", e);
-                }
+                String dbParamName = apiToDbParamMap.getOrDefault("file", "file");
+                dbParams.put(dbParamName, new UploadedFileStreamValue(file));
+                log.info("✅ Added single file to dbParams: {} -> {} ({} bytes)", file.getOriginalFilename(), dbParamName, file.getSize());
             }
         }
 
@@ -309,20 +302,9 @@ public class PostgreSQLProcedureExecutorUtil {
 
         // ============ EXECUTE PROCEDURE WITH PROPER CONNECTION MANAGEMENT ============
         try {
-            DataSource dataSource = postgresqlJdbcTemplate.getDataSource();
-            if (dataSource == null) {
-                throw new SQLException("No DataSource available");
-            }
-
-            try (Connection conn = dataSource.getConnection()) {
-                conn.setNetworkTimeout(Executors.newSingleThreadExecutor(), CONNECTION_TIMEOUT_MS);
-
-                try (Statement stmt = conn.createStatement()) {
-                    stmt.execute("SET statement_timeout = '" + STATEMENT_TIMEOUT_SECONDS + "s'");
-                    stmt.execute("SET lock_timeout = '" + STATEMENT_TIMEOUT_SECONDS + "s'");
-                    stmt.execute("SET client_min_messages = 'notice'");
-                }
+            int statementTimeoutSeconds = executionConnectionUtil.resolveStatementTimeoutSeconds(api);
 
+            try (Connection conn = executionConnectionUtil.getConnection()) {
                 String callSql = buildCallStatement(pgSchema, pgProcedureName, api.getParameters(), dbParams);
                 log.info("Executing PostgreSQL procedure with CALL syntax: {}", callSql);
                 log.info("Parameters: {}", dbParams);
@@ -331,7 +313,7 @@ public class PostgreSQLProcedureExecutorUtil {
                 Map<String, Object> finalResult = new HashMap<>();
 
                 try (CallableStatement cs = conn.prepareCall(callSql)) {
-                    cs.setQueryTimeout(STATEMENT_TIMEOUT_SECONDS);
+                    cs.setQueryTimeout(statementTimeoutSeconds);
                     setParameters(cs, api.getParameters(), dbParams);
                     int outParamIndex = registerOutParameters(cs, api.getResponseMappings(), api.getParameters(), dbParams);
                     log.info("Executing procedure {}.{}", pgSchema, pgProcedureName);
@@ -392,11 +374,13 @@ public class PostgreSQLProcedureExecutorUtil {
 
                     log.info("============ PROCEDURE EXECUTION COMPLETE ============");
                     return responseData;
+                } finally {
+                    StatementCreatorUtils.cleanupParameters(dbParams.values());
                 }
             }
         } catch (SQLTimeoutException e) {
             log.error("Database operation timed out for {}.{}", pgSchema, pgProcedureName, e);
-            throw new RuntimeException("Database operation timed out after " + STATEMENT_TIMEOUT_SECONDS + " seconds", e);
+            throw new RuntimeException("Database operation timed out after " + executionConnectionUtil.resolveStatementTimeoutSeconds(api) + " seconds", e);
         } catch (ValidationException e) {
             throw e;
         } catch (Exception e) {
@@ -472,6 +456,9 @@ public class PostgreSQLProcedureExecutorUtil {
                 if (value == null) {
                     cs.setNull(index++, Types.NULL);
                     log.debug("Set NULL parameter {} (index {})", dbParamName, index-1);
+                } else if (value instanceof UploadedFileStreamValue) {
+                    ((UploadedFileStreamValue) value).setTypeValue(cs, index++, Types.BINARY, null);
+                    log.debug("Set parameter {} (index {}): streamed {}", dbParamName, index-1, value);
                 } else {
                     cs.setObject(index++, value);
                     log.debug("Set parameter {} (index {}): type={}, value={}",
@@ -797,7 +784,7 @@ public class PostgreSQLProcedureExecutorUtil {
         }
 
         try {
-            DataSource dataSource = postgresqlJdbcTemplate.getDataSource();
+            DataSource dataSource = jdbc().getDataSource();
             if (dataSource != null) {
                 try (Connection conn = dataSource.getConnection();
                      Statement stmt = conn.createStatement();
@@ -822,7 +809,7 @@ public class PostgreSQLProcedureExecutorUtil {
                     "AND n.nspname NOT IN ('pg_catalog', 'information_schema') " +
                     "LIMIT 1";
 
-            List<String> schemas = postgresqlJdbcTemplate.queryForList(findProcedureSql, String.class, procedureName);
+            List<String> schemas = jdbc().queryForList(findProcedureSql, String.class, procedureName);
             if (!schemas.isEmpty()) {
                 log.info("Strategy 6 - Found procedure in schema: {}", schemas.get(0));
                 return schemas.get(0);
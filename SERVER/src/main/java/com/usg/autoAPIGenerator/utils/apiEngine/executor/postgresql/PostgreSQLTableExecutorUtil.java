@@ -4,20 +4,33 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiParameterDTO;
 import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.*;
+import com.usg.autoAPIGenerator.utils.apiEngine.BulkPayloadReaderUtil;
+import com.usg.autoAPIGenerator.utils.apiEngine.LobStreamingUtil;
 import com.usg.autoAPIGenerator.utils.apiEngine.PostgreSQLParameterValidatorUtil;
+import com.usg.autoAPIGenerator.utils.apiEngine.QueryFilterUtil;
+import com.usg.autoAPIGenerator.utils.apiEngine.UploadedFileStreamValue;
 import jakarta.validation.ValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCreatorUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
 
 import javax.sql.DataSource;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.sql.*;
 import java.util.*;
-import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -30,13 +43,24 @@ public class PostgreSQLTableExecutorUtil {
     @Qualifier("postgresqlJdbcTemplate")
     private JdbcTemplate postgresqlJdbcTemplate;
 
+    @Autowired
+    private PostgreSQLExecutionConnectionUtil executionConnectionUtil;
+
+    @Autowired
+    private BulkPayloadReaderUtil bulkPayloadReaderUtil;
+
+    @Autowired
+    private QueryFilterUtil queryFilterUtil;
+
+    @Value("${api.copy.statement-timeout-seconds:3600}")
+    private int copyStatementTimeoutSeconds;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int COPY_VIOLATION_SAMPLE_SIZE = 10;
+
     private final PostgreSQLParameterValidatorUtil parameterValidator;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    // Timeout constants
-    private static final int STATEMENT_TIMEOUT_SECONDS = 30;
-    private static final int CONNECTION_TIMEOUT_MS = 30000;
-
     // Flag to control whether to capture RAISE NOTICE messages
     private boolean captureNotices = false;
 
@@ -65,9 +89,10 @@ public class PostgreSQLTableExecutorUtil {
      * 1. fields parameter in request (comma-separated string or array)
      * 2. Response mappings for default field selection
      * 3. Aliases for fields (apiField -> dbColumn)
+     * Requested fields must be configured on the API (response mappings or parameters)
      */
-    private String buildSelectClause(GeneratedApiEntity api, Map<String, Object> params,
-                                     Map<String, String> apiToDbColumnMap) {
+    String buildSelectClause(GeneratedApiEntity api, Map<String, Object> params,
+                             Map<String, String> apiToDbColumnMap) {
         // Priority 1: Check if fields are specified in the request
         if (params != null && params.containsKey("fields")) {
             Object fieldsObj = params.get("fields");
@@ -111,10 +136,12 @@ public class PostgreSQLTableExecutorUtil {
                             }
                         }
 
-                        // If no mapping found, use field name as is (might be a direct column name)
+                        // If no mapping found, the field must still be a configured column
                         if (!found) {
                             // Try to find in API to DB mapping
-                            String dbColumn = apiToDbColumnMap.getOrDefault(field.toLowerCase(), field);
+                            String dbColumn = apiToDbColumnMap.containsKey(field.toLowerCase())
+                                    ? apiToDbColumnMap.get(field.toLowerCase())
+                                    : queryFilterUtil.resolveColumn(field, queryFilterUtil.columnWhitelist(api));
                             // Quote column name to preserve case sensitivity
                             mappedFields.add("\"" + dbColumn + "\"");
                         }
@@ -152,26 +179,10 @@ public class PostgreSQLTableExecutorUtil {
     }
 
     /**
-     * Get connection with timeout settings
+     * Get connection from the execution pool (session timeouts are applied by the pool)
      */
     private Connection getConnectionWithTimeout() throws SQLException {
-        DataSource dataSource = postgresqlJdbcTemplate.getDataSource();
-        if (dataSource == null) {
-            throw new SQLException("No DataSource available");
-        }
-
-        Connection conn = dataSource.getConnection();
-
-        // Set network timeout
-        conn.setNetworkTimeout(Executors.newSingleThreadExecutor(), CONNECTION_TIMEOUT_MS);
-
-        // Set session statement timeout
-        try (Statement stmt = conn.createStatement()) {
-            stmt.execute("SET statement_timeout = '" + STATEMENT_TIMEOUT_SECONDS + "s'");
-            stmt.execute("SET lock_timeout = '" + STATEMENT_TIMEOUT_SECONDS + "s'");
-        }
-
-        return conn;
+        return executionConnectionUtil.getConnection();
     }
 
     /**
@@ -302,33 +313,34 @@ public class PostgreSQLTableExecutorUtil {
                 for (Map.Entry<String, MultipartFile> entry : fileMap.entrySet()) {
                     String paramName = entry.getKey();
                     MultipartFile file = entry.getValue();
-                    try {
-                        byte[] fileBytes = file.getBytes();
-                        String dbParamName = apiToDbParamMap.getOrDefault(paramName.toLowerCase(), paramName.toLowerCase());
-                        params.put(dbParamName, fileBytes);
-                        log.info("✅ Added file to params: {} -> {} ({} bytes)", paramName, dbParamName, fileBytes.length);
-                    } catch (IOException e) {
-                        log.error("Failed to read file: {}", e.getMessage());
-                        throw new RuntimeException("Failed to read uploaded file", e);
-                    }
+                    String dbParamName = apiToDbParamMap.getOrDefault(paramName.toLowerCase(), paramName.toLowerCase());
+                    params.put(dbParamName, new UploadedFileStreamValue(file));
+                    log.info("✅ Added file to params: {} -> {} ({} bytes)", paramName, dbParamName, file.getSize());
                 }
             }
 
             if (singleFile != null && !singleFile.isEmpty()) {
                 MultipartFile file = singleFile;
-                try {
-                    byte[] fileBytes = file.getBytes();
-                    String dbParamName = apiToDbParamMap.getOrDefault("file", "file");
-                    params.put(dbParamName, fileBytes);
-                    log.info("✅ Added single file to params: {} -> {} ({} bytes)", file.getOriginalFilename(), dbParamName, fileBytes.length);
-                } catch (IOException e) {
-                    log.error("Failed to read file: {}", e.getMessage());
-                    throw new RuntimeException("Failed to read uploaded file", e);
-                }
+                String dbParamName = apiToDbParamMap.getOrDefault("file", "file");
+                params.put(dbParamName, new UploadedFileStreamValue(file));
+                log.info("✅ Added single file to params: {} -> {} ({} bytes)", file.getOriginalFilename(), dbParamName, file.getSize());
             }
         }
     }
 
+    // Uploaded files are bound as a stream of known length, never read into a byte[]
+    private Object toStreamValueIfFile(Object value) {
+        return value instanceof MultipartFile ? new UploadedFileStreamValue((MultipartFile) value) : value;
+    }
+
+    private void bindParameter(PreparedStatement pstmt, int index, Object value) throws SQLException {
+        if (value instanceof UploadedFileStreamValue) {
+            ((UploadedFileStreamValue) value).setTypeValue(pstmt, index, Types.BINARY, null);
+        } else {
+            pstmt.setObject(index, value);
+        }
+    }
+
     public Object executeSelect(String tableName, String schema, Map<String, Object> params,
                                 GeneratedApiEntity api, List<ApiParameterDTO> configuredParamDTOs) {
 
@@ -518,28 +530,22 @@ public class PostgreSQLTableExecutorUtil {
                         }
 
                         if (value != null) {
-                            // Handle collection/array values
-                            if (value instanceof List || value.getClass().isArray()) {
-                                // Skip byte arrays - they're file data
-                                if (value instanceof byte[]) {
-                                    log.debug("Skipping byte array parameter '{}' (file data)", paramKey);
-                                    continue;
-                                }
-                                Collection<?> collection = value instanceof List ?
-                                        (List<?>) value : Arrays.asList((Object[]) value);
-
-                                if (!collection.isEmpty()) {
-                                    value = collection.iterator().next();
-                                    log.info("  Converted collection to single value: {}", value);
-                                } else {
-                                    value = null;
-                                }
+                            // Skip byte arrays - they're file data
+                            if (value instanceof byte[]) {
+                                log.debug("Skipping byte array parameter '{}' (file data)", paramKey);
+                                continue;
                             }
 
-                            if (value != null && !value.toString().trim().isEmpty()) {
-                                whereClauses.add("\"" + dbColumn + "\" = ?");
-                                paramValues.add(value);
-                                log.info("  ADDED FILTER: {} = ? with value: {}", dbColumn, value);
+                            // Operator prefixes (in:, gte:, like: ...) and lists compile to typed predicates
+                            int firstValue = paramValues.size();
+                            String predicate = queryFilterUtil.compileFilter("\"" + dbColumn + "\"", value,
+                                    QueryFilterUtil.Dialect.POSTGRESQL, QueryFilterUtil.isCharacterParameter(configuredParam),
+                                    operand -> convertParameterValueWithDefinition(operand, configuredParam), paramValues);
+
+                            if (predicate != null) {
+                                whereClauses.add(predicate);
+                                log.info("  ADDED FILTER: {} with values: {}", predicate,
+                                        paramValues.subList(firstValue, paramValues.size()));
                             } else {
                                 if (Boolean.TRUE.equals(configuredParam.getRequired())) {
                                     throw new ValidationException(
@@ -568,18 +574,14 @@ public class PostgreSQLTableExecutorUtil {
                 sql.append(" WHERE ").append(String.join(" AND ", whereClauses));
             }
 
-            // Handle ORDER BY if specified
+            // Handle ORDER BY if specified: sort=-created_at,id on configured columns only
             if (params != null && params.containsKey("sort")) {
-                String sortColumn = params.get("sort").toString();
-                String order = "ASC";
-                if (params.containsKey("order")) {
-                    order = params.get("order").toString().toUpperCase();
-                    if (!"ASC".equals(order) && !"DESC".equals(order)) {
-                        order = "ASC";
-                    }
+                String orderBy = queryFilterUtil.compileOrderBy(params.get("sort"), params.get("order"),
+                        queryFilterUtil.columnWhitelist(api), column -> "\"" + column + "\"");
+                if (!orderBy.isEmpty()) {
+                    sql.append(" ORDER BY ").append(orderBy);
+                    log.info("Added ORDER BY: {}", orderBy);
                 }
-                sql.append(" ORDER BY \"").append(sortColumn).append("\" ").append(order);
-                log.info("Added ORDER BY: {} {}", sortColumn, order);
             }
 
             // Handle pagination
@@ -618,7 +620,7 @@ public class PostgreSQLTableExecutorUtil {
                 }
 
                 // Set statement timeout
-                pstmt.setQueryTimeout(STATEMENT_TIMEOUT_SECONDS);
+                pstmt.setQueryTimeout(executionConnectionUtil.resolveStatementTimeoutSeconds(api));
 
                 try (ResultSet rs = pstmt.executeQuery()) {
                     // Capture warnings if enabled
@@ -693,7 +695,7 @@ public class PostgreSQLTableExecutorUtil {
 
         } catch (SQLTimeoutException e) {
             log.error("Database operation timed out for table {}.{}", schema, tableName, e);
-            throw new RuntimeException("Database operation timed out after " + STATEMENT_TIMEOUT_SECONDS + " seconds", e);
+            throw new RuntimeException("Database operation timed out after " + executionConnectionUtil.resolveStatementTimeoutSeconds(api) + " seconds", e);
         } catch (Exception e) {
             log.error("Error executing table select: {}", e.getMessage(), e);
 
@@ -818,7 +820,7 @@ public class PostgreSQLTableExecutorUtil {
                     continue;
                 }
                 String dbColumnName = apiToDbColumnMap.getOrDefault(key.toLowerCase(), key);
-                allParams.put(dbColumnName, entry.getValue());
+                allParams.put(dbColumnName, toStreamValueIfFile(entry.getValue()));
             }
             allParams.putAll(processedParams);
 
@@ -831,6 +833,12 @@ public class PostgreSQLTableExecutorUtil {
                 String dbColumnName = entry.getKey();
                 Object value = entry.getValue();
 
+                // Uploaded files go to the bytea column as-is
+                if (value instanceof UploadedFileStreamValue) {
+                    typedParams.put(dbColumnName, value);
+                    continue;
+                }
+
                 ApiParameterEntity paramDef = api.getParameters().stream()
                         .filter(p -> dbColumnName.equalsIgnoreCase(p.getDbColumn()) ||
                                 dbColumnName.equalsIgnoreCase(p.getKey()))
@@ -921,11 +929,11 @@ public class PostgreSQLTableExecutorUtil {
             try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
                 // Set parameters
                 for (int i = 0; i < paramValues.size(); i++) {
-                    pstmt.setObject(i + 1, paramValues.get(i));
+                    bindParameter(pstmt, i + 1, paramValues.get(i));
                 }
 
                 // Set statement timeout
-                pstmt.setQueryTimeout(STATEMENT_TIMEOUT_SECONDS);
+                pstmt.setQueryTimeout(executionConnectionUtil.resolveStatementTimeoutSeconds(api));
 
                 // Capture warnings if enabled
                 if (captureNotices && capturedNotices != null) {
@@ -956,6 +964,8 @@ public class PostgreSQLTableExecutorUtil {
                         inserted.add(row);
                     }
                 }
+            } finally {
+                StatementCreatorUtils.cleanupParameters(paramValues);
             }
 
             // Process captured notices
@@ -1001,7 +1011,7 @@ public class PostgreSQLTableExecutorUtil {
 
         } catch (SQLTimeoutException e) {
             log.error("Database operation timed out for INSERT on {}.{}", schema, tableName, e);
-            throw new RuntimeException("Database operation timed out after " + STATEMENT_TIMEOUT_SECONDS + " seconds", e);
+            throw new RuntimeException("Database operation timed out after " + executionConnectionUtil.resolveStatementTimeoutSeconds(api) + " seconds", e);
         } catch (Exception e) {
             log.error("Error executing INSERT on {}: {}", tableName, e.getMessage(), e);
 
@@ -1117,7 +1127,7 @@ public class PostgreSQLTableExecutorUtil {
                 }
 
                 String dbColumnName = apiToDbColumnMap.getOrDefault(key.toLowerCase(), key);
-                processedParams.put(dbColumnName, entry.getValue());
+                processedParams.put(dbColumnName, toStreamValueIfFile(entry.getValue()));
             }
 
             // Handle collection/array parameters - Skip byte arrays
@@ -1184,11 +1194,11 @@ public class PostgreSQLTableExecutorUtil {
             try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
                 // Set parameters
                 for (int i = 0; i < allParams.size(); i++) {
-                    pstmt.setObject(i + 1, allParams.get(i));
+                    bindParameter(pstmt, i + 1, allParams.get(i));
                 }
 
                 // Set statement timeout
-                pstmt.setQueryTimeout(STATEMENT_TIMEOUT_SECONDS);
+                pstmt.setQueryTimeout(executionConnectionUtil.resolveStatementTimeoutSeconds(api));
 
                 // Capture warnings if enabled
                 if (captureNotices && capturedNotices != null) {
@@ -1242,11 +1252,13 @@ public class PostgreSQLTableExecutorUtil {
                 }
 
                 return result;
+            } finally {
+                StatementCreatorUtils.cleanupParameters(allParams);
             }
 
         } catch (SQLTimeoutException e) {
             log.error("Database operation timed out for UPDATE on {}.{}", schema, tableName, e);
-            throw new RuntimeException("Database operation timed out after " + STATEMENT_TIMEOUT_SECONDS + " seconds", e);
+            throw new RuntimeException("Database operation timed out after " + executionConnectionUtil.resolveStatementTimeoutSeconds(api) + " seconds", e);
         } catch (Exception e) {
             log.error("Error executing UPDATE on {}: {}", tableName, e.getMessage(), e);
 
@@ -1403,7 +1415,7 @@ public class PostgreSQLTableExecutorUtil {
                 }
 
                 // Set statement timeout
-                pstmt.setQueryTimeout(STATEMENT_TIMEOUT_SECONDS);
+                pstmt.setQueryTimeout(executionConnectionUtil.resolveStatementTimeoutSeconds(api));
 
                 // Capture warnings if enabled
                 if (captureNotices && capturedNotices != null) {
@@ -1461,7 +1473,7 @@ public class PostgreSQLTableExecutorUtil {
 
         } catch (SQLTimeoutException e) {
             log.error("Database operation timed out for DELETE on {}.{}", schema, tableName, e);
-            throw new RuntimeException("Database operation timed out after " + STATEMENT_TIMEOUT_SECONDS + " seconds", e);
+            throw new RuntimeException("Database operation timed out after " + executionConnectionUtil.resolveStatementTimeoutSeconds(api) + " seconds", e);
         } catch (Exception e) {
             log.error("Error executing DELETE on {}: {}", tableName, e.getMessage(), e);
 
@@ -1485,7 +1497,1012 @@ public class PostgreSQLTableExecutorUtil {
         }
     }
 
-    private Object convertParameterValueWithDefinition(Object value, ApiParameterEntity paramDef) {
+    /**
+     * Bulk INSERT (or UPSERT via ON CONFLICT) of a stream of rows using chunked JDBC batches.
+     * Field names are mapped to columns once from the API's parameter definitions; the column
+     * list is fixed by the first row and must name real columns of the table. Each chunk is committed
+     * on its own and reported separately, and the pool's reWriteBatchedInserts folds every chunk into
+     * multi-row INSERT statements. Once a chunk has committed, later failures (including a malformed
+     * payload) are reported in the result rather than thrown.
+     */
+    public Map<String, Object> executeBulkInsert(String tableName, String schema,
+                                                 Iterator<Map<String, Object>> rows,
+                                                 GeneratedApiEntity api, List<ApiParameterDTO> configuredParamDTOs,
+                                                 int chunkSize, boolean upsert, List<String> conflictColumns,
+                                                 boolean stopOnError) {
+
+        log.info("=== TABLE BULK {} ===", upsert ? "UPSERT" : "INSERT");
+        log.info("Table: {}.{}, chunk size: {}", schema, tableName, chunkSize);
+
+        // Build parameter mapping once for the whole load
+        Map<String, String> apiToDbColumnMap = buildApiToDbColumnMap(configuredParamDTOs);
+
+        Map<String, ApiParameterEntity> paramDefByColumn = new HashMap<>();
+        if (api.getParameters() != null) {
+            for (ApiParameterEntity p : api.getParameters()) {
+                if (p.getDbColumn() != null && !p.getDbColumn().isEmpty()) {
+                    paramDefByColumn.putIfAbsent(p.getDbColumn().toLowerCase(), p);
+                }
+                if (p.getKey() != null) {
+                    paramDefByColumn.putIfAbsent(p.getKey().toLowerCase(), p);
+                }
+            }
+        }
+
+        Set<String> ignoredFields = new LinkedHashSet<>();
+        List<Map<String, Object>> chunkResults = new ArrayList<>();
+        List<String> payloadErrors = new ArrayList<>();
+        long totalRows = 0;
+        long rowsAffected = 0;
+        long rowsAffectedUnknown = 0;
+        long failedRows = 0;
+        boolean stoppedEarly = false;
+
+        if (!rows.hasNext()) {
+            throw new ValidationException("Bulk payload contains no rows");
+        }
+
+        String qualifiedTable = (schema != null && !schema.isEmpty() ? schema + "." : "") + tableName;
+
+        try (Connection conn = getConnectionWithTimeout()) {
+            // Field names end up as SQL identifiers, so only the table's own columns are accepted
+            Map<String, String> tableColumns = loadColumnTypes(conn, qualifiedTable);
+            if (tableColumns.isEmpty()) {
+                throw new ValidationException("Table not found or has no columns: " + qualifiedTable);
+            }
+
+            Map<String, Object> firstRow = mapBulkRow(rows.next(), apiToDbColumnMap, paramDefByColumn,
+                    tableColumns, ignoredFields);
+            List<String> columns = new ArrayList<>(firstRow.keySet());
+            if (columns.isEmpty()) {
+                throw new ValidationException("No mappable fields found in the first bulk row. " +
+                        "Field names must match the API's parameter keys or column names.");
+            }
+            List<String> unknownColumns = columns.stream()
+                    .filter(c -> !tableColumns.containsKey(c))
+                    .collect(Collectors.toList());
+            if (!unknownColumns.isEmpty()) {
+                throw new ValidationException("Unknown columns for " + qualifiedTable + ": " + unknownColumns);
+            }
+
+            List<String> keyColumns = Collections.emptyList();
+            if (upsert) {
+                keyColumns = resolveConflictColumns(conn, schema, tableName, api, conflictColumns);
+                for (String key : keyColumns) {
+                    if (!columns.contains(key)) {
+                        throw new ValidationException(String.format(
+                                "Conflict column '%s' must be present in every bulk row", key));
+                    }
+                }
+            }
+
+            String sql = buildBulkInsertSql(schema, tableName, columns, upsert, keyColumns);
+            log.info("Bulk SQL: {}", sql);
+
+            boolean originalAutoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setQueryTimeout(executionConnectionUtil.resolveStatementTimeoutSeconds(api));
+
+                Map<String, Object> pendingRow = firstRow;
+                int chunkNumber = 0;
+
+                while (pendingRow != null || hasMoreBulkRows(rows, payloadErrors)) {
+                    chunkNumber++;
+                    long chunkStart = System.currentTimeMillis();
+                    long firstRowNumber = totalRows + 1;
+                    int chunkRowCount = 0;
+
+                    Map<String, Object> chunkResult = new LinkedHashMap<>();
+                    chunkResult.put("chunk", chunkNumber);
+                    chunkResult.put("firstRow", firstRowNumber);
+
+                    try {
+                        while (chunkRowCount < chunkSize && (pendingRow != null || rows.hasNext())) {
+                            Map<String, Object> dbRow = pendingRow != null ? pendingRow
+                                    : mapBulkRow(rows.next(), apiToDbColumnMap, paramDefByColumn,
+                                            tableColumns, ignoredFields);
+                            pendingRow = null;
+
+                            for (String key : dbRow.keySet()) {
+                                if (!columns.contains(key)) {
+                                    ignoredFields.add(key);
+                                }
+                            }
+                            for (int i = 0; i < columns.size(); i++) {
+                                pstmt.setObject(i + 1, dbRow.get(columns.get(i)));
+                            }
+                            pstmt.addBatch();
+                            chunkRowCount++;
+                            totalRows++;
+                        }
+
+                        int[] counts = pstmt.executeBatch();
+                        conn.commit();
+
+                        long affected = 0;
+                        long unknown = 0;
+                        for (int count : counts) {
+                            // SUCCESS_NO_INFO is reported for rewritten multi-row statements: the row count is unknown
+                            if (count == Statement.SUCCESS_NO_INFO) {
+                                unknown++;
+                            } else {
+                                affected += Math.max(count, 0);
+                            }
+                        }
+                        rowsAffected += affected;
+                        rowsAffectedUnknown += unknown;
+
+                        chunkResult.put("lastRow", totalRows);
+                        chunkResult.put("rowCount", chunkRowCount);
+                        chunkResult.put("rowsAffected", affected);
+                        if (unknown > 0) {
+                            chunkResult.put("rowsAffectedUnknown", unknown);
+                        }
+                        chunkResult.put("status", "COMMITTED");
+
+                    } catch (SQLException | RuntimeException e) {
+                        pstmt.clearBatch();
+                        try {
+                            conn.rollback();
+                        } catch (SQLException rollbackEx) {
+                            log.warn("Rollback failed for bulk chunk {}: {}", chunkNumber, rollbackEx.getMessage());
+                        }
+
+                        failedRows += chunkRowCount;
+
+                        String error = e instanceof SQLException
+                                ? extractFullPostgreSQLError(((SQLException) e).getNextException() != null
+                                        ? ((SQLException) e).getNextException() : e)
+                                : e.getMessage();
+                        log.warn("Bulk chunk {} on {}.{} failed: {}", chunkNumber, schema, tableName, error);
+
+                        chunkResult.put("lastRow", totalRows);
+                        chunkResult.put("rowCount", chunkRowCount);
+                        chunkResult.put("rowsAffected", 0);
+                        chunkResult.put("status", "FAILED");
+                        chunkResult.put("error", error);
+
+                        // A malformed payload leaves the stream position unknown, so it always stops the load
+                        if (stopOnError || e instanceof ValidationException) {
+                            stoppedEarly = e instanceof ValidationException || hasMoreBulkRows(rows, payloadErrors);
+                            chunkResult.put("executionTimeMs", System.currentTimeMillis() - chunkStart);
+                            chunkResults.add(chunkResult);
+                            break;
+                        }
+                    }
+
+                    chunkResult.put("executionTimeMs", System.currentTimeMillis() - chunkStart);
+                    chunkResults.add(chunkResult);
+                }
+            } finally {
+                conn.setAutoCommit(originalAutoCommit);
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("operation", upsert ? "UPSERT" : "INSERT");
+            result.put("table", (schema != null && !schema.isEmpty() ? schema + "." : "") + tableName);
+            result.put("columns", columns);
+            if (upsert) {
+                result.put("conflictColumns", keyColumns);
+            }
+            result.put("chunkSize", chunkSize);
+            result.put("chunkCount", chunkResults.size());
+            result.put("totalRows", totalRows);
+            result.put("rowsAffected", rowsAffected);
+            if (rowsAffectedUnknown > 0) {
+                result.put("rowsAffectedUnknown", rowsAffectedUnknown);
+            }
+            result.put("failedRows", failedRows);
+            result.put("stoppedEarly", stoppedEarly || !payloadErrors.isEmpty());
+            if (!payloadErrors.isEmpty()) {
+                result.put("error", payloadErrors.get(0));
+            }
+            if (!ignoredFields.isEmpty()) {
+                result.put("ignoredFields", ignoredFields);
+            }
+            result.put("chunks", chunkResults);
+            result.put("message", failedRows == 0 && payloadErrors.isEmpty()
+                    ? "Bulk " + (upsert ? "upsert" : "insert") + " successful"
+                    : "Bulk " + (upsert ? "upsert" : "insert") + " stopped or completed with failed chunks");
+            return result;
+
+        } catch (ValidationException e) {
+            throw e;
+        } catch (SQLException e) {
+            log.error("Error executing bulk load on {}.{}: {}", schema, tableName, e.getMessage(), e);
+            throw new RuntimeException("Failed to execute bulk operation: " + extractFullPostgreSQLError(e), e);
+        }
+    }
+
+    /**
+     * Map one bulk row to typed DB column values using the API's parameter definitions
+     */
+    private Map<String, Object> mapBulkRow(Map<String, Object> row, Map<String, String> apiToDbColumnMap,
+                                           Map<String, ApiParameterEntity> paramDefByColumn,
+                                           Map<String, String> tableColumns,
+                                           Set<String> ignoredFields) {
+        Map<String, Object> dbRow = new LinkedHashMap<>();
+        if (row == null) {
+            return dbRow;
+        }
+
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            String key = entry.getKey().toLowerCase();
+            String dbColumnName = apiToDbColumnMap.get(key);
+            if (dbColumnName == null) {
+                if (!apiToDbColumnMap.isEmpty() && !apiToDbColumnMap.containsValue(key)) {
+                    ignoredFields.add(entry.getKey());
+                    continue;
+                }
+                dbColumnName = key;
+            }
+
+            Object value = entry.getValue();
+            if (value instanceof Map || value instanceof List) {
+                try {
+                    value = objectMapper.writeValueAsString(value);
+                } catch (Exception e) {
+                    value = value.toString();
+                }
+            }
+
+            ApiParameterEntity paramDef = paramDefByColumn.get(dbColumnName);
+            Object convertedValue;
+            if ("".equals(value)) {
+                // Empty strings are kept for character columns; other column types have no empty value
+                convertedValue = isCharacterBulkColumn(paramDef, tableColumns.get(dbColumnName)) ? "" : null;
+            } else if (paramDef != null) {
+                convertedValue = convertParameterValueWithDefinition(value, paramDef);
+            } else if (value instanceof String
+                    && ((String) value).matches("\\d{4}-\\d{2}-\\d{2}[T ]\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?.*")) {
+                convertedValue = convertToTimestamp((String) value);
+            } else {
+                convertedValue = value;
+            }
+            dbRow.put(dbColumnName, convertedValue);
+        }
+        return dbRow;
+    }
+
+    private boolean isCharacterBulkColumn(ApiParameterEntity paramDef, String columnType) {
+        String type = paramDef != null ? (paramDef.getOracleType() != null ? paramDef.getOracleType() : paramDef.getApiType()) : null;
+        if (type == null) {
+            type = columnType;
+        }
+        if (type == null) {
+            return true;
+        }
+        String upper = type.toUpperCase();
+        return upper.contains("CHAR") || upper.contains("TEXT") || upper.contains("STRING")
+                || upper.contains("CLOB") || upper.contains("CITEXT");
+    }
+
+    /**
+     * rows.hasNext() between chunks: a malformed payload surfaces here after earlier chunks committed,
+     * so it is recorded for the result instead of discarding their report
+     */
+    private boolean hasMoreBulkRows(Iterator<Map<String, Object>> rows, List<String> payloadErrors) {
+        try {
+            return rows.hasNext();
+        } catch (RuntimeException e) {
+            payloadErrors.add(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Resolve upsert conflict columns: explicit list, then API primary key mappings, then the table's primary key
+     */
+    private List<String> resolveConflictColumns(Connection conn, String schema, String tableName,
+                                                GeneratedApiEntity api, List<String> conflictColumns) throws SQLException {
+        List<String> keys = new ArrayList<>();
+        if (conflictColumns != null && !conflictColumns.isEmpty()) {
+            conflictColumns.forEach(c -> keys.add(c.trim().toLowerCase()));
+            return keys;
+        }
+
+        if (api.getResponseMappings() != null) {
+            api.getResponseMappings().stream()
+                    .filter(m -> Boolean.TRUE.equals(m.getIsPrimaryKey()) && m.getDbColumn() != null)
+                    .forEach(m -> keys.add(m.getDbColumn().toLowerCase()));
+        }
+        if (!keys.isEmpty()) {
+            return keys;
+        }
+
+        String qualifiedName = (schema != null && !schema.isEmpty() ? schema + "." : "") + tableName;
+        String sql = "SELECT a.attname FROM pg_index i " +
+                "JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = ANY(i.indkey) " +
+                "WHERE i.indrelid = to_regclass(?) AND i.indisprimary";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, qualifiedName);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    keys.add(rs.getString(1).toLowerCase());
+                }
+            }
+        }
+
+        if (keys.isEmpty()) {
+            throw new ValidationException("Upsert requires conflict columns. Provide 'conflictColumns' or define a primary key.");
+        }
+        return keys;
+    }
+
+    private String buildBulkInsertSql(String schema, String tableName, List<String> columns,
+                                      boolean upsert, List<String> keyColumns) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ");
+        sql.append(schema != null && !schema.isEmpty() ? schema + "." : "").append(tableName).append(" (");
+        sql.append(columns.stream().map(this::quoteBulkColumn).collect(Collectors.joining(", ")));
+        sql.append(") VALUES (");
+        sql.append(columns.stream().map(c -> "?").collect(Collectors.joining(", ")));
+        sql.append(")");
+
+        if (upsert) {
+            sql.append(" ON CONFLICT (");
+            sql.append(keyColumns.stream().map(this::quoteBulkColumn).collect(Collectors.joining(", ")));
+            sql.append(")");
+
+            List<String> updateColumns = columns.stream()
+                    .filter(c -> !keyColumns.contains(c))
+                    .collect(Collectors.toList());
+            if (updateColumns.isEmpty()) {
+                sql.append(" DO NOTHING");
+            } else {
+                sql.append(" DO UPDATE SET ");
+                sql.append(updateColumns.stream()
+                        .map(c -> quoteBulkColumn(c) + " = EXCLUDED." + quoteBulkColumn(c))
+                        .collect(Collectors.joining(", ")));
+            }
+        }
+        return sql.toString();
+    }
+
+    private String quoteBulkColumn(String column) {
+        return "\"" + column.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Locate one LOB value by key columns and hand it to the sink. bytea values are never fetched
+     * whole: the length comes from octet_length() and the bytes are read in substring() chunks of
+     * api.lob.chunk-size-bytes inside one repeatable-read transaction, so a Range request only reads
+     * its slice. text values are streamed through the driver's character stream. Key values are
+     * converted to the key columns' types, and the key must identify exactly one row: every chunk
+     * re-selects the row, so a non-unique key could splice bytes from different rows.
+     *
+     * @return the HTTP status written, 204 when the value is NULL, 409 (nothing written) when more than
+     *         one row matches, or null when no row matches
+     */
+    public Integer streamLob(String tableName, String schema, String column, Map<String, Object> keyValues,
+                             GeneratedApiEntity api, LobStreamingUtil.LobSink sink, int chunkSize) {
+        String qualifiedTable = (schema != null && !schema.isEmpty() ? schema + "." : "") + tableName;
+        String quotedColumn = "\"" + column + "\"";
+        String keyFilter = " WHERE " + keyValues.keySet().stream()
+                .map(k -> "\"" + k + "\" = ?").collect(Collectors.joining(" AND "));
+        String whereClause = keyFilter + " LIMIT 1";
+        int timeoutSeconds = executionConnectionUtil.resolveStatementTimeoutSeconds(api);
+
+        log.info("Streaming LOB {} from {} with keys {}", column, qualifiedTable, keyValues.keySet());
+
+        try (Connection conn = executionConnectionUtil.getConnection()) {
+            List<Object> keys = convertLobKeys(conn, qualifiedTable, keyValues, api);
+            boolean autoCommit = conn.getAutoCommit();
+            int isolation = conn.getTransactionIsolation();
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try {
+                long length;
+                String type;
+                try (PreparedStatement ps = conn.prepareStatement("SELECT octet_length(" + quotedColumn + "), pg_typeof(" +
+                        quotedColumn + ")::text FROM " + qualifiedTable + keyFilter + " LIMIT 2")) {
+                    ps.setQueryTimeout(timeoutSeconds);
+                    bindKeys(ps, keys, 1);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        if (!rs.next()) {
+                            return null;
+                        }
+                        Object octetLength = rs.getObject(1);
+                        length = rs.getLong(1);
+                        type = rs.getString(2);
+                        if (rs.next()) {
+                            log.warn("LOB key {} matches more than one row in {}", keyValues.keySet(), qualifiedTable);
+                            return 409;
+                        }
+                        if (octetLength == null) {
+                            return 204;
+                        }
+                    }
+                }
+
+                if ("bytea".equalsIgnoreCase(type)) {
+                    String sliceSql = "SELECT substring(" + quotedColumn + " from ? for ?) FROM " + qualifiedTable + whereClause;
+                    return sink.writeBinary(length, (offset, sliceLength) ->
+                            new ByteaChunkInputStream(conn, sliceSql, keys, timeoutSeconds, offset, sliceLength, chunkSize));
+                }
+
+                try (PreparedStatement ps = conn.prepareStatement("SELECT " + quotedColumn + "::text FROM " +
+                        qualifiedTable + whereClause)) {
+                    ps.setQueryTimeout(timeoutSeconds);
+                    bindKeys(ps, keys, 1);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        if (!rs.next()) {
+                            return null;
+                        }
+                        try (Reader reader = rs.getCharacterStream(1)) {
+                            return sink.writeText(reader);
+                        }
+                    }
+                }
+            } finally {
+                conn.rollback();
+                conn.setTransactionIsolation(isolation);
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | IOException e) {
+            log.error("Error streaming LOB {} from {}: {}", column, qualifiedTable, e.getMessage(), e);
+            throw new RuntimeException("Failed to stream LOB column: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Key values arrive as request strings; convert each with the API's parameter definition for the
+     * column, or with the column's own type when the API has none, so uuid/integer/date keys compare
+     */
+    private List<Object> convertLobKeys(Connection conn, String qualifiedTable, Map<String, Object> keyValues,
+                                        GeneratedApiEntity api) throws SQLException {
+        Map<String, String> columnTypes = loadColumnTypes(conn, qualifiedTable);
+        List<Object> keys = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : keyValues.entrySet()) {
+            String column = entry.getKey();
+            ApiParameterEntity paramDef = null;
+            if (api != null && api.getParameters() != null) {
+                for (ApiParameterEntity param : api.getParameters()) {
+                    String paramColumn = param.getDbColumn() != null && !param.getDbColumn().isEmpty()
+                            ? param.getDbColumn() : param.getKey();
+                    if (column.equalsIgnoreCase(paramColumn)) {
+                        paramDef = param;
+                        break;
+                    }
+                }
+            }
+            if (paramDef == null || (paramDef.getOracleType() == null && paramDef.getApiType() == null)) {
+                paramDef = ApiParameterEntity.builder()
+                        .key(column)
+                        .oracleType(columnTypes.get(column.toLowerCase()))
+                        .build();
+            }
+            keys.add(convertParameterValueWithDefinition(entry.getValue(), paramDef));
+        }
+        return keys;
+    }
+
+    private static void bindKeys(PreparedStatement ps, List<Object> keys, int firstIndex) throws SQLException {
+        for (int i = 0; i < keys.size(); i++) {
+            ps.setObject(firstIndex + i, keys.get(i));
+        }
+    }
+
+    /**
+     * Reads a slice of a bytea value one substring() chunk at a time
+     */
+    private static final class ByteaChunkInputStream extends InputStream {
+        private final Connection conn;
+        private final String sliceSql;
+        private final List<Object> keys;
+        private final int timeoutSeconds;
+        private final int chunkSize;
+        private long position;
+        private long remaining;
+        private byte[] chunk = new byte[0];
+        private int chunkOffset;
+
+        ByteaChunkInputStream(Connection conn, String sliceSql, List<Object> keys, int timeoutSeconds,
+                              long offset, long length, int chunkSize) {
+            this.conn = conn;
+            this.sliceSql = sliceSql;
+            this.keys = keys;
+            this.timeoutSeconds = timeoutSeconds;
+            this.position = offset;
+            this.remaining = length;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (chunkOffset >= chunk.length && !fetchChunk()) {
+                return -1;
+            }
+            int count = Math.min(len, chunk.length - chunkOffset);
+            System.arraycopy(chunk, chunkOffset, b, off, count);
+            chunkOffset += count;
+            return count;
+        }
+
+        private boolean fetchChunk() throws IOException {
+            if (remaining <= 0) {
+                return false;
+            }
+            int size = (int) Math.min(chunkSize, remaining);
+            try (PreparedStatement ps = conn.prepareStatement(sliceSql)) {
+                ps.setQueryTimeout(timeoutSeconds);
+                // substring() positions are 1-based
+                ps.setLong(1, position + 1);
+                ps.setInt(2, size);
+                bindKeys(ps, keys, 3);
+                try (ResultSet rs = ps.executeQuery()) {
+                    chunk = rs.next() ? rs.getBytes(1) : null;
+                }
+            } catch (SQLException e) {
+                throw new IOException("Failed to read bytea chunk at offset " + position, e);
+            }
+            if (chunk == null || chunk.length == 0) {
+                chunk = new byte[0];
+                remaining = 0;
+                return false;
+            }
+            chunkOffset = 0;
+            position += chunk.length;
+            remaining -= chunk.length;
+            return true;
+        }
+    }
+
+    /**
+     * Ingest a request body into a table with COPY FROM STDIN inside a single transaction.
+     * CSV bodies are streamed to the server as-is after the header row has been mapped to columns;
+     * JSON / NDJSON rows are re-encoded as CSV on the fly. When the API defines required, pattern or
+     * default rules for the mapped columns (or a CSV carries columns the table does not have), rows are
+     * first copied into a temporary text staging table, validated there with set-based queries, and then
+     * inserted into the target with casts to the column types. Nothing is buffered beyond a write chunk.
+     */
+    public Map<String, Object> executeCopyIngest(String tableName, String schema, InputStream body, String format,
+                                                 GeneratedApiEntity api, List<ApiParameterDTO> configuredParamDTOs) {
+
+        log.info("=== TABLE COPY INGEST ===");
+        log.info("Table: {}.{}, format: {}", schema, tableName, format);
+
+        if (body == null) {
+            throw new ValidationException("Request body is required for COPY ingest");
+        }
+
+        String qualifiedTable = (schema != null && !schema.isEmpty() ? schema + "." : "") + tableName;
+        Map<String, String> apiToDbColumnMap = buildApiToDbColumnMap(configuredParamDTOs);
+
+        Map<String, ApiParameterEntity> paramDefByColumn = new HashMap<>();
+        if (api.getParameters() != null) {
+            for (ApiParameterEntity p : api.getParameters()) {
+                String column = p.getDbColumn() != null && !p.getDbColumn().isEmpty() ? p.getDbColumn() : p.getKey();
+                if (column != null) {
+                    paramDefByColumn.putIfAbsent(column.toLowerCase(), p);
+                }
+            }
+        }
+
+        boolean csv = BulkPayloadReaderUtil.FORMAT_CSV.equals(format);
+        Set<String> ignoredFields = new LinkedHashSet<>();
+
+        try (Connection conn = executionConnectionUtil.getConnection()) {
+            Map<String, String> columnTypes = loadColumnTypes(conn, qualifiedTable);
+            if (columnTypes.isEmpty()) {
+                throw new ValidationException("Table not found or has no columns: " + qualifiedTable);
+            }
+
+            BufferedReader csvReader = null;
+            BulkPayloadReaderUtil.RowSource rowSource = null;
+            Map<String, Object> firstRow = null;
+
+            // Source field name -> target column, in source order (null target = field is dropped)
+            List<String> sourceFields = new ArrayList<>();
+            List<String> targetColumns = new ArrayList<>();
+
+            if (csv) {
+                csvReader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+                String headerLine = csvReader.readLine();
+                if (headerLine == null || headerLine.trim().isEmpty()) {
+                    throw new ValidationException("CSV payload must start with a header row");
+                }
+                sourceFields.addAll(parseCsvHeader(headerLine.replace("\uFEFF", "")));
+            } else {
+                rowSource = bulkPayloadReaderUtil.open(body, format);
+                if (!rowSource.hasNext()) {
+                    throw new ValidationException("COPY payload contains no rows");
+                }
+                firstRow = rowSource.next();
+                sourceFields.addAll(firstRow.keySet());
+            }
+
+            for (String field : sourceFields) {
+                String column = resolveCopyColumn(field, apiToDbColumnMap);
+                if (column == null || !columnTypes.containsKey(column) || targetColumns.contains(column)) {
+                    ignoredFields.add(field);
+                    targetColumns.add(null);
+                } else {
+                    targetColumns.add(column);
+                }
+            }
+
+            List<String> mappedColumns = targetColumns.stream().filter(Objects::nonNull).collect(Collectors.toList());
+            if (mappedColumns.isEmpty()) {
+                throw new ValidationException("No payload fields map to columns of " + qualifiedTable +
+                        ". Field names must match the API's parameter keys or column names.");
+            }
+
+            boolean hasRules = mappedColumns.stream().map(paramDefByColumn::get).anyMatch(this::hasCopyRule);
+            // A CSV with unmapped columns can only be loaded column-for-column through staging
+            boolean staged = hasRules || (csv && !ignoredFields.isEmpty());
+
+            boolean originalAutoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            executionConnectionUtil.extendNetworkTimeout(conn, copyStatementTimeoutSeconds + 30);
+
+            try {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("SET LOCAL statement_timeout = '" + copyStatementTimeoutSeconds + "s'");
+                }
+
+                CopyManager copyManager = conn.unwrap(PGConnection.class).getCopyAPI();
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("operation", "COPY");
+                result.put("table", qualifiedTable);
+                result.put("format", format);
+                result.put("mode", staged ? "STAGED" : "DIRECT");
+                result.put("columns", mappedColumns);
+
+                long rowsCopied;
+                long rowsInserted;
+
+                if (!staged) {
+                    String copySql = "COPY " + qualifiedTable + " (" + quoteColumns(mappedColumns) +
+                            ") FROM STDIN WITH (FORMAT csv)";
+                    log.info("COPY SQL: {}", copySql);
+                    rowsCopied = csv
+                            ? copyManager.copyIn(copySql, csvReader, COPY_BUFFER_SIZE)
+                            : copyJsonRows(copyManager, copySql, firstRow, rowSource, sourceFields, targetColumns, ignoredFields);
+                    rowsInserted = rowsCopied;
+                } else {
+                    String stageTable = "api_copy_stage_" + UUID.randomUUID().toString().replace("-", "");
+                    List<String> stageColumns = new ArrayList<>();
+                    for (int i = 0; i < sourceFields.size(); i++) {
+                        stageColumns.add("c" + (i + 1));
+                    }
+
+                    try (Statement stmt = conn.createStatement()) {
+                        stmt.execute("CREATE TEMP TABLE " + stageTable +
+                                " (_row_num bigint GENERATED ALWAYS AS IDENTITY, " +
+                                stageColumns.stream().map(c -> "\"" + c + "\" text").collect(Collectors.joining(", ")) +
+                                ") ON COMMIT DROP");
+                    }
+
+                    String copySql = "COPY " + stageTable + " (" + quoteColumns(stageColumns) +
+                            ") FROM STDIN WITH (FORMAT csv)";
+                    log.info("COPY SQL (staging): {}", copySql);
+                    // JSON rows are written with every source field so staging columns line up with sourceFields
+                    rowsCopied = csv
+                            ? copyManager.copyIn(copySql, csvReader, COPY_BUFFER_SIZE)
+                            : copyJsonRows(copyManager, copySql, firstRow, rowSource, sourceFields,
+                                    new ArrayList<>(sourceFields), ignoredFields);
+
+                    List<Map<String, Object>> violations = validateStagedRows(conn, stageTable, sourceFields,
+                            targetColumns, paramDefByColumn);
+                    if (!violations.isEmpty()) {
+                        conn.rollback();
+                        result.put("rowsCopied", rowsCopied);
+                        result.put("rowsInserted", 0);
+                        result.put("violations", violations);
+                        if (!ignoredFields.isEmpty()) {
+                            result.put("ignoredFields", ignoredFields);
+                        }
+                        result.put("message", "COPY rejected: payload failed validation, no rows were inserted");
+                        return result;
+                    }
+
+                    rowsInserted = insertFromStage(conn, stageTable, qualifiedTable, targetColumns,
+                            columnTypes, paramDefByColumn);
+                }
+
+                conn.commit();
+
+                result.put("rowsCopied", rowsCopied);
+                result.put("rowsInserted", rowsInserted);
+                if (!ignoredFields.isEmpty()) {
+                    result.put("ignoredFields", ignoredFields);
+                }
+                result.put("message", "COPY ingest successful");
+                log.info("COPY into {} committed: {} rows", qualifiedTable, rowsInserted);
+                return result;
+
+            } catch (SQLException | IOException | RuntimeException e) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    log.warn("Rollback failed for COPY into {}: {}", qualifiedTable, rollbackEx.getMessage());
+                }
+                throw e;
+            } finally {
+                if (rowSource != null) {
+                    rowSource.close();
+                }
+                conn.setAutoCommit(originalAutoCommit);
+            }
+
+        } catch (ValidationException e) {
+            throw e;
+        } catch (SQLException | IOException e) {
+            log.error("Error executing COPY ingest on {}: {}", qualifiedTable, e.getMessage(), e);
+            throw new RuntimeException("Failed to execute COPY ingest: " +
+                    (e instanceof SQLException ? extractFullPostgreSQLError(e) : e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Encode JSON rows as CSV lines and push them through a COPY IN operation in fixed-size chunks
+     */
+    private long copyJsonRows(CopyManager copyManager, String copySql, Map<String, Object> firstRow,
+                              Iterator<Map<String, Object>> rows, List<String> sourceFields,
+                              List<String> targetColumns, Set<String> ignoredFields) throws SQLException {
+        CopyIn copyIn = copyManager.copyIn(copySql);
+        try {
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+            Map<String, Object> row = firstRow;
+            while (row != null) {
+                for (String key : row.keySet()) {
+                    if (!sourceFields.contains(key)) {
+                        ignoredFields.add(key);
+                    }
+                }
+
+                boolean first = true;
+                for (int i = 0; i < sourceFields.size(); i++) {
+                    if (targetColumns.get(i) == null) {
+                        continue;
+                    }
+                    if (!first) {
+                        buffer.append(',');
+                    }
+                    first = false;
+                    appendCsvValue(buffer, row.get(sourceFields.get(i)));
+                }
+                buffer.append('\n');
+
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(bytes, 0, bytes.length);
+                    buffer.setLength(0);
+                }
+                row = rows.hasNext() ? rows.next() : null;
+            }
+
+            if (buffer.length() > 0) {
+                byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Run the API's required / pattern rules against the staging table in bulk.
+     * Each violated rule is reported once with a count and the first offending row numbers.
+     */
+    private List<Map<String, Object>> validateStagedRows(Connection conn, String stageTable, List<String> sourceFields,
+                                                         List<String> targetColumns,
+                                                         Map<String, ApiParameterEntity> paramDefByColumn) throws SQLException {
+        List<Map<String, Object>> violations = new ArrayList<>();
+
+        for (int i = 0; i < targetColumns.size(); i++) {
+            String column = targetColumns.get(i);
+            ApiParameterEntity paramDef = column != null ? paramDefByColumn.get(column) : null;
+            if (paramDef == null) {
+                continue;
+            }
+            String stageColumn = "\"c" + (i + 1) + "\"";
+            boolean hasDefault = paramDef.getDefaultValue() != null && !paramDef.getDefaultValue().isEmpty();
+
+            if (Boolean.TRUE.equals(paramDef.getRequired()) && !hasDefault) {
+                String sql = "SELECT count(*), array_to_string((array_agg(_row_num ORDER BY _row_num))[1:" +
+                        COPY_VIOLATION_SAMPLE_SIZE + "], ',') FROM " + stageTable +
+                        " WHERE NULLIF(btrim(" + stageColumn + "), '') IS NULL";
+                addViolation(conn, sql, null, sourceFields.get(i), column, "REQUIRED", violations);
+            }
+
+            String pattern = paramDef.getValidationPattern();
+            if (pattern != null && !pattern.isEmpty()) {
+                String sql = "SELECT count(*), array_to_string((array_agg(_row_num ORDER BY _row_num))[1:" +
+                        COPY_VIOLATION_SAMPLE_SIZE + "], ',') FROM " + stageTable +
+                        " WHERE " + stageColumn + " <> '' AND " + stageColumn + " !~ ?";
+                // Patterns are written for Java; one PostgreSQL cannot compile must not abort the transaction
+                Savepoint savepoint = conn.setSavepoint();
+                try {
+                    addViolation(conn, sql, pattern, sourceFields.get(i), column, "PATTERN", violations);
+                    conn.releaseSavepoint(savepoint);
+                } catch (SQLException e) {
+                    conn.rollback(savepoint);
+                    log.warn("Skipping validation pattern for column {} during COPY: {}", column, e.getMessage());
+                }
+            }
+        }
+        return violations;
+    }
+
+    private void addViolation(Connection conn, String sql, String pattern, String field, String column,
+                              String rule, List<Map<String, Object>> violations) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            if (pattern != null) {
+                pstmt.setString(1, pattern);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next() && rs.getLong(1) > 0) {
+                    Map<String, Object> violation = new LinkedHashMap<>();
+                    violation.put("field", field);
+                    violation.put("column", column);
+                    violation.put("rule", rule);
+                    violation.put("count", rs.getLong(1));
+                    violation.put("sampleRows", rs.getString(2));
+                    violations.add(violation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Move validated staging rows into the target table, applying defaults and casting non-character
+     * values to the column types
+     */
+    private long insertFromStage(Connection conn, String stageTable, String qualifiedTable, List<String> targetColumns,
+                                 Map<String, String> columnTypes,
+                                 Map<String, ApiParameterEntity> paramDefByColumn) throws SQLException {
+        List<String> insertColumns = new ArrayList<>();
+        List<String> selectExpressions = new ArrayList<>();
+        List<String> defaults = new ArrayList<>();
+
+        for (int i = 0; i < targetColumns.size(); i++) {
+            String column = targetColumns.get(i);
+            if (column == null) {
+                continue;
+            }
+            String type = columnTypes.get(column);
+            String stageColumn = "\"c" + (i + 1) + "\"";
+            boolean textType = type.startsWith("text") || type.startsWith("character");
+            // Empty strings stay as-is for text columns but cannot be cast to other types
+            String expression = textType ? stageColumn : "NULLIF(" + stageColumn + ", '')";
+
+            ApiParameterEntity paramDef = paramDefByColumn.get(column);
+            if (paramDef != null && paramDef.getDefaultValue() != null && !paramDef.getDefaultValue().isEmpty()) {
+                expression = "COALESCE(NULLIF(" + stageColumn + ", ''), ?)";
+                defaults.add(paramDef.getDefaultValue());
+            }
+
+            insertColumns.add(column);
+            // An explicit cast to character varying(n) / character(n) silently truncates; character columns
+            // are left to the assignment cast so an over-long value fails the load instead
+            selectExpressions.add(textType ? expression : expression + "::" + type);
+        }
+
+        String sql = "INSERT INTO " + qualifiedTable + " (" + quoteColumns(insertColumns) + ") SELECT " +
+                String.join(", ", selectExpressions) + " FROM " + stageTable + " ORDER BY _row_num";
+        log.info("COPY staging insert: {}", sql);
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < defaults.size(); i++) {
+                pstmt.setString(i + 1, defaults.get(i));
+            }
+            return pstmt.executeLargeUpdate();
+        }
+    }
+
+    private Map<String, String> loadColumnTypes(Connection conn, String qualifiedTable) throws SQLException {
+        Map<String, String> columnTypes = new LinkedHashMap<>();
+        String sql = "SELECT a.attname, format_type(a.atttypid, a.atttypmod) FROM pg_attribute a " +
+                "WHERE a.attrelid = to_regclass(?) AND a.attnum > 0 AND NOT a.attisdropped ORDER BY a.attnum";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, qualifiedTable);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    columnTypes.put(rs.getString(1).toLowerCase(), rs.getString(2));
+                }
+            }
+        }
+        return columnTypes;
+    }
+
+    private String resolveCopyColumn(String field, Map<String, String> apiToDbColumnMap) {
+        if (field == null || field.trim().isEmpty()) {
+            return null;
+        }
+        String key = field.trim().toLowerCase();
+        String column = apiToDbColumnMap.get(key);
+        if (column != null) {
+            return column;
+        }
+        return apiToDbColumnMap.isEmpty() || apiToDbColumnMap.containsValue(key) ? key : null;
+    }
+
+    private boolean hasCopyRule(ApiParameterEntity paramDef) {
+        return paramDef != null && (Boolean.TRUE.equals(paramDef.getRequired())
+                || (paramDef.getValidationPattern() != null && !paramDef.getValidationPattern().isEmpty())
+                || (paramDef.getDefaultValue() != null && !paramDef.getDefaultValue().isEmpty()));
+    }
+
+    private List<String> parseCsvHeader(String headerLine) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < headerLine.length(); i++) {
+            char ch = headerLine.charAt(i);
+            if (ch == '"') {
+                if (inQuotes && i + 1 < headerLine.length() && headerLine.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (ch == ',' && !inQuotes) {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(ch);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    /**
+     * Append a value in COPY CSV form: NULL as an empty unquoted field, everything else quoted
+     */
+    private void appendCsvValue(StringBuilder buffer, Object value) {
+        if (value == null) {
+            return;
+        }
+        String text;
+        if (value instanceof Map || value instanceof List) {
+            try {
+                text = objectMapper.writeValueAsString(value);
+            } catch (Exception e) {
+                text = value.toString();
+            }
+        } else {
+            text = value.toString();
+        }
+        buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+
+    private String quoteColumns(List<String> columns) {
+        return columns.stream().map(c -> "\"" + c + "\"").collect(Collectors.joining(", "));
+    }
+
+    private Map<String, String> buildApiToDbColumnMap(List<ApiParameterDTO> configuredParamDTOs) {
+        Map<String, String> apiToDbColumnMap = new HashMap<>();
+        if (configuredParamDTOs != null) {
+            for (ApiParameterDTO param : configuredParamDTOs) {
+                if (param.getKey() != null) {
+                    String dbColumnName = param.getDbColumn();
+                    if (dbColumnName == null || dbColumnName.isEmpty()) {
+                        dbColumnName = param.getDbParameter();
+                    }
+                    if (dbColumnName == null || dbColumnName.isEmpty()) {
+                        dbColumnName = param.getKey();
+                    }
+                    apiToDbColumnMap.put(param.getKey().toLowerCase(), dbColumnName.toLowerCase());
+                }
+            }
+        }
+        return apiToDbColumnMap;
+    }
+
+    Object convertParameterValueWithDefinition(Object value, ApiParameterEntity paramDef) {
         if (value == null || value.toString().trim().isEmpty()) {
             return null;
         }
@@ -8,6 +8,7 @@ import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ApiSourceObjectDTO;
 import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.ExecuteApiRequestDTO;
 import com.usg.autoAPIGenerator.utils.apiEngine.PostgreSQLObjectResolverUtil;
 import com.usg.autoAPIGenerator.utils.apiEngine.PostgreSQLParameterValidatorUtil;
+import com.usg.autoAPIGenerator.utils.apiEngine.QueryFilterUtil;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +20,6 @@ import org.springframework.stereotype.Component;
 import javax.sql.DataSource;
 import java.sql.*;
 import java.util.*;
-import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -32,15 +32,24 @@ public class PostgreSQLViewExecutorUtil {
     @Qualifier("postgresqlJdbcTemplate")
     private JdbcTemplate postgresqlJdbcTemplate;
 
+    @Autowired
+    private PostgreSQLExecutionConnectionUtil executionConnectionUtil;
+
+    /**
+     * The bound datasource target's template while an API executes against one, otherwise the primary
+     */
+    private JdbcTemplate jdbc() {
+        return executionConnectionUtil.resolveJdbcTemplate(postgresqlJdbcTemplate);
+    }
+
+    @Autowired
+    private QueryFilterUtil queryFilterUtil;
+
     private final PostgreSQLParameterValidatorUtil parameterValidator;
     private final PostgreSQLObjectResolverUtil objectResolver;
     private final PostgreSQLTableExecutorUtil tableExecutorUtil;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    // Timeout constants
-    private static final int STATEMENT_TIMEOUT_SECONDS = 30;
-    private static final int CONNECTION_TIMEOUT_MS = 30000;
-
     // Flag to control whether to capture RAISE NOTICE messages
     private boolean captureNotices = false;
 
@@ -59,26 +68,10 @@ public class PostgreSQLViewExecutorUtil {
     }
 
     /**
-     * Get connection with timeout settings
+     * Get connection from the execution pool (session timeouts are applied by the pool)
      */
     private Connection getConnectionWithTimeout() throws SQLException {
-        DataSource dataSource = postgresqlJdbcTemplate.getDataSource();
-        if (dataSource == null) {
-            throw new SQLException("No DataSource available");
-        }
-
-        Connection conn = dataSource.getConnection();
-
-        // Set network timeout
-        conn.setNetworkTimeout(Executors.newSingleThreadExecutor(), CONNECTION_TIMEOUT_MS);
-
-        // Set session statement timeout
-        try (Statement stmt = conn.createStatement()) {
-            stmt.execute("SET statement_timeout = '" + STATEMENT_TIMEOUT_SECONDS + "s'");
-            stmt.execute("SET lock_timeout = '" + STATEMENT_TIMEOUT_SECONDS + "s'");
-        }
-
-        return conn;
+        return executionConnectionUtil.getConnection();
     }
 
     /**
@@ -273,19 +266,7 @@ public class PostgreSQLViewExecutorUtil {
         addFieldSelectionToParams(dbParams, request);
 
         // ============ HANDLE COLLECTION/ARRAY PARAMETERS ============
-        for (Map.Entry<String, Object> entry : dbParams.entrySet()) {
-            Object value = entry.getValue();
-            if (value instanceof List || (value != null && value.getClass().isArray())) {
-                Collection<?> collection = value instanceof List ?
-                        (List<?>) value : Arrays.asList((Object[]) value);
-                if (!collection.isEmpty()) {
-                    dbParams.put(entry.getKey(), collection.iterator().next());
-                    log.info("Converted collection parameter '{}' to single value", entry.getKey());
-                } else {
-                    dbParams.put(entry.getKey(), null);
-                }
-            }
-        }
+        // Lists are kept: several values for a column compile into IN (...) in the SELECT
 
         log.info("Final DB params for view execution: {}", dbParams.keySet());
 
@@ -454,12 +435,6 @@ public class PostgreSQLViewExecutorUtil {
                                                   GeneratedApiEntity api, List<ApiParameterDTO> configuredParamDTOs,
                                                   List<String> capturedNotices) throws SQLException {
         try (Connection conn = getConnectionWithTimeout()) {
-            StringBuilder sql = new StringBuilder("SELECT * FROM ");
-            if (schema != null && !schema.isEmpty()) {
-                sql.append(schema).append(".");
-            }
-            sql.append(tableName);
-
             List<Object> paramValues = new ArrayList<>();
             List<String> whereClauses = new ArrayList<>();
 
@@ -489,6 +464,15 @@ public class PostgreSQLViewExecutorUtil {
                 }
             }
 
+            // Same projection as table APIs: fields parameter, else the response mappings
+            StringBuilder sql = new StringBuilder("SELECT ");
+            sql.append(tableExecutorUtil.buildSelectClause(api, params, apiToDbColumnMap));
+            sql.append(" FROM ");
+            if (schema != null && !schema.isEmpty()) {
+                sql.append(schema).append(".");
+            }
+            sql.append(tableName);
+
             // Process body parameters
             String body = null;
             boolean isXmlBody = false;
@@ -604,20 +588,18 @@ public class PostgreSQLViewExecutorUtil {
                         }
 
                         if (value != null) {
-                            if (value instanceof List || value.getClass().isArray()) {
-                                Collection<?> collection = value instanceof List ?
-                                        (List<?>) value : Arrays.asList((Object[]) value);
-                                if (!collection.isEmpty()) {
-                                    value = collection.iterator().next();
-                                } else {
-                                    value = null;
-                                }
-                            }
-
-                            if (value != null && !value.toString().trim().isEmpty()) {
-                                whereClauses.add(dbColumn + " = ?");
-                                paramValues.add(value);
-                                log.info("ADDED FILTER: {} = ? with value: {}", dbColumn, value);
+                            // Operator prefixes (in:, gte:, like: ...) and lists compile to typed predicates;
+                            // columns are quoted like the projection so mixed-case names resolve the same way
+                            int firstValue = paramValues.size();
+                            String predicate = queryFilterUtil.compileFilter("\"" + dbColumn + "\"", value,
+                                    QueryFilterUtil.Dialect.POSTGRESQL, QueryFilterUtil.isCharacterParameter(configuredParam),
+                                    operand -> tableExecutorUtil.convertParameterValueWithDefinition(operand, configuredParam),
+                                    paramValues);
+
+                            if (predicate != null) {
+                                whereClauses.add(predicate);
+                                log.info("ADDED FILTER: {} with values: {}", predicate,
+                                        paramValues.subList(firstValue, paramValues.size()));
                             } else if (Boolean.TRUE.equals(configuredParam.getRequired())) {
                                 throw new ValidationException(
                                         String.format("Required parameter '%s' cannot be empty", paramKey)
@@ -637,6 +619,16 @@ public class PostgreSQLViewExecutorUtil {
                 sql.append(" WHERE ").append(String.join(" AND ", whereClauses));
             }
 
+            // Handle ORDER BY if specified: sort=-created_at,id on configured columns only
+            if (params != null && params.containsKey("sort")) {
+                String orderBy = queryFilterUtil.compileOrderBy(params.get("sort"), params.get("order"),
+                        queryFilterUtil.columnWhitelist(api), column -> "\"" + column + "\"");
+                if (!orderBy.isEmpty()) {
+                    sql.append(" ORDER BY ").append(orderBy);
+                    log.info("Added ORDER BY: {}", orderBy);
+                }
+            }
+
             // Handle pagination
             if (api.getSchemaConfig() != null &&
                     Boolean.TRUE.equals(api.getSchemaConfig().getEnablePagination())) {
@@ -671,7 +663,7 @@ public class PostgreSQLViewExecutorUtil {
                 }
 
                 // Set statement timeout
-                pstmt.setQueryTimeout(STATEMENT_TIMEOUT_SECONDS);
+                pstmt.setQueryTimeout(executionConnectionUtil.resolveStatementTimeoutSeconds(api));
 
                 // Capture warnings if enabled
                 if (captureNotices && capturedNotices != null) {
@@ -709,7 +701,7 @@ public class PostgreSQLViewExecutorUtil {
 
         } catch (SQLTimeoutException e) {
             log.error("Database operation timed out for view {}.{}", schema, tableName, e);
-            throw new RuntimeException("Database operation timed out after " + STATEMENT_TIMEOUT_SECONDS + " seconds", e);
+            throw new RuntimeException("Database operation timed out after " + executionConnectionUtil.resolveStatementTimeoutSeconds(api) + " seconds", e);
         } catch (Exception e) {
             log.error("Error executing view select: {}", e.getMessage(), e);
             throw e;
@@ -800,7 +792,7 @@ public class PostgreSQLViewExecutorUtil {
 
         // Strategy 5: Try to get current schema
         try {
-            DataSource dataSource = postgresqlJdbcTemplate.getDataSource();
+            DataSource dataSource = jdbc().getDataSource();
             if (dataSource != null) {
                 try (Connection conn = dataSource.getConnection();
                      Statement stmt = conn.createStatement();
@@ -826,7 +818,7 @@ public class PostgreSQLViewExecutorUtil {
                     "WHERE table_name = ? AND table_schema NOT IN ('pg_catalog', 'information_schema') " +
                     "LIMIT 1";
 
-            List<String> schemas = postgresqlJdbcTemplate.queryForList(findViewSql, String.class, viewName);
+            List<String> schemas = jdbc().queryForList(findViewSql, String.class, viewName);
 
             if (!schemas.isEmpty()) {
                 String foundSchema = schemas.get(0);
@@ -840,7 +832,7 @@ public class PostgreSQLViewExecutorUtil {
                     "AND table_schema NOT IN ('pg_catalog', 'information_schema') " +
                     "LIMIT 1";
 
-            List<String> tableSchemas = postgresqlJdbcTemplate.queryForList(findTableSql, String.class, viewName);
+            List<String> tableSchemas = jdbc().queryForList(findTableSql, String.class, viewName);
 
             if (!tableSchemas.isEmpty()) {
                 String foundSchema = tableSchemas.get(0);
@@ -878,7 +870,7 @@ public class PostgreSQLViewExecutorUtil {
 
             pstmt.setString(1, schemaName);
             pstmt.setString(2, viewName);
-            pstmt.setQueryTimeout(STATEMENT_TIMEOUT_SECONDS);
+            pstmt.setQueryTimeout(executionConnectionUtil.getDefaultStatementTimeoutSeconds());
 
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
@@ -899,7 +891,7 @@ public class PostgreSQLViewExecutorUtil {
         // Validate view is accessible
         try (Connection conn = getConnectionWithTimeout();
              Statement stmt = conn.createStatement()) {
-            stmt.setQueryTimeout(STATEMENT_TIMEOUT_SECONDS);
+            stmt.setQueryTimeout(executionConnectionUtil.getDefaultStatementTimeoutSeconds());
             stmt.execute("SELECT 1 FROM " + schemaName + "." + viewName + " LIMIT 1");
         } catch (Exception e) {
             throw new ValidationException(
@@ -918,7 +910,7 @@ public class PostgreSQLViewExecutorUtil {
 
                 pstmt.setString(1, schemaName);
                 pstmt.setString(2, viewName);
-                pstmt.setQueryTimeout(STATEMENT_TIMEOUT_SECONDS);
+                pstmt.setQueryTimeout(executionConnectionUtil.getDefaultStatementTimeoutSeconds());
 
                 Map<String, Map<String, Object>> columnMap = new HashMap<>();
                 try (ResultSet rs = pstmt.executeQuery()) {
@@ -949,9 +941,11 @@ public class PostgreSQLViewExecutorUtil {
                         );
                     }
 
-                    // Validate data type if column exists
+                    // Validate data type if column exists; filter operators (gte:, in: ...) are checked per operand
                     if (column != null && param.getValue() != null) {
-                        validateColumnDataType(param.getKey(), param.getValue(), column);
+                        for (Object operand : QueryFilterUtil.operandsOf(param.getValue())) {
+                            validateColumnDataType(param.getKey(), operand, column);
+                        }
                     }
                 }
 
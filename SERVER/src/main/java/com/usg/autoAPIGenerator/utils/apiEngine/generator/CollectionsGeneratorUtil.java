@@ -1156,36 +1156,36 @@ public class CollectionsGeneratorUtil {
 
         Map<String, Object> graphqlBody = new LinkedHashMap<>();
 
-        StringBuilder queryBuilder = new StringBuilder();
-        queryBuilder.append(operationType).append(" ").append(operationName).append("(");
-
-        if (api.getParameters() != null) {
-            List<ApiParameterEntity> inParams = api.getParameters().stream()
-                    .filter(p -> "IN".equalsIgnoreCase(p.getParamMode()) || p.getParamMode() == null)
-                    .collect(Collectors.toList());
+        List<ApiParameterEntity> inParams = api.getParameters() == null ? new ArrayList<>()
+                : api.getParameters().stream()
+                .filter(p -> "IN".equalsIgnoreCase(p.getParamMode()) || p.getParamMode() == null)
+                .collect(Collectors.toList());
 
-            if (!inParams.isEmpty()) {
-                queryBuilder.append("$");
-                queryBuilder.append(inParams.stream()
-                        .map(p -> p.getKey() + ": " + getGraphQLInputType(p.getOracleType()))
-                        .collect(Collectors.joining(", ")));
-            }
+        // Every variable is declared with its own $; GraphQL has no empty argument lists
+        StringBuilder queryBuilder = new StringBuilder();
+        queryBuilder.append(operationType).append(" ").append(operationName);
+        if (!inParams.isEmpty()) {
+            queryBuilder.append("(");
+            queryBuilder.append(inParams.stream()
+                    .map(p -> "$" + p.getKey() + ": " + getGraphQLInputType(p.getOracleType()))
+                    .collect(Collectors.joining(", ")));
+            queryBuilder.append(")");
         }
-
-        queryBuilder.append(") ");
+        queryBuilder.append(" ");
 
         if ("query".equalsIgnoreCase(operationType)) {
             queryBuilder.append("{\n");
-            queryBuilder.append("  ").append(operationName).append("(");
+            queryBuilder.append("  ").append(operationName);
 
-            if (api.getParameters() != null) {
-                queryBuilder.append(api.getParameters().stream()
-                        .filter(p -> "IN".equalsIgnoreCase(p.getParamMode()) || p.getParamMode() == null)
+            if (!inParams.isEmpty()) {
+                queryBuilder.append("(");
+                queryBuilder.append(inParams.stream()
                         .map(p -> p.getKey() + ": $" + p.getKey())
                         .collect(Collectors.joining(", ")));
+                queryBuilder.append(")");
             }
 
-            queryBuilder.append(") {\n");
+            queryBuilder.append(" {\n");
 
             if (api.getResponseMappings() != null) {
                 queryBuilder.append(api.getResponseMappings().stream()
@@ -1200,16 +1200,17 @@ public class CollectionsGeneratorUtil {
             queryBuilder.append("\n  }\n}");
         } else {
             queryBuilder.append("{\n");
-            queryBuilder.append("  ").append(operationName).append("(input: {\n");
+            queryBuilder.append("  ").append(operationName);
 
-            if (api.getParameters() != null) {
-                queryBuilder.append(api.getParameters().stream()
-                        .filter(p -> "IN".equalsIgnoreCase(p.getParamMode()) || p.getParamMode() == null)
+            if (!inParams.isEmpty()) {
+                queryBuilder.append("(input: {\n");
+                queryBuilder.append(inParams.stream()
                         .map(p -> "    " + p.getKey() + ": $" + p.getKey())
                         .collect(Collectors.joining(",\n")));
+                queryBuilder.append("\n  })");
             }
 
-            queryBuilder.append("\n  }) {\n");
+            queryBuilder.append(" {\n");
             queryBuilder.append("    success\n");
             queryBuilder.append("    message\n");
             queryBuilder.append("    data {\n");
@@ -0,0 +1,115 @@
+package com.usg.autoAPIGenerator.utils.apiEngine.graphql;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsed GraphQL executable document (operations and fragments).
+ * Instances are immutable once parsed, so one document can be shared by concurrent requests.
+ */
+@Getter
+@AllArgsConstructor
+public class GraphQLDocument {
+
+    private final List<Operation> operations;
+    private final Map<String, FragmentDefinition> fragments;
+    // @skip / @include conditions reference variables, so the selection differs per request
+    private final boolean variableDirectives;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Operation {
+        private final String operationType; // "query", "mutation", "subscription"
+        private final String name;
+        private final List<VariableDefinition> variables;
+        private final List<Selection> selections;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class VariableDefinition {
+        private final String name;
+        private final String type;       // as written, e.g. "[ID!]!"
+        private final boolean nonNull;
+        private final Object defaultValue;
+        private final boolean hasDefault;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FragmentDefinition {
+        private final String name;
+        private final String typeCondition;
+        private final List<Directive> directives;
+        private final List<Selection> selections;
+    }
+
+    /**
+     * Field, fragment spread or inline fragment
+     */
+    public interface Selection {
+        List<Directive> getDirectives();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Field implements Selection {
+        private final String alias;
+        private final String name;
+        private final Map<String, Object> arguments; // values may hold VariableReference
+        private final List<Directive> directives;
+        private final List<Selection> selections;    // empty for leaf fields
+
+        public String getResponseKey() {
+            return alias != null ? alias : name;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FragmentSpread implements Selection {
+        private final String fragmentName;
+        private final List<Directive> directives;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class InlineFragment implements Selection {
+        private final String typeCondition;
+        private final List<Directive> directives;
+        private final List<Selection> selections;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Directive {
+        private final String name;
+        private final Map<String, Object> arguments;
+    }
+
+    /**
+     * $name inside an argument or default value
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class VariableReference {
+        private final String name;
+    }
+
+    /**
+     * Unquoted enum literal; passed to the database as its name
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class EnumValue {
+        private final String name;
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
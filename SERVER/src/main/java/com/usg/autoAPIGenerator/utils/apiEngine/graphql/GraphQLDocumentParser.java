@@ -0,0 +1,467 @@
+package com.usg.autoAPIGenerator.utils.apiEngine.graphql;
+
+import jakarta.validation.ValidationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recursive-descent parser for GraphQL executable documents (October 2021 spec):
+ * operations, variables, arguments, aliases, directives, fragments and all literal values.
+ * Type system definitions are rejected. Syntax errors are reported as ValidationException with
+ * the line and column of the offending token.
+ */
+public final class GraphQLDocumentParser {
+
+    // Guards the parser's recursion; real limits are applied when the document is validated
+    private static final int MAX_NESTING = 64;
+
+    private final String source;
+    private int pos;
+    private int nesting;
+    private boolean variableDirectives;
+
+    private GraphQLDocumentParser(String source) {
+        this.source = source;
+    }
+
+    public static GraphQLDocument parse(String source) {
+        if (source == null || source.trim().isEmpty()) {
+            throw new ValidationException("GraphQL query is empty");
+        }
+        return new GraphQLDocumentParser(source).parseDocument();
+    }
+
+    private GraphQLDocument parseDocument() {
+        List<GraphQLDocument.Operation> operations = new ArrayList<>();
+        Map<String, GraphQLDocument.FragmentDefinition> fragments = new LinkedHashMap<>();
+
+        skipIgnored();
+        while (pos < source.length()) {
+            if (peek('{')) {
+                operations.add(new GraphQLDocument.Operation("query", null,
+                        Collections.emptyList(), parseSelectionSet()));
+            } else {
+                String keyword = parseName();
+                switch (keyword) {
+                    case "query":
+                    case "mutation":
+                    case "subscription":
+                        operations.add(parseOperation(keyword));
+                        break;
+                    case "fragment":
+                        GraphQLDocument.FragmentDefinition fragment = parseFragmentDefinition();
+                        if (fragments.putIfAbsent(fragment.getName(), fragment) != null) {
+                            throw error("Fragment '" + fragment.getName() + "' is defined more than once");
+                        }
+                        break;
+                    default:
+                        throw error("Expected an operation or fragment, found '" + keyword + "'");
+                }
+            }
+            skipIgnored();
+        }
+
+        if (operations.isEmpty()) {
+            throw new ValidationException("GraphQL document contains no operation");
+        }
+        return new GraphQLDocument(Collections.unmodifiableList(operations), Collections.unmodifiableMap(fragments),
+                variableDirectives);
+    }
+
+    private GraphQLDocument.Operation parseOperation(String operationType) {
+        String name = peekName() ? parseName() : null;
+        List<GraphQLDocument.VariableDefinition> variables = new ArrayList<>();
+        if (consume('(')) {
+            while (!consume(')')) {
+                variables.add(parseVariableDefinition());
+            }
+        }
+        parseDirectives();
+        return new GraphQLDocument.Operation(operationType, name,
+                Collections.unmodifiableList(variables), parseSelectionSet());
+    }
+
+    private GraphQLDocument.VariableDefinition parseVariableDefinition() {
+        expect('$');
+        String name = parseName();
+        expect(':');
+        String type = parseType();
+        Object defaultValue = null;
+        boolean hasDefault = false;
+        if (consume('=')) {
+            defaultValue = parseValue(true);
+            hasDefault = true;
+        }
+        parseDirectives();
+        return new GraphQLDocument.VariableDefinition(name, type, type.endsWith("!"), defaultValue, hasDefault);
+    }
+
+    private String parseType() {
+        String type;
+        if (consume('[')) {
+            type = "[" + parseType() + "]";
+            expect(']');
+        } else {
+            type = parseName();
+        }
+        if (consume('!')) {
+            type += "!";
+        }
+        return type;
+    }
+
+    private GraphQLDocument.FragmentDefinition parseFragmentDefinition() {
+        String name = parseName();
+        if ("on".equals(name)) {
+            throw error("Fragment name 'on' is not allowed");
+        }
+        String on = parseName();
+        if (!"on".equals(on)) {
+            throw error("Expected 'on' after fragment name");
+        }
+        String typeCondition = parseName();
+        List<GraphQLDocument.Directive> directives = parseDirectives();
+        return new GraphQLDocument.FragmentDefinition(name, typeCondition, directives, parseSelectionSet());
+    }
+
+    private List<GraphQLDocument.Selection> parseSelectionSet() {
+        expect('{');
+        if (++nesting > MAX_NESTING) {
+            throw error("Selection sets are nested too deeply");
+        }
+        List<GraphQLDocument.Selection> selections = new ArrayList<>();
+        do {
+            selections.add(parseSelection());
+        } while (!consume('}'));
+        nesting--;
+        return Collections.unmodifiableList(selections);
+    }
+
+    private GraphQLDocument.Selection parseSelection() {
+        if (consumeSpread()) {
+            if (peekName()) {
+                int mark = pos;
+                String name = parseName();
+                if (!"on".equals(name)) {
+                    return new GraphQLDocument.FragmentSpread(name, parseDirectives());
+                }
+                pos = mark;
+            }
+            String typeCondition = null;
+            if (peekName()) {
+                parseName(); // "on"
+                typeCondition = parseName();
+            }
+            List<GraphQLDocument.Directive> directives = parseDirectives();
+            return new GraphQLDocument.InlineFragment(typeCondition, directives, parseSelectionSet());
+        }
+
+        String alias = null;
+        String name = parseName();
+        if (consume(':')) {
+            alias = name;
+            name = parseName();
+        }
+        Map<String, Object> arguments = peek('(') ? parseArguments(false) : Collections.emptyMap();
+        List<GraphQLDocument.Directive> directives = parseDirectives();
+        List<GraphQLDocument.Selection> selections = peek('{') ? parseSelectionSet() : Collections.emptyList();
+        return new GraphQLDocument.Field(alias, name, arguments, directives, selections);
+    }
+
+    private Map<String, Object> parseArguments(boolean constant) {
+        expect('(');
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        do {
+            String name = parseName();
+            expect(':');
+            if (arguments.put(name, parseValue(constant)) != null) {
+                throw error("Argument '" + name + "' is given more than once");
+            }
+        } while (!consume(')'));
+        return Collections.unmodifiableMap(arguments);
+    }
+
+    private List<GraphQLDocument.Directive> parseDirectives() {
+        List<GraphQLDocument.Directive> directives = null;
+        while (consume('@')) {
+            if (directives == null) {
+                directives = new ArrayList<>();
+            }
+            String name = parseName();
+            Map<String, Object> arguments = peek('(') ? parseArguments(false) : Collections.emptyMap();
+            if (arguments.values().stream().anyMatch(v -> v instanceof GraphQLDocument.VariableReference)) {
+                variableDirectives = true;
+            }
+            directives.add(new GraphQLDocument.Directive(name, arguments));
+        }
+        return directives != null ? Collections.unmodifiableList(directives) : Collections.emptyList();
+    }
+
+    private Object parseValue(boolean constant) {
+        skipIgnored();
+        if (pos >= source.length()) {
+            throw error("Unexpected end of document, expected a value");
+        }
+        char c = source.charAt(pos);
+        switch (c) {
+            case '$':
+                if (constant) {
+                    throw error("Variables are not allowed in default values");
+                }
+                pos++;
+                return new GraphQLDocument.VariableReference(parseName());
+            case '[': {
+                pos++;
+                if (++nesting > MAX_NESTING) {
+                    throw error("Values are nested too deeply");
+                }
+                List<Object> list = new ArrayList<>();
+                while (!consume(']')) {
+                    list.add(parseValue(constant));
+                }
+                nesting--;
+                return list;
+            }
+            case '{': {
+                pos++;
+                if (++nesting > MAX_NESTING) {
+                    throw error("Values are nested too deeply");
+                }
+                Map<String, Object> object = new LinkedHashMap<>();
+                while (!consume('}')) {
+                    String name = parseName();
+                    expect(':');
+                    object.put(name, parseValue(constant));
+                }
+                nesting--;
+                return object;
+            }
+            case '"':
+                return parseString();
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return parseNumber();
+                }
+                String name = parseName();
+                switch (name) {
+                    case "true":
+                        return Boolean.TRUE;
+                    case "false":
+                        return Boolean.FALSE;
+                    case "null":
+                        return null;
+                    default:
+                        return new GraphQLDocument.EnumValue(name);
+                }
+        }
+    }
+
+    private Object parseNumber() {
+        int start = pos;
+        if (source.charAt(pos) == '-') {
+            pos++;
+        }
+        int digitsStart = pos;
+        while (pos < source.length() && Character.isDigit(source.charAt(pos))) {
+            pos++;
+        }
+        if (pos == digitsStart) {
+            throw error("Invalid number");
+        }
+        boolean isFloat = false;
+        if (pos < source.length() && source.charAt(pos) == '.') {
+            isFloat = true;
+            pos++;
+            int fractionStart = pos;
+            while (pos < source.length() && Character.isDigit(source.charAt(pos))) {
+                pos++;
+            }
+            if (pos == fractionStart) {
+                throw error("Invalid number");
+            }
+        }
+        if (pos < source.length() && (source.charAt(pos) == 'e' || source.charAt(pos) == 'E')) {
+            isFloat = true;
+            pos++;
+            if (pos < source.length() && (source.charAt(pos) == '+' || source.charAt(pos) == '-')) {
+                pos++;
+            }
+            int exponentStart = pos;
+            while (pos < source.length() && Character.isDigit(source.charAt(pos))) {
+                pos++;
+            }
+            if (pos == exponentStart) {
+                throw error("Invalid number");
+            }
+        }
+        String text = source.substring(start, pos);
+        if (isFloat) {
+            return Double.parseDouble(text);
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return new java.math.BigInteger(text);
+        }
+    }
+
+    private String parseString() {
+        if (source.startsWith("\"\"\"", pos)) {
+            pos += 3;
+            int end = source.indexOf("\"\"\"", pos);
+            while (end > 0 && source.charAt(end - 1) == '\\') {
+                end = source.indexOf("\"\"\"", end + 1);
+            }
+            if (end < 0) {
+                throw error("Unterminated block string");
+            }
+            String raw = source.substring(pos, end).replace("\\\"\"\"", "\"\"\"");
+            pos = end + 3;
+            return raw.strip();
+        }
+
+        pos++; // opening quote
+        StringBuilder value = new StringBuilder();
+        while (true) {
+            if (pos >= source.length()) {
+                throw error("Unterminated string");
+            }
+            char c = source.charAt(pos++);
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c == '\n' || c == '\r') {
+                throw error("Unterminated string");
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (pos >= source.length()) {
+                throw error("Unterminated string");
+            }
+            char escaped = source.charAt(pos++);
+            switch (escaped) {
+                case '"': value.append('"'); break;
+                case '\\': value.append('\\'); break;
+                case '/': value.append('/'); break;
+                case 'b': value.append('\b'); break;
+                case 'f': value.append('\f'); break;
+                case 'n': value.append('\n'); break;
+                case 'r': value.append('\r'); break;
+                case 't': value.append('\t'); break;
+                case 'u':
+                    if (pos + 4 > source.length()) {
+                        throw error("Invalid unicode escape");
+                    }
+                    try {
+                        value.append((char) Integer.parseInt(source.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw error("Invalid unicode escape");
+                    }
+                    pos += 4;
+                    break;
+                default:
+                    throw error("Invalid escape sequence \\" + escaped);
+            }
+        }
+    }
+
+    private String parseName() {
+        skipIgnored();
+        int start = pos;
+        if (pos < source.length() && isNameStart(source.charAt(pos))) {
+            pos++;
+            while (pos < source.length() && isNameContinue(source.charAt(pos))) {
+                pos++;
+            }
+        }
+        if (pos == start) {
+            throw error(pos < source.length()
+                    ? "Expected a name, found '" + source.charAt(pos) + "'"
+                    : "Unexpected end of document, expected a name");
+        }
+        return source.substring(start, pos);
+    }
+
+    private boolean peekName() {
+        skipIgnored();
+        return pos < source.length() && isNameStart(source.charAt(pos));
+    }
+
+    private boolean peek(char expected) {
+        skipIgnored();
+        return pos < source.length() && source.charAt(pos) == expected;
+    }
+
+    private boolean consume(char expected) {
+        if (peek(expected)) {
+            pos++;
+            return true;
+        }
+        if (pos >= source.length()) {
+            throw error("Unexpected end of document");
+        }
+        return false;
+    }
+
+    private boolean consumeSpread() {
+        skipIgnored();
+        if (source.startsWith("...", pos)) {
+            pos += 3;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (!peek(expected)) {
+            throw error(pos < source.length()
+                    ? "Expected '" + expected + "', found '" + source.charAt(pos) + "'"
+                    : "Unexpected end of document, expected '" + expected + "'");
+        }
+        pos++;
+    }
+
+    // Whitespace, line terminators, commas, comments and the BOM are insignificant
+    private void skipIgnored() {
+        while (pos < source.length()) {
+            char c = source.charAt(pos);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == ',' || c == '\uFEFF') {
+                pos++;
+            } else if (c == '#') {
+                while (pos < source.length() && source.charAt(pos) != '\n' && source.charAt(pos) != '\r') {
+                    pos++;
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static boolean isNameStart(char c) {
+        return c == '_' || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isNameContinue(char c) {
+        return isNameStart(c) || (c >= '0' && c <= '9');
+    }
+
+    private ValidationException error(String message) {
+        int line = 1;
+        int column = 1;
+        for (int i = 0; i < Math.min(pos, source.length()); i++) {
+            if (source.charAt(i) == '\n') {
+                line++;
+                column = 1;
+            } else {
+                column++;
+            }
+        }
+        return new ValidationException("Syntax error at line " + line + ", column " + column + ": " + message);
+    }
+}
@@ -2,6 +2,7 @@ package com.usg.autoAPIGenerator.wrappers;
 
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -9,16 +10,38 @@ import java.io.IOException;
 @Component
 public class CachedBodyFilter implements Filter {
 
+    // Bodies above this many bytes are buffered in a temp file instead of the heap
+    @Value("${api.request-body.memory-threshold-bytes:262144}")
+    private int memoryThresholdBytes;
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
 
         HttpServletRequest httpRequest = (HttpServletRequest) request;
 
-        // Wrap the requestEntity with cached body
-        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(httpRequest);
+        // Bulk and COPY loads stream their body straight into the database - never buffer them
+        String requestUri = httpRequest.getRequestURI();
+        if (requestUri != null && (requestUri.endsWith("/_bulk") || requestUri.endsWith("/_copy"))) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // Multipart uploads are parsed (and spooled) by the container's part handling
+        String contentType = httpRequest.getContentType();
+        if (contentType != null && contentType.toLowerCase().startsWith("multipart/")) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // Wrap the requestEntity so its body can be re-read; it is only buffered if someone reads it
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(httpRequest, memoryThresholdBytes);
 
         // Pass the wrapped requestEntity down the filter chain
-        chain.doFilter(cachedRequest, response);
+        try {
+            chain.doFilter(cachedRequest, response);
+        } finally {
+            cachedRequest.release();
+        }
     }
 }
@@ -1,33 +1,73 @@
 package com.usg.autoAPIGenerator.wrappers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 
 import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 
+/**
+ * Request wrapper whose body can be read more than once.
+ *
+ * The body is only buffered when someone first reads it. Bodies up to the memory threshold are
+ * kept in a single exact-size array; larger ones spill to a temp file that is deleted by release().
+ * A JSON body is parsed at most once into a tree shared by every reader of the request.
+ */
 public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
 
-    private final byte[] cachedBody;
+    public static final int DEFAULT_MEMORY_THRESHOLD = 256 * 1024;
 
-    public CachedBodyHttpServletRequest(HttpServletRequest request) throws IOException {
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private final int memoryThreshold;
+
+    private boolean bodyLoaded;
+    private byte[] cachedBody;
+    private int cachedLength;
+    private Path spillFile;
+    private long spillLength;
+
+    private JsonNode jsonTree;
+
+    public CachedBodyHttpServletRequest(HttpServletRequest request) {
+        this(request, DEFAULT_MEMORY_THRESHOLD);
+    }
+
+    public CachedBodyHttpServletRequest(HttpServletRequest request, int memoryThreshold) {
         super(request);
-        InputStream requestInputStream = request.getInputStream();
-        this.cachedBody = requestInputStream.readAllBytes(); // cache the body
+        this.memoryThreshold = Math.max(0, memoryThreshold);
     }
 
     @Override
-    public ServletInputStream getInputStream() {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(this.cachedBody);
+    public ServletInputStream getInputStream() throws IOException {
+        InputStream bodyStream = openBodyStream();
         return new ServletInputStream() {
+            private boolean finished;
+
+            @Override
+            public int read() throws IOException {
+                int b = bodyStream.read();
+                finished = b == -1;
+                return b;
+            }
             @Override
-            public int read() {
-                return byteArrayInputStream.read();
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = bodyStream.read(b, off, len);
+                finished = read == -1;
+                return read;
             }
             @Override
             public boolean isFinished() {
-                return byteArrayInputStream.available() == 0;
+                return finished;
             }
             @Override
             public boolean isReady() {
@@ -37,15 +77,145 @@ public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
             public void setReadListener(ReadListener readListener) {
                 // not implemented
             }
+            @Override
+            public void close() throws IOException {
+                bodyStream.close();
+            }
         };
     }
 
     @Override
-    public BufferedReader getReader() {
-        return new BufferedReader(new InputStreamReader(this.getInputStream()));
+    public BufferedReader getReader() throws IOException {
+        return new BufferedReader(new InputStreamReader(this.getInputStream(), bodyCharset()));
+    }
+
+    public String getCachedBodyAsString() throws IOException {
+        bufferBody();
+        if (spillFile != null) {
+            return Files.readString(spillFile, bodyCharset());
+        }
+        return new String(this.cachedBody, 0, this.cachedLength, bodyCharset());
+    }
+
+    /**
+     * At most maxChars characters from the start of the body, read without loading a spilled body into memory
+     */
+    public String getCachedBodyPrefix(int maxChars) throws IOException {
+        char[] buffer = new char[Math.max(0, maxChars)];
+        int length = 0;
+        try (Reader reader = new InputStreamReader(openBodyStream(), bodyCharset())) {
+            int read;
+            while (length < buffer.length && (read = reader.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+            }
+        }
+        return new String(buffer, 0, length);
+    }
+
+    public long getCachedBodyLength() throws IOException {
+        bufferBody();
+        return spillFile != null ? spillLength : cachedLength;
+    }
+
+    /**
+     * The body parsed as JSON, or null when it is empty or not valid JSON. Parsed once per request
+     * straight from the buffer or spill file, without building an intermediate String.
+     */
+    public JsonNode getJsonTree(ObjectMapper objectMapper) {
+        if (jsonTree == null) {
+            try (InputStream in = openBodyStream()) {
+                JsonNode parsed = objectMapper.readTree(in);
+                jsonTree = parsed != null ? parsed : MissingNode.getInstance();
+            } catch (IOException e) {
+                jsonTree = MissingNode.getInstance();
+            }
+        }
+        return jsonTree.isMissingNode() ? null : jsonTree;
+    }
+
+    /**
+     * Delete the spill file, if the body needed one. Called by CachedBodyFilter when the request ends.
+     */
+    public void release() {
+        if (spillFile != null) {
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException ignored) {
+                spillFile.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    private InputStream openBodyStream() throws IOException {
+        bufferBody();
+        if (spillFile != null) {
+            return new BufferedInputStream(Files.newInputStream(spillFile));
+        }
+        return new ByteArrayInputStream(this.cachedBody, 0, this.cachedLength);
+    }
+
+    private void bufferBody() throws IOException {
+        if (bodyLoaded) {
+            return;
+        }
+        bodyLoaded = true;
+
+        InputStream in = super.getInputStream();
+        long declaredLength = getContentLengthLong();
+        if (declaredLength > memoryThreshold) {
+            spillToFile(in, new byte[0], 0);
+            return;
+        }
+
+        // Size the array from Content-Length when known so the body is copied exactly once
+        byte[] buffer = new byte[declaredLength >= 0 ? (int) declaredLength : Math.min(INITIAL_BUFFER_SIZE, memoryThreshold)];
+        int length = 0;
+        while (true) {
+            if (length == buffer.length) {
+                int next = in.read();
+                if (next == -1) {
+                    break;
+                }
+                if (length >= memoryThreshold) {
+                    byte[] head = Arrays.copyOf(buffer, length + 1);
+                    head[length] = (byte) next;
+                    spillToFile(in, head, length + 1);
+                    return;
+                }
+                buffer = Arrays.copyOf(buffer, (int) Math.min(Math.max(length * 2L, INITIAL_BUFFER_SIZE), memoryThreshold));
+                buffer[length++] = (byte) next;
+                continue;
+            }
+            int read = in.read(buffer, length, buffer.length - length);
+            if (read == -1) {
+                break;
+            }
+            length += read;
+        }
+        this.cachedBody = buffer;
+        this.cachedLength = length;
+    }
+
+    private void spillToFile(InputStream in, byte[] head, int headLength) throws IOException {
+        Path file = Files.createTempFile("request-body-", ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            out.write(head, 0, headLength);
+            spillLength = headLength + in.transferTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        this.spillFile = file;
+        this.cachedBody = new byte[0];
+        this.cachedLength = 0;
     }
 
-    public String getCachedBodyAsString() {
-        return new String(this.cachedBody);
+    private Charset bodyCharset() {
+        String encoding = getCharacterEncoding();
+        try {
+            return encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        } catch (Exception e) {
+            return StandardCharsets.UTF_8;
+        }
     }
 }
@@ -0,0 +1,146 @@
+package com.usg.autoAPIGenerator.services;
+
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import com.usg.autoAPIGenerator.repositories.apiGenerationEngine.GeneratedAPIRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApiEndpointRouterServiceTest {
+
+    private final List<Object[]> routeDefinitions = new ArrayList<>();
+    private GeneratedAPIRepository repository;
+    private ApiEndpointRouterService router;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GeneratedAPIRepository.class);
+        when(repository.findRouteDefinitions()).thenReturn(routeDefinitions);
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        router = new ApiEndpointRouterService(repository);
+    }
+
+    @Test
+    void resolvesTemplateAndExtractsParameters() {
+        route("api-user", "GET", "/v1", "/users/{id}");
+
+        ApiEndpointRouterService.RouteMatch match = router.resolve("GET", "/v1/users/42");
+
+        assertNotNull(match);
+        assertEquals("api-user", match.getApiId());
+        assertEquals("/v1/users/{id}", match.getTemplate());
+        assertEquals(Map.of("id", "42"), match.getPathParams());
+    }
+
+    @Test
+    void literalSegmentWinsOverParameter() {
+        route("api-user", "GET", "/v1", "/users/{id}");
+        route("api-me", "GET", "/v1", "/users/me");
+
+        assertEquals("api-me", router.resolve("GET", "/v1/users/me").getApiId());
+        assertEquals("api-user", router.resolve("GET", "/v1/users/7").getApiId());
+    }
+
+    @Test
+    void fallsBackToParameterWhenLiteralBranchDeadEnds() {
+        route("api-profile", "GET", "/v1", "/users/me/profile");
+        route("api-orders", "GET", "/v1", "/users/{id}/orders");
+
+        ApiEndpointRouterService.RouteMatch match = router.resolve("GET", "/v1/users/me/orders");
+
+        assertEquals("api-orders", match.getApiId());
+        assertEquals("me", match.getPathParams().get("id"));
+    }
+
+    @Test
+    void matchesByMethodWithHeadFallingBackToGet() {
+        route("api-read", "GET", "/v1", "/items/{id}");
+        route("api-write", "POST", "/v1", "/items/{id}");
+
+        assertEquals("api-read", router.resolve("get", "/v1/items/1").getApiId());
+        assertEquals("api-write", router.resolve("POST", "/v1/items/1").getApiId());
+        assertEquals("api-read", router.resolve("HEAD", "/v1/items/1").getApiId());
+        assertNull(router.resolve("DELETE", "/v1/items/1"));
+    }
+
+    @Test
+    void routeWithoutMethodMatchesAnyMethod() {
+        route("api-any", null, "/v1", "/ping");
+
+        assertEquals("api-any", router.resolve("PUT", "/v1/ping").getApiId());
+    }
+
+    @Test
+    void ignoresQueryStringAndRepeatedSlashes() {
+        route("api-user", "GET", "/v1", "/users/{id}");
+
+        assertEquals("42", router.resolve("GET", "/v1//users/42/?expand=true").getPathParams().get("id"));
+    }
+
+    @Test
+    void doesNotMatchPathsOfAnotherLength() {
+        route("api-user", "GET", "/v1", "/users/{id}");
+
+        assertNull(router.resolve("GET", "/v1/users"));
+        assertNull(router.resolve("GET", "/v1/users/42/extra"));
+    }
+
+    @Test
+    void endpointPathAlreadyHoldingBasePathIsNotPrefixedTwice() {
+        route("api-user", "GET", "/v1", "/v1/users/{id}");
+
+        assertEquals("/v1/users/{id}", router.resolve("GET", "/v1/users/3").getTemplate());
+    }
+
+    @Test
+    void extractsParametersFromGenPath() {
+        route("api-user", "GET", "/v1", "/users/{id}/orders/{orderId}");
+
+        Map<String, Object> params = router.extractPathParameters("api-user",
+                "/plx/api/gen/api-user/v1/users/5/orders/9");
+
+        assertEquals(Map.of("id", "5", "orderId", "9"), params);
+        assertTrue(router.extractPathParameters("api-user", "/plx/api/gen/api-user/v1/users/5").isEmpty());
+        assertTrue(router.extractPathParameters("api-unknown", "/plx/api/gen/api-unknown/v1").isEmpty());
+    }
+
+    @Test
+    void registerOutsideTransactionPublishesImmediately() {
+        GeneratedApiEntity api = new GeneratedApiEntity();
+        api.setId("api-new");
+        api.setHttpMethod("GET");
+        api.setBasePath("/v2");
+        api.setEndpointPath("/orders/{id}");
+
+        router.register(api);
+
+        assertEquals("api-new", router.resolve("GET", "/v2/orders/1").getApiId());
+    }
+
+    @Test
+    void unregisterRemovesRoute() {
+        route("api-user", "GET", "/v1", "/users/{id}");
+
+        router.unregister("api-user");
+
+        assertNull(router.resolve("GET", "/v1/users/42"));
+        assertTrue(router.getRoutes().isEmpty());
+    }
+
+    private void route(String apiId, String httpMethod, String basePath, String endpointPath) {
+        routeDefinitions.add(new Object[]{apiId, httpMethod, basePath, endpointPath});
+        router.refresh();
+    }
+}
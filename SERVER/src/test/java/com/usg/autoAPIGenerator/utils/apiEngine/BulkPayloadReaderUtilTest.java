@@ -0,0 +1,129 @@
+package com.usg.autoAPIGenerator.utils.apiEngine;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkPayloadReaderUtilTest {
+
+    private final BulkPayloadReaderUtil reader = new BulkPayloadReaderUtil();
+
+    @Test
+    void readsCsvRowsKeyedByHeader() throws IOException {
+        List<Map<String, Object>> rows = readCsv("id,name\n1,Alice\n2,Bob\n");
+
+        assertEquals(2, rows.size());
+        assertEquals("1", rows.get(0).get("id"));
+        assertEquals("Alice", rows.get(0).get("name"));
+        assertEquals("Bob", rows.get(1).get("name"));
+    }
+
+    @Test
+    void quotedFieldsKeepDelimitersQuotesAndLineBreaks() throws IOException {
+        List<Map<String, Object>> rows = readCsv("id,note\n1,\"a, b\"\n2,\"say \"\"hi\"\"\"\n3,\"line1\nline2\"\n");
+
+        assertEquals(3, rows.size());
+        assertEquals("a, b", rows.get(0).get("note"));
+        assertEquals("say \"hi\"", rows.get(1).get("note"));
+        assertEquals("line1\nline2", rows.get(2).get("note"));
+    }
+
+    @Test
+    void handlesCrlfBlankLinesAndMissingFinalNewline() throws IOException {
+        List<Map<String, Object>> rows = readCsv("id,name\r\n1,Alice\r\n\r\n2,Bob");
+
+        assertEquals(2, rows.size());
+        assertEquals("Alice", rows.get(0).get("name"));
+        assertEquals("Bob", rows.get(1).get("name"));
+    }
+
+    @Test
+    void stripsByteOrderMarkAndTrimsHeader() throws IOException {
+        List<Map<String, Object>> rows = readCsv("\uFEFFid , name\n1,Alice\n");
+
+        assertTrue(rows.get(0).containsKey("id"));
+        assertTrue(rows.get(0).containsKey("name"));
+    }
+
+    @Test
+    void emptyFieldsAreNull() throws IOException {
+        List<Map<String, Object>> rows = readCsv("id,name\n1,\n");
+
+        assertTrue(rows.get(0).containsKey("name"));
+        assertNull(rows.get(0).get("name"));
+    }
+
+    @Test
+    void headerOnlyPayloadHasNoRows() throws IOException {
+        assertTrue(readCsv("id,name\n").isEmpty());
+    }
+
+    @Test
+    void rejectsRecordWithWrongFieldCount() throws IOException {
+        try (BulkPayloadReaderUtil.RowSource rows = open("id,name\n1,Alice,extra\n")) {
+            assertTrue(rows.hasNext());
+            ValidationException e = assertThrows(ValidationException.class, rows::next);
+            assertTrue(e.getMessage().contains("has 3 fields, expected 2"));
+        }
+    }
+
+    @Test
+    void rejectsUnterminatedQuote() {
+        assertThrows(ValidationException.class, () -> readCsv("id,name\n1,\"Alice\n"));
+    }
+
+    @Test
+    void rejectsEmptyPayload() {
+        assertThrows(ValidationException.class, () -> open(""));
+    }
+
+    @Test
+    void resolvesFormatFromExplicitValueOrContentType() {
+        assertEquals(BulkPayloadReaderUtil.FORMAT_NDJSON, reader.resolveFormat("jsonl", null));
+        assertEquals(BulkPayloadReaderUtil.FORMAT_CSV, reader.resolveFormat(null, "text/csv; charset=utf-8"));
+        assertEquals(BulkPayloadReaderUtil.FORMAT_NDJSON, reader.resolveFormat(null, "application/x-ndjson"));
+        assertEquals(BulkPayloadReaderUtil.FORMAT_JSON, reader.resolveFormat(null, null));
+        assertThrows(ValidationException.class, () -> reader.resolveFormat("xml", null));
+    }
+
+    @Test
+    void readsJsonArrayAndNdjson() throws IOException {
+        List<Map<String, Object>> array = read("[{\"id\":1},{\"id\":2}]", BulkPayloadReaderUtil.FORMAT_JSON);
+        List<Map<String, Object>> lines = read("{\"id\":1}\n{\"id\":2}\n", BulkPayloadReaderUtil.FORMAT_NDJSON);
+
+        assertEquals(2, array.size());
+        assertEquals(2, lines.size());
+        assertEquals(2, lines.get(1).get("id"));
+        assertFalse(array.get(0).isEmpty());
+    }
+
+    private List<Map<String, Object>> readCsv(String payload) throws IOException {
+        return read(payload, BulkPayloadReaderUtil.FORMAT_CSV);
+    }
+
+    private List<Map<String, Object>> read(String payload, String format) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        try (BulkPayloadReaderUtil.RowSource source = reader.open(
+                new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)), format)) {
+            source.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    private BulkPayloadReaderUtil.RowSource open(String payload) throws IOException {
+        return reader.open(new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)),
+                BulkPayloadReaderUtil.FORMAT_CSV);
+    }
+}
@@ -0,0 +1,63 @@
+package com.usg.autoAPIGenerator.utils.apiEngine;
+
+import com.usg.autoAPIGenerator.exceptions.DataSourceCredentialKeyMissingException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataSourceCredentialCipherUtilTest {
+
+    private final DataSourceCredentialCipherUtil cipher = new DataSourceCredentialCipherUtil("test-key");
+
+    @Test
+    void roundTripsCredentials() {
+        String encrypted = cipher.encrypt("s3cret p\u00e4ssword");
+
+        assertTrue(encrypted.startsWith("v1:"));
+        assertFalse(encrypted.contains("s3cret"));
+        assertEquals("s3cret p\u00e4ssword", cipher.decrypt(encrypted));
+        assertEquals("", cipher.decrypt(cipher.encrypt("")));
+    }
+
+    @Test
+    void everyEncryptionUsesAFreshIv() {
+        assertNotEquals(cipher.encrypt("same"), cipher.encrypt("same"));
+    }
+
+    @Test
+    void nullPassesThrough() {
+        assertNull(cipher.encrypt(null));
+        assertNull(cipher.decrypt(null));
+    }
+
+    @Test
+    void requiresAKeyOnlyWhenUsed() {
+        DataSourceCredentialCipherUtil unconfigured = new DataSourceCredentialCipherUtil("  ");
+        String encrypted = cipher.encrypt("password");
+
+        assertNull(unconfigured.encrypt(null));
+        assertThrows(DataSourceCredentialKeyMissingException.class, () -> unconfigured.encrypt("password"));
+        assertThrows(DataSourceCredentialKeyMissingException.class, () -> unconfigured.decrypt(encrypted));
+        assertThrows(DataSourceCredentialKeyMissingException.class,
+                () -> new DataSourceCredentialCipherUtil(null).encrypt("password"));
+    }
+
+    @Test
+    void rejectsAnotherKeyTamperingAndUnknownFormats() {
+        String encrypted = cipher.encrypt("password");
+        char last = encrypted.charAt(encrypted.length() - 2);
+        String tampered = encrypted.substring(0, encrypted.length() - 2) + (last == 'A' ? 'B' : 'A')
+                + encrypted.charAt(encrypted.length() - 1);
+
+        assertThrows(IllegalStateException.class,
+                () -> new DataSourceCredentialCipherUtil("other-key").decrypt(encrypted));
+        assertThrows(IllegalStateException.class, () -> cipher.decrypt(tampered));
+        assertThrows(IllegalStateException.class, () -> cipher.decrypt("password"));
+        assertThrows(IllegalStateException.class, () -> cipher.decrypt("v1:not base64!"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.usg.autoAPIGenerator.utils.apiEngine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LobStreamingUtilTest {
+
+    private final LobStreamingUtil lobs = new LobStreamingUtil();
+
+    @Test
+    void parsesClosedRange() {
+        assertArrayEquals(new long[] { 0, 99 }, lobs.parseRange("bytes=0-99", 1000));
+        assertArrayEquals(new long[] { 10, 10 }, lobs.parseRange(" Bytes=10 - 10 ", 1000));
+    }
+
+    @Test
+    void openRangeRunsToTheEnd() {
+        assertArrayEquals(new long[] { 500, 999 }, lobs.parseRange("bytes=500-", 1000));
+    }
+
+    @Test
+    void endIsClampedToTheLastByte() {
+        assertArrayEquals(new long[] { 900, 999 }, lobs.parseRange("bytes=900-5000", 1000));
+    }
+
+    @Test
+    void suffixRangeTakesTheLastBytes() {
+        assertArrayEquals(new long[] { 900, 999 }, lobs.parseRange("bytes=-100", 1000));
+        assertArrayEquals(new long[] { 0, 999 }, lobs.parseRange("bytes=-5000", 1000));
+    }
+
+    @Test
+    void rangesOutsideTheValueAreUnsatisfiable() {
+        assertEquals(0, lobs.parseRange("bytes=1000-", 1000).length);
+        assertEquals(0, lobs.parseRange("bytes=20-10", 1000).length);
+        assertEquals(0, lobs.parseRange("bytes=-0", 1000).length);
+        assertEquals(0, lobs.parseRange("bytes=0-", 0).length);
+    }
+
+    @Test
+    void unsupportedOrMalformedHeadersServeTheWholeValue() {
+        assertNull(lobs.parseRange(null, 1000));
+        assertNull(lobs.parseRange("items=0-9", 1000));
+        assertNull(lobs.parseRange("bytes=0-9,20-29", 1000));
+        assertNull(lobs.parseRange("bytes=10", 1000));
+        assertNull(lobs.parseRange("bytes=a-b", 1000));
+    }
+}
@@ -0,0 +1,193 @@
+package com.usg.autoAPIGenerator.utils.apiEngine;
+
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiParameterEntity;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryFilterUtilTest {
+
+    private static final UnaryOperator<Object> AS_IS = operand -> operand;
+
+    private QueryFilterUtil filters;
+    private List<Object> binds;
+
+    @BeforeEach
+    void setUp() {
+        filters = new QueryFilterUtil();
+        ReflectionTestUtils.setField(filters, "maxInListSize", 3);
+        ReflectionTestUtils.setField(filters, "maxSortColumns", 2);
+        binds = new ArrayList<>();
+    }
+
+    @Test
+    void plainValueIsEquality() {
+        assertEquals("status = ?", compile("status", "ACTIVE"));
+        assertEquals(List.of("ACTIVE"), binds);
+    }
+
+    @Test
+    void unknownPrefixIsPartOfTheValue() {
+        assertEquals("url = ?", compile("url", "http://example.com"));
+        assertEquals(List.of("http://example.com"), binds);
+    }
+
+    @Test
+    void comparisonsBindConvertedOperand() {
+        String predicate = filters.compileFilter("amount", "gte:100", QueryFilterUtil.Dialect.POSTGRESQL, false,
+                operand -> Long.valueOf(operand.toString()), binds);
+
+        assertEquals("amount >= ?", predicate);
+        assertEquals(List.of(100L), binds);
+    }
+
+    @Test
+    void betweenNeedsExactlyTwoBounds() {
+        assertEquals("amount BETWEEN ? AND ?", compile("amount", "between:1,9"));
+        assertEquals(List.of("1", "9"), binds);
+
+        assertThrows(ValidationException.class, () -> compile("amount", "between:1"));
+        assertThrows(ValidationException.class, () -> compile("amount", "between:1,5,9"));
+        assertThrows(ValidationException.class, () -> compile("amount", "between:"));
+    }
+
+    @Test
+    void inListsBindEveryValue() {
+        assertEquals("status IN (?, ?)", compile("status", "in:A, B"));
+        assertEquals("status NOT IN (?)", compile("status", "nin:C"));
+        assertEquals(List.of("A", "B", "C"), binds);
+    }
+
+    @Test
+    void emptyInListIsRejected() {
+        assertThrows(ValidationException.class, () -> compile("status", "in:"));
+        assertThrows(ValidationException.class, () -> compile("status", "nin: , ,"));
+    }
+
+    @Test
+    void inListIsBounded() {
+        assertThrows(ValidationException.class, () -> compile("status", "in:A,B,C,D"));
+    }
+
+    @Test
+    void startsWithEscapesPatternCharacters() {
+        assertEquals("code LIKE ? ESCAPE '\\'", compile("code", "sw:50%_off\\"));
+        assertEquals(List.of("50\\%\\_off\\\\%"), binds);
+    }
+
+    @Test
+    void likeKeepsThePatternAsSent() {
+        assertEquals("name LIKE ?", compile("name", "like:ab%"));
+        assertEquals(List.of("ab%"), binds);
+    }
+
+    @Test
+    void ilikeDependsOnDialect() {
+        assertEquals("name ILIKE ?", filters.compileFilter("name", "ilike:ab%",
+                QueryFilterUtil.Dialect.POSTGRESQL, true, AS_IS, binds));
+        assertEquals("UPPER(name) LIKE UPPER(?)", filters.compileFilter("name", "ilike:ab%",
+                QueryFilterUtil.Dialect.ORACLE, true, AS_IS, binds));
+    }
+
+    @Test
+    void patternOperatorsNeedCharacterColumns() {
+        for (String value : List.of("like:1%", "ilike:1%", "sw:1")) {
+            assertThrows(ValidationException.class, () -> filters.compileFilter("amount", value,
+                    QueryFilterUtil.Dialect.POSTGRESQL, false, AS_IS, binds));
+        }
+        assertTrue(binds.isEmpty());
+    }
+
+    @Test
+    void nullChecksBindNothing() {
+        assertEquals("deleted_at IS NULL", compile("deleted_at", "is:null"));
+        assertEquals("deleted_at IS NOT NULL", compile("deleted_at", "IS:NotNull"));
+        assertTrue(binds.isEmpty());
+        assertThrows(ValidationException.class, () -> compile("deleted_at", "is:empty"));
+    }
+
+    @Test
+    void listOfPlainValuesBecomesIn() {
+        assertEquals("status IN (?, ?)", compile("status", List.of("A", "B")));
+    }
+
+    @Test
+    void listOfOperatorsAppliesEveryOne() {
+        assertEquals("(amount >= ? AND amount <= ?)", compile("amount", List.of("gte:10", "lte:20")));
+        assertEquals(List.of("10", "20"), binds);
+    }
+
+    @Test
+    void blankValueFiltersNothing() {
+        assertNull(compile("status", "  "));
+        assertNull(compile("status", Collections.emptyList()));
+    }
+
+    @Test
+    void operandsOfStripsOperators() {
+        assertEquals(List.of("1", "2"), QueryFilterUtil.operandsOf("between:1,2"));
+        assertEquals(List.of("5"), QueryFilterUtil.operandsOf("gt:5"));
+        assertTrue(QueryFilterUtil.operandsOf("like:a%").isEmpty());
+        assertTrue(QueryFilterUtil.operandsOf("is:null").isEmpty());
+    }
+
+    @Test
+    void orderByResolvesWhitelistedFieldsAndDirections() {
+        Map<String, String> whitelist = Map.of("created", "CREATED_AT", "id", "ID");
+
+        assertEquals("\"CREATED_AT\" DESC, \"ID\" ASC",
+                filters.compileOrderBy("-created,+id", null, whitelist, column -> "\"" + column + "\""));
+        assertEquals("ID DESC", filters.compileOrderBy("id", "desc", whitelist, column -> column));
+        assertEquals("", filters.compileOrderBy(null, null, whitelist, column -> column));
+    }
+
+    @Test
+    void orderByRejectsUnknownFieldsAndTooManyColumns() {
+        Map<String, String> whitelist = Map.of("id", "ID");
+
+        assertThrows(ValidationException.class, () -> filters.compileOrderBy("name", null, whitelist, c -> c));
+        assertThrows(ValidationException.class, () -> filters.compileOrderBy("id,id,id", null, whitelist, c -> c));
+    }
+
+    @Test
+    void orderByWithoutWhitelistAcceptsPlainIdentifiersLikeFilters() {
+        Map<String, String> none = Collections.emptyMap();
+
+        assertEquals("name", filters.resolveColumn("name", none));
+        assertEquals("\"name\" DESC", filters.compileOrderBy("-name", null, none, column -> "\"" + column + "\""));
+        assertThrows(ValidationException.class, () -> filters.compileOrderBy("name;drop", null, none, c -> c));
+    }
+
+    @Test
+    void characterParametersFollowTheirDeclaredType() {
+        assertTrue(QueryFilterUtil.isCharacterParameter(parameter("VARCHAR2", null)));
+        assertTrue(QueryFilterUtil.isCharacterParameter(parameter(null, "string")));
+        assertTrue(QueryFilterUtil.isCharacterParameter(parameter(null, null)));
+        assertFalse(QueryFilterUtil.isCharacterParameter(parameter("NUMBER", "integer")));
+        assertFalse(QueryFilterUtil.isCharacterParameter(parameter(null, "date")));
+    }
+
+    private String compile(String column, Object value) {
+        return filters.compileFilter(column, value, QueryFilterUtil.Dialect.POSTGRESQL, true, AS_IS, binds);
+    }
+
+    private ApiParameterEntity parameter(String oracleType, String apiType) {
+        ApiParameterEntity parameter = new ApiParameterEntity();
+        parameter.setOracleType(oracleType);
+        parameter.setApiType(apiType);
+        return parameter;
+    }
+}
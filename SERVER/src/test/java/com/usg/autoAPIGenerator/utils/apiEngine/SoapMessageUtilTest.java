@@ -0,0 +1,147 @@
+package com.usg.autoAPIGenerator.utils.apiEngine;
+
+import com.usg.autoAPIGenerator.dtos.apiGenerationEngine.SoapConfigDTO;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.ApiParameterEntity;
+import com.usg.autoAPIGenerator.entities.postgres.apiGenerationEngine.GeneratedApiEntity;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SoapMessageUtilTest {
+
+    private static final String SOAP_11_NS = "http://schemas.xmlsoap.org/soap/envelope/";
+    private static final String SOAP_12_NS = "http://www.w3.org/2003/05/soap-envelope";
+
+    private final SoapMessageUtil soap = new SoapMessageUtil();
+
+    @Test
+    void extractsParametersByLocalNameWhateverThePrefix() {
+        String envelope = "<soap:Envelope xmlns:soap=\"" + SOAP_11_NS + "\" xmlns:t=\"http://tempuri.org/\">" +
+                "<soap:Body><t:GetUser><t:UserId> 42 </t:UserId><t:name>Ann &amp; Bob</t:name></t:GetUser></soap:Body>" +
+                "</soap:Envelope>";
+
+        Map<String, Object> params = soap.extractParameters(envelope, parameters("userId", "NAME"));
+
+        assertEquals("42", params.get("userId"));
+        assertEquals("Ann & Bob", params.get("NAME"));
+    }
+
+    @Test
+    void nestedElementsBelongToTheEnclosingParameter() {
+        String xml = "<req><filter><code>A<![CDATA[<1>]]></code></filter><code>B</code></req>";
+
+        Map<String, Object> params = soap.extractParameters(xml, parameters("code", "filter"));
+
+        assertEquals("A<1>", params.get("filter"));
+        assertEquals("B", params.get("code"));
+    }
+
+    @Test
+    void missingParametersAndBadInputYieldNoValues() {
+        assertTrue(soap.extractParameters("<req><a>1</a></req>", parameters("b")).isEmpty());
+        assertTrue(soap.extractParameters("<req><a>1</req>", parameters("b")).isEmpty());
+        assertTrue(soap.extractParameters("  ", parameters("a")).isEmpty());
+        assertTrue(soap.extractParameters("<a>1</a>", List.of()).isEmpty());
+    }
+
+    @Test
+    void externalEntitiesAreNotResolved() {
+        String xml = "<?xml version=\"1.0\"?><!DOCTYPE a [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><a>&xxe;</a>";
+
+        Map<String, Object> params = soap.extractParameters(xml, parameters("a"));
+
+        assertFalse(String.valueOf(params.get("a")).contains("root:"));
+    }
+
+    @Test
+    void buildsResponseEnvelopeWithEscapedValues() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 7);
+        row.put("note", "a<b & \"c\"");
+        row.put("1st col", "x");
+        row.put("data", "hi".getBytes(StandardCharsets.UTF_8));
+
+        Document document = parse(soap.buildResponse(Map.of("rows", List.of(row, "plain")), api("getUser", null)));
+
+        Element envelope = document.getDocumentElement();
+        assertEquals(SOAP_11_NS, envelope.getNamespaceURI());
+        assertEquals("Envelope", envelope.getLocalName());
+
+        Element response = (Element) document.getElementsByTagNameNS("http://tempuri.org/", "getUserResponse").item(0);
+        Element firstItem = (Element) response.getElementsByTagNameNS("*", "item").item(0);
+        assertEquals("7", text(firstItem, "id"));
+        assertEquals("a<b & \"c\"", text(firstItem, "note"));
+        assertEquals("x", text(firstItem, "_1st_col"));
+        assertEquals("aGk=", text(firstItem, "data"));
+
+        Element secondItem = (Element) response.getElementsByTagNameNS("*", "item").item(1);
+        assertEquals("plain", text(secondItem, "value"));
+    }
+
+    @Test
+    void scalarAndNullResultsAreWrappedInResult() throws Exception {
+        assertEquals("5", text(parse(soap.buildResponse(5, api("count", null))).getDocumentElement(), "result"));
+        assertEquals("null", text(parse(soap.buildResponse(null, api("count", null))).getDocumentElement(), "result"));
+    }
+
+    @Test
+    void usesConfiguredSoapVersionAndNamespace() throws Exception {
+        SoapConfigDTO config = SoapConfigDTO.builder().version("1.2").namespace("urn:orders").build();
+
+        Document document = parse(soap.buildResponse(Map.of("ok", true), api("placeOrder", config)));
+
+        assertEquals(SOAP_12_NS, document.getDocumentElement().getNamespaceURI());
+        assertEquals(1, document.getElementsByTagNameNS("urn:orders", "placeOrderResponse").getLength());
+    }
+
+    @Test
+    void buildsFaultWithDetails() throws Exception {
+        Document document = parse(soap.buildFault("Missing <id>", Map.of("field", "id"), api("getUser", null)));
+
+        Element fault = (Element) document.getElementsByTagNameNS(SOAP_11_NS, "Fault").item(0);
+        assertEquals("soap:Client", text(fault, "faultcode"));
+        assertEquals("Missing <id>", text(fault, "faultstring"));
+        Element error = (Element) document.getElementsByTagNameNS("http://tempuri.org/", "getUserError").item(0);
+        assertEquals("id", text(error, "field"));
+    }
+
+    private List<ApiParameterEntity> parameters(String... keys) {
+        return Arrays.stream(keys)
+                .map(key -> {
+                    ApiParameterEntity parameter = new ApiParameterEntity();
+                    parameter.setKey(key);
+                    return parameter;
+                })
+                .toList();
+    }
+
+    private GeneratedApiEntity api(String apiCode, SoapConfigDTO soapConfig) {
+        GeneratedApiEntity api = new GeneratedApiEntity();
+        api.setApiCode(apiCode);
+        api.setSoapConfig(soapConfig);
+        return api;
+    }
+
+    private Document parse(String xml) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+    }
+
+    private String text(Element parent, String localName) {
+        return parent.getElementsByTagNameNS("*", localName).item(0).getTextContent();
+    }
+}
@@ -0,0 +1,186 @@
+package com.usg.autoAPIGenerator.utils.apiEngine.graphql;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphQLDocumentParserTest {
+
+    @Test
+    void parsesShorthandQuery() {
+        GraphQLDocument document = GraphQLDocumentParser.parse("{ user(id: 1) { name } }");
+
+        GraphQLDocument.Operation operation = document.getOperations().get(0);
+        assertEquals("query", operation.getOperationType());
+        assertNull(operation.getName());
+
+        GraphQLDocument.Field user = (GraphQLDocument.Field) operation.getSelections().get(0);
+        assertEquals("user", user.getName());
+        assertEquals(1L, user.getArguments().get("id"));
+        assertEquals("name", ((GraphQLDocument.Field) user.getSelections().get(0)).getName());
+    }
+
+    @Test
+    void parsesVariableDefinitions() {
+        GraphQLDocument document = GraphQLDocumentParser.parse(
+                "query GetUsers($id: ID!, $limit: Int = 10, $tags: [String!]) { users { id } }");
+
+        GraphQLDocument.Operation operation = document.getOperations().get(0);
+        assertEquals("GetUsers", operation.getName());
+        List<GraphQLDocument.VariableDefinition> variables = operation.getVariables();
+        assertEquals(3, variables.size());
+
+        assertEquals("ID!", variables.get(0).getType());
+        assertTrue(variables.get(0).isNonNull());
+        assertFalse(variables.get(0).isHasDefault());
+
+        assertTrue(variables.get(1).isHasDefault());
+        assertEquals(10L, variables.get(1).getDefaultValue());
+
+        assertEquals("[String!]", variables.get(2).getType());
+        assertFalse(variables.get(2).isNonNull());
+    }
+
+    @Test
+    void parsesAliasesAndVariableArguments() {
+        GraphQLDocument document = GraphQLDocumentParser.parse("query($id: ID) { me: user(id: $id) { n: name } }");
+
+        GraphQLDocument.Field me = (GraphQLDocument.Field) document.getOperations().get(0).getSelections().get(0);
+        assertEquals("me", me.getResponseKey());
+        assertEquals("user", me.getName());
+        GraphQLDocument.VariableReference id =
+                assertInstanceOf(GraphQLDocument.VariableReference.class, me.getArguments().get("id"));
+        assertEquals("id", id.getName());
+        assertEquals("n", ((GraphQLDocument.Field) me.getSelections().get(0)).getResponseKey());
+    }
+
+    @Test
+    void parsesFragmentsSpreadsAndDirectives() {
+        GraphQLDocument document = GraphQLDocumentParser.parse(
+                "query($full: Boolean!) { user { ...Details @include(if: $full) ... on User { id } ... @skip(if: true) { name } } }\n" +
+                "fragment Details on User { email }");
+
+        assertTrue(document.isVariableDirectives());
+        GraphQLDocument.FragmentDefinition details = document.getFragments().get("Details");
+        assertEquals("User", details.getTypeCondition());
+
+        GraphQLDocument.Field user = (GraphQLDocument.Field) document.getOperations().get(0).getSelections().get(0);
+        GraphQLDocument.FragmentSpread spread =
+                assertInstanceOf(GraphQLDocument.FragmentSpread.class, user.getSelections().get(0));
+        assertEquals("Details", spread.getFragmentName());
+        assertEquals("include", spread.getDirectives().get(0).getName());
+
+        GraphQLDocument.InlineFragment typed =
+                assertInstanceOf(GraphQLDocument.InlineFragment.class, user.getSelections().get(1));
+        assertEquals("User", typed.getTypeCondition());
+
+        GraphQLDocument.InlineFragment untyped =
+                assertInstanceOf(GraphQLDocument.InlineFragment.class, user.getSelections().get(2));
+        assertNull(untyped.getTypeCondition());
+        assertEquals(Boolean.TRUE, untyped.getDirectives().get(0).getArguments().get("if"));
+    }
+
+    @Test
+    void constantDirectivesDoNotMarkDocumentAsVariable() {
+        assertFalse(GraphQLDocumentParser.parse("{ a @skip(if: false) }").isVariableDirectives());
+    }
+
+    @Test
+    void parsesLiteralValues() {
+        GraphQLDocument document = GraphQLDocumentParser.parse("{ f(" +
+                "s: \"a\\\"b\\n\\u0041\", " +
+                "block: \"\"\"  say \"hi\" \"\"\", " +
+                "i: -12, big: 12345678901234567890, d: 1.5e2, " +
+                "t: true, n: null, e: ACTIVE, " +
+                "list: [1, 2], obj: { k: \"v\" }) }");
+
+        Map<String, Object> arguments =
+                ((GraphQLDocument.Field) document.getOperations().get(0).getSelections().get(0)).getArguments();
+        assertEquals("a\"b\nA", arguments.get("s"));
+        assertEquals("say \"hi\"", arguments.get("block"));
+        assertEquals(-12L, arguments.get("i"));
+        assertEquals(new BigInteger("12345678901234567890"), arguments.get("big"));
+        assertEquals(150.0, arguments.get("d"));
+        assertEquals(Boolean.TRUE, arguments.get("t"));
+        assertTrue(arguments.containsKey("n"));
+        assertNull(arguments.get("n"));
+        assertEquals("ACTIVE", arguments.get("e").toString());
+        assertEquals(List.of(1L, 2L), arguments.get("list"));
+        assertEquals(Map.of("k", "v"), arguments.get("obj"));
+    }
+
+    @Test
+    void ignoresCommasCommentsAndByteOrderMark() {
+        GraphQLDocument document = GraphQLDocumentParser.parse("\uFEFF# list users\n{ a, b # trailing\n c }");
+
+        assertEquals(3, document.getOperations().get(0).getSelections().size());
+    }
+
+    @Test
+    void keepsEveryOperation() {
+        GraphQLDocument document = GraphQLDocumentParser.parse("query A { a } mutation B { b }");
+
+        assertEquals(2, document.getOperations().size());
+        assertEquals("mutation", document.getOperations().get(1).getOperationType());
+    }
+
+    @Test
+    void rejectsEmptyDocumentsAndDocumentsWithoutOperation() {
+        assertThrows(ValidationException.class, () -> GraphQLDocumentParser.parse("  "));
+        ValidationException e = assertThrows(ValidationException.class,
+                () -> GraphQLDocumentParser.parse("fragment F on User { id }"));
+        assertTrue(e.getMessage().contains("no operation"));
+    }
+
+    @Test
+    void rejectsTypeSystemDefinitions() {
+        ValidationException e = assertThrows(ValidationException.class,
+                () -> GraphQLDocumentParser.parse("type User { id: ID }"));
+        assertTrue(e.getMessage().contains("found 'type'"));
+    }
+
+    @Test
+    void rejectsDuplicateFragmentsAndArguments() {
+        assertThrows(ValidationException.class,
+                () -> GraphQLDocumentParser.parse("{ ...F } fragment F on A { a } fragment F on A { b }"));
+        assertThrows(ValidationException.class, () -> GraphQLDocumentParser.parse("{ f(a: 1, a: 2) }"));
+    }
+
+    @Test
+    void rejectsVariablesInDefaultValues() {
+        assertThrows(ValidationException.class,
+                () -> GraphQLDocumentParser.parse("query($a: Int = $b) { f }"));
+    }
+
+    @Test
+    void rejectsUnterminatedStrings() {
+        assertThrows(ValidationException.class, () -> GraphQLDocumentParser.parse("{ f(s: \"abc) }"));
+        assertThrows(ValidationException.class, () -> GraphQLDocumentParser.parse("{ f(s: \"\"\"abc) }"));
+    }
+
+    @Test
+    void reportsLineAndColumnOfSyntaxErrors() {
+        ValidationException e = assertThrows(ValidationException.class,
+                () -> GraphQLDocumentParser.parse("{\n  user(id: )\n}"));
+
+        assertTrue(e.getMessage().startsWith("Syntax error at line 2, column 12"), e.getMessage());
+    }
+
+    @Test
+    void rejectsExcessiveNesting() {
+        String query = "{ a ".repeat(70) + "}".repeat(70);
+
+        ValidationException e = assertThrows(ValidationException.class, () -> GraphQLDocumentParser.parse(query));
+        assertTrue(e.getMessage().contains("nested too deeply"));
+    }
+}